@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.xml.NetworkXml;
 import com.powsybl.security.SecurityAnalysisResult;
 import com.powsybl.security.SecurityAnalysisResultMerger;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,15 +78,34 @@ public class ParallelLoadFlowActionSimulator {
      *
      */
     public void run(String script, List<String> contingencyIds) {
+        SecurityAnalysisResult result = execute(script, contingencyIds, null);
+        resultHandlers.forEach(h -> h.accept(result));
+    }
+
+    /**
+     * Runs a load flow action simulator through calls to itools action-simulator command,
+     * submitted to the computation manager. Sub-tasks results are read and merged incrementally
+     * into the specified sink, without keeping post-contingency results in memory: result handlers
+     * are not called.
+     *
+     * @param script the content of the groovy DSL script representing contingencies and actions.
+     * @param resultSink the sink to which merged results are provided.
+     * @return the merged result, without its post-contingency results.
+     */
+    public SecurityAnalysisResult run(String script, List<String> contingencyIds, SecurityAnalysisResultSink resultSink) {
+        return execute(script, contingencyIds, Objects.requireNonNull(resultSink));
+    }
+
+    private SecurityAnalysisResult execute(String script, List<String> contingencyIds, SecurityAnalysisResultSink resultSink) {
         LOGGER.debug("Starting parallel action simulator.");
 
         ExecutionEnvironment itoolsEnvironment = new ExecutionEnvironment(Collections.emptyMap(), "subTask_", config.isDebug());
 
         int actualTaskCount = Math.min(taskCount, contingencyIds.size());
-        CompletableFuture<SecurityAnalysisResult> future = computationManager.execute(itoolsEnvironment, new SubTaskHandler(actualTaskCount, script, contingencyIds));
+        CompletableFuture<SecurityAnalysisResult> future = computationManager.execute(itoolsEnvironment,
+                new SubTaskHandler(actualTaskCount, script, contingencyIds, resultSink));
         try {
-            SecurityAnalysisResult result = future.get();
-            resultHandlers.forEach(h -> h.accept(result));
+            return future.get();
         } catch (Exception e) {
             throw new PowsyblException(e);
         }
@@ -102,11 +122,13 @@ public class ParallelLoadFlowActionSimulator {
         private final int actualTaskCount;
         private final String script;
         private final List<String> contingencyIds;
+        private final SecurityAnalysisResultSink resultSink;
 
-        private SubTaskHandler(int actualTaskCount, String script, List<String> contingencyIds) {
+        private SubTaskHandler(int actualTaskCount, String script, List<String> contingencyIds, SecurityAnalysisResultSink resultSink) {
             this.actualTaskCount = actualTaskCount;
             this.script = script;
             this.contingencyIds = contingencyIds;
+            this.resultSink = resultSink;
         }
 
         @Override
@@ -119,18 +141,17 @@ public class ParallelLoadFlowActionSimulator {
         }
 
         /**
-         * Reads result files and merge them.
+         * Reads result files and merge them, into the result sink if any.
          */
         @Override
         public SecurityAnalysisResult after(Path workingDir, ExecutionReport report) throws IOException {
             super.after(workingDir, report);
             LOGGER.debug("End of command execution in {}. ", workingDir);
-            List<SecurityAnalysisResult> results = new ArrayList<>();
+            List<Consumer<SecurityAnalysisResultSink>> results = new ArrayList<>();
             for (int taskNum = 0; taskNum < actualTaskCount; taskNum++) {
-                Path taskResultFile = workingDir.resolve(getOutputFileName(taskNum));
-                results.add(SecurityAnalysisResultDeserializer.read(taskResultFile));
+                results.add(SecurityAnalysisResultDeserializer.incrementalReader(workingDir.resolve(getOutputFileName(taskNum))));
             }
-            return SecurityAnalysisResultMerger.merge(results);
+            return resultSink != null ? SecurityAnalysisResultMerger.merge(results, resultSink) : SecurityAnalysisResultMerger.merge(results);
         }
 
         private String getOutputFileName(int taskNumber) {
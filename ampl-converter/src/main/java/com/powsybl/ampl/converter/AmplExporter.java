@@ -10,6 +10,8 @@ package com.powsybl.ampl.converter;
 import com.google.auto.service.AutoService;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.iidm.ConversionParameters;
 import com.powsybl.iidm.export.Exporter;
 import com.powsybl.iidm.network.Network;
@@ -40,12 +42,23 @@ public class AmplExporter implements Exporter {
 
     private final ParameterDefaultValueConfig defaultValueConfig;
 
+    private final ComputationManager computationManager;
+
     public AmplExporter() {
         this(PlatformConfig.defaultConfig());
     }
 
     public AmplExporter(PlatformConfig platformConfig) {
+        this(platformConfig, null);
+    }
+
+    /**
+     * @param computationManager the computation manager whose executor writes the tables concurrently, or null to use
+     *                           the default local computation manager
+     */
+    public AmplExporter(PlatformConfig platformConfig, ComputationManager computationManager) {
         defaultValueConfig = new ParameterDefaultValueConfig(platformConfig);
+        this.computationManager = computationManager;
     }
 
     @Override
@@ -65,7 +78,9 @@ public class AmplExporter implements Exporter {
         try {
             boolean exportRatioTapChangerVoltageTarget = ConversionParameters.readBooleanParameter(getFormat(), parameters, EXPORT_RATIOTAPCHANGER_VT_PARAMETER, defaultValueConfig);
             boolean twtSplitShuntAdmittance = ConversionParameters.readBooleanParameter(getFormat(), parameters, TWT_SPLIT_SHUNT_ADMITTANCE_PARAMETER, defaultValueConfig);
-            new AmplNetworkWriter(network, dataSource, new AmplExportConfig(AmplExportConfig.ExportScope.ALL, false, AmplExportConfig.ExportActionType.CURATIVE, exportRatioTapChangerVoltageTarget, twtSplitShuntAdmittance))
+            ComputationManager manager = computationManager != null ? computationManager : LocalComputationManager.getDefault();
+            new AmplNetworkWriter(network, dataSource, new AmplExportConfig(AmplExportConfig.ExportScope.ALL, false, AmplExportConfig.ExportActionType.CURATIVE, exportRatioTapChangerVoltageTarget, twtSplitShuntAdmittance),
+                    manager.getExecutor())
                     .write();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -16,12 +16,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -46,6 +49,12 @@ public class AmplNetworkReader {
     private final StringToIntMapper<AmplSubset> mapper;
     private final Map<String, Bus> buses;
 
+    /* IDs of each subset, indexed by number */
+    private final String[][] ids = new String[AmplSubset.values().length][0];
+
+    /* buses, indexed by number */
+    private Bus[] busesByNum = new Bus[0];
+
     public AmplNetworkReader(ReadOnlyDataSource dataSource, Network network, int variantIndex, StringToIntMapper<AmplSubset> mapper) {
         this.dataSource = dataSource;
         this.network = network;
@@ -72,25 +81,17 @@ public class AmplNetworkReader {
         return tokens;
     }
 
-    private void read(String suffix, int expectedTokenCount, Function<String[], Void> handler) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(suffix, "txt"), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String trimedLine = line.trim();
-
-                // skip comments
-                if (trimedLine.startsWith("#")) {
-                    continue;
-                }
-
-                String[] tokens = trimedLine.split("( )+");
-                if (tokens.length != expectedTokenCount) {
-                    throw createWrongNumberOfColumnException(expectedTokenCount, tokens.length);
+    private void read(String suffix, int expectedTokenCount, Consumer<AmplResultTokenizer> handler) throws IOException {
+        try (InputStream is = dataSource.newInputStream(suffix, "txt")) {
+            AmplResultTokenizer tokens = new AmplResultTokenizer(is);
+            while (tokens.nextLine()) {
+                if (tokens.getTokenCount() != expectedTokenCount) {
+                    throw createWrongNumberOfColumnException(expectedTokenCount, tokens.getTokenCount());
                 }
 
                 //check if it is the right network
-                if (variantIndex == Integer.parseInt(tokens[0])) {
-                    handler.apply(tokens);
+                if (variantIndex == tokens.parseInt(0)) {
+                    handler.accept(tokens);
                 }
             }
         }
@@ -108,16 +109,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readGenerator(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double targetP = readDouble(tokens[5]);
-        double targetQ = readDouble(tokens[6]);
-        double p = readDouble(tokens[7]);
-        double q = readDouble(tokens[8]);
-        String id = mapper.getId(AmplSubset.GENERATOR, num);
+    private void readGenerator(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        boolean vregul = tokens.parseBoolean(3);
+        double targetV = readDouble(tokens, 4);
+        double targetP = readDouble(tokens, 5);
+        double targetQ = readDouble(tokens, 6);
+        double p = readDouble(tokens, 7);
+        double q = readDouble(tokens, 8);
+        String id = getId(AmplSubset.GENERATOR, num);
         Generator g = network.getGenerator(id);
         if (g == null) {
             throw new AmplException("Invalid generator id '" + id + "'");
@@ -135,8 +136,6 @@ public class AmplNetworkReader {
         g.setTargetV(targetV * vb);
 
         busConnection(t, busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readBatteries() throws IOException {
@@ -145,15 +144,15 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBattery(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double p0 = readDouble(tokens[3]);
-        double q0 = readDouble(tokens[4]);
-        double p = readDouble(tokens[5]);
-        double q = readDouble(tokens[6]);
+    private void readBattery(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        double p0 = readDouble(tokens, 3);
+        double q0 = readDouble(tokens, 4);
+        double p = readDouble(tokens, 5);
+        double q = readDouble(tokens, 6);
 
-        String id = mapper.getId(AmplSubset.BATTERY, num);
+        String id = getId(AmplSubset.BATTERY, num);
         Battery b = network.getBattery(id);
         if (b == null) {
             throw new AmplException("Invalid battery id '" + id + "'");
@@ -165,8 +164,6 @@ public class AmplNetworkReader {
         t.setP(p).setQ(q);
 
         busConnection(t, busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readLoads() throws IOException {
@@ -175,14 +172,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readLoad(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double p = readDouble(tokens[3]);
-        double q = readDouble(tokens[4]);
-        double p0 = readDouble(tokens[5]);
-        double q0 = readDouble(tokens[6]);
-        String id = mapper.getId(AmplSubset.LOAD, num);
+    private void readLoad(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        double p = readDouble(tokens, 3);
+        double q = readDouble(tokens, 4);
+        double p0 = readDouble(tokens, 5);
+        double q0 = readDouble(tokens, 6);
+        String id = getId(AmplSubset.LOAD, num);
         Load l = network.getLoad(id);
         if (l != null) {
             l.setP0(p0).setQ0(q0);
@@ -198,8 +195,6 @@ public class AmplNetworkReader {
                 throw new AmplException("Invalid load id '" + id + "'");
             }
         }
-
-        return null;
     }
 
     public AmplNetworkReader readRatioTapChangers() throws IOException {
@@ -208,10 +203,10 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readRatioTapChanger(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int tap = Integer.parseInt(tokens[2]);
-        String id = mapper.getId(AmplSubset.RATIO_TAP_CHANGER, num);
+    private void readRatioTapChanger(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int tap = tokens.parseInt(2);
+        String id = getId(AmplSubset.RATIO_TAP_CHANGER, num);
         if (id.endsWith(AmplConstants.LEG1_SUFFIX) || id.endsWith(AmplConstants.LEG2_SUFFIX) || id.endsWith(AmplConstants.LEG3_SUFFIX)) {
             ThreeWindingsTransformer twt = getThreeWindingsTransformer(network, id);
             RatioTapChanger rtc = getThreeWindingsTransformerLeg(twt, id).getRatioTapChanger();
@@ -224,8 +219,6 @@ public class AmplNetworkReader {
             RatioTapChanger rtc = twt.getRatioTapChanger();
             rtc.setTapPosition(rtc.getLowTapPosition() + tap - 1);
         }
-
-        return null;
     }
 
     public AmplNetworkReader readPhaseTapChangers() throws IOException {
@@ -234,10 +227,10 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readPhaseTapChanger(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int tap = Integer.parseInt(tokens[2]);
-        String id = mapper.getId(AmplSubset.PHASE_TAP_CHANGER, num);
+    private void readPhaseTapChanger(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int tap = tokens.parseInt(2);
+        String id = getId(AmplSubset.PHASE_TAP_CHANGER, num);
         if (id.endsWith(AmplConstants.LEG1_SUFFIX) || id.endsWith(AmplConstants.LEG2_SUFFIX) || id.endsWith(AmplConstants.LEG3_SUFFIX)) {
             ThreeWindingsTransformer twt = getThreeWindingsTransformer(network, id);
             PhaseTapChanger ptc = getThreeWindingsTransformerLeg(twt, id).getPhaseTapChanger();
@@ -250,8 +243,6 @@ public class AmplNetworkReader {
             PhaseTapChanger ptc = twt.getPhaseTapChanger();
             ptc.setTapPosition(ptc.getLowTapPosition() + tap - 1);
         }
-
-        return null;
     }
 
     public AmplNetworkReader readShunts() throws IOException {
@@ -260,14 +251,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readShunt(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
+    private void readShunt(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
 
-        double q = readDouble(tokens[4]);
-        int sections = Integer.parseInt(tokens[5]);
+        double q = readDouble(tokens, 4);
+        int sections = tokens.parseInt(5);
 
-        String id = mapper.getId(AmplSubset.SHUNT, num);
+        String id = getId(AmplSubset.SHUNT, num);
         ShuntCompensator sc = network.getShuntCompensator(id);
         if (sc == null) {
             throw new AmplException("Invalid shunt compensator id '" + id + "'");
@@ -282,8 +273,6 @@ public class AmplNetworkReader {
         t.setQ(q);
 
         busConnection(t, busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readBuses() throws IOException {
@@ -292,22 +281,19 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBus(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        double v = readDouble(tokens[2]);
-        double theta = readDouble(tokens[3]);
+    private void readBus(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        double v = readDouble(tokens, 2);
+        double theta = readDouble(tokens, 3);
 
-        String id = mapper.getId(AmplSubset.BUS, num);
-        Bus bus = buses.get(id);
+        Bus bus = getBus(num);
 
         if (bus != null) {
             bus.setV(v * bus.getVoltageLevel().getNominalV());
             bus.setAngle(Math.toDegrees(theta));
         } else {
-            throw new AmplException("Invalid bus id '" + id + "'");
+            throw new AmplException("Invalid bus id '" + getId(AmplSubset.BUS, num) + "'");
         }
-
-        return null;
     }
 
     public AmplNetworkReader readBranches() throws IOException {
@@ -316,16 +302,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readBranch(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        int busNum2 = Integer.parseInt(tokens[3]);
-        double p1 = readDouble(tokens[4]);
-        double p2 = readDouble(tokens[5]);
-        double q1 = readDouble(tokens[6]);
-        double q2 = readDouble(tokens[7]);
+    private void readBranch(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        int busNum2 = tokens.parseInt(3);
+        double p1 = readDouble(tokens, 4);
+        double p2 = readDouble(tokens, 5);
+        double q1 = readDouble(tokens, 6);
+        double q2 = readDouble(tokens, 7);
 
-        String id = mapper.getId(AmplSubset.BRANCH, num);
+        String id = getId(AmplSubset.BRANCH, num);
 
         Branch br = network.getBranch(id);
         if (br != null) {
@@ -333,11 +319,11 @@ public class AmplNetworkReader {
             br.getTerminal2().setP(p2).setQ(q2);
             busConnection(br.getTerminal1(), busNum);
             busConnection(br.getTerminal2(), busNum2);
-            return null;
+            return;
         }
 
         if (readThreeWindingsTransformerBranch(id, p1, q1, busNum)) {
-            return null;
+            return;
         }
 
         DanglingLine dl = network.getDanglingLine(id);
@@ -347,8 +333,6 @@ public class AmplNetworkReader {
         } else {
             throw new AmplException("Invalid branch id '" + id + "'");
         }
-
-        return null;
     }
 
     private boolean readThreeWindingsTransformerBranch(String id, double p, double q, int busNum) {
@@ -369,22 +353,19 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readHvdcLine(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        String converterMode = tokens[2].replace("\"", "");
-        double targetP = readDouble(tokens[3]);
+    private void readHvdcLine(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        double targetP = readDouble(tokens, 3);
 
-        String id = mapper.getId(AmplSubset.HVDC_LINE, num);
+        String id = getId(AmplSubset.HVDC_LINE, num);
 
         HvdcLine hl = network.getHvdcLine(id);
 
         if (hl == null) {
             throw new AmplException("Invalid HvdcLine id '" + id + "'");
         }
-        hl.setConvertersMode(ConvertersMode.valueOf(converterMode));
+        hl.setConvertersMode(tokens.parseEnum(2, ConvertersMode.class));
         hl.setActivePowerSetpoint(targetP);
-
-        return null;
     }
 
     public AmplNetworkReader readStaticVarcompensator() throws IOException {
@@ -393,14 +374,14 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readSvc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double q = readDouble(tokens[5]);
+    private void readSvc(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        boolean vregul = tokens.parseBoolean(3);
+        double targetV = readDouble(tokens, 4);
+        double q = readDouble(tokens, 5);
 
-        String id = mapper.getId(AmplSubset.STATIC_VAR_COMPENSATOR, num);
+        String id = getId(AmplSubset.STATIC_VAR_COMPENSATOR, num);
         StaticVarCompensator svc = network.getStaticVarCompensator(id);
         if (svc == null) {
             throw new AmplException("Invalid StaticVarCompensator id '" + id + "'");
@@ -423,8 +404,6 @@ public class AmplNetworkReader {
         svc.setVoltageSetpoint(targetV * nominalV);
 
         busConnection(t, busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readLccConverterStations() throws IOException {
@@ -433,18 +412,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readLcc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        double p = readDouble(tokens[3]);
-        double q = readDouble(tokens[4]);
+    private void readLcc(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        double p = readDouble(tokens, 3);
+        double q = readDouble(tokens, 4);
 
-        String id = mapper.getId(AmplSubset.LCC_CONVERTER_STATION, num);
+        String id = getId(AmplSubset.LCC_CONVERTER_STATION, num);
         LccConverterStation lcc = network.getLccConverterStation(id);
         lcc.getTerminal().setP(p).setQ(q);
         busConnection(lcc.getTerminal(), busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readVscConverterStations() throws IOException {
@@ -453,16 +430,16 @@ public class AmplNetworkReader {
         return this;
     }
 
-    private Void readVsc(String[] tokens) {
-        int num = Integer.parseInt(tokens[1]);
-        int busNum = Integer.parseInt(tokens[2]);
-        boolean vregul = Boolean.parseBoolean(tokens[3]);
-        double targetV = readDouble(tokens[4]);
-        double targetQ = readDouble(tokens[5]);
-        double p = readDouble(tokens[6]);
-        double q = readDouble(tokens[7]);
+    private void readVsc(AmplResultTokenizer tokens) {
+        int num = tokens.parseInt(1);
+        int busNum = tokens.parseInt(2);
+        boolean vregul = tokens.parseBoolean(3);
+        double targetV = readDouble(tokens, 4);
+        double targetQ = readDouble(tokens, 5);
+        double p = readDouble(tokens, 6);
+        double q = readDouble(tokens, 7);
 
-        String id = mapper.getId(AmplSubset.VSC_CONVERTER_STATION, num);
+        String id = getId(AmplSubset.VSC_CONVERTER_STATION, num);
         VscConverterStation vsc = network.getVscConverterStation(id);
         Terminal t = vsc.getTerminal();
         t.setP(p).setQ(q);
@@ -474,8 +451,6 @@ public class AmplNetworkReader {
         vsc.setVoltageSetpoint(targetV * vb);
 
         busConnection(t, busNum);
-
-        return null;
     }
 
     public AmplNetworkReader readMetrics(Map<String, String> metrics) throws IOException {
@@ -505,20 +480,58 @@ public class AmplNetworkReader {
         return this;
     }
 
+    /**
+     * Get the ID of a number of a subset: IDs are cached in arrays indexed by number, as the same buses are referenced
+     * by many lines.
+     */
+    private String getId(AmplSubset subset, int num) {
+        String[] subsetIds = ids[subset.ordinal()];
+        if (num >= 0 && num < subsetIds.length && subsetIds[num] != null) {
+            return subsetIds[num];
+        }
+        String id = mapper.getId(subset, num);
+        if (num >= subsetIds.length) {
+            subsetIds = Arrays.copyOf(subsetIds, Math.max(num + 1, subsetIds.length * 2));
+            ids[subset.ordinal()] = subsetIds;
+        }
+        subsetIds[num] = id;
+        return id;
+    }
+
+    /**
+     * Get the bus of a number, or null if the bus view has no bus with this ID. Buses are cached in an array indexed
+     * by number, like the IDs.
+     */
+    private Bus getBus(int num) {
+        if (num >= 0 && num < busesByNum.length && busesByNum[num] != null) {
+            return busesByNum[num];
+        }
+        Bus bus = buses.get(getId(AmplSubset.BUS, num));
+        if (bus != null) {
+            if (num >= busesByNum.length) {
+                busesByNum = Arrays.copyOf(busesByNum, Math.max(num + 1, busesByNum.length * 2));
+            }
+            busesByNum[num] = bus;
+        }
+        return bus;
+    }
+
     private void busConnection(Terminal t, int busNum) {
         if (busNum == -1) {
             t.disconnect();
         } else {
-            String busId = mapper.getId(AmplSubset.BUS, busNum);
             Bus connectable = AmplUtil.getConnectableBus(t);
-            if (connectable != null && connectable.getId().equals(busId)) {
+            // connecting a terminal may recompute the buses of its voltage level, so buses are compared by ID when
+            // they are not the cached ones
+            if (connectable != null && (connectable == getBus(busNum) || connectable.getId().equals(getId(AmplSubset.BUS, busNum)))) {
                 t.connect();
             }
         }
     }
 
-    private double readDouble(String d) {
-        return Float.parseFloat(d) != AmplConstants.INVALID_FLOAT_VALUE ? Double.parseDouble(d) : Double.NaN;
+    private static double readDouble(AmplResultTokenizer tokens, int index) {
+        double d = tokens.parseDouble(index);
+        return (float) d != AmplConstants.INVALID_FLOAT_VALUE ? d : Double.NaN;
     }
 
     /**
@@ -50,19 +50,26 @@ import com.powsybl.iidm.network.util.SV;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.powsybl.ampl.converter.AmplConstants.DEFAULT_VARIANT_INDEX;
 import static com.powsybl.ampl.converter.AmplConstants.VARIANT;
@@ -116,6 +123,8 @@ public class AmplNetworkWriter {
 
     private final AmplExportConfig config;
 
+    private final Executor executor;
+
     private static class AmplExportContext {
 
         private int otherCcNum = Integer.MAX_VALUE;
@@ -132,8 +141,47 @@ public class AmplNetworkWriter {
 
     }
 
+    /**
+     * A table written in memory, with the extensions of its rows, so that tables can be written concurrently.
+     */
+    private static final class AmplTable {
+
+        private final String suffix;
+
+        private final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        private final Map<String, List<AmplExtension>> extensions = new LinkedHashMap<>();
+
+        private AmplTable(String suffix) {
+            this.suffix = suffix;
+        }
+
+        private Writer newWriter() {
+            return new OutputStreamWriter(os, StandardCharsets.UTF_8);
+        }
+
+        private <E> void addExtensions(int extendedNum, Extendable<E> extendable) {
+            AmplNetworkWriter.addExtensions(extensions, extendedNum, extendable);
+        }
+    }
+
+    @FunctionalInterface
+    private interface AmplTableWriter {
+
+        void write(AmplTable table) throws IOException;
+    }
+
     public AmplNetworkWriter(Network network, int variantIndex, DataSource dataSource, int faultNum, int actionNum,
                              boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config) {
+        this(network, variantIndex, dataSource, faultNum, actionNum, append, mapper, config, Runnable::run);
+    }
+
+    /**
+     * @param executor the executor used to write the tables concurrently, the constructors without executor write them
+     *                 one after the other in the calling thread
+     */
+    public AmplNetworkWriter(Network network, int variantIndex, DataSource dataSource, int faultNum, int actionNum,
+                             boolean append, StringToIntMapper<AmplSubset> mapper, AmplExportConfig config, Executor executor) {
         this.network = Objects.requireNonNull(network);
         this.variantIndex = variantIndex;
         this.faultNum = faultNum;
@@ -142,6 +190,7 @@ public class AmplNetworkWriter {
         this.append = append;
         this.mapper = Objects.requireNonNull(mapper);
         this.config = Objects.requireNonNull(config);
+        this.executor = Objects.requireNonNull(executor);
         extensionMap = new HashMap<>();
     }
 
@@ -159,6 +208,10 @@ public class AmplNetworkWriter {
         this(network, DEFAULT_VARIANT_INDEX, dataSource, 0, 0, false, AmplUtil.createMapper(network), config);
     }
 
+    public AmplNetworkWriter(Network network, DataSource dataSource, AmplExportConfig config, Executor executor) {
+        this(network, DEFAULT_VARIANT_INDEX, dataSource, 0, 0, false, AmplUtil.createMapper(network), config, executor);
+    }
+
     public static String getTableTitle(Network network, String tableName) {
         return tableName + " (" + network.getId() + "/" + network.getVariantManager().getWorkingVariantId() + ")";
     }
@@ -246,8 +299,8 @@ public class AmplNetworkWriter {
         return getTableTitle(network, tableName);
     }
 
-    private void writeSubstations() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_substations", "txt", append), StandardCharsets.UTF_8);
+    private void writeSubstations(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Substations"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -282,7 +335,7 @@ public class AmplNetworkWriter {
                         .writeCell(vl.getSubstation().getCountry().map(Enum::toString).orElse(""))
                         .writeCell(vl.getId())
                         .writeCell(vl.getNameOrId());
-                addExtensions(num, vl);
+                table.addExtensions(num, vl);
             }
             // voltage level associated to 3 windings transformers middle bus
             for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
@@ -302,7 +355,7 @@ public class AmplNetworkWriter {
                         .writeCell(vl1.getSubstation().getCountry().map(Enum::toString).orElse(""))
                         .writeCell(vlId)
                         .writeCell("");
-                addExtensions(num, twt);
+                table.addExtensions(num, twt);
             }
             // voltage level associated to dangling lines middle bus
             for (DanglingLine dl : network.getDanglingLines()) {
@@ -324,7 +377,7 @@ public class AmplNetworkWriter {
                         .writeCell(vl.getSubstation().getCountry().map(Enum::toString).orElse(""))
                         .writeCell(dl.getId() + "_voltageLevel")
                         .writeCell("");
-                addExtensions(num, dl);
+                table.addExtensions(num, dl);
             }
             if (config.isExportXNodes()) {
                 for (Line l : network.getLines()) {
@@ -346,7 +399,7 @@ public class AmplNetworkWriter {
                             .writeCell(XNODE_COUNTRY_NAME)
                             .writeCell(AmplUtil.getXnodeBusId(tieLine) + "_voltageLevel")
                             .writeCell("");
-                    addExtensions(num, tieLine);
+                    table.addExtensions(num, tieLine);
                 }
             }
         }
@@ -371,8 +424,8 @@ public class AmplNetworkWriter {
         return !(isOnlyMainCc() && numCC != ComponentConstants.MAIN_NUM);
     }
 
-    private void writeBuses(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_buses", "txt", append), StandardCharsets.UTF_8);
+    private void writeBuses(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Buses"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -390,7 +443,7 @@ public class AmplNetworkWriter {
                      new Column(config.getActionType().getLabel()),
                      new Column(ID))) {
 
-            writeBuses(context, formatter);
+            writeBuses(context, table, formatter);
 
             writeThreeWindingsTransformerMiddleBuses(context, formatter);
 
@@ -402,7 +455,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBuses(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeBuses(AmplExportContext context, AmplTable table, TableFormatter formatter) throws IOException {
         for (Bus b : AmplUtil.getBuses(network)) {
             int ccNum = ConnectedComponents.getCcNum(b);
             if (connectedComponentToExport(ccNum)) {
@@ -425,22 +478,21 @@ public class AmplNetworkWriter {
                         .writeCell(faultNum)
                         .writeCell(actionNum)
                         .writeCell(id);
-                addExtensions(num, b);
+                table.addExtensions(num, b);
             }
         }
     }
 
-    private <E> void addExtensions(int extendedNum, Extendable<E> extendable) {
+    private static <E> void addExtensions(Map<String, List<AmplExtension>> extensionMap, int extendedNum, Extendable<E> extendable) {
         for (Extension<E> ext : extendable.getExtensions()) {
             List<AmplExtension> extList = extensionMap.computeIfAbsent(ext.getName(), k -> new ArrayList<>());
             extList.add(new AmplExtension(extendedNum, extendable, ext));
-            extensionMap.put(ext.getName(), extList);
         }
     }
 
     private void addNetworkExtensions() {
         int networkNum = mapper.getInt(AmplSubset.NETWORK, network.getId());
-        addExtensions(networkNum, network);
+        addExtensions(extensionMap, networkNum, network);
     }
 
     private void exportExtensions() throws IOException {
@@ -536,8 +588,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBranches(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_branches", "txt", append), StandardCharsets.UTF_8);
+    private void writeBranches(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Branches"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -571,17 +623,17 @@ public class AmplNetworkWriter {
                      new Column(ID),
                      new Column(DESCRIPTION))) {
 
-            writeLines(context, formatter);
+            writeLines(context, table, formatter);
 
-            writeTwoWindingsTransformers(context, formatter);
+            writeTwoWindingsTransformers(context, table, formatter);
 
-            writeThreeWindingsTransformers(context, formatter);
+            writeThreeWindingsTransformers(context, table, formatter);
 
-            writeDanglingLines(context, formatter);
+            writeDanglingLines(context, table, formatter);
         }
     }
 
-    private void writeLines(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeLines(AmplExportContext context, AmplTable table, TableFormatter formatter) throws IOException {
         for (Line l : network.getLines()) {
             Terminal t1 = l.getTerminal1();
             Terminal t2 = l.getTerminal2();
@@ -705,11 +757,11 @@ public class AmplNetworkWriter {
                         .writeCell(id)
                         .writeCell(l.getNameOrId());
             }
-            addExtensions(num, l);
+            table.addExtensions(num, l);
         }
     }
 
-    private void writeTwoWindingsTransformers(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeTwoWindingsTransformers(AmplExportContext context, AmplTable table, TableFormatter formatter) throws IOException {
         for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
             Terminal t1 = twt.getTerminal1();
             Terminal t2 = twt.getTerminal2();
@@ -789,11 +841,11 @@ public class AmplNetworkWriter {
                     .writeCell(actionNum)
                     .writeCell(id)
                     .writeCell(twt.getNameOrId());
-            addExtensions(num, twt);
+            table.addExtensions(num, twt);
         }
     }
 
-    private void writeThreeWindingsTransformers(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeThreeWindingsTransformers(AmplExportContext context, AmplTable table, TableFormatter formatter) throws IOException {
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
             Terminal t1 = twt.getLeg1().getTerminal();
             Terminal t2 = twt.getLeg2().getTerminal();
@@ -897,7 +949,7 @@ public class AmplNetworkWriter {
                         .writeCell(actionNum)
                         .writeCell(id1)
                         .writeCell("");
-                addExtensions(num1, twt);
+                table.addExtensions(num1, twt);
             }
             if (!isOnlyMainCc() || isBusExported(context, middleBusId) || isBusExported(context, bus2Id)) {
                 formatter.writeCell(variantIndex)
@@ -927,7 +979,7 @@ public class AmplNetworkWriter {
                         .writeCell(actionNum)
                         .writeCell(id2)
                         .writeCell("");
-                addExtensions(num2, twt);
+                table.addExtensions(num2, twt);
             }
             if (!isOnlyMainCc() || isBusExported(context, middleBusId) || isBusExported(context, bus3Id)) {
                 formatter.writeCell(variantIndex)
@@ -957,12 +1009,12 @@ public class AmplNetworkWriter {
                         .writeCell(actionNum)
                         .writeCell(id3)
                         .writeCell("");
-                addExtensions(num3, twt);
+                table.addExtensions(num3, twt);
             }
         }
     }
 
-    private void writeDanglingLines(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeDanglingLines(AmplExportContext context, AmplTable table, TableFormatter formatter) throws IOException {
         for (DanglingLine dl : network.getDanglingLines()) {
             Terminal t = dl.getTerminal();
             Bus bus1 = AmplUtil.getBus(t);
@@ -1016,7 +1068,7 @@ public class AmplNetworkWriter {
                     .writeCell(actionNum)
                     .writeCell(id)
                     .writeCell(dl.getNameOrId());
-            addExtensions(num, dl);
+            table.addExtensions(num, dl);
         }
     }
 
@@ -1028,8 +1080,8 @@ public class AmplNetworkWriter {
         return bus == null ? -1 : mapper.getInt(AmplSubset.BUS, bus.getId());
     }
 
-    private void writeTapChangerTable() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_tct", "txt", append), StandardCharsets.UTF_8);
+    private void writeTapChangerTable(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Tap changer table"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1148,7 +1200,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeRatioTapChangers() throws IOException {
+    private void writeRatioTapChangers(AmplTable table) throws IOException {
         List<Column> columns = new ArrayList<>(8);
         columns.add(new Column(VARIANT));
         columns.add(new Column(NUM));
@@ -1161,7 +1213,7 @@ public class AmplNetworkWriter {
         columns.add(new Column(FAULT));
         columns.add(new Column(config.getActionType().getLabel()));
         columns.add(new Column(ID));
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_rtc", "txt", append), StandardCharsets.UTF_8);
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Ratio tap changers"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1197,8 +1249,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writePhaseTapChangers() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_ptc", "txt", append), StandardCharsets.UTF_8);
+    private void writePhaseTapChangers(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Phase tap changers"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1235,8 +1287,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeLoads(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_loads", "txt", append), StandardCharsets.UTF_8);
+    private void writeLoads(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Loads"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1284,7 +1336,7 @@ public class AmplNetworkWriter {
                         .writeCell(l.getNameOrId())
                         .writeCell(t.getP())
                         .writeCell(t.getQ());
-                addExtensions(num, l);
+                table.addExtensions(num, l);
             }
             for (DanglingLine dl : network.getDanglingLines()) {
                 String middleBusId = getDanglingLineMiddleBusId(dl);
@@ -1330,8 +1382,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeShunts(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_shunts", "txt", append), StandardCharsets.UTF_8);
+    private void writeShunts(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Shunts"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1414,7 +1466,7 @@ public class AmplNetworkWriter {
                         .writeCell(t.getP())
                         .writeCell(t.getQ())
                         .writeCell(sectionCount);
-                addExtensions(num, sc);
+                table.addExtensions(num, sc);
             }
             if (!skipped.isEmpty()) {
                 LOGGER.trace("Skip shunts {} because not connected and not connectable", skipped);
@@ -1422,8 +1474,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeStaticVarCompensators() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_static_var_compensators", "txt", append), StandardCharsets.UTF_8);
+    private void writeStaticVarCompensators(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Static VAR compensators"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1478,7 +1530,7 @@ public class AmplNetworkWriter {
                         .writeCell(svc.getNameOrId())
                         .writeCell(t.getP())
                         .writeCell(t.getQ());
-                addExtensions(num, svc);
+                table.addExtensions(num, svc);
             }
             if (!skipped.isEmpty()) {
                 LOGGER.trace("Skip static VAR compensators {} because not connected and not connectable", skipped);
@@ -1486,8 +1538,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeGenerators(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_generators", "txt", append), StandardCharsets.UTF_8);
+    private void writeGenerators(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Generators"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1569,7 +1621,7 @@ public class AmplNetworkWriter {
                         .writeCell(g.getNameOrId())
                         .writeCell(t.getP())
                         .writeCell(t.getQ());
-                addExtensions(num, g);
+                table.addExtensions(num, g);
             }
             if (!skipped.isEmpty()) {
                 LOGGER.trace("Skip generators {} because not connected and not connectable", skipped);
@@ -1577,8 +1629,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBatteries(AmplExportContext context) throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_batteries", "txt", append), StandardCharsets.UTF_8);
+    private void writeBatteries(AmplExportContext context, AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Batteries"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1656,7 +1708,7 @@ public class AmplNetworkWriter {
                         .writeCell(b.getNameOrId())
                         .writeCell(t.getP())
                         .writeCell(t.getQ());
-                addExtensions(num, b);
+                table.addExtensions(num, b);
             }
             if (!skipped.isEmpty()) {
                 LOGGER.trace("Skip batteries {} because not connected and not connectable", skipped);
@@ -1680,8 +1732,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeCurrentLimits() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_limits", "txt", append), StandardCharsets.UTF_8);
+    private void writeCurrentLimits(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("Temporary current limits"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1742,8 +1794,8 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeHvdcLines() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_hvdc", "txt", append), StandardCharsets.UTF_8);
+    private void writeHvdcLines(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("HVDC lines"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1782,7 +1834,7 @@ public class AmplNetworkWriter {
                         .writeCell(actionNum)
                         .writeCell(id)
                         .writeCell(hvdcLine.getNameOrId());
-                addExtensions(num, hvdcLine);
+                table.addExtensions(num, hvdcLine);
             }
         }
     }
@@ -1800,8 +1852,8 @@ public class AmplNetworkWriter {
         return lineMap;
     }
 
-    private void writeLccConverterStations() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_lcc_converter_stations", "txt", append), StandardCharsets.UTF_8);
+    private void writeLccConverterStations(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("LCC Converter Stations"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1845,14 +1897,14 @@ public class AmplNetworkWriter {
                             .writeCell(lccStation.getNameOrId())
                             .writeCell(t.getP())
                             .writeCell(t.getQ());
-                    addExtensions(num, lccStation);
+                    table.addExtensions(num, lccStation);
                 }
             }
         }
     }
 
-    private void writeVscConverterStations() throws IOException {
-        try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_vsc_converter_stations", "txt", append), StandardCharsets.UTF_8);
+    private void writeVscConverterStations(AmplTable table) throws IOException {
+        try (Writer writer = table.newWriter();
              TableFormatter formatter = new AmplDatTableFormatter(writer,
                      getTableTitle("VSC Converter Stations"),
                      AmplConstants.INVALID_FLOAT_VALUE,
@@ -1923,7 +1975,7 @@ public class AmplNetworkWriter {
                             .writeCell(vscStation.getNameOrId())
                             .writeCell(t.getP())
                             .writeCell(t.getQ());
-                    addExtensions(num, vscStation);
+                    table.addExtensions(num, vscStation);
                 }
             }
         }
@@ -1933,23 +1985,71 @@ public class AmplNetworkWriter {
         write(new AmplExportContext());
     }
 
+    private CompletableFuture<AmplTable> writeTableAsync(String suffix, String variantId, AmplTableWriter tableWriter) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+                network.getVariantManager().setWorkingVariant(variantId);
+            }
+            AmplTable table = new AmplTable(suffix);
+            try {
+                tableWriter.write(table);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return table;
+        }, executor);
+    }
+
+    private static AmplTable join(CompletableFuture<AmplTable> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
     public void write(AmplExportContext context) throws IOException {
         extensionMap.clear();
-        writeBuses(context);
-        writeTapChangerTable();
-        writeRatioTapChangers();
-        writePhaseTapChangers();
-        writeBranches(context);
-        writeCurrentLimits();
-        writeGenerators(context);
-        writeBatteries(context);
-        writeLoads(context);
-        writeShunts(context);
-        writeStaticVarCompensators();
-        writeSubstations();
-        writeVscConverterStations();
-        writeLccConverterStations();
-        writeHvdcLines();
+
+        // buses are written first, as they fill the context used by the other tables, and compute the bus view and
+        // the connected components, which are not safe to compute concurrently
+        AmplTable buses = new AmplTable("_network_buses");
+        writeBuses(context, buses);
+
+        // other tables are independent and written concurrently, each one in a different thread
+        String variantId = network.getVariantManager().getWorkingVariantId();
+        List<CompletableFuture<AmplTable>> futures = Arrays.asList(
+            writeTableAsync("_network_tct", variantId, this::writeTapChangerTable),
+            writeTableAsync("_network_rtc", variantId, this::writeRatioTapChangers),
+            writeTableAsync("_network_ptc", variantId, this::writePhaseTapChangers),
+            writeTableAsync("_network_branches", variantId, table -> writeBranches(context, table)),
+            writeTableAsync("_network_limits", variantId, this::writeCurrentLimits),
+            writeTableAsync("_network_generators", variantId, table -> writeGenerators(context, table)),
+            writeTableAsync("_network_batteries", variantId, table -> writeBatteries(context, table)),
+            writeTableAsync("_network_loads", variantId, table -> writeLoads(context, table)),
+            writeTableAsync("_network_shunts", variantId, table -> writeShunts(context, table)),
+            writeTableAsync("_network_static_var_compensators", variantId, this::writeStaticVarCompensators),
+            writeTableAsync("_network_substations", variantId, this::writeSubstations),
+            writeTableAsync("_network_vsc_converter_stations", variantId, this::writeVscConverterStations),
+            writeTableAsync("_network_lcc_converter_stations", variantId, this::writeLccConverterStations),
+            writeTableAsync("_network_hvdc", variantId, this::writeHvdcLines));
+
+        // tables are copied to the data source, and their extensions are gathered, in the same order as a sequential
+        // write, so that the output does not depend on the scheduling of the tables
+        List<AmplTable> tables = new ArrayList<>(futures.size() + 1);
+        tables.add(buses);
+        for (CompletableFuture<AmplTable> future : futures) {
+            tables.add(join(future));
+        }
+        for (AmplTable table : tables) {
+            try (OutputStream os = dataSource.newOutputStream(table.suffix, "txt", append)) {
+                table.os.writeTo(os);
+            }
+            table.extensions.forEach((name, extensions) -> extensionMap.computeIfAbsent(name, k -> new ArrayList<>()).addAll(extensions));
+        }
 
         addNetworkExtensions();
         exportExtensions();
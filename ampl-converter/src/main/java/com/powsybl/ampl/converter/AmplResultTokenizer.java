@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter;
+
+import com.powsybl.ampl.converter.util.GeneralNumberFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tokenizer of AMPL result files. Lines are read in a reusable byte buffer, comment lines are skipped, and the
+ * other lines are split in tokens separated by spaces. Tokens are parsed directly from the buffer, without creating
+ * any string.
+ *
+ * @author agent <agent at local>
+ */
+class AmplResultTokenizer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int INITIAL_TOKEN_CAPACITY = 16;
+
+    private static final int MAX_FAST_INT_DIGITS = 9;
+
+    /* integers with up to 15 digits are exactly representable as doubles */
+    private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+
+    private static final int MAX_FAST_EXPONENT_DIGITS = 3;
+
+    private final InputStream is;
+
+    private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+
+    /* number of valid bytes in the buffer */
+    private int bufferLength = 0;
+
+    /* position of the next line in the buffer */
+    private int position = 0;
+
+    private boolean eof = false;
+
+    private int[] tokenStarts = new int[INITIAL_TOKEN_CAPACITY];
+
+    private int[] tokenEnds = new int[INITIAL_TOKEN_CAPACITY];
+
+    private int tokenCount = 0;
+
+    AmplResultTokenizer(InputStream is) {
+        this.is = Objects.requireNonNull(is);
+    }
+
+    private boolean fillBuffer() throws IOException {
+        if (eof) {
+            return false;
+        }
+        // move the beginning of the current line to the start of the buffer, and grow it if the line is too long
+        int remaining = bufferLength - position;
+        if (position == 0 && bufferLength == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        } else {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+            position = 0;
+            bufferLength = remaining;
+        }
+        int n = is.read(buffer, bufferLength, buffer.length - bufferLength);
+        if (n == -1) {
+            eof = true;
+            return false;
+        }
+        bufferLength += n;
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        // same as String.trim
+        return (b & 0xff) <= ' ';
+    }
+
+    /**
+     * Split a line in tokens, as {@code line.trim().split("( )+")} does.
+     */
+    private void tokenize(int lineStart, int lineEnd) {
+        int start = lineStart;
+        int end = lineEnd;
+        while (start < end && isWhitespace(buffer[start])) {
+            start++;
+        }
+        while (end > start && isWhitespace(buffer[end - 1])) {
+            end--;
+        }
+        tokenCount = 0;
+        int i = start;
+        while (i < end) {
+            int tokenStart = i;
+            while (i < end && buffer[i] != ' ') {
+                i++;
+            }
+            if (tokenCount == tokenStarts.length) {
+                tokenStarts = Arrays.copyOf(tokenStarts, tokenCount * 2);
+                tokenEnds = Arrays.copyOf(tokenEnds, tokenCount * 2);
+            }
+            tokenStarts[tokenCount] = tokenStart;
+            tokenEnds[tokenCount] = i;
+            tokenCount++;
+            while (i < end && buffer[i] == ' ') {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Read a line, with the same line terminators as {@link java.io.BufferedReader#readLine()}, and split it in tokens.
+     */
+    private boolean readLine() throws IOException {
+        int i = position;
+        while (true) {
+            while (i < bufferLength) {
+                byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    if (b == '\r' && i + 1 == bufferLength) {
+                        // a \n might follow
+                        int offset = i - position;
+                        fillBuffer();
+                        i = position + offset;
+                    }
+                    tokenize(position, i);
+                    position = i + 1 < bufferLength && b == '\r' && buffer[i + 1] == '\n' ? i + 2 : i + 1;
+                    return true;
+                }
+                i++;
+            }
+            int offset = i - position;
+            if (!fillBuffer()) {
+                if (bufferLength > position) {
+                    // last line without terminator
+                    tokenize(position, bufferLength);
+                    position = bufferLength;
+                    return true;
+                }
+                tokenCount = 0;
+                return false;
+            }
+            i = position + offset;
+        }
+    }
+
+    /**
+     * Read the next line which is not a comment.
+     *
+     * @return false at the end of the file
+     */
+    boolean nextLine() throws IOException {
+        boolean found;
+        do {
+            found = readLine();
+        } while (found && tokenCount > 0 && buffer[tokenStarts[0]] == '#'); // skip comments
+        return found;
+    }
+
+    int getTokenCount() {
+        return tokenCount;
+    }
+
+    private int getTokenStart(int index) {
+        if (index >= tokenCount) {
+            throw new IndexOutOfBoundsException("Token " + index + " of " + tokenCount);
+        }
+        return tokenStarts[index];
+    }
+
+    String getToken(int index) {
+        int start = getTokenStart(index);
+        return new String(buffer, start, tokenEnds[index] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse a token, as {@link Integer#parseInt(String)} does.
+     */
+    int parseInt(int index) {
+        int start = getTokenStart(index);
+        int end = tokenEnds[index];
+        int i = start;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > MAX_FAST_INT_DIGITS) {
+            // let the JDK parse it, to handle errors and overflows
+            return Integer.parseInt(getToken(index));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b < '0' || b > '9') {
+                return Integer.parseInt(getToken(index));
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a token, as {@link Double#parseDouble(String)} does.
+     */
+    double parseDouble(int index) {
+        int start = getTokenStart(index);
+        int end = tokenEnds[index];
+        int i = start;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        // fast path for decimal numbers: when both the digits and the power of ten are exactly representable as
+        // doubles, the multiplication or division is correctly rounded, as Double.parseDouble
+        long mantissa = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean digit = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b >= '0' && b <= '9') {
+                digit = true;
+                if (mantissa != 0 || b != '0') {
+                    digitCount++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (dot) {
+                    exponent--;
+                }
+                if (digitCount > MAX_FAST_DOUBLE_DIGITS) {
+                    break;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (digit && i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+                negativeExponent = buffer[i] == '-';
+                i++;
+            }
+            int exponentValue = 0;
+            int exponentDigitCount = 0;
+            for (; i < end && exponentDigitCount <= MAX_FAST_EXPONENT_DIGITS; i++) {
+                byte b = buffer[i];
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                exponentValue = exponentValue * 10 + (b - '0');
+                exponentDigitCount++;
+            }
+            if (exponentDigitCount == 0 || exponentDigitCount > MAX_FAST_EXPONENT_DIGITS) {
+                return Double.parseDouble(getToken(index));
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        if (i != end || !digit || Math.abs(exponent) > GeneralNumberFormat.MAX_EXACT_EXPONENT) {
+            // too many digits, special values, invalid number...
+            return Double.parseDouble(getToken(index));
+        }
+        double value = GeneralNumberFormat.scale(mantissa, exponent);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a token, as {@link Boolean#parseBoolean(String)} does.
+     */
+    boolean parseBoolean(int index) {
+        int start = getTokenStart(index);
+        return tokenEnds[index] - start == 4
+                && (buffer[start] | 0x20) == 't'
+                && (buffer[start + 1] | 0x20) == 'r'
+                && (buffer[start + 2] | 0x20) == 'u'
+                && (buffer[start + 3] | 0x20) == 'e';
+    }
+
+    /**
+     * Parse a token as an enum constant name, ignoring double quotes.
+     */
+    <E extends Enum<E>> E parseEnum(int index, Class<E> clazz) {
+        int start = getTokenStart(index);
+        int end = tokenEnds[index];
+        for (E constant : clazz.getEnumConstants()) {
+            String name = constant.name();
+            int j = 0;
+            int i = start;
+            for (; i < end; i++) {
+                if (buffer[i] == '"') {
+                    continue;
+                }
+                if (j == name.length() || buffer[i] != name.charAt(j)) {
+                    break;
+                }
+                j++;
+            }
+            if (i == end && j == name.length()) {
+                return constant;
+            }
+        }
+        // not found, let the JDK throw the error
+        return Enum.valueOf(clazz, getToken(index).replace("\"", ""));
+    }
+}
@@ -13,6 +13,7 @@ import com.powsybl.commons.io.table.TableFormatter;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 
 /**
@@ -21,12 +22,22 @@ import java.util.Locale;
  *   - separator is white space
  *   - comments are allowed and start with # (header is also a comment)
  *   - strings are quoted because of the white space separator
+ *
+ * Cells are formatted in a reusable character buffer, numbers without creating any string.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class AmplDatTableFormatter extends CsvTableFormatter {
 
+    private char[] buffer = new char[GeneralNumberFormat.MAX_LENGTH];
+
+    /* true if numbers are formatted with ASCII digits and a dot as decimal separator in the locale */
+    private final boolean asciiLocale;
+
     public AmplDatTableFormatter(Writer writer, String title, float invalidFloatValue, boolean writeHeader, Locale locale, Column... columns) {
         super(writer, title, ' ', Float.toString(invalidFloatValue), writeHeader, locale, columns);
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        asciiLocale = symbols.getZeroDigit() == '0' && symbols.getDecimalSeparator() == '.';
     }
 
     @Override
@@ -44,7 +55,40 @@ public class AmplDatTableFormatter extends CsvTableFormatter {
 
     @Override
     public TableFormatter writeCell(String s) throws IOException {
-        return write("\"" + s + "\"");
+        String str = String.valueOf(s);
+        int length = str.length() + 2;
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+        buffer[0] = '"';
+        str.getChars(0, str.length(), buffer, 1);
+        buffer[length - 1] = '"';
+        return write(buffer, 0, length);
+    }
+
+    @Override
+    public TableFormatter writeCell(int i) throws IOException {
+        return write(buffer, 0, GeneralNumberFormat.formatInt(i, buffer));
+    }
+
+    @Override
+    public TableFormatter writeCell(float f) throws IOException {
+        if (Float.isNaN(f) || columns[column].getNumberFormat() != null) {
+            return super.writeCell(f);
+        }
+        // floats are formatted as their double value, as String.format does
+        return writeCell((double) f);
+    }
+
+    @Override
+    public TableFormatter writeCell(double d) throws IOException {
+        if (asciiLocale && !Double.isNaN(d) && columns[column].getNumberFormat() == null) {
+            int length = GeneralNumberFormat.formatGeneral(d, buffer);
+            if (length != -1) {
+                return write(buffer, 0, length);
+            }
+        }
+        return super.writeCell(d);
     }
 
     @Override
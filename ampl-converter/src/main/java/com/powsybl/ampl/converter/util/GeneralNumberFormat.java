@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter.util;
+
+/**
+ * Formatting of numbers in a character buffer, without creating any object. Numbers are formatted exactly as
+ * {@link String#format} does with the {@code %d} and {@code %g} conversions and a locale using ASCII digits and a dot
+ * as decimal separator.
+ *
+ * @author agent <agent at local>
+ */
+public final class GeneralNumberFormat {
+
+    /**
+     * Largest exponent for which the power of ten is exactly representable as a double.
+     */
+    public static final int MAX_EXACT_EXPONENT = 22;
+
+    /**
+     * Maximum length of a formatted number.
+     */
+    static final int MAX_LENGTH = 20;
+
+    private static final int PRECISION = 6;
+
+    private static final double MIN_SCALED = 1e5;
+
+    private static final double MAX_SCALED = 1e6;
+
+    /* powers of ten exactly representable as doubles, up to MAX_EXACT_EXPONENT */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final double MIN_VALUE = 1e-15;
+
+    private static final double MAX_VALUE = 1e15;
+
+    /*
+     * String.format rounds the shortest decimal representation of a double, not its exact value. Both are equal up to
+     * a relative error of 1e-16, so rounding the exact value gives the same result, unless it is this close to a tie.
+     */
+    private static final double TIE_MARGIN = 1e-6;
+
+    private GeneralNumberFormat() {
+    }
+
+    /**
+     * Multiply a value by a power of ten. As the power of ten is exact, the result is rounded only once, so an integer
+     * value with up to 15 digits is scaled to the closest double of the decimal number.
+     *
+     * @param exponent the exponent of the power of ten, between {@code -MAX_EXACT_EXPONENT} and
+     *                 {@code MAX_EXACT_EXPONENT}
+     */
+    public static double scale(double value, int exponent) {
+        return exponent >= 0 ? value * POWERS_OF_TEN[exponent] : value / POWERS_OF_TEN[-exponent];
+    }
+
+    private static int formatDigits(long value, char[] buffer, int pos, int digitCount) {
+        long remaining = value;
+        for (int i = pos + digitCount - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return pos + digitCount;
+    }
+
+    /**
+     * Format an integer, as {@code String.format("%d", value)}.
+     *
+     * @return the length of the formatted number
+     */
+    static int formatInt(int value, char[] buffer) {
+        int pos = 0;
+        long abs = value;
+        if (abs < 0) {
+            buffer[pos++] = '-';
+            abs = -abs;
+        }
+        int digitCount = 1;
+        for (long p = 10; p <= abs; p *= 10) {
+            digitCount++;
+        }
+        return formatDigits(abs, buffer, pos, digitCount);
+    }
+
+    /**
+     * Format a double, as {@code String.format(Locale.US, "%g", value)}: 6 significant digits, in scientific notation
+     * if the rounded value is lower than 1e-4 or greater than or equal to 1e6.
+     *
+     * @return the length of the formatted number, or -1 if the number is not finite, lower than 1e-15 or greater than
+     * or equal to 1e15
+     */
+    static int formatGeneral(double value, char[] buffer) {
+        int pos = 0;
+        // negative zero is formatted with a sign
+        if (Double.compare(value, 0.0) < 0) {
+            buffer[pos++] = '-';
+        }
+        double abs = Math.abs(value);
+        if (abs == 0) {
+            buffer[pos++] = '0';
+            buffer[pos++] = '.';
+            return formatDigits(0, buffer, pos, PRECISION - 1);
+        }
+        if (!(abs >= MIN_VALUE && abs < MAX_VALUE)) {
+            return -1;
+        }
+
+        // scale the value so that it has 6 digits before the decimal point
+        int exponent = (int) Math.floor(Math.log10(abs));
+        double scaled = scale(abs, PRECISION - 1 - exponent);
+        if (scaled >= MAX_SCALED) {
+            exponent++;
+            scaled = scale(abs, PRECISION - 1 - exponent);
+        } else if (scaled < MIN_SCALED) {
+            exponent--;
+            scaled = scale(abs, PRECISION - 1 - exponent);
+        }
+        if (scaled < MIN_SCALED || scaled >= MAX_SCALED) {
+            return -1;
+        }
+        double integerPart = Math.floor(scaled);
+        double fractionalPart = scaled - integerPart;
+        boolean roundUp;
+        if (Math.abs(fractionalPart - 0.5) < TIE_MARGIN) {
+            // compare the value to the double nearest to the tie: if they are equal, the shortest decimal
+            // representation of the value is the tie, which is rounded half up
+            roundUp = abs >= scale(integerPart + 0.5, exponent - PRECISION + 1);
+        } else {
+            roundUp = fractionalPart > 0.5;
+        }
+        long mantissa = (long) integerPart + (roundUp ? 1 : 0);
+        if (mantissa == (long) MAX_SCALED) {
+            mantissa = (long) MIN_SCALED;
+            exponent++;
+        }
+
+        if (exponent < -4 || exponent >= PRECISION) {
+            // scientific notation
+            pos = formatDigits(mantissa / (long) MIN_SCALED, buffer, pos, 1);
+            buffer[pos++] = '.';
+            pos = formatDigits(mantissa % (long) MIN_SCALED, buffer, pos, PRECISION - 1);
+            buffer[pos++] = 'e';
+            buffer[pos++] = exponent < 0 ? '-' : '+';
+            return formatDigits(Math.abs(exponent), buffer, pos, 2);
+        }
+        if (exponent < 0) {
+            buffer[pos++] = '0';
+            buffer[pos++] = '.';
+            pos = formatDigits(0, buffer, pos, -exponent - 1);
+            return formatDigits(mantissa, buffer, pos, PRECISION);
+        }
+        long divisor = (long) POWERS_OF_TEN[PRECISION - 1 - exponent];
+        pos = formatDigits(mantissa / divisor, buffer, pos, exponent + 1);
+        if (exponent < PRECISION - 1) {
+            buffer[pos++] = '.';
+            pos = formatDigits(mantissa % divisor, buffer, pos, PRECISION - 1 - exponent);
+        }
+        return pos;
+    }
+}
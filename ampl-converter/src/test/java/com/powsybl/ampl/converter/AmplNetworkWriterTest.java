@@ -27,6 +27,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -63,6 +66,28 @@ public class AmplNetworkWriterTest extends AbstractConverterTest {
         assertEqualsToRef(dataSource, "_network_limits", "inputs/eurostag-tutorial-example1-limits.txt");
     }
 
+    @Test
+    public void writeEurostagWithExecutor() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators();
+
+        MemDataSource dataSource = new MemDataSource();
+        AtomicInteger taskCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new AmplNetworkWriter(network, dataSource, new AmplExportConfig(AmplExportConfig.ExportScope.ALL, false, AmplExportConfig.ExportActionType.CURATIVE), command -> {
+                taskCount.incrementAndGet();
+                executor.execute(command);
+            }).write();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(taskCount.get() > 0);
+        assertEqualsToRef(dataSource, "_network_buses", "inputs/eurostag-tutorial-example1-buses.txt");
+        assertEqualsToRef(dataSource, "_network_generators", "inputs/eurostag-tutorial-example1-generators.txt");
+        assertEqualsToRef(dataSource, "_network_limits", "inputs/eurostag-tutorial-example1-limits.txt");
+    }
+
     @Test
     public void writeNetworkWithExtension() throws IOException {
         Network network = Network.create("sim1", "test");
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter;
+
+import com.google.common.base.Strings;
+import com.powsybl.iidm.network.HvdcLine;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class AmplResultTokenizerTest {
+
+    private static AmplResultTokenizer createTokenizer(String str) {
+        return new AmplResultTokenizer(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        String longComment = "#" + Strings.repeat("x", 100_000);
+        AmplResultTokenizer tokens = createTokenizer("#comment\r\n  1   -2 +3.5\t\r\n" + longComment + "\n   # other comment\r4 TRUE \"SIDE_1_RECTIFIER_SIDE_2_INVERTER\" 'é'\n\n5");
+        assertTrue(tokens.nextLine());
+        assertEquals(3, tokens.getTokenCount());
+        assertEquals(1, tokens.parseInt(0));
+        assertEquals(-2, tokens.parseInt(1));
+        assertEquals(3.5, tokens.parseDouble(2), 0);
+        assertTrue(tokens.nextLine());
+        assertEquals(4, tokens.getTokenCount());
+        assertTrue(tokens.parseBoolean(1));
+        assertFalse(tokens.parseBoolean(0));
+        assertEquals(HvdcLine.ConvertersMode.SIDE_1_RECTIFIER_SIDE_2_INVERTER, tokens.parseEnum(2, HvdcLine.ConvertersMode.class));
+        assertEquals("'é'", tokens.getToken(3));
+        assertTrue(tokens.nextLine());
+        assertEquals(0, tokens.getTokenCount());
+        assertTrue(tokens.nextLine());
+        assertEquals(5, tokens.parseInt(0));
+        assertFalse(tokens.nextLine());
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+            builder.append(value).append(' ')
+                   .append(String.format(Locale.US, "%g", value)).append(' ')
+                   .append(String.format(Locale.US, "%.3f", value)).append(' ')
+                   .append(random.nextInt()).append(System.lineSeparator());
+        }
+        builder.append("1e400 -0 .5 NaN 99999999999 1.2E+3 1e");
+        AmplResultTokenizer tokens = createTokenizer(builder.toString());
+        String[] lines = builder.toString().split(System.lineSeparator());
+        for (int i = 0; i < lines.length - 1; i++) {
+            assertTrue(tokens.nextLine());
+            String[] expected = lines[i].split(" ");
+            for (int j = 0; j < 3; j++) {
+                assertEquals(Double.doubleToLongBits(Double.parseDouble(expected[j])), Double.doubleToLongBits(tokens.parseDouble(j)));
+            }
+            assertEquals(Integer.parseInt(expected[3]), tokens.parseInt(3));
+        }
+        assertTrue(tokens.nextLine());
+        assertEquals(Double.POSITIVE_INFINITY, tokens.parseDouble(0), 0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(tokens.parseDouble(1)));
+        assertEquals(0.5, tokens.parseDouble(2), 0);
+        assertTrue(Double.isNaN(tokens.parseDouble(3)));
+        try {
+            tokens.parseInt(4);
+            fail();
+        } catch (NumberFormatException ignored) {
+            // overflow
+        }
+        assertEquals(1200, tokens.parseDouble(5), 0);
+        try {
+            tokens.parseDouble(6);
+            fail();
+        } catch (NumberFormatException ignored) {
+            // missing exponent
+        }
+    }
+}
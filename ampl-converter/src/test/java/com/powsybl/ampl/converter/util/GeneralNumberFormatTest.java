@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ampl.converter.util;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent <agent at local>
+ */
+public class GeneralNumberFormatTest {
+
+    private final char[] buffer = new char[GeneralNumberFormat.MAX_LENGTH];
+
+    private void assertGeneral(double value) {
+        int length = GeneralNumberFormat.formatGeneral(value, buffer);
+        if (length != -1) {
+            assertEquals(String.format(Locale.US, "%g", value), new String(buffer, 0, length));
+        } else {
+            // only values out of range are not formatted
+            assertTrue(Double.isNaN(value) || Math.abs(value) < 1e-15 || Math.abs(value) >= 1e15);
+        }
+    }
+
+    private String formatGeneral(double value) {
+        return new String(buffer, 0, GeneralNumberFormat.formatGeneral(value, buffer));
+    }
+
+    @Test
+    public void testGeneral() {
+        double[] values = {0, -0.0, 1, -1, 0.1, 0.5, 1.5, 123456, 1234567, 999999.4, 999999.6, 99999.95, 0.0001, 0.00009999996,
+                           0.000123456789, 1e-5, 1e-15, 9.99999e14, 3.14159265358979, -99999, 0.1f, 1.1f, 400, 1e6, 123456.5,
+                           Double.MIN_VALUE, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+        for (double value : values) {
+            assertGeneral(value);
+        }
+        assertEquals("0.00000", formatGeneral(0));
+        assertEquals("-0.00000", formatGeneral(-0.0));
+        assertEquals("0.100000", formatGeneral(0.1));
+        assertEquals("123457", formatGeneral(123456.7));
+        assertEquals("1.00000e+06", formatGeneral(999999.6));
+        assertEquals("0.000123457", formatGeneral(0.000123456789));
+        assertEquals("-1.00000e-05", formatGeneral(-1e-5));
+        assertEquals("12345.7", formatGeneral(12345.65));
+        assertEquals("0.125000", formatGeneral(0.125));
+        assertEquals("1.00000", formatGeneral(0.9999995));
+        assertEquals(-1, GeneralNumberFormat.formatGeneral(Double.NaN, buffer));
+        assertEquals(-1, GeneralNumberFormat.formatGeneral(Double.POSITIVE_INFINITY, buffer));
+
+        Random random = new Random(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 15);
+            assertGeneral(value);
+            // values with few decimals, as in network data
+            assertGeneral(Math.round(value * 1000) / 1000.0);
+            assertGeneral((float) value);
+        }
+    }
+
+    @Test
+    public void testInt() {
+        for (int value : new int[] {0, 1, -1, 9, 10, 99, 100, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(Integer.toString(value), new String(buffer, 0, GeneralNumberFormat.formatInt(value, buffer)));
+        }
+    }
+}
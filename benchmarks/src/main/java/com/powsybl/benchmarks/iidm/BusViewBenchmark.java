@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the bus view recomputation of node/breaker voltage levels after a switch change.
+ *
+ * <p>Each invocation toggles the coupler of the voltage level in the middle of the grid, so that the bus view cache
+ * of this voltage level and the connected components of the network are invalidated, and then requests the
+ * bus view again.</p>
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class BusViewBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int busCount;
+
+    private Network network;
+
+    private VoltageLevel voltageLevel;
+
+    private Switch coupler;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(busCount, TopologyKind.NODE_BREAKER);
+        int bus = busCount / 2;
+        voltageLevel = network.getVoltageLevel(SyntheticNetworkFactory.getVoltageLevelId(bus));
+        coupler = network.getSwitch(SyntheticNetworkFactory.getCouplerId(bus));
+    }
+
+    @Benchmark
+    public int updateVoltageLevelBusView() {
+        coupler.setOpen(!coupler.isOpen());
+        int count = 0;
+        for (Bus ignored : voltageLevel.getBusView().getBuses()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int updateNetworkBusView() {
+        coupler.setOpen(!coupler.isOpen());
+        int count = 0;
+        for (Bus bus : network.getBusView().getBuses()) {
+            count += bus.getConnectedComponent().getNum();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.iidm.import_.ImportOptions;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.impl.NetworkFactoryImpl;
+import com.powsybl.iidm.xml.NetworkXml;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the IIDM XML serialization and deserialization.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class NetworkXmlBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int busCount;
+
+    @Param({"NODE_BREAKER", "BUS_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private final NetworkFactory networkFactory = new NetworkFactoryImpl();
+
+    private Network network;
+
+    private byte[] xml;
+
+    @Setup
+    public void setUp() {
+        network = SyntheticNetworkFactory.create(busCount, topologyKind, networkFactory);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        xml = os.toByteArray();
+    }
+
+    @Benchmark
+    public int write() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(xml.length);
+        NetworkXml.write(network, os);
+        return os.size();
+    }
+
+    @Benchmark
+    public Network read() {
+        return NetworkXml.read(new ByteArrayInputStream(xml), new ImportOptions(), null, networkFactory);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.impl.NetworkFactoryImpl;
+import org.joda.time.DateTime;
+
+import java.util.Objects;
+
+/**
+ * Generator of synthetic networks of arbitrary size, to benchmark algorithms on grids comparable to real ones.
+ *
+ * <p>The network is a meshed grid of {@code busCount} substations, each one containing a single 400 kV voltage level.
+ * Each voltage level is connected to its right and bottom neighbours by a line, supplies a load, and one voltage level
+ * out of four also contains a generator.</p>
+ *
+ * <p>In {@link TopologyKind#NODE_BREAKER} topology, each voltage level is made of two busbar sections linked by a closed
+ * coupler, each feeder being connected to one of them through a disconnector and a breaker. In
+ * {@link TopologyKind#BUS_BREAKER} topology, each voltage level contains a single configured bus. In both cases, the
+ * bus view of the network contains {@code busCount} buses.</p>
+ *
+ * @author agent <agent at local>
+ */
+public final class SyntheticNetworkFactory {
+
+    private static final double NOMINAL_V = 400;
+
+    private static final int GENERATOR_PERIOD = 4;
+
+    private SyntheticNetworkFactory() {
+    }
+
+    public static String getVoltageLevelId(int bus) {
+        return "VL" + bus;
+    }
+
+    public static String getCouplerId(int bus) {
+        return "VL" + bus + "_COUPLER";
+    }
+
+    public static Network create(int busCount, TopologyKind topologyKind) {
+        return create(busCount, topologyKind, new NetworkFactoryImpl());
+    }
+
+    public static Network create(int busCount, TopologyKind topologyKind, NetworkFactory networkFactory) {
+        if (busCount <= 0) {
+            throw new IllegalArgumentException("Invalid bus count: " + busCount);
+        }
+        Objects.requireNonNull(topologyKind);
+        Objects.requireNonNull(networkFactory);
+
+        Network network = networkFactory.createNetwork("synthetic" + busCount, "test");
+        network.setCaseDate(DateTime.parse("2020-01-01T00:00:00.000+01:00"));
+
+        int[] nextNodes = new int[busCount];
+        for (int bus = 0; bus < busCount; bus++) {
+            VoltageLevel vl = network.newSubstation()
+                    .setId("S" + bus)
+                    .add()
+                    .newVoltageLevel()
+                    .setId(getVoltageLevelId(bus))
+                    .setNominalV(NOMINAL_V)
+                    .setLowVoltageLimit(0.9 * NOMINAL_V)
+                    .setHighVoltageLimit(1.1 * NOMINAL_V)
+                    .setTopologyKind(topologyKind)
+                    .add();
+            if (topologyKind == TopologyKind.NODE_BREAKER) {
+                createBusbarSections(vl, bus);
+                nextNodes[bus] = 4;
+            } else {
+                vl.getBusBreakerView().newBus()
+                        .setId(getBusId(bus))
+                        .add();
+            }
+
+            String loadId = "LOAD" + bus;
+            LoadAdder loadAdder = vl.newLoad()
+                    .setId(loadId)
+                    .setLoadType(LoadType.UNDEFINED)
+                    .setP0(100)
+                    .setQ0(10);
+            connect(loadAdder, loadId, vl, bus, nextNodes);
+            loadAdder.add();
+
+            if (bus % GENERATOR_PERIOD == 0) {
+                String generatorId = "GEN" + bus;
+                GeneratorAdder generatorAdder = vl.newGenerator()
+                        .setId(generatorId)
+                        .setEnergySource(EnergySource.OTHER)
+                        .setMinP(0)
+                        .setMaxP(1000)
+                        .setTargetP(GENERATOR_PERIOD * 100.0)
+                        .setTargetV(NOMINAL_V)
+                        .setVoltageRegulatorOn(true);
+                connect(generatorAdder, generatorId, vl, bus, nextNodes);
+                generatorAdder.add();
+            }
+        }
+
+        int width = (int) Math.ceil(Math.sqrt(busCount));
+        for (int bus = 0; bus < busCount; bus++) {
+            if ((bus + 1) % width != 0 && bus + 1 < busCount) {
+                createLine(network, bus, bus + 1, nextNodes);
+            }
+            if (bus + width < busCount) {
+                createLine(network, bus, bus + width, nextNodes);
+            }
+        }
+
+        return network;
+    }
+
+    private static String getBusId(int bus) {
+        return "VL" + bus + "_BUS";
+    }
+
+    private static void createBusbarSections(VoltageLevel vl, int bus) {
+        VoltageLevel.NodeBreakerView view = vl.getNodeBreakerView();
+        view.newBusbarSection()
+                .setId("VL" + bus + "_BBS1")
+                .setNode(0)
+                .add();
+        view.newBusbarSection()
+                .setId("VL" + bus + "_BBS2")
+                .setNode(1)
+                .add();
+        createSwitch(vl, "VL" + bus + "_BBS1_COUPLER_DISCONNECTOR", SwitchKind.DISCONNECTOR, 0, 2);
+        createSwitch(vl, getCouplerId(bus), SwitchKind.BREAKER, 2, 3);
+        createSwitch(vl, "VL" + bus + "_BBS2_COUPLER_DISCONNECTOR", SwitchKind.DISCONNECTOR, 3, 1);
+    }
+
+    private static void createSwitch(VoltageLevel vl, String id, SwitchKind kind, int node1, int node2) {
+        vl.getNodeBreakerView().newSwitch()
+                .setId(id)
+                .setKind(kind)
+                .setRetained(kind == SwitchKind.BREAKER)
+                .setOpen(false)
+                .setNode1(node1)
+                .setNode2(node2)
+                .add();
+    }
+
+    /**
+     * Create a disconnector and a breaker from one of the busbar sections of the voltage level, alternately, and
+     * return the node the equipment has to be connected to.
+     */
+    private static int createFeederBay(VoltageLevel vl, int bus, int[] nextNodes, String equipmentId) {
+        int node = nextNodes[bus];
+        int busbarSectionNode = (node / 2) % 2;
+        createSwitch(vl, equipmentId + "_" + vl.getId() + "_DISCONNECTOR", SwitchKind.DISCONNECTOR, busbarSectionNode, node);
+        createSwitch(vl, equipmentId + "_" + vl.getId() + "_BREAKER", SwitchKind.BREAKER, node, node + 1);
+        nextNodes[bus] = node + 2;
+        return node + 1;
+    }
+
+    private static void connect(InjectionAdder<?> adder, String id, VoltageLevel vl, int bus, int[] nextNodes) {
+        if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode(createFeederBay(vl, bus, nextNodes, id));
+        } else {
+            adder.setBus(getBusId(bus));
+            adder.setConnectableBus(getBusId(bus));
+        }
+    }
+
+    private static void createLine(Network network, int bus1, int bus2, int[] nextNodes) {
+        String id = "LINE_" + bus1 + "_" + bus2;
+        LineAdder adder = network.newLine()
+                .setId(id)
+                .setVoltageLevel1(getVoltageLevelId(bus1))
+                .setVoltageLevel2(getVoltageLevelId(bus2))
+                .setR(1)
+                .setX(10)
+                .setG1(0)
+                .setB1(0)
+                .setG2(0)
+                .setB2(0);
+        VoltageLevel vl1 = network.getVoltageLevel(getVoltageLevelId(bus1));
+        VoltageLevel vl2 = network.getVoltageLevel(getVoltageLevelId(bus2));
+        if (vl1.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode1(createFeederBay(vl1, bus1, nextNodes, id))
+                    .setNode2(createFeederBay(vl2, bus2, nextNodes, id));
+        } else {
+            adder.setBus1(getBusId(bus1))
+                    .setConnectableBus1(getBusId(bus1))
+                    .setBus2(getBusId(bus2))
+                    .setConnectableBus2(getBusId(bus2));
+        }
+        adder.add();
+    }
+}
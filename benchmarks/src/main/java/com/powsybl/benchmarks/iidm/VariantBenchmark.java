@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the variant management: overwriting an existing variant only copies the variant array elements,
+ * whereas creating a new one also extends the variant arrays of every multi-variant object. Resetting a delta variant
+ * only copies the objects modified since its last reset.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class VariantBenchmark {
+
+    private static final String OVERWRITTEN_VARIANT_ID = "overwritten";
+
+    private static final String CREATED_VARIANT_ID = "created";
+
+    private static final String DELTA_VARIANT_ID = "delta";
+
+    @Param({"1000", "10000", "100000"})
+    private int busCount;
+
+    @Param({"NODE_BREAKER", "BUS_BREAKER"})
+    private TopologyKind topologyKind;
+
+    private VariantManager variantManager;
+
+    private Line line;
+
+    @Setup
+    public void setUp() {
+        Network network = SyntheticNetworkFactory.create(busCount, topologyKind);
+        variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, OVERWRITTEN_VARIANT_ID);
+        variantManager.cloneDeltaVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Collections.singletonList(DELTA_VARIANT_ID));
+        line = network.getLines().iterator().next();
+    }
+
+    @Benchmark
+    public void cloneVariantOverwrite() {
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, OVERWRITTEN_VARIANT_ID, true);
+    }
+
+    /**
+     * Reset of a variant after a contingency, as done by the security analysis with regular variants.
+     */
+    @Benchmark
+    public void tripLineAndResetVariant() {
+        tripLineAndReset(OVERWRITTEN_VARIANT_ID);
+    }
+
+    /**
+     * Reset of a variant after a contingency, as done by the security analysis with delta variants.
+     */
+    @Benchmark
+    public void tripLineAndResetDeltaVariant() {
+        tripLineAndReset(DELTA_VARIANT_ID);
+    }
+
+    private void tripLineAndReset(String variantId) {
+        variantManager.setWorkingVariant(variantId);
+        line.getTerminal1().disconnect();
+        line.getTerminal2().disconnect();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantId, true);
+    }
+
+    @Benchmark
+    public void cloneAndRemoveVariant() {
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, CREATED_VARIANT_ID);
+        variantManager.removeVariant(CREATED_VARIANT_ID);
+    }
+}
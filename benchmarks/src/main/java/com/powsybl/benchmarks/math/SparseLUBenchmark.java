@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.math;
+
+import com.powsybl.math.matrix.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the native and pure Java sparse LU decompositions, on a matrix shaped as the admittance matrix of a
+ * square grid network.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SparseLUBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"native", "java"})
+    private String implementation;
+
+    private static final int RHS_COUNT = 256;
+
+    private Matrix matrix;
+
+    private List<Matrix.Element> diagonal;
+
+    private LUDecomposition decomposition;
+
+    private double[] b;
+
+    private DenseMatrix rhs;
+
+    @Setup
+    public void setUp() {
+        MatrixFactory factory = implementation.equals("native") ? new SparseMatrixFactory() : new JavaSparseMatrixFactory();
+        diagonal = new ArrayList<>(size);
+        matrix = createGridMatrix(size, factory, diagonal);
+        decomposition = matrix.decomposeLU();
+        b = new double[size];
+        rhs = new DenseMatrix(size, RHS_COUNT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        decomposition.close();
+    }
+
+    static Matrix createGridMatrix(int size, MatrixFactory factory, List<Matrix.Element> diagonal) {
+        int width = (int) Math.ceil(Math.sqrt(size));
+        Random random = new Random(0);
+        Matrix m = factory.create(size, size, 5 * size);
+        for (int j = 0; j < size; j++) {
+            // columns have to be filled in order
+            double sum = 0;
+            for (int i = Math.max(0, j - width); i <= Math.min(size - 1, j + width); i++) {
+                // only neighbors in the grid, in ascending order
+                boolean neighbor = i == j - width || i == j + width
+                        || i == j - 1 && j % width != 0
+                        || i == j + 1 && i % width != 0;
+                if (neighbor) {
+                    double y = 1 + random.nextDouble();
+                    m.set(i, j, -y);
+                    sum += y;
+                }
+            }
+            diagonal.add(m.addAndGetElement(j, j, sum + 1));
+        }
+        return m;
+    }
+
+    @Benchmark
+    public LUDecomposition decompose() {
+        try (LUDecomposition lu = matrix.decomposeLU()) {
+            return lu;
+        }
+    }
+
+    /**
+     * Decomposition update after a change of values, the structure of the matrix being the same.
+     */
+    @Benchmark
+    public LUDecomposition update() {
+        diagonal.get(0).add(1e-3);
+        decomposition.update();
+        return decomposition;
+    }
+
+    @Benchmark
+    public double[] solve() {
+        b[0] = 1;
+        decomposition.solve(b);
+        return b;
+    }
+
+    @Benchmark
+    public DenseMatrix solveMultipleRightHandSides() {
+        for (int j = 0; j < RHS_COUNT; j++) {
+            rhs.set(j, j, 1);
+        }
+        decomposition.solve(rhs);
+        return rhs;
+    }
+
+    /**
+     * Same as {@link #solveMultipleRightHandSides()} with columns split across the common pool, only the pure Java
+     * decomposition supports concurrent solves.
+     */
+    @Benchmark
+    public DenseMatrix solveMultipleRightHandSidesInParallel() {
+        for (int j = 0; j < RHS_COUNT; j++) {
+            rhs.set(j, j, 1);
+        }
+        decomposition.solve(rhs, ForkJoinPool.commonPool());
+        return rhs;
+    }
+}
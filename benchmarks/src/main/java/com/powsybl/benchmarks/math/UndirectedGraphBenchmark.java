@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.math;
+
+import com.powsybl.math.graph.TraverseResult;
+import com.powsybl.math.graph.UndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraphImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the traversal of an {@link UndirectedGraphImpl} shaped as a square grid.
+ *
+ * <p>The traversal being recursive, the depth of the call stack is proportional to the number of vertices: the thread
+ * stack size is increased accordingly.</p>
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xss256m")
+public class UndirectedGraphBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int vertexCount;
+
+    private UndirectedGraph<Object, Object> graph;
+
+    private boolean[] encountered;
+
+    private int lastEdge;
+
+    @Setup
+    public void setUp() {
+        graph = createGrid(vertexCount);
+        encountered = new boolean[graph.getVertexCapacity()];
+    }
+
+    static UndirectedGraph<Object, Object> createGrid(int vertexCount) {
+        UndirectedGraph<Object, Object> grid = new UndirectedGraphImpl<>();
+        for (int v = 0; v < vertexCount; v++) {
+            grid.addVertex();
+        }
+        int width = (int) Math.ceil(Math.sqrt(vertexCount));
+        for (int v = 0; v < vertexCount; v++) {
+            if ((v + 1) % width != 0 && v + 1 < vertexCount) {
+                grid.addEdge(v, v + 1, null);
+            }
+            if (v + width < vertexCount) {
+                grid.addEdge(v, v + width, null);
+            }
+        }
+        return grid;
+    }
+
+    private int traverse() {
+        Arrays.fill(encountered, false);
+        int[] count = new int[1];
+        graph.traverse(0, (v1, e, v2) -> {
+            count[0]++;
+            return TraverseResult.CONTINUE;
+        }, encountered);
+        return count[0];
+    }
+
+    /**
+     * Traversal with an up to date adjacency list cache.
+     */
+    @Benchmark
+    public int traverseCached() {
+        return traverse();
+    }
+
+    /**
+     * Traversal after an edge change, which invalidates the adjacency list cache.
+     */
+    @Benchmark
+    public int traverseAfterEdgeChange() {
+        graph.removeEdge(lastEdge);
+        lastEdge = graph.addEdge(0, 1, null);
+        return traverse();
+    }
+}
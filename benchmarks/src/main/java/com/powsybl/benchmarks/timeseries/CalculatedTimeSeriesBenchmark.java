@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.timeseries;
+
+import com.powsybl.timeseries.*;
+import com.powsybl.timeseries.ast.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the evaluation of a {@link CalculatedTimeSeries} depending on three stored time series.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CalculatedTimeSeriesBenchmark {
+
+    @Param({"8760", "87600"})
+    private int pointCount;
+
+    private CalculatedTimeSeries calculatedTimeSeries;
+
+    @Setup
+    public void setUp() {
+        TimeSeriesIndex index = TimeSeriesBenchmarkUtil.createHourlyIndex(pointCount);
+        ReadOnlyTimeSeriesStore store = new ReadOnlyTimeSeriesStoreCache(TimeSeriesBenchmarkUtil.createDoubleTimeSeries(index, 3));
+
+        // max(abs(ts0 * 2 + ts1 - ts2 / 3), 100) * (ts0 > ts1)
+        NodeCalc nodeCalc = BinaryOperation.multiply(
+                new MaxNodeCalc(UnaryOperation.abs(BinaryOperation.minus(BinaryOperation.plus(BinaryOperation.multiply(new TimeSeriesNameNodeCalc("ts0"), new IntegerNodeCalc(2)),
+                                                                                              new TimeSeriesNameNodeCalc("ts1")),
+                                                                         BinaryOperation.div(new TimeSeriesNameNodeCalc("ts2"), new DoubleNodeCalc(3)))),
+                                100),
+                BinaryOperation.greaterThan(new TimeSeriesNameNodeCalc("ts0"), new TimeSeriesNameNodeCalc("ts1")));
+        calculatedTimeSeries = new CalculatedTimeSeries("calc", nodeCalc, new FromStoreTimeSeriesNameResolver(store, 1));
+    }
+
+    /**
+     * Evaluation of the node calc tree point by point, as done when iterating over the calculated time series.
+     */
+    @Benchmark
+    public double[] evaluatePointByPoint() {
+        return calculatedTimeSeries.stream().mapToDouble(DoublePoint::getValue).toArray();
+    }
+
+    @Benchmark
+    public double[] evaluate() {
+        return calculatedTimeSeries.toArray();
+    }
+
+    @Benchmark
+    public double[] evaluateInParallel() {
+        return calculatedTimeSeries.toArrayParallel();
+    }
+}
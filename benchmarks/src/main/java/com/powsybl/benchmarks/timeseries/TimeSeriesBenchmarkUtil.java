@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.timeseries;
+
+import com.powsybl.timeseries.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author agent <agent at local>
+ */
+final class TimeSeriesBenchmarkUtil {
+
+    private static final long SEED = 42;
+
+    private TimeSeriesBenchmarkUtil() {
+    }
+
+    static TimeSeriesIndex createHourlyIndex(int pointCount) {
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        return RegularTimeSeriesIndex.create(start, start.plus(Duration.ofHours(pointCount - 1L)), Duration.ofHours(1));
+    }
+
+    static List<DoubleTimeSeries> createDoubleTimeSeries(TimeSeriesIndex index, int timeSeriesCount) {
+        Random random = new Random(SEED);
+        List<DoubleTimeSeries> timeSeriesList = new ArrayList<>(timeSeriesCount);
+        for (int i = 0; i < timeSeriesCount; i++) {
+            double[] values = new double[index.getPointCount()];
+            for (int point = 0; point < values.length; point++) {
+                values[point] = random.nextDouble() * 1000;
+            }
+            TimeSeriesMetadata metadata = new TimeSeriesMetadata("ts" + i, TimeSeriesDataType.DOUBLE, index);
+            timeSeriesList.add(new StoredDoubleTimeSeries(metadata, new UncompressedDoubleDataChunk(0, values)));
+        }
+        return timeSeriesList;
+    }
+}
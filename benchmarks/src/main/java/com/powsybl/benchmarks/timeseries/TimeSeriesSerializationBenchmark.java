@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.timeseries;
+
+import com.powsybl.timeseries.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the loading of stored double time series from the JSON and the binary formats.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimeSeriesSerializationBenchmark {
+
+    private static final int POINT_COUNT = 8760;
+
+    @Param({"100"})
+    private int timeSeriesCount;
+
+    private Path dir;
+
+    private Path jsonFile;
+
+    private Path binaryFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        TimeSeriesIndex index = TimeSeriesBenchmarkUtil.createHourlyIndex(POINT_COUNT);
+        List<DoubleTimeSeries> timeSeriesList = TimeSeriesBenchmarkUtil.createDoubleTimeSeries(index, timeSeriesCount);
+        dir = Files.createTempDirectory("time-series-serialization");
+        jsonFile = dir.resolve("ts.json");
+        binaryFile = dir.resolve("ts.bin");
+        TimeSeries.writeJson(jsonFile, timeSeriesList);
+        TimeSeries.writeBinary(binaryFile, timeSeriesList);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(jsonFile);
+        Files.delete(binaryFile);
+        Files.delete(dir);
+    }
+
+    @Benchmark
+    public List<TimeSeries> parseJson() {
+        return TimeSeries.parseJson(jsonFile);
+    }
+
+    @Benchmark
+    public List<TimeSeries> parseBinary() {
+        return TimeSeries.parseBinary(binaryFile);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.timeseries;
+
+import com.powsybl.timeseries.DoubleTimeSeries;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import com.powsybl.timeseries.TimeSeriesTable;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the loading of one year of hourly time series into a {@link TimeSeriesTable}, stored in heap memory or in
+ * memory mapped files.
+ *
+ * @author agent <agent at local>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class TimeSeriesTableBenchmark {
+
+    private static final int POINT_COUNT = 8760;
+
+    @Param({"100", "1000"})
+    private int timeSeriesCount;
+
+    @Param({"mem", "mmap"})
+    private String storage;
+
+    private List<DoubleTimeSeries> timeSeriesList;
+
+    private Path directory;
+
+    private TimeSeriesTable table;
+
+    @Setup
+    public void setUp() throws IOException {
+        TimeSeriesIndex index = TimeSeriesBenchmarkUtil.createHourlyIndex(POINT_COUNT);
+        timeSeriesList = TimeSeriesBenchmarkUtil.createDoubleTimeSeries(index, timeSeriesCount);
+        if (storage.equals("mmap")) {
+            directory = Files.createTempDirectory("time-series-table");
+            table = TimeSeriesTable.createMemoryMapped(1, 1, index, directory.resolve("table"));
+        } else {
+            table = TimeSeriesTable.createMem(1, 1, index);
+        }
+        // first load allocates the table buffers, subsequent ones only copy the data
+        table.load(1, timeSeriesList);
+    }
+
+    @TearDown
+    public void tearDown() {
+        table.close();
+        if (directory != null) {
+            try {
+                FileUtils.deleteDirectory(directory.toFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public TimeSeriesTable load() {
+        table.load(1, timeSeriesList);
+        return table;
+    }
+
+    @Benchmark
+    public double loadAndComputeMean() {
+        table.load(1, timeSeriesList);
+        return table.getMean(1, 0);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.google.common.collect.Iterables;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class SyntheticNetworkFactoryTest {
+
+    private static void checkNetwork(Network network) {
+        assertEquals(10, network.getVoltageLevelCount());
+        assertEquals(10, network.getLoadCount());
+        assertEquals(3, network.getGeneratorCount());
+        // 4x4 grid partially filled: 7 horizontal and 6 vertical lines
+        assertEquals(13, network.getLineCount());
+        assertEquals(10, Iterables.size(network.getBusView().getBuses()));
+        assertEquals(1, network.getBusView().getBusStream().map(b -> b.getConnectedComponent().getNum()).distinct().count());
+    }
+
+    @Test
+    public void testBusBreaker() {
+        checkNetwork(SyntheticNetworkFactory.create(10, TopologyKind.BUS_BREAKER));
+    }
+
+    @Test
+    public void testNodeBreaker() {
+        Network network = SyntheticNetworkFactory.create(10, TopologyKind.NODE_BREAKER);
+        checkNetwork(network);
+
+        // opening the coupler splits the voltage level in two buses
+        VoltageLevel vl = network.getVoltageLevel(SyntheticNetworkFactory.getVoltageLevelId(5));
+        Switch coupler = network.getSwitch(SyntheticNetworkFactory.getCouplerId(5));
+        coupler.setOpen(true);
+        assertEquals(2, Iterables.size(vl.getBusView().getBuses()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBusCount() {
+        SyntheticNetworkFactory.create(0, TopologyKind.BUS_BREAKER);
+    }
+}
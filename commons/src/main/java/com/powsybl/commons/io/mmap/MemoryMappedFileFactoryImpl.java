@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io.mmap;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Factory of {@link MemoryMappedFileImpl}, only supports paths of the default file system.
+ *
+ * @author agent <agent at local>
+ */
+public class MemoryMappedFileFactoryImpl implements MemoryMappedFileFactory {
+
+    @Override
+    public MemoryMappedFile create(Path path) {
+        Objects.requireNonNull(path);
+        return new MemoryMappedFileImpl(path.toFile());
+    }
+}
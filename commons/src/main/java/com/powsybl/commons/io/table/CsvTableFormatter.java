@@ -56,8 +56,17 @@ public class CsvTableFormatter extends AbstractTableFormatter {
         writer.append(System.lineSeparator());
     }
 
+    /**
+     * Write a comment on its own line, between two rows. Like the title, comments are only written when titles are
+     * printed, so that the file can still be parsed as plain CSV otherwise.
+     */
     @Override
     public TableFormatter writeComment(String comment) throws IOException {
+        Objects.requireNonNull(comment);
+        if (config.getPrintTitle()) {
+            writeHeaderIfNotDone();
+            writer.append(comment).append(System.lineSeparator());
+        }
         return this;
     }
 
@@ -65,6 +74,20 @@ public class CsvTableFormatter extends AbstractTableFormatter {
     protected TableFormatter write(String value) throws IOException {
         writeHeaderIfNotDone();
         writer.append(value);
+        return endCell();
+    }
+
+    /**
+     * Same as {@link #write(String)}, with a value stored in a character buffer, so that subclasses can format cells
+     * without creating strings.
+     */
+    protected TableFormatter write(char[] value, int offset, int length) throws IOException {
+        writeHeaderIfNotDone();
+        writer.write(value, offset, length);
+        return endCell();
+    }
+
+    private TableFormatter endCell() throws IOException {
         if (column < columns.length - 1) {
             writer.append(config.getCsvSeparator());
         }
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.commons.io.mmap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class MemoryMappedFileFactoryImplTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("test.bin");
+        MemoryMappedFileFactory factory = new MemoryMappedFileFactoryImpl();
+        try (MemoryMappedFile memoryMappedFile = factory.create(file)) {
+            assertFalse(memoryMappedFile.exists());
+            ByteBuffer buffer = memoryMappedFile.getBuffer(8);
+            buffer.putDouble(0, 3.5);
+        }
+        try (MemoryMappedFile memoryMappedFile = factory.create(file)) {
+            assertTrue(memoryMappedFile.exists());
+            assertEquals(3.5, memoryMappedFile.getBuffer(8).getDouble(0), 0);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
@@ -61,6 +62,28 @@ public class TableFormatterTest {
             new String(bos.toByteArray(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void testCsvComment() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (TableFormatter formatter = new CsvTableFormatterFactory().create(writer, "csv test", new TableFormatterConfig(Locale.US, ';', "inv", true, true), COLUMNS)) {
+            formatter.writeComment("comment");
+        }
+        assertEquals("csv test" + System.lineSeparator() +
+                "int;double;float;bool;empty;char;string;empty2" + System.lineSeparator() +
+                "comment" + System.lineSeparator(),
+            writer.toString());
+
+        // comments are not written without title
+        writer = new StringWriter();
+        try (TableFormatter formatter = new CsvTableFormatterFactory().create(writer, "csv test", new TableFormatterConfig(Locale.US, ';', "inv", true, false), COLUMNS)) {
+            formatter.writeComment("comment");
+            formatter.writeCell(1).writeEmptyCells(7);
+        }
+        assertEquals("int;double;float;bool;empty;char;string;empty2" + System.lineSeparator() +
+                "1;;;;;;;" + System.lineSeparator(),
+            writer.toString());
+    }
+
     @Test
     public void testAcsii() throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
@@ -9,6 +9,7 @@ package com.powsybl.contingency;
 import com.powsybl.iidm.network.Network;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -17,6 +18,15 @@ public interface ContingenciesProvider {
 
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Get the contingencies of the network as a stream, for consumers processing them one after the other.
+     * The default implementation streams {@link #getContingencies(Network)}; providers able to create contingencies
+     * on demand should override it, so that the contingencies are not all kept in memory.
+     */
+    default Stream<Contingency> getContingencyStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
     default String asScript() {
         throw new UnsupportedOperationException("Serialization not supported for contingencies provider of type " + this.getClass().getName());
     }
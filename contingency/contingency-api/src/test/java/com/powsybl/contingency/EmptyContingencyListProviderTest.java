@@ -21,5 +21,6 @@ public class EmptyContingencyListProviderTest {
 
         Assert.assertTrue(provider instanceof EmptyContingencyListProvider);
         Assert.assertEquals(0, provider.getContingencies(null).size());
+        Assert.assertEquals(0, provider.getContingencyStream(null).count());
     }
 }
@@ -92,6 +92,26 @@ public interface VariantManager {
      */
     void cloneVariant(String sourceVariantId, String targetVariantId, boolean mayOverwrite);
 
+    /**
+     * Create new delta variants by cloning an existing one.
+     * <p>
+     * A delta variant keeps track of the objects modified since it has been cloned from its source variant, so that
+     * overwriting it again from the same source variant with {@link #cloneVariant(String, List, boolean)} only has to
+     * reset the modified objects instead of copying the whole network state. This is intended for the processing of
+     * many small modifications of a same base state, like the contingencies of a security analysis.
+     * <p>
+     * The default implementation creates regular variants.
+     *
+     * @param sourceVariantId the source variant id
+     * @param targetVariantIds the target variant id list (the ones that will be created)
+     * @throws com.powsybl.commons.PowsyblException
+     *                         if the source variant is not found or if a variant with
+     *                         an id of targetVariantIds already exists
+     */
+    default void cloneDeltaVariant(String sourceVariantId, List<String> targetVariantIds) {
+        cloneVariant(sourceVariantId, targetVariantIds);
+    }
+
     /**
      * Remove a variant.
      *
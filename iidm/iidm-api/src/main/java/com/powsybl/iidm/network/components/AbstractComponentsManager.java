@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * @author Mathieu Bague <mathieu.bague@rte-france.com>
@@ -27,12 +28,36 @@ abstract class AbstractComponentsManager<C extends Component> {
 
     private List<C> components;
 
+    /**
+     * Buses and components of the last computation, null if components have to be fully recomputed.
+     */
+    private ComponentsGraph graph;
+
+    /**
+     * Voltage levels whose buses have changed since the last computation.
+     */
+    private final Set<String> invalidatedVoltageLevelIds = new LinkedHashSet<>();
+
     protected AbstractComponentsManager(String label) {
         this.label = Objects.requireNonNull(label);
     }
 
     public void invalidate() {
         components = null;
+        graph = null;
+        invalidatedVoltageLevelIds.clear();
+    }
+
+    /**
+     * Invalidate components after a change in the buses of a voltage level, or in the equipments connected to them.
+     * Only the components of the voltage level are recomputed by the next update.
+     */
+    public void invalidate(VoltageLevel voltageLevel) {
+        Objects.requireNonNull(voltageLevel);
+        components = null;
+        if (graph != null) {
+            invalidatedVoltageLevelIds.add(voltageLevel.getId());
+        }
     }
 
     public void update() {
@@ -42,6 +67,17 @@ abstract class AbstractComponentsManager<C extends Component> {
 
         long startTime = System.currentTimeMillis();
 
+        if (graph != null && graph.update(invalidatedVoltageLevelIds)) {
+            invalidatedVoltageLevelIds.clear();
+            components = new ArrayList<>(graph.getComponentCount());
+            for (int i = 0; i < graph.getComponentCount(); i++) {
+                components.add(createComponent(i, graph.getComponentSize(i)));
+            }
+            LOGGER.debug("{} components updated in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
+            return;
+        }
+        invalidatedVoltageLevelIds.clear();
+
         // reset
         for (Bus bus : getNetwork().getBusBreakerView().getBuses()) {
             setComponentNumber(bus, -1);
@@ -73,6 +109,8 @@ abstract class AbstractComponentsManager<C extends Component> {
             setComponentNumber(bus, result.getComponentNumber()[i]);
         }
 
+        graph = ComponentsGraph.create(this, num2bus, adjacencyList, result);
+
         LOGGER.debug("{} components computed in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
     }
 
@@ -98,23 +136,44 @@ abstract class AbstractComponentsManager<C extends Component> {
     }
 
     protected void fillAdjacencyList(Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
+        BiConsumer<Bus, Bus> edgeConsumer = (bus1, bus2) -> addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
         for (Line line : getNetwork().getLines()) {
-            Bus bus1 = line.getTerminal1().getBusView().getBus();
-            Bus bus2 = line.getTerminal2().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            forEachEdge(line, edgeConsumer);
         }
         for (TwoWindingsTransformer transfo : getNetwork().getTwoWindingsTransformers()) {
-            Bus bus1 = transfo.getTerminal1().getBusView().getBus();
-            Bus bus2 = transfo.getTerminal2().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            forEachEdge(transfo, edgeConsumer);
         }
         for (ThreeWindingsTransformer transfo : getNetwork().getThreeWindingsTransformers()) {
+            forEachEdge(transfo, edgeConsumer);
+        }
+    }
+
+    /**
+     * Add to the set the equipments connecting the buses of a voltage level to other buses.
+     */
+    protected void addEquipments(VoltageLevel voltageLevel, Set<Identifiable<?>> equipments) {
+        for (Connectable<?> connectable : voltageLevel.getConnectables()) {
+            if (connectable instanceof Branch || connectable instanceof ThreeWindingsTransformer) {
+                equipments.add(connectable);
+            }
+        }
+    }
+
+    /**
+     * Call the consumer for each pair of buses connected by an equipment. Buses are null when disconnected.
+     */
+    protected void forEachEdge(Identifiable<?> equipment, BiConsumer<Bus, Bus> edgeConsumer) {
+        if (equipment instanceof Branch) {
+            Branch<?> branch = (Branch<?>) equipment;
+            edgeConsumer.accept(branch.getTerminal1().getBusView().getBus(), branch.getTerminal2().getBusView().getBus());
+        } else if (equipment instanceof ThreeWindingsTransformer) {
+            ThreeWindingsTransformer transfo = (ThreeWindingsTransformer) equipment;
             Bus bus1 = transfo.getLeg1().getTerminal().getBusView().getBus();
             Bus bus2 = transfo.getLeg2().getTerminal().getBusView().getBus();
             Bus bus3 = transfo.getLeg3().getTerminal().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
-            addToAdjacencyList(bus1, bus3, id2num, adjacencyList);
-            addToAdjacencyList(bus2, bus3, id2num, adjacencyList);
+            edgeConsumer.accept(bus1, bus2);
+            edgeConsumer.accept(bus1, bus3);
+            edgeConsumer.accept(bus2, bus3);
         }
     }
 
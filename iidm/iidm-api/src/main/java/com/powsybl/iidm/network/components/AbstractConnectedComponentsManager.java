@@ -7,12 +7,12 @@
 
 package com.powsybl.iidm.network.components;
 
-import com.powsybl.iidm.network.Bus;
-import com.powsybl.iidm.network.Component;
-import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.*;
 import gnu.trove.list.array.TIntArrayList;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * @author Mathieu Bague <mathieu.bague@rte-france.com>
@@ -27,9 +27,29 @@ public abstract class AbstractConnectedComponentsManager<C extends Component> ex
     protected void fillAdjacencyList(Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
         super.fillAdjacencyList(id2num, adjacencyList);
         for (HvdcLine line : getNetwork().getHvdcLines()) {
-            Bus bus1 = line.getConverterStation1().getTerminal().getBusView().getBus();
-            Bus bus2 = line.getConverterStation2().getTerminal().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            forEachEdge(line, (bus1, bus2) -> addToAdjacencyList(bus1, bus2, id2num, adjacencyList));
+        }
+    }
+
+    @Override
+    protected void addEquipments(VoltageLevel voltageLevel, Set<Identifiable<?>> equipments) {
+        super.addEquipments(voltageLevel, equipments);
+        for (HvdcConverterStation<?> station : voltageLevel.getConnectables(HvdcConverterStation.class)) {
+            HvdcLine line = station.getHvdcLine();
+            if (line != null) {
+                equipments.add(line);
+            }
+        }
+    }
+
+    @Override
+    protected void forEachEdge(Identifiable<?> equipment, BiConsumer<Bus, Bus> edgeConsumer) {
+        if (equipment instanceof HvdcLine) {
+            HvdcLine line = (HvdcLine) equipment;
+            edgeConsumer.accept(line.getConverterStation1().getTerminal().getBusView().getBus(),
+                                line.getConverterStation2().getTerminal().getBusView().getBus());
+        } else {
+            super.forEachEdge(equipment, edgeConsumer);
         }
     }
 
@@ -0,0 +1,507 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.components;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.math.graph.GraphUtil.ConnectedComponentsComputationResult;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.util.*;
+
+/**
+ * Buses, edges and components of a network kept by a components manager between two updates, so that when only a few
+ * voltage levels have changed, only their buses and the equipments connected to them are processed again, and only
+ * the components they belong to are recomputed.
+ *
+ * <p>Components are merged when an edge is added between them. When buses are removed, the component they belonged
+ * to is searched from the remaining neighbors of the removed buses, one search per neighbor, interleaved, so that the
+ * search stops as soon as the neighbors are known to be still connected, or as soon as the smaller parts have been
+ * fully visited. Large components are so never visited again when a switch of a voltage level changes.
+ *
+ * <p>Components are numbered as by a full computation: by decreasing size, then by position in the bus view of their
+ * first bus. Buses are identified in this order by the rank of their voltage level and their rank in the voltage
+ * level, so it requires the bus view of the network to iterate over buses voltage level by voltage level.
+ *
+ * @author agent <agent at local>
+ */
+final class ComponentsGraph {
+
+    private static final class ComponentNodes {
+
+        private final TIntArrayList nodes = new TIntArrayList(1);
+
+        /**
+         * Key of the first bus of the component.
+         */
+        private long key;
+
+        /**
+         * The first bus of the component may have been removed, the key has to be recomputed.
+         */
+        private boolean keyInvalid = false;
+
+        /**
+         * Some buses of the component have been removed, the component may be split.
+         */
+        private boolean damaged = false;
+
+        /**
+         * Number of the component at the last update.
+         */
+        private int num = -1;
+    }
+
+    private final AbstractComponentsManager<?> manager;
+
+    private final List<Bus> buses = new ArrayList<>();
+
+    private final List<String> busIds = new ArrayList<>();
+
+    private final TLongArrayList keys = new TLongArrayList();
+
+    private final List<TIntArrayList> adjacencyList = new ArrayList<>();
+
+    private final TIntArrayList nodeComponents = new TIntArrayList();
+
+    /**
+     * Position of each node in the node list of its component, to remove it in constant time.
+     */
+    private final TIntArrayList nodePositions = new TIntArrayList();
+
+    /**
+     * Component number set to each bus.
+     */
+    private final TIntArrayList nodeNums = new TIntArrayList();
+
+    private final Map<String, Integer> id2node = new HashMap<>();
+
+    private final Map<String, TIntArrayList> nodesByVoltageLevel = new HashMap<>();
+
+    private final Map<String, Integer> voltageLevelRanks = new HashMap<>();
+
+    private final int voltageLevelCount;
+
+    /**
+     * Components indexed by the numbers stored for each node, null for the ones which have been merged or removed.
+     */
+    private final List<ComponentNodes> components = new ArrayList<>();
+
+    /**
+     * Components sorted by number.
+     */
+    private final List<ComponentNodes> numberedComponents = new ArrayList<>();
+
+    private int removedNodeCount = 0;
+
+    private ComponentsGraph(AbstractComponentsManager<?> manager, int voltageLevelCount) {
+        this.manager = manager;
+        this.voltageLevelCount = voltageLevelCount;
+    }
+
+    private static long getKey(int voltageLevelRank, int busRank) {
+        return ((long) voltageLevelRank << 32) | busRank;
+    }
+
+    /**
+     * Create the graph from the result of a full computation.
+     *
+     * @return the graph, or null if the bus view does not iterate over buses voltage level by voltage level
+     */
+    static ComponentsGraph create(AbstractComponentsManager<?> manager, List<Bus> num2bus, TIntArrayList[] adjacencyList,
+                                  ConnectedComponentsComputationResult result) {
+        Network network = manager.getNetwork();
+        ComponentsGraph graph = new ComponentsGraph(manager, network.getVoltageLevelCount());
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            graph.voltageLevelRanks.put(voltageLevel.getId(), graph.voltageLevelRanks.size());
+        }
+        for (int i = 0; i < result.getComponentSize().length; i++) {
+            graph.components.add(new ComponentNodes());
+        }
+        long previousKey = -1;
+        for (int node = 0; node < num2bus.size(); node++) {
+            Bus bus = num2bus.get(node);
+            String voltageLevelId = bus.getVoltageLevel().getId();
+            Integer voltageLevelRank = graph.voltageLevelRanks.get(voltageLevelId);
+            if (voltageLevelRank == null) {
+                return null;
+            }
+            TIntArrayList voltageLevelNodes = graph.nodesByVoltageLevel.computeIfAbsent(voltageLevelId, id -> new TIntArrayList());
+            long key = getKey(voltageLevelRank, voltageLevelNodes.size());
+            if (key <= previousKey) {
+                return null;
+            }
+            previousKey = key;
+            voltageLevelNodes.add(node);
+            int num = result.getComponentNumber()[node];
+            graph.addNode(bus, key, adjacencyList[node], num);
+            graph.nodeNums.set(node, num);
+        }
+        for (int num = 0; num < graph.components.size(); num++) {
+            ComponentNodes component = graph.components.get(num);
+            // buses are in key order, so the first one has the lowest key
+            component.key = graph.keys.get(component.nodes.get(0));
+            component.num = num;
+            graph.numberedComponents.add(component);
+        }
+        return graph;
+    }
+
+    private int addNode(Bus bus, long key, TIntArrayList neighbors, int c) {
+        int node = buses.size();
+        buses.add(bus);
+        busIds.add(bus.getId());
+        keys.add(key);
+        adjacencyList.add(neighbors);
+        id2node.put(bus.getId(), node);
+        ComponentNodes component = components.get(c);
+        nodeComponents.add(c);
+        nodePositions.add(component.nodes.size());
+        nodeNums.add(-1);
+        component.nodes.add(node);
+        return node;
+    }
+
+    private void removeFromComponent(int node) {
+        ComponentNodes component = components.get(nodeComponents.get(node));
+        int position = nodePositions.get(node);
+        int last = component.nodes.removeAt(component.nodes.size() - 1);
+        if (last != node) {
+            component.nodes.set(position, last);
+            nodePositions.set(last, position);
+        }
+        if (keys.get(node) == component.key) {
+            component.keyInvalid = true;
+        }
+    }
+
+    private void addToComponent(int node, int c) {
+        ComponentNodes component = components.get(c);
+        nodeComponents.set(node, c);
+        nodePositions.set(node, component.nodes.size());
+        component.nodes.add(node);
+    }
+
+    private void removeNode(int node, TIntSet seeds) {
+        int c = nodeComponents.get(node);
+        removeFromComponent(node);
+        ComponentNodes component = components.get(c);
+        component.damaged = true;
+        if (component.nodes.isEmpty()) {
+            components.set(c, null);
+        }
+        TIntArrayList neighbors = adjacencyList.get(node);
+        for (int i = 0; i < neighbors.size(); i++) {
+            int neighbor = neighbors.getQuick(i);
+            if (neighbor != node && buses.get(neighbor) != null) {
+                adjacencyList.get(neighbor).remove(node);
+                seeds.add(neighbor);
+            }
+        }
+        seeds.remove(node);
+        adjacencyList.set(node, null);
+        buses.set(node, null);
+        id2node.remove(busIds.get(node));
+        busIds.set(node, null);
+        nodeComponents.set(node, -1);
+        removedNodeCount++;
+    }
+
+    private int newComponent() {
+        components.add(new ComponentNodes());
+        return components.size() - 1;
+    }
+
+    private void validateKey(ComponentNodes component) {
+        if (component.keyInvalid) {
+            long key = Long.MAX_VALUE;
+            for (int i = 0; i < component.nodes.size(); i++) {
+                key = Math.min(key, keys.get(component.nodes.getQuick(i)));
+            }
+            component.key = key;
+            component.keyInvalid = false;
+        }
+    }
+
+    private void merge(int node1, int node2, TIntSet movedNodes) {
+        int c1 = nodeComponents.get(node1);
+        int c2 = nodeComponents.get(node2);
+        if (c1 == c2) {
+            return;
+        }
+        ComponentNodes component1 = components.get(c1);
+        ComponentNodes component2 = components.get(c2);
+        // the nodes of the smaller component are moved to the larger one
+        if (component1.nodes.size() < component2.nodes.size()) {
+            merge(node2, node1, movedNodes);
+            return;
+        }
+        validateKey(component2);
+        for (int i = 0; i < component2.nodes.size(); i++) {
+            int node = component2.nodes.getQuick(i);
+            addToComponent(node, c1);
+            movedNodes.add(node);
+        }
+        component1.key = Math.min(component1.key, component2.key);
+        component1.damaged |= component2.damaged;
+        components.set(c2, null);
+    }
+
+    private static int find(int[] parents, int i) {
+        int root = i;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        return root;
+    }
+
+    /**
+     * The group which has not been exhausted, or the first one if all have been, keeps the component.
+     */
+    private static int getRemainingGroup(int[] parents, boolean[] exhausted) {
+        int remainingGroup = -1;
+        for (int i = 0; i < parents.length; i++) {
+            if (parents[i] == i && (remainingGroup == -1 || !exhausted[i])) {
+                remainingGroup = i;
+            }
+        }
+        return remainingGroup;
+    }
+
+    /**
+     * Split a damaged component in its connected parts, if any, searching from the given nodes.
+     */
+    private void split(int c, TIntArrayList seeds, TIntSet movedNodes) {
+        int searchCount = seeds.size();
+        TIntArrayList[] queues = new TIntArrayList[searchCount];
+        int[] heads = new int[searchCount];
+        int[] parents = new int[searchCount];
+        TIntIntMap visited = new TIntIntHashMap();
+        for (int i = 0; i < searchCount; i++) {
+            queues[i] = new TIntArrayList();
+            queues[i].add(seeds.getQuick(i));
+            parents[i] = i;
+            visited.put(seeds.getQuick(i), i);
+        }
+        int groupCount = searchCount;
+        boolean[] exhausted = new boolean[searchCount];
+        int exhaustedGroupCount = 0;
+        while (groupCount > 1 && groupCount - exhaustedGroupCount > 1) {
+            // one node of each search
+            for (int i = 0; i < searchCount; i++) {
+                if (heads[i] < queues[i].size()) {
+                    int node = queues[i].getQuick(heads[i]++);
+                    TIntArrayList neighbors = adjacencyList.get(node);
+                    for (int j = 0; j < neighbors.size(); j++) {
+                        int neighbor = neighbors.getQuick(j);
+                        if (visited.containsKey(neighbor)) {
+                            int root1 = find(parents, i);
+                            int root2 = find(parents, visited.get(neighbor));
+                            if (root1 != root2) {
+                                parents[root2] = root1;
+                                groupCount--;
+                            }
+                        } else {
+                            visited.put(neighbor, i);
+                            queues[i].add(neighbor);
+                        }
+                    }
+                }
+            }
+            // a group is exhausted when all its searches are
+            Arrays.fill(exhausted, true);
+            for (int i = 0; i < searchCount; i++) {
+                if (heads[i] < queues[i].size()) {
+                    exhausted[find(parents, i)] = false;
+                }
+            }
+            exhaustedGroupCount = 0;
+            for (int i = 0; i < searchCount; i++) {
+                if (parents[i] == i && exhausted[i]) {
+                    exhaustedGroupCount++;
+                }
+            }
+        }
+        ComponentNodes component = components.get(c);
+        component.damaged = false;
+        if (groupCount == 1) {
+            return;
+        }
+
+        int remainingGroup = getRemainingGroup(parents, exhausted);
+        int[] groupComponents = new int[searchCount];
+        for (int i = 0; i < searchCount; i++) {
+            if (parents[i] == i && i != remainingGroup) {
+                groupComponents[i] = newComponent();
+            }
+        }
+        visited.forEachEntry((node, i) -> {
+            int group = find(parents, i);
+            if (group != remainingGroup) {
+                removeFromComponent(node);
+                addToComponent(node, groupComponents[group]);
+                movedNodes.add(node);
+            }
+            return true;
+        });
+        for (int i = 0; i < searchCount; i++) {
+            if (parents[i] == i && i != remainingGroup) {
+                ComponentNodes part = components.get(groupComponents[i]);
+                part.keyInvalid = true;
+                validateKey(part);
+            }
+        }
+    }
+
+    /**
+     * Update components after a change in the buses of the given voltage levels.
+     *
+     * @return false if components cannot be updated incrementally and have to be fully recomputed
+     */
+    boolean update(Collection<String> voltageLevelIds) {
+        Network network = manager.getNetwork();
+        // removed nodes and components are only dropped by a full computation
+        if (network.getVoltageLevelCount() != voltageLevelCount
+                || removedNodeCount > buses.size() / 2
+                || components.size() > 2 * (buses.size() - removedNodeCount) + 1) {
+            return false;
+        }
+        List<VoltageLevel> voltageLevels = new ArrayList<>(voltageLevelIds.size());
+        for (String voltageLevelId : voltageLevelIds) {
+            VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
+            if (voltageLevel == null || !voltageLevelRanks.containsKey(voltageLevelId)) {
+                return false;
+            }
+            voltageLevels.add(voltageLevel);
+        }
+
+        // remove buses of the voltage levels, and their edges
+        TIntSet seeds = new TIntHashSet();
+        for (VoltageLevel voltageLevel : voltageLevels) {
+            TIntArrayList nodes = nodesByVoltageLevel.remove(voltageLevel.getId());
+            if (nodes != null) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    removeNode(nodes.getQuick(i), seeds);
+                }
+            }
+            for (Bus bus : voltageLevel.getBusBreakerView().getBuses()) {
+                manager.setComponentNumber(bus, -1);
+            }
+        }
+
+        // add the new buses of the voltage levels, each one in its own component
+        int firstNewNode = buses.size();
+        for (VoltageLevel voltageLevel : voltageLevels) {
+            int voltageLevelRank = voltageLevelRanks.get(voltageLevel.getId());
+            TIntArrayList nodes = new TIntArrayList();
+            for (Bus bus : voltageLevel.getBusView().getBuses()) {
+                int c = newComponent();
+                int node = addNode(bus, getKey(voltageLevelRank, nodes.size()), new TIntArrayList(3), c);
+                components.get(c).key = keys.get(node);
+                nodes.add(node);
+                seeds.add(node);
+            }
+            nodesByVoltageLevel.put(voltageLevel.getId(), nodes);
+        }
+
+        // add the edges of the equipments connected to the new buses, merging components
+        Set<Identifiable<?>> equipments = new LinkedHashSet<>();
+        for (VoltageLevel voltageLevel : voltageLevels) {
+            manager.addEquipments(voltageLevel, equipments);
+        }
+        TIntArrayList edges = new TIntArrayList();
+        for (Identifiable<?> equipment : equipments) {
+            manager.forEachEdge(equipment, (bus1, bus2) -> {
+                if (bus1 != null && bus2 != null) {
+                    edges.add(id2node.getOrDefault(bus1.getId(), -1));
+                    edges.add(id2node.getOrDefault(bus2.getId(), -1));
+                }
+            });
+        }
+        if (edges.contains(-1)) {
+            // a bus of a voltage level which has not been invalidated is unknown
+            return false;
+        }
+        TIntSet movedNodes = new TIntHashSet();
+        for (int i = 0; i < edges.size(); i += 2) {
+            int node1 = edges.getQuick(i);
+            int node2 = edges.getQuick(i + 1);
+            // edges between two unchanged buses are already there
+            if (node1 >= firstNewNode || node2 >= firstNewNode) {
+                adjacencyList.get(node1).add(node2);
+                adjacencyList.get(node2).add(node1);
+                merge(node1, node2, movedNodes);
+            }
+        }
+
+        // split the components which have lost buses
+        Map<Integer, TIntArrayList> seedsByComponent = new HashMap<>();
+        seeds.forEach(node -> {
+            seedsByComponent.computeIfAbsent(nodeComponents.get(node), c -> new TIntArrayList()).add(node);
+            return true;
+        });
+        for (Map.Entry<Integer, TIntArrayList> e : seedsByComponent.entrySet()) {
+            int c = e.getKey();
+            if (components.get(c).damaged && e.getValue().size() > 1) {
+                split(c, e.getValue(), movedNodes);
+            }
+        }
+        for (int node = firstNewNode; node < buses.size(); node++) {
+            movedNodes.add(node);
+        }
+
+        renumber(movedNodes);
+
+        return true;
+    }
+
+    private void renumber(TIntSet movedNodes) {
+        numberedComponents.clear();
+        for (ComponentNodes component : components) {
+            if (component != null) {
+                component.damaged = false;
+                validateKey(component);
+                numberedComponents.add(component);
+            }
+        }
+        numberedComponents.sort(Comparator.comparingInt((ComponentNodes component) -> -component.nodes.size())
+                .thenComparingLong(component -> component.key));
+        for (int num = 0; num < numberedComponents.size(); num++) {
+            ComponentNodes component = numberedComponents.get(num);
+            // all the buses of a component are numbered again only when the number of the component changes
+            if (component.num != num) {
+                for (int i = 0; i < component.nodes.size(); i++) {
+                    setNum(component.nodes.getQuick(i), num);
+                }
+                component.num = num;
+            }
+        }
+        movedNodes.forEach(node -> {
+            setNum(node, components.get(nodeComponents.get(node)).num);
+            return true;
+        });
+    }
+
+    private void setNum(int node, int num) {
+        if (nodeNums.get(node) != num) {
+            manager.setComponentNumber(buses.get(node), num);
+            nodeNums.set(node, num);
+        }
+    }
+
+    int getComponentCount() {
+        return numberedComponents.size();
+    }
+
+    int getComponentSize(int num) {
+        return numberedComponents.get(num).nodes.size();
+    }
+}
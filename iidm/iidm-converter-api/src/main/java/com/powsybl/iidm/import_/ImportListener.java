@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.import_;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+
+/**
+ * A listener notified of the progress of a multi-file import, see
+ * {@link Importers#importAll(java.nio.file.Path, Importer, java.util.concurrent.Executor, int, boolean, java.util.Properties, java.util.function.Consumer, ImportListener)}.
+ * <p>
+ * Methods may be called concurrently from the threads of the import executor.
+ *
+ * @author agent <agent at local>
+ */
+public interface ImportListener {
+
+    /**
+     * Called before the import of a data source.
+     */
+    default void onImportStart(ReadOnlyDataSource dataSource) {
+    }
+
+    /**
+     * Called after the successful import of a data source, before the network is delivered to the consumer.
+     *
+     * @param importTime the import duration, in milliseconds
+     */
+    default void onImportEnd(ReadOnlyDataSource dataSource, long importTime) {
+    }
+
+    /**
+     * Called when the import of a data source, or the consumption of its network, has failed.
+     */
+    default void onImportFailure(ReadOnlyDataSource dataSource, Exception e) {
+    }
+}
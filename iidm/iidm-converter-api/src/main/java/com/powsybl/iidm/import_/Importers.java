@@ -8,6 +8,11 @@ package com.powsybl.iidm.import_;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.*;
 import com.powsybl.computation.ComputationManager;
@@ -28,10 +33,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -49,6 +51,15 @@ public final class Importers {
 
     private static final Supplier<ImportConfig> CONFIG = Suppliers.memoize(ImportConfig::load);
 
+    private static final int FORMAT_CACHE_SIZE = 1000;
+
+    /* format of the files already probed, by importers loader and by file fingerprint */
+    private static final LoadingCache<ImportersLoader, Cache<String, String>> FORMAT_CACHES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(() -> CacheBuilder.newBuilder().maximumSize(FORMAT_CACHE_SIZE).build()));
+
+    private static final int DEFAULT_MAX_IN_FLIGHT_IMPORTS = Runtime.getRuntime().availableProcessors();
+
     private Importers() {
     }
 
@@ -305,16 +316,30 @@ public final class Importers {
         return importData(format, new FileDataSource(Paths.get(directory), baseName), parameters);
     }
 
-    private static void doImport(ReadOnlyDataSource dataSource, Importer importer, Properties parameters, Consumer<Network> consumer, Consumer<ReadOnlyDataSource> listener) {
-        Objects.requireNonNull(consumer);
+    private static Network doImport(ReadOnlyDataSource dataSource, Importer importer, Properties parameters, ImportListener listener) {
         try {
-            if (listener != null) {
-                listener.accept(dataSource);
-            }
+            listener.onImportStart(dataSource);
+            long startTime = System.nanoTime();
             Network network = importer.importData(dataSource, parameters);
-            consumer.accept(network);
+            long importTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            LOGGER.debug("{} imported in {} ms", dataSource.getBaseName(), importTime);
+            listener.onImportEnd(dataSource, importTime);
+            return network;
         } catch (Exception e) {
             LOGGER.error(e.toString(), e);
+            listener.onImportFailure(dataSource, e);
+            return null;
+        }
+    }
+
+    private static void consume(ReadOnlyDataSource dataSource, Network network, Consumer<Network> consumer, ImportListener listener) {
+        if (network != null) {
+            try {
+                consumer.accept(network);
+            } catch (Exception e) {
+                LOGGER.error(e.toString(), e);
+                listener.onImportFailure(dataSource, e);
+            }
         }
     }
 
@@ -349,28 +374,91 @@ public final class Importers {
         }
     }
 
-    public static void importAll(Path dir, Importer importer, boolean parallel, Properties parameters, Consumer<Network> consumer, Consumer<ReadOnlyDataSource> listener) throws IOException, InterruptedException, ExecutionException {
+    /**
+     * Import all the data sources of a directory supported by an importer, and deliver the networks to a consumer.
+     * <p>
+     * At most {@code maxInFlight} networks are being imported or waiting for the consumer at the same time, so that
+     * a directory of any size is imported in a bounded memory, provided the consumer does not keep the networks.
+     * The thread calling this method waits for the completion of all the imports.
+     *
+     * @param dir         the directory to scan, recursively
+     * @param importer    the importer
+     * @param executor    the executor running the imports
+     * @param maxInFlight the maximum number of networks imported at the same time
+     * @param ordered     if true, the networks are delivered to the consumer, by the calling thread, in the order of
+     *                    the data sources; otherwise they are delivered by the executor threads as soon as imported
+     * @param parameters  some properties to configure the import
+     * @param consumer    the consumer of the imported networks
+     * @param listener    a listener notified of the import of each data source
+     */
+    public static void importAll(Path dir, Importer importer, Executor executor, int maxInFlight, boolean ordered, Properties parameters,
+                                 Consumer<Network> consumer, ImportListener listener) throws IOException, InterruptedException, ExecutionException {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(consumer);
+        Objects.requireNonNull(listener);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Invalid number of in flight imports: " + maxInFlight);
+        }
         List<ReadOnlyDataSource> dataSources = new ArrayList<>();
         importAll(dir, importer, dataSources);
-        if (parallel) {
-            ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-            try {
-                List<Future<?>> futures = dataSources.stream()
-                        .map(ds -> executor.submit(() -> doImport(ds, importer, parameters, consumer, listener)))
-                        .collect(Collectors.toList());
-                for (Future<?> future : futures) {
-                    future.get();
+        if (ordered) {
+            Deque<CompletableFuture<Network>> inFlight = new ArrayDeque<>(maxInFlight);
+            Iterator<ReadOnlyDataSource> it = dataSources.iterator();
+            Iterator<ReadOnlyDataSource> deliveryIt = dataSources.iterator();
+            while (it.hasNext() || !inFlight.isEmpty()) {
+                while (it.hasNext() && inFlight.size() < maxInFlight) {
+                    ReadOnlyDataSource dataSource = it.next();
+                    inFlight.add(CompletableFuture.supplyAsync(() -> doImport(dataSource, importer, parameters, listener), executor));
                 }
-            } finally {
-                executor.shutdownNow();
+                Network network = inFlight.poll().get();
+                consume(deliveryIt.next(), network, consumer, listener);
             }
         } else {
+            Semaphore permits = new Semaphore(maxInFlight);
             for (ReadOnlyDataSource dataSource : dataSources) {
-                doImport(dataSource, importer, parameters, consumer, listener);
+                permits.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            consume(dataSource, doImport(dataSource, importer, parameters, listener), consumer, listener);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
             }
+            // wait for the completion of the last imports
+            permits.acquire(maxInFlight);
+        }
+    }
+
+    private static ImportListener toImportListener(Consumer<ReadOnlyDataSource> listener) {
+        return new ImportListener() {
+            @Override
+            public void onImportStart(ReadOnlyDataSource dataSource) {
+                if (listener != null) {
+                    listener.accept(dataSource);
+                }
+            }
+        };
+    }
+
+    private static void importAll(Path dir, Importer importer, Executor executor, boolean parallel, Properties parameters,
+                                  Consumer<Network> consumer, Consumer<ReadOnlyDataSource> listener) throws IOException, InterruptedException, ExecutionException {
+        if (parallel) {
+            importAll(dir, importer, executor, DEFAULT_MAX_IN_FLIGHT_IMPORTS, false, parameters, consumer, toImportListener(listener));
+        } else {
+            importAll(dir, importer, Runnable::run, 1, true, parameters, consumer, toImportListener(listener));
         }
     }
 
+    public static void importAll(Path dir, Importer importer, boolean parallel, Properties parameters, Consumer<Network> consumer, Consumer<ReadOnlyDataSource> listener) throws IOException, InterruptedException, ExecutionException {
+        importAll(dir, importer, parallel ? LocalComputationManager.getDefault().getExecutor() : null, parallel, parameters, consumer, listener);
+    }
+
     public static void importAll(Path dir, Importer importer, boolean parallel, Consumer<Network> consumer, Consumer<ReadOnlyDataSource> listener) throws IOException, InterruptedException, ExecutionException {
         importAll(dir, importer, parallel, null, consumer, listener);
     }
@@ -408,13 +496,68 @@ public final class Importers {
         return DataSourceUtil.createDataSource(directory, fileNameOrBaseName, null);
     }
 
+    private static Importer findImporter(ReadOnlyDataSource dataSource, List<Importer> importers, Executor executor) {
+        if (importers.size() < 2 || executor == null) {
+            return importers.stream().filter(importer -> importer.exists(dataSource)).findFirst().orElse(null);
+        }
+        // all the importers probe the same data source concurrently, the first one in the list recognizing the data
+        // source is selected, as in a sequential probing
+        ReadOnlyDataSource probingDataSource = new ProbingDataSource(dataSource);
+        List<CompletableFuture<Boolean>> futures = importers.stream()
+                .map(importer -> CompletableFuture.supplyAsync(() -> importer.exists(probingDataSource), executor))
+                .collect(Collectors.toList());
+        try {
+            for (int i = 0; i < importers.size(); i++) {
+                if (futures.get(i).join()) {
+                    return importers.get(i);
+                }
+            }
+            return null;
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        } finally {
+            // the probes which lost the race are not started if still queued
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * Find the first importer of the list supporting a data source. The importers probe the data source concurrently
+     * on the executor of the computation manager, sharing the first bytes of its files.
+     */
     public static Importer findImporter(ReadOnlyDataSource dataSource, ImportersLoader loader, ComputationManager computationManager, ImportConfig config) {
-        for (Importer importer : Importers.list(loader, computationManager, config)) {
-            if (importer.exists(dataSource)) {
-                return importer;
+        return findImporter(dataSource, new ArrayList<>(Importers.list(loader, computationManager, config)), computationManager.getExecutor());
+    }
+
+    /**
+     * Find the importer of a file. The format of the file is cached for each importers loader, so that a file which has
+     * not been modified is not probed again.
+     */
+    private static Importer findImporter(Path file, ReadOnlyDataSource dataSource, ImportersLoader loader, ComputationManager computationManager, ImportConfig config) {
+        List<Importer> importers = new ArrayList<>(Importers.list(loader, computationManager, config));
+        String fingerprint;
+        try {
+            fingerprint = file.toAbsolutePath() + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis() + "|"
+                    + importers.stream().map(Importer::getFormat).collect(Collectors.joining(","));
+        } catch (IOException e) {
+            // not a regular file, it is probed each time
+            return findImporter(dataSource, importers, computationManager.getExecutor());
+        }
+        Cache<String, String> formatCache = FORMAT_CACHES.getUnchecked(loader);
+        String format = formatCache.getIfPresent(fingerprint);
+        if (format != null) {
+            for (Importer importer : importers) {
+                if (importer.getFormat().equals(format)) {
+                    return importer;
+                }
             }
         }
-        return null;
+        Importer importer = findImporter(dataSource, importers, computationManager.getExecutor());
+        if (importer != null) {
+            formatCache.put(fingerprint, importer.getFormat());
+        }
+        return importer;
     }
 
     public static Importer findImporter(ReadOnlyDataSource dataSource, ComputationManager computationManager) {
@@ -433,7 +576,7 @@ public final class Importers {
      */
     public static Network loadNetwork(Path file, ComputationManager computationManager, ImportConfig config, Properties parameters, ImportersLoader loader) {
         ReadOnlyDataSource dataSource = createDataSource(file);
-        Importer importer = findImporter(dataSource, loader, computationManager, config);
+        Importer importer = findImporter(file, dataSource, loader, computationManager, config);
         if (importer != null) {
             return importer.importData(dataSource, parameters);
         }
@@ -551,7 +694,7 @@ public final class Importers {
             throw new PowsyblException("Directory " + dir + " does not exist or is not a regular directory");
         }
         for (Importer importer : Importers.list(loader, computationManager, config)) {
-            Importers.importAll(dir, importer, parallel, parameters, consumer, listener);
+            Importers.importAll(dir, importer, parallel ? computationManager.getExecutor() : null, parallel, parameters, consumer, listener);
         }
     }
 
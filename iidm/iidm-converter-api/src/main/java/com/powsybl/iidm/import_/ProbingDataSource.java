@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.import_;
+
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A read only data source used to probe the format of another data source: existence checks and name listings are
+ * cached, and the first bytes of each file are read once and shared by all the importers probing the data source.
+ * Reading beyond the shared header re-opens the file. This data source is thread safe, so that importers can probe it
+ * concurrently.
+ *
+ * @author agent <agent at local>
+ */
+class ProbingDataSource implements ReadOnlyDataSource {
+
+    static final int DEFAULT_HEADER_SIZE = 64 * 1024;
+
+    @FunctionalInterface
+    private interface IOSupplier<T> {
+
+        T get() throws IOException;
+    }
+
+    private final ReadOnlyDataSource dataSource;
+
+    private final int headerSize;
+
+    private final Map<String, Boolean> existingFiles = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> headers = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> names = new ConcurrentHashMap<>();
+
+    ProbingDataSource(ReadOnlyDataSource dataSource) {
+        this(dataSource, DEFAULT_HEADER_SIZE);
+    }
+
+    ProbingDataSource(ReadOnlyDataSource dataSource, int headerSize) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.headerSize = headerSize;
+    }
+
+    private static String getKey(String suffix, String ext) {
+        return "|" + suffix + "|" + ext;
+    }
+
+    private static <T> T computeIfAbsent(Map<String, T> cache, String key, IOSupplier<T> supplier) throws IOException {
+        try {
+            return cache.computeIfAbsent(key, k -> {
+                try {
+                    return supplier.get();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public String getBaseName() {
+        return dataSource.getBaseName();
+    }
+
+    @Override
+    public boolean exists(String suffix, String ext) throws IOException {
+        return computeIfAbsent(existingFiles, getKey(suffix, ext), () -> dataSource.exists(suffix, ext));
+    }
+
+    @Override
+    public boolean exists(String fileName) throws IOException {
+        return computeIfAbsent(existingFiles, fileName, () -> dataSource.exists(fileName));
+    }
+
+    private InputStream newInputStream(String key, IOSupplier<InputStream> opener) throws IOException {
+        byte[] header = computeIfAbsent(headers, key, () -> {
+            try (InputStream is = opener.get()) {
+                byte[] buffer = new byte[headerSize];
+                int length = ByteStreams.read(is, buffer, 0, headerSize);
+                return Arrays.copyOf(buffer, length);
+            }
+        });
+        InputStream headerStream = new ByteArrayInputStream(header);
+        if (header.length < headerSize) {
+            // the whole file is in the header
+            return headerStream;
+        }
+        return new SequenceInputStream(headerStream, new RemainderInputStream(opener, header.length));
+    }
+
+    @Override
+    public InputStream newInputStream(String suffix, String ext) throws IOException {
+        return newInputStream(getKey(suffix, ext), () -> dataSource.newInputStream(suffix, ext));
+    }
+
+    @Override
+    public InputStream newInputStream(String fileName) throws IOException {
+        return newInputStream(fileName, () -> dataSource.newInputStream(fileName));
+    }
+
+    @Override
+    public Set<String> listNames(String regex) throws IOException {
+        return new HashSet<>(computeIfAbsent(names, regex, () -> dataSource.listNames(regex)));
+    }
+
+    /**
+     * The part of a file after its header, the file is only opened if read.
+     */
+    private static final class RemainderInputStream extends InputStream {
+
+        private final IOSupplier<InputStream> opener;
+
+        private final long offset;
+
+        private InputStream is;
+
+        private RemainderInputStream(IOSupplier<InputStream> opener, long offset) {
+            this.opener = opener;
+            this.offset = offset;
+        }
+
+        private InputStream getInputStream() throws IOException {
+            if (is == null) {
+                is = opener.get();
+                ByteStreams.skipFully(is, offset);
+            }
+            return is;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return getInputStream().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return getInputStream().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (is != null) {
+                is.close();
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.iidm.import_;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.AbstractConvertersTest;
 import com.powsybl.iidm.network.LoadType;
@@ -17,11 +18,12 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -148,6 +150,65 @@ public class ImportersTest extends AbstractConvertersTest {
         isLoadPresent.forEach(Assert::assertTrue);
     }
 
+    @Test
+    public void importAllBounded() throws InterruptedException, ExecutionException, IOException {
+        for (int i = 0; i < 20; i++) {
+            Files.createFile(fileSystem.getPath(WORK_DIR + "snapshot" + i + ".tst"));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Long> importTimes = Collections.synchronizedList(new ArrayList<>());
+        ImportListener listener = new ImportListener() {
+            @Override
+            public void onImportStart(ReadOnlyDataSource dataSource) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            }
+
+            @Override
+            public void onImportEnd(ReadOnlyDataSource dataSource, long importTime) {
+                importTimes.add(importTime);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // unordered delivery, networks are released by the consumer
+            AtomicInteger count = new AtomicInteger();
+            Importers.importAll(fileSystem.getPath(WORK_DIR), testImporter, executor, 2, false, null, n -> {
+                count.incrementAndGet();
+                inFlight.decrementAndGet();
+            }, listener);
+            assertEquals(22, count.get());
+            assertEquals(22, importTimes.size());
+            assertTrue(maxInFlight.get() <= 2);
+
+            // ordered delivery, in data source order
+            maxInFlight.set(0);
+            List<Network> networks = new ArrayList<>();
+            Importers.importAll(fileSystem.getPath(WORK_DIR), testImporter, executor, 3, true, null, n -> {
+                networks.add(n);
+                inFlight.decrementAndGet();
+            }, listener);
+            assertEquals(22, networks.size());
+            assertTrue(maxInFlight.get() <= 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void importAllFailure() throws InterruptedException, ExecutionException, IOException {
+        List<ReadOnlyDataSource> failures = new ArrayList<>();
+        Importers.importAll(fileSystem.getPath(WORK_DIR), testImporter, Runnable::run, 1, true, null, n -> {
+            throw new IllegalStateException("Consumer failure");
+        }, new ImportListener() {
+            @Override
+            public void onImportFailure(ReadOnlyDataSource dataSource, Exception e) {
+                failures.add(dataSource);
+            }
+        });
+        assertEquals(Arrays.asList("bar", "foo"), failures.stream().map(ReadOnlyDataSource::getBaseName).collect(Collectors.toList()));
+    }
+
     @Test
     public void createDataSource1() throws IOException {
         DataSource dataSource = Importers.createDataSource(fileSystem.getPath(WORK_DIR), "foo");
@@ -167,6 +228,85 @@ public class ImportersTest extends AbstractConvertersTest {
         assertEquals(testImporter, importer);
     }
 
+    @Test
+    public void findImporterCache() throws IOException {
+        AtomicInteger probeCount = new AtomicInteger();
+        Importer otherImporter = new Importer() {
+            @Override
+            public String getFormat() {
+                return "OTHER";
+            }
+
+            @Override
+            public String getComment() {
+                return "";
+            }
+
+            @Override
+            public boolean exists(ReadOnlyDataSource dataSource) {
+                probeCount.incrementAndGet();
+                return false;
+            }
+        };
+        AtomicInteger executedCount = new AtomicInteger();
+        Mockito.when(computationManager.getExecutor()).thenReturn(command -> {
+            executedCount.incrementAndGet();
+            command.run();
+        });
+        ImportersLoader loader2 = new ImportersLoaderList(Arrays.asList(otherImporter, testImporter), Collections.emptyList());
+        assertNotNull(Importers.loadNetwork(path, computationManager, importConfigMock, null, loader2));
+        assertEquals(1, probeCount.get());
+        // importers are probed on the executor of the computation manager
+        assertEquals(2, executedCount.get());
+
+        // the format of an unchanged file is not probed again
+        assertNotNull(Importers.loadNetwork(path, computationManager, importConfigMock, null, loader2));
+        assertEquals(1, probeCount.get());
+
+        // but it is probed again when modified
+        Files.write(path, new byte[] {1});
+        assertNotNull(Importers.loadNetwork(path, computationManager, importConfigMock, null, loader2));
+        assertEquals(2, probeCount.get());
+
+        assertSame(testImporter, Importers.findImporter(Importers.createDataSource(path), loader2, computationManager, importConfigMock));
+        assertNull(Importers.findImporter(Importers.createDataSource(badPath), loader2, computationManager, importConfigMock));
+    }
+
+    @Test
+    public void findImporterCachePerLoader() {
+        Importer rejectingImporter = new TestImporter() {
+            @Override
+            public String getFormat() {
+                return "OTHER";
+            }
+
+            @Override
+            public boolean exists(ReadOnlyDataSource dataSource) {
+                return false;
+            }
+        };
+        ImportersLoader loader1 = new ImportersLoaderList(Arrays.asList(rejectingImporter, testImporter), Collections.emptyList());
+        assertNotNull(Importers.loadNetwork(path, computationManager, importConfigMock, null, loader1));
+
+        // importers with the same formats from another loader do not share the cached format
+        AtomicInteger probeCount = new AtomicInteger();
+        Importer acceptingImporter = new TestImporter() {
+            @Override
+            public String getFormat() {
+                return "OTHER";
+            }
+
+            @Override
+            public boolean exists(ReadOnlyDataSource dataSource) {
+                probeCount.incrementAndGet();
+                return true;
+            }
+        };
+        ImportersLoader loader2 = new ImportersLoaderList(Arrays.asList(acceptingImporter, testImporter), Collections.emptyList());
+        assertNotNull(Importers.loadNetwork(path, computationManager, importConfigMock, null, loader2));
+        assertEquals(1, probeCount.get());
+    }
+
     @Test
     public void findNullImporter() {
         Importer importer = Importers.findImporter(Importers.createDataSource(badPath), loader, computationManager, importConfigMock);
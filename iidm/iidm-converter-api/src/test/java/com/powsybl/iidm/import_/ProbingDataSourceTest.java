@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.import_;
+
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ProbingDataSourceTest {
+
+    private static final class CountingDataSource extends ReadOnlyMemDataSource {
+
+        private int openCount = 0;
+
+        private CountingDataSource() {
+            super("test");
+        }
+
+        @Override
+        public InputStream newInputStream(String fileName) throws IOException {
+            openCount++;
+            return super.newInputStream(fileName);
+        }
+    }
+
+    private static String read(InputStream is, int length) throws IOException {
+        try (InputStream ignored = is) {
+            byte[] buffer = new byte[length];
+            return new String(buffer, 0, ByteStreams.read(is, buffer, 0, length), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void test() throws IOException {
+        CountingDataSource dataSource = new CountingDataSource();
+        dataSource.putData("test.txt", "0123456789".getBytes(StandardCharsets.UTF_8));
+        dataSource.putData("small.txt", "ab".getBytes(StandardCharsets.UTF_8));
+        ProbingDataSource probingDataSource = new ProbingDataSource(dataSource, 4);
+
+        // the header is read once
+        assertEquals("012", read(probingDataSource.newInputStream("test.txt"), 3));
+        assertEquals("0123", read(probingDataSource.newInputStream("test.txt"), 4));
+        assertEquals(1, dataSource.openCount);
+
+        // the file is reopened to read beyond the header
+        assertEquals("0123456789", read(probingDataSource.newInputStream("test.txt"), 100));
+        assertEquals(2, dataSource.openCount);
+
+        // a file smaller than the header is fully cached
+        assertEquals("ab", read(probingDataSource.newInputStream("small.txt"), 100));
+        assertEquals("ab", read(probingDataSource.newInputStream("small.txt"), 100));
+        assertEquals(3, dataSource.openCount);
+
+        assertTrue(probingDataSource.exists("test.txt"));
+        assertFalse(probingDataSource.exists("other.txt"));
+        assertEquals(Collections.singleton("small.txt"), probingDataSource.listNames("s.*"));
+        assertEquals("test", probingDataSource.getBaseName());
+    }
+}
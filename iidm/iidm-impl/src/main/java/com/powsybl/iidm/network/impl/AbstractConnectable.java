@@ -66,6 +66,16 @@ abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIde
             vl.detach(terminal);
         }
         network.getListeners().notifyRemoval(this);
+        releaseVariantRows();
+    }
+
+    /**
+     * Release the storage of the variant dependent attributes of the connectable and of its terminals.
+     */
+    protected void releaseVariantRows() {
+        for (TerminalExt terminal : terminals) {
+            terminal.releaseVariantRows();
+        }
     }
 
     protected void notifyUpdate(Supplier<String> attribute, Object oldValue, Object newValue) {
@@ -8,6 +8,7 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.AbstractExtendable;
+import com.powsybl.commons.extensions.Extension;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Validable;
 
@@ -184,6 +185,15 @@ abstract class AbstractIdentifiable<I extends Identifiable<I>> extends AbstractE
         return id;
     }
 
+    @Override
+    public <E extends Extension<I>> void addExtension(Class<? super E> type, E extension) {
+        super.addExtension(type, extension);
+        if (extension instanceof MultiVariantObject) {
+            // modifications of extensions are not notified, delta variants have to be fully copied
+            getNetwork().getVariantManager().invalidateDeltaVariants();
+        }
+    }
+
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         getExtensions().stream()
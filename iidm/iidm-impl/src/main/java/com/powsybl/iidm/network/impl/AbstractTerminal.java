@@ -10,7 +10,6 @@ import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.ValidationException;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  *
@@ -26,21 +25,22 @@ abstract class AbstractTerminal implements TerminalExt {
 
     protected int num = -1;
 
-    // attributes depending on the variant
+    // attributes depending on the variant, stored in the terminal columns of the network
 
-    protected final TDoubleArrayList p;
+    static final int VARIANT_COLUMN_COUNT = 2;
 
-    protected final TDoubleArrayList q;
+    private static final int P_COLUMN = 0;
+
+    private static final int Q_COLUMN = 1;
+
+    private VariantColumnStore variantColumns;
+
+    private int variantRow;
 
     AbstractTerminal(Ref<? extends VariantManagerHolder> network) {
         this.network = network;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        p = new TDoubleArrayList(variantArraySize);
-        q = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            p.add(Double.NaN);
-            q.add(Double.NaN);
-        }
+        variantColumns = network.get().getVariantManager().getTerminalColumns();
+        variantRow = variantColumns.addRow(Double.NaN, Double.NaN);
     }
 
     @Override
@@ -70,7 +70,7 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public double getP() {
-        return p.get(network.get().getVariantIndex());
+        return variantColumns.get(P_COLUMN, network.get().getVariantIndex(), variantRow);
     }
 
     @Override
@@ -82,7 +82,7 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new ValidationException(connectable, "cannot set active power on a shunt compensator");
         }
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.p.set(variantIndex, p);
+        double oldValue = variantColumns.set(P_COLUMN, variantIndex, variantRow, p);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         getConnectable().notifyUpdate(() -> "p" + (num != -1 ? num : ""), variantId, oldValue, p);
         return this;
@@ -90,7 +90,7 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public double getQ() {
-        return q.get(network.get().getVariantIndex());
+        return variantColumns.get(Q_COLUMN, network.get().getVariantIndex(), variantRow);
     }
 
     @Override
@@ -99,7 +99,7 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new ValidationException(connectable, "cannot set reactive power on a busbar section");
         }
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.q.set(variantIndex, q);
+        double oldValue = variantColumns.set(Q_COLUMN, variantIndex, variantRow, q);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         getConnectable().notifyUpdate(() -> "q" + (num != -1 ? num : ""), variantId, oldValue, q);
         return this;
@@ -113,7 +113,7 @@ abstract class AbstractTerminal implements TerminalExt {
             return 0;
         }
         int variantIndex = network.get().getVariantIndex();
-        return Math.hypot(p.get(variantIndex), q.get(variantIndex))
+        return Math.hypot(variantColumns.get(P_COLUMN, variantIndex, variantRow), variantColumns.get(Q_COLUMN, variantIndex, variantRow))
                 / (Math.sqrt(3.) * getV() / 1000);
     }
 
@@ -127,20 +127,20 @@ abstract class AbstractTerminal implements TerminalExt {
         return voltageLevel.disconnect(this);
     }
 
+    @Override
+    public void releaseVariantRows() {
+        variantColumns = variantColumns.removeRow(variantRow);
+        variantRow = 0;
+    }
+
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        p.ensureCapacity(p.size() + number);
-        q.ensureCapacity(q.size() + number);
-        for (int i = 0; i < number; i++) {
-            p.add(p.get(sourceIndex));
-            q.add(q.get(sourceIndex));
-        }
+        // nothing to do, p and q are handled by the terminal column store
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
-        p.remove(p.size() - number, number);
-        q.remove(q.size() - number, number);
+        // nothing to do, p and q are handled by the terminal column store
     }
 
     @Override
@@ -150,10 +150,7 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            p.set(index, p.get(sourceIndex));
-            q.set(index, q.get(sourceIndex));
-        }
+        // nothing to do, p and q are handled by the terminal column store
     }
 
 }
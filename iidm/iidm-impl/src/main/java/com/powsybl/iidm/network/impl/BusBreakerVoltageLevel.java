@@ -324,8 +324,8 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
     @Override
     public void invalidateCache() {
         calculatedBusTopology.invalidateCache();
-        getNetwork().getConnectedComponentsManager().invalidate();
-        getNetwork().getSynchronousComponentsManager().invalidate();
+        getNetwork().getConnectedComponentsManager().invalidate(this);
+        getNetwork().getSynchronousComponentsManager().invalidate(this);
     }
 
     @Override
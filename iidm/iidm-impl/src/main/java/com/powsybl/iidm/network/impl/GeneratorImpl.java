@@ -9,7 +9,6 @@ package com.powsybl.iidm.network.impl;
 import com.powsybl.commons.util.trove.TBooleanArrayList;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -32,11 +31,19 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     private final TBooleanArrayList voltageRegulatorOn;
 
-    private final TDoubleArrayList targetP;
+    // double attributes depending on the variant, stored in the generator columns of the network
 
-    private final TDoubleArrayList targetQ;
+    static final int VARIANT_COLUMN_COUNT = 3;
 
-    private final TDoubleArrayList targetV;
+    private static final int TARGET_P_COLUMN = 0;
+
+    private static final int TARGET_Q_COLUMN = 1;
+
+    private static final int TARGET_V_COLUMN = 2;
+
+    private VariantColumnStore variantColumns;
+
+    private int variantRow;
 
     GeneratorImpl(Ref<? extends VariantManagerHolder> ref,
                   String id, String name, boolean fictitious, EnergySource energySource,
@@ -53,15 +60,11 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         this.ratedS = ratedS;
         int variantArraySize = ref.get().getVariantManager().getVariantArraySize();
         this.voltageRegulatorOn = new TBooleanArrayList(variantArraySize);
-        this.targetP = new TDoubleArrayList(variantArraySize);
-        this.targetQ = new TDoubleArrayList(variantArraySize);
-        this.targetV = new TDoubleArrayList(variantArraySize);
         for (int i = 0; i < variantArraySize; i++) {
             this.voltageRegulatorOn.add(voltageRegulatorOn);
-            this.targetP.add(targetP);
-            this.targetQ.add(targetQ);
-            this.targetV.add(targetV);
         }
+        variantColumns = ref.get().getVariantManager().getGeneratorColumns();
+        variantRow = variantColumns.addRow(targetP, targetQ, targetV);
     }
 
     @Override
@@ -126,7 +129,7 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     @Override
     public GeneratorImpl setVoltageRegulatorOn(boolean voltageRegulatorOn) {
         int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, targetV.get(variantIndex), targetQ.get(variantIndex));
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, variantColumns.get(TARGET_V_COLUMN, variantIndex, variantRow), variantColumns.get(TARGET_Q_COLUMN, variantIndex, variantRow));
         boolean oldValue = this.voltageRegulatorOn.set(variantIndex, voltageRegulatorOn);
         String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("voltageRegulatorOn", variantId, oldValue, voltageRegulatorOn);
@@ -149,14 +152,14 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public double getTargetP() {
-        return targetP.get(getNetwork().getVariantIndex());
+        return variantColumns.get(TARGET_P_COLUMN, getNetwork().getVariantIndex(), variantRow);
     }
 
     @Override
     public GeneratorImpl setTargetP(double targetP) {
         ValidationUtil.checkActivePowerSetpoint(this, targetP);
         int variantIndex = getNetwork().getVariantIndex();
-        double oldValue = this.targetP.set(getNetwork().getVariantIndex(), targetP);
+        double oldValue = variantColumns.set(TARGET_P_COLUMN, variantIndex, variantRow, targetP);
         String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("targetP", variantId, oldValue, targetP);
         return this;
@@ -164,14 +167,14 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public double getTargetQ() {
-        return targetQ.get(getNetwork().getVariantIndex());
+        return variantColumns.get(TARGET_Q_COLUMN, getNetwork().getVariantIndex(), variantRow);
     }
 
     @Override
     public GeneratorImpl setTargetQ(double targetQ) {
         int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), targetV.get(variantIndex), targetQ);
-        double oldValue = this.targetQ.set(variantIndex, targetQ);
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), variantColumns.get(TARGET_V_COLUMN, variantIndex, variantRow), targetQ);
+        double oldValue = variantColumns.set(TARGET_Q_COLUMN, variantIndex, variantRow, targetQ);
         String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("targetQ", variantId, oldValue, targetQ);
         return this;
@@ -179,14 +182,14 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public double getTargetV() {
-        return this.targetV.get(getNetwork().getVariantIndex());
+        return variantColumns.get(TARGET_V_COLUMN, getNetwork().getVariantIndex(), variantRow);
     }
 
     @Override
     public GeneratorImpl setTargetV(double targetV) {
         int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), targetV, targetQ.get(variantIndex));
-        double oldValue = this.targetV.set(variantIndex, targetV);
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), targetV, variantColumns.get(TARGET_Q_COLUMN, variantIndex, variantRow));
+        double oldValue = variantColumns.set(TARGET_V_COLUMN, variantIndex, variantRow, targetV);
         String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("targetV", variantId, oldValue, targetV);
         return this;
@@ -235,14 +238,8 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
         voltageRegulatorOn.ensureCapacity(voltageRegulatorOn.size() + number);
-        targetP.ensureCapacity(targetP.size() + number);
-        targetQ.ensureCapacity(targetQ.size() + number);
-        targetV.ensureCapacity(targetV.size() + number);
         for (int i = 0; i < number; i++) {
             voltageRegulatorOn.add(voltageRegulatorOn.get(sourceIndex));
-            targetP.add(targetP.get(sourceIndex));
-            targetQ.add(targetQ.get(sourceIndex));
-            targetV.add(targetV.get(sourceIndex));
         }
     }
 
@@ -250,9 +247,6 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
         voltageRegulatorOn.remove(voltageRegulatorOn.size() - number, number);
-        targetP.remove(targetP.size() - number, number);
-        targetQ.remove(targetQ.size() - number, number);
-        targetV.remove(targetV.size() - number, number);
     }
 
     @Override
@@ -266,12 +260,16 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         super.allocateVariantArrayElement(indexes, sourceIndex);
         for (int index : indexes) {
             voltageRegulatorOn.set(index, voltageRegulatorOn.get(sourceIndex));
-            targetP.set(index, targetP.get(sourceIndex));
-            targetQ.set(index, targetQ.get(sourceIndex));
-            targetV.set(index, targetV.get(sourceIndex));
         }
     }
 
+    @Override
+    protected void releaseVariantRows() {
+        super.releaseVariantRows();
+        variantColumns = variantColumns.removeRow(variantRow);
+        variantRow = 0;
+    }
+
     @Override
     protected String getTypeDescription() {
         return "Generator";
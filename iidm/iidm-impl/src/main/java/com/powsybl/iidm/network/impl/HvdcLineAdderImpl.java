@@ -112,6 +112,9 @@ public class HvdcLineAdderImpl extends AbstractIdentifiableAdder<HvdcLineAdderIm
         HvdcLineImpl hvdcLine = new HvdcLineImpl(id, name, isFictitious(), r, nominalV, maxP, convertersMode, activePowerSetpoint,
                                                  converterStation1, converterStation2, networkRef);
         getNetwork().getIndex().checkAndAdd(hvdcLine);
+        // the HVDC line connects the buses of the converter stations
+        getNetwork().getConnectedComponentsManager().invalidate(converterStation1.getTerminal().getVoltageLevel());
+        getNetwork().getConnectedComponentsManager().invalidate(converterStation2.getTerminal().getVoltageLevel());
         getNetwork().getListeners().notifyCreation(hvdcLine);
         return hvdcLine;
     }
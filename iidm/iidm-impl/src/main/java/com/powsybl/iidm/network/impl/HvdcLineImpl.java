@@ -209,13 +209,16 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine {
 
     @Override
     public void remove() {
+        NetworkImpl network = getNetwork();
+        network.getConnectedComponentsManager().invalidate(converterStation1.getTerminal().getVoltageLevel());
+        network.getConnectedComponentsManager().invalidate(converterStation2.getTerminal().getVoltageLevel());
+
         // Detach converter stations
         converterStation1.setHvdcLine(null);
         converterStation2.setHvdcLine(null);
         converterStation1 = null;
         converterStation2 = null;
 
-        NetworkImpl network = getNetwork();
         network.getIndex().remove(this);
         network.getListeners().notifyRemoval(this);
     }
@@ -11,7 +11,6 @@ import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.ValidationUtil;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  *
@@ -23,24 +22,25 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     private LoadType loadType;
 
-    // attributes depending on the variant
+    // attributes depending on the variant, stored in the load columns of the network
 
-    private final TDoubleArrayList p0;
+    static final int VARIANT_COLUMN_COUNT = 2;
 
-    private final TDoubleArrayList q0;
+    private static final int P0_COLUMN = 0;
+
+    private static final int Q0_COLUMN = 1;
+
+    private VariantColumnStore variantColumns;
+
+    private int variantRow;
 
     LoadImpl(Ref<? extends VariantManagerHolder> network,
              String id, String name, boolean fictitious, LoadType loadType, double p0, double q0) {
         super(id, name, fictitious);
         this.network = network;
         this.loadType = loadType;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        this.p0 = new TDoubleArrayList(variantArraySize);
-        this.q0 = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.p0.add(p0);
-            this.q0.add(q0);
-        }
+        variantColumns = network.get().getVariantManager().getLoadColumns();
+        variantRow = variantColumns.addRow(p0, q0);
     }
 
     @Override
@@ -74,14 +74,14 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     @Override
     public double getP0() {
-        return p0.get(network.get().getVariantIndex());
+        return variantColumns.get(P0_COLUMN, network.get().getVariantIndex(), variantRow);
     }
 
     @Override
     public LoadImpl setP0(double p0) {
         ValidationUtil.checkP0(this, p0);
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.p0.set(variantIndex, p0);
+        double oldValue = variantColumns.set(P0_COLUMN, variantIndex, variantRow, p0);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("p0", variantId, oldValue, p0);
         return this;
@@ -89,50 +89,23 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     @Override
     public double getQ0() {
-        return q0.get(network.get().getVariantIndex());
+        return variantColumns.get(Q0_COLUMN, network.get().getVariantIndex(), variantRow);
     }
 
     @Override
     public LoadImpl setQ0(double q0) {
         ValidationUtil.checkQ0(this, q0);
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.q0.set(variantIndex, q0);
+        double oldValue = variantColumns.set(Q0_COLUMN, variantIndex, variantRow, q0);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         notifyUpdate("q0", variantId, oldValue, q0);
         return this;
     }
 
     @Override
-    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        p0.ensureCapacity(p0.size() + number);
-        q0.ensureCapacity(q0.size() + number);
-        for (int i = 0; i < number; i++) {
-            p0.add(p0.get(sourceIndex));
-            q0.add(q0.get(sourceIndex));
-        }
+    protected void releaseVariantRows() {
+        super.releaseVariantRows();
+        variantColumns = variantColumns.removeRow(variantRow);
+        variantRow = 0;
     }
-
-    @Override
-    public void reduceVariantArraySize(int number) {
-        super.reduceVariantArraySize(number);
-        p0.remove(p0.size() - number, number);
-        q0.remove(q0.size() - number, number);
-    }
-
-    @Override
-    public void deleteVariantArrayElement(int index) {
-        super.deleteVariantArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            p0.set(index, p0.get(sourceIndex));
-            q0.set(index, q0.get(sourceIndex));
-        }
-    }
-
 }
@@ -44,7 +44,7 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
 
     private final VariantManagerImpl variantManager;
 
-    private final NetworkListenerList listeners = new NetworkListenerList();
+    private final NetworkListenerList listeners;
 
     class BusBreakerViewImpl implements BusBreakerView {
 
@@ -121,6 +121,7 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         Objects.requireNonNull(sourceFormat, "source format is null");
         this.sourceFormat = sourceFormat;
         variantManager = new VariantManagerImpl(this);
+        listeners = new NetworkListenerList(variantManager);
         variants = new VariantArray<>(ref, VariantImpl::new);
         // add the network the object list as it is a multi variant object
         // and it needs to be notified when and extension or a reduction of
@@ -825,6 +826,9 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         // fix network back reference of the other network objects
         otherNetwork.ref.setRef(ref);
 
+        // the other network objects keep their variant dependent attributes in the column stores of the other network
+        variantManager.mergeColumnStores(otherNetwork.variantManager);
+
         Multimap<Boundary, MergedLine> mergedLineByBoundary = HashMultimap.create();
         replaceDanglingLineByLine(lines, mergedLineByBoundary);
 
@@ -13,18 +13,308 @@ import com.powsybl.iidm.network.Identifiable;
 
 import java.io.PrintStream;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
+ * Index of the identifiables of a network, by id, alias and class.
+ *
+ * <p>Each identifiable is given a dense int handle. Ids and aliases are mapped to handles by open addressing tables,
+ * whose keys are the id and alias strings of the identifiables themselves, and identifiables of a class are stored in
+ * insertion order in a contiguous array. Removed identifiables leave a hole in the array of their class, compacted when
+ * the array is full.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 class NetworkIndex {
 
-    private final Map<String, Identifiable<?>> objectsById = new HashMap<>();
-    private final Map<String, String> idByAlias = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Open addressing table, with linear probing, of strings to handles.
+     */
+    private static final class HandleTable {
+
+        private String[] keys = new String[INITIAL_CAPACITY];
+
+        private int[] handles = new int[INITIAL_CAPACITY];
+
+        private int size = 0;
+
+        private static int hash(String key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private int indexOf(String key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != null) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        int get(String key) {
+            int i = indexOf(key);
+            return i != -1 ? handles[i] : -1;
+        }
+
+        boolean contains(String key) {
+            return indexOf(key) != -1;
+        }
+
+        void put(String key, int handle) {
+            if (2 * (size + 1) > keys.length) {
+                resize(2 * keys.length);
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != null) {
+                if (keys[i].equals(key)) {
+                    handles[i] = handle;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            handles[i] = handle;
+            size++;
+        }
+
+        boolean remove(String key) {
+            int i = indexOf(key);
+            if (i == -1) {
+                return false;
+            }
+            // shift back the following keys of the cluster, so that no tombstone is needed
+            int mask = keys.length - 1;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (keys[j] == null) {
+                    break;
+                }
+                int k = hash(keys[j]) & mask;
+                // move the key at j to the hole at i if its ideal slot k is not cyclically in ]i, j]
+                if (i <= j ? (k <= i || k > j) : (k <= i && k > j)) {
+                    keys[i] = keys[j];
+                    handles[i] = handles[j];
+                    i = j;
+                }
+            }
+            keys[i] = null;
+            size--;
+            return true;
+        }
 
-    private final Map<Class<? extends Identifiable>, Set<Identifiable<?>>> objectsByClass = new HashMap<>();
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            int[] oldHandles = handles;
+            keys = new String[capacity];
+            handles = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    put(oldKeys[i], oldHandles[i]);
+                }
+            }
+        }
+
+        void clear() {
+            keys = new String[INITIAL_CAPACITY];
+            handles = new int[INITIAL_CAPACITY];
+            size = 0;
+        }
+    }
+
+    /**
+     * Iterator over the identifiables of an array, skipping holes.
+     */
+    private static final class ArrayIterator implements Iterator<Identifiable<?>> {
+
+        private final Identifiable<?>[] objects;
+
+        private final int end;
+
+        private int next = 0;
+
+        private ArrayIterator(Identifiable<?>[] objects, int end) {
+            this.objects = objects;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // identifiables may be removed during the iteration
+            while (next < end && objects[next] == null) {
+                next++;
+            }
+            return next < end;
+        }
+
+        @Override
+        public Identifiable<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return objects[next++];
+        }
+    }
+
+    /**
+     * Spliterator over the identifiables of an array, skipping holes. It can be split by ranges of the array.
+     */
+    private static final class ArraySpliterator implements Spliterator<Identifiable<?>> {
+
+        private final Identifiable<?>[] objects;
+
+        private int next;
+
+        private final int end;
+
+        private ArraySpliterator(Identifiable<?>[] objects, int next, int end) {
+            this.objects = objects;
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Identifiable<?>> action) {
+            // identifiables may be removed during the iteration
+            while (next < end) {
+                Identifiable<?> obj = objects[next++];
+                if (obj != null) {
+                    action.accept(obj);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<Identifiable<?>> trySplit() {
+            int mid = (next + end) >>> 1;
+            if (mid <= next) {
+                return null;
+            }
+            Spliterator<Identifiable<?>> prefix = new ArraySpliterator(objects, next, mid);
+            next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Identifiables of a class, in insertion order. This collection is a read only view, reused by all the calls to
+     * {@link #getAll(Class)}. Iterators see the identifiables of the array at their creation, and are not invalidated by
+     * additions and removals.
+     */
+    private final class ClassTable extends AbstractCollection<Identifiable<?>> {
+
+        private Identifiable<?>[] objects = new Identifiable<?>[INITIAL_CAPACITY];
+
+        /* number of used slots, including holes */
+        private int end = 0;
+
+        private int size = 0;
+
+        private int append(Identifiable<?> obj) {
+            if (end == objects.length) {
+                // compact holes in a new array, so that running iterations are not affected
+                Identifiable<?>[] newObjects = new Identifiable<?>[size < objects.length / 2 ? objects.length : 2 * objects.length];
+                int newEnd = 0;
+                for (int i = 0; i < end; i++) {
+                    if (objects[i] != null) {
+                        newObjects[newEnd] = objects[i];
+                        positions[handlesById.get(objects[i].getId())] = newEnd;
+                        newEnd++;
+                    }
+                }
+                objects = newObjects;
+                end = newEnd;
+            }
+            objects[end] = obj;
+            size++;
+            return end++;
+        }
+
+        private void removeAt(int position) {
+            objects[position] = null;
+            size--;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Identifiable<?>> iterator() {
+            return new ArrayIterator(objects, end);
+        }
+
+        @Override
+        public Spliterator<Identifiable<?>> spliterator() {
+            return new ArraySpliterator(objects, 0, end);
+        }
+
+        @Override
+        public void forEach(Consumer<? super Identifiable<?>> action) {
+            Identifiable<?>[] iteratedObjects = objects;
+            int iteratedEnd = end;
+            for (int i = 0; i < iteratedEnd; i++) {
+                if (iteratedObjects[i] != null) {
+                    action.accept(iteratedObjects[i]);
+                }
+            }
+        }
+    }
+
+    /* identifiables by handle, null for free handles */
+    private Identifiable<?>[] objects = new Identifiable<?>[INITIAL_CAPACITY];
+
+    /* position of the identifiables in the table of their class, by handle */
+    private int[] positions = new int[INITIAL_CAPACITY];
+
+    private int handleCount = 0;
+
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+
+    private int freeHandleCount = 0;
+
+    private final HandleTable handlesById = new HandleTable();
+
+    private final HandleTable handlesByAlias = new HandleTable();
+
+    private final Map<Class<? extends Identifiable>, ClassTable> objectsByClass = new IdentityHashMap<>();
+
+    /* all the identifiables, by handle order */
+    private final Collection<Identifiable<?>> all = new AbstractCollection<Identifiable<?>>() {
+
+        @Override
+        public int size() {
+            return handleCount - freeHandleCount;
+        }
+
+        @Override
+        public Iterator<Identifiable<?>> iterator() {
+            return new ArrayIterator(objects, handleCount);
+        }
+    };
+
+    private int modCount = 0;
 
     static void checkId(String id) {
         if (id == null || id.isEmpty()) {
@@ -36,25 +326,47 @@ class NetworkIndex {
         return UUID.randomUUID().toString();
     }
 
+    private int newHandle() {
+        if (freeHandleCount > 0) {
+            return freeHandles[--freeHandleCount];
+        }
+        if (handleCount == objects.length) {
+            objects = Arrays.copyOf(objects, 2 * handleCount);
+            positions = Arrays.copyOf(positions, 2 * handleCount);
+        }
+        return handleCount++;
+    }
+
+    private void freeHandle(int handle) {
+        objects[handle] = null;
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, 2 * freeHandleCount);
+        }
+        freeHandles[freeHandleCount++] = handle;
+    }
+
+    private Identifiable<?> getObject(String id) {
+        int handle = handlesById.get(id);
+        return handle != -1 ? objects[handle] : null;
+    }
+
     void checkAndAdd(Identifiable<?> obj) {
         checkId(obj.getId());
-        if (objectsById.containsKey(obj.getId())) {
+        if (handlesById.contains(obj.getId())) {
             throw new PowsyblException("Object (" + obj.getClass().getName()
                     + ") '" + obj.getId() + "' already exists");
         }
-        objectsById.put(obj.getId(), obj);
+        int handle = newHandle();
+        objects[handle] = obj;
+        handlesById.put(obj.getId(), handle);
         obj.getAliases().forEach(alias -> addAlias(obj, alias));
 
-        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
-        if (all == null) {
-            all = new LinkedHashSet<>();
-            objectsByClass.put(obj.getClass(), all);
-        }
-        all.add(obj);
+        positions[handle] = objectsByClass.computeIfAbsent(obj.getClass(), c -> new ClassTable()).append(obj);
+        modCount++;
     }
 
     boolean addAlias(Identifiable<?> obj, String alias) {
-        Identifiable<?> aliasConflict = objectsById.get(alias);
+        Identifiable<?> aliasConflict = getObject(alias);
         if (aliasConflict != null) {
             if (aliasConflict.equals(obj)) {
                 // Silently ignore affecting the objects id to its own aliases
@@ -67,9 +379,9 @@ class NetworkIndex {
                     aliasConflict.getId());
             throw new PowsyblException(message);
         }
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias != null) {
-            aliasConflict = objectsById.get(idForAlias);
+        int handleForAlias = handlesByAlias.get(alias);
+        if (handleForAlias != -1) {
+            aliasConflict = objects[handleForAlias];
             if (aliasConflict.equals(obj)) {
                 // Silently ignore affecting the same alias twice to an object
                 return false;
@@ -81,25 +393,28 @@ class NetworkIndex {
                     aliasConflict.getId());
             throw new PowsyblException(message);
         }
-        idByAlias.put(alias, obj.getId());
+        handlesByAlias.put(alias, handlesById.get(obj.getId()));
         return true;
     }
 
     public <I extends Identifiable<I>> void removeAlias(Identifiable<?> obj, String alias) {
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias == null) {
+        int handleForAlias = handlesByAlias.get(alias);
+        if (handleForAlias == -1) {
             throw new PowsyblException(String.format("No alias '%s' found in the network", alias));
-        } else if (!idForAlias.equals(obj.getId())) {
+        } else if (!objects[handleForAlias].getId().equals(obj.getId())) {
             throw new PowsyblException(String.format("Alias '%s' do not correspond to object '%s'", alias, obj.getId()));
         } else {
-            idByAlias.remove(alias);
+            handlesByAlias.remove(alias);
         }
     }
 
     Identifiable get(String idOrAlias) {
-        String id = idByAlias.getOrDefault(idOrAlias, idOrAlias);
-        checkId(id);
-        return objectsById.get(id);
+        checkId(idOrAlias);
+        int handle = handlesByAlias.get(idOrAlias);
+        if (handle == -1) {
+            handle = handlesById.get(idOrAlias);
+        }
+        return handle != -1 ? objects[handle] : null;
     }
 
     <T extends Identifiable> T get(String id, Class<T> clazz) {
@@ -112,40 +427,57 @@ class NetworkIndex {
     }
 
     Collection<Identifiable<?>> getAll() {
-        return objectsById.values();
+        return all;
     }
 
-    <T extends Identifiable> Set<T> getAll(Class<T> clazz) {
-        Set<Identifiable<?>> all = objectsByClass.get(clazz);
-        if (all == null) {
-            return Collections.emptySet();
+    /**
+     * Get the identifiables of a class, in insertion order, as a read only view which is not copied.
+     */
+    <T extends Identifiable> Collection<T> getAll(Class<T> clazz) {
+        ClassTable table = objectsByClass.get(clazz);
+        if (table == null) {
+            return Collections.emptyList();
         }
-        return (Set<T>) all;
+        return (Collection<T>) table;
     }
 
     boolean contains(String id) {
-        String idFromPotentialAlias = idByAlias.getOrDefault(id, id);
-        checkId(idFromPotentialAlias);
-        return objectsById.containsKey(idFromPotentialAlias);
+        return get(id) != null;
     }
 
     void remove(Identifiable obj) {
         checkId(obj.getId());
-        Identifiable old = objectsById.remove(obj.getId());
-        if (old == null || old != obj) {
+        int handle = handlesById.get(obj.getId());
+        if (handle == -1 || objects[handle] != obj) {
             throw new PowsyblException("Object (" + obj.getClass().getName()
                     + ") '" + obj.getId() + "' not found");
         }
-        obj.getAliases().forEach(idByAlias::remove);
-        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
-        if (all != null) {
-            all.remove(obj);
+        handlesById.remove(obj.getId());
+        ((Identifiable<?>) obj).getAliases().forEach(handlesByAlias::remove);
+        ClassTable table = objectsByClass.get(obj.getClass());
+        if (table != null) {
+            table.removeAt(positions[handle]);
         }
+        freeHandle(handle);
+        modCount++;
+    }
+
+    /**
+     * Get the number of additions and removals of objects, so that index users can detect changes of the object set.
+     */
+    int getModCount() {
+        return modCount;
     }
 
     void clean() {
-        objectsById.clear();
+        objects = new Identifiable<?>[INITIAL_CAPACITY];
+        positions = new int[INITIAL_CAPACITY];
+        handleCount = 0;
+        freeHandleCount = 0;
+        handlesById.clear();
+        handlesByAlias.clear();
         objectsByClass.clear();
+        modCount++;
     }
 
     /**
@@ -155,16 +487,14 @@ class NetworkIndex {
      */
     Multimap<Class<? extends Identifiable>, String> intersection(NetworkIndex other) {
         Multimap<Class<? extends Identifiable>, String> intersection = HashMultimap.create();
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : other.objectsByClass.entrySet()) {
+        for (Map.Entry<Class<? extends Identifiable>, ClassTable> entry : other.objectsByClass.entrySet()) {
             Class<? extends Identifiable> clazz = entry.getKey();
-            Set<Identifiable<?>> objects = entry.getValue();
-            for (Identifiable obj : objects) {
-                if (objectsById.containsKey(obj.getId()) || idByAlias.containsKey(obj.getId())) {
+            for (Identifiable<?> obj : entry.getValue()) {
+                if (handlesById.contains(obj.getId()) || handlesByAlias.contains(obj.getId())) {
                     intersection.put(clazz, obj.getId());
                 }
-                Set<String> aliases = obj.getAliases();
-                for (String alias : aliases) {
-                    if (objectsById.containsKey(alias) || idByAlias.containsKey(alias)) {
+                for (String alias : obj.getAliases()) {
+                    if (handlesById.contains(alias) || handlesByAlias.contains(alias)) {
                         intersection.put(clazz, alias);
                     }
                 }
@@ -179,18 +509,20 @@ class NetworkIndex {
      * @param other the index to merge
      */
     void merge(NetworkIndex other) {
-        for (Identifiable obj : other.objectsById.values()) {
+        for (Identifiable<?> obj : other.getAll()) {
             checkAndAdd(obj);
         }
         other.clean();
     }
 
     void printForDebug(PrintStream out) {
-        for (Map.Entry<String, Identifiable<?>> entry : objectsById.entrySet()) {
-            out.println(entry.getKey() + " " + System.identityHashCode(entry.getValue()));
+        for (Identifiable<?> obj : getAll()) {
+            out.println(obj.getId() + " " + System.identityHashCode(obj));
         }
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : objectsByClass.entrySet()) {
-            out.println(entry.getKey() + " " + entry.getValue().stream().map(System::identityHashCode).collect(Collectors.toList()));
+        for (Map.Entry<Class<? extends Identifiable>, ClassTable> entry : objectsByClass.entrySet()) {
+            List<Integer> hashCodes = new ArrayList<>();
+            entry.getValue().forEach(obj -> hashCodes.add(System.identityHashCode(obj)));
+            out.println(entry.getKey() + " " + hashCodes);
         }
     }
 }
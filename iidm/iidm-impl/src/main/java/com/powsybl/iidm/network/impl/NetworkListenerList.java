@@ -25,6 +25,12 @@ class NetworkListenerList {
 
     private final List<NetworkListener> listeners = new ArrayList<>();
 
+    private final VariantManagerImpl variantManager;
+
+    NetworkListenerList(VariantManagerImpl variantManager) {
+        this.variantManager = Objects.requireNonNull(variantManager);
+    }
+
     void add(NetworkListener listener) {
         listeners.add(listener);
     }
@@ -34,12 +40,14 @@ class NetworkListenerList {
     }
 
     void notifyUpdate(Identifiable identifiable, Supplier<String> attribute, Object oldValue, Object newValue) {
+        variantManager.notifyUpdate(identifiable);
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyListeners(identifiable, attribute.get(), oldValue, newValue);
         }
     }
 
     void notifyUpdate(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+        variantManager.notifyUpdate(identifiable);
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyListeners(identifiable, attribute, oldValue, newValue);
         }
@@ -56,12 +64,14 @@ class NetworkListenerList {
     }
 
     void notifyUpdate(Identifiable identifiable, Supplier<String> attribute, String variantId, Object oldValue, Object newValue) {
+        variantManager.notifyUpdate(identifiable);
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyListeners(identifiable, attribute.get(), variantId, oldValue, newValue);
         }
     }
 
     void notifyUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+        variantManager.notifyUpdate(identifiable);
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyListeners(identifiable, attribute, variantId, oldValue, newValue);
         }
@@ -20,6 +20,7 @@ import com.powsybl.math.graph.GraphUtil;
 import com.powsybl.math.graph.TraverseResult;
 import com.powsybl.math.graph.UndirectedGraph;
 import com.powsybl.math.graph.UndirectedGraphImpl;
+import com.powsybl.math.graph.VisitMarkers;
 import gnu.trove.list.array.TIntArrayList;
 import org.anarres.graphviz.builder.*;
 import org.slf4j.Logger;
@@ -56,6 +57,10 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
     private final UndirectedGraphImpl<NodeTerminal, SwitchImpl> graph = new UndirectedGraphImpl<>();
 
+    /* markers reused by the breadth first traversals of the graph, they grow with its vertex capacity. The bus views of
+       several variants can be computed concurrently, so they are locked while in use */
+    private final VisitMarkers visitMarkers = new VisitMarkers();
+
     private final Map<String, Integer> switches = new HashMap<>();
 
     private class VariantImpl implements Variant {
@@ -205,6 +210,28 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
     }
 
+    /**
+     * Nodes connected together, with the bus they form if they are a valid one.
+     */
+    private static final class NodeGroup {
+
+        private final TIntArrayList nodes;
+
+        private final CalculatedBus bus;
+
+        /**
+         * Rank of the group in the order of the traversal of the full computation, so that an incremental one keeps the
+         * same bus order.
+         */
+        private final int rank;
+
+        private NodeGroup(TIntArrayList nodes, CalculatedBus bus, int rank) {
+            this.nodes = nodes;
+            this.bus = bus;
+            this.rank = rank;
+        }
+    }
+
     /**
      * Cached data for buses
      */
@@ -214,9 +241,25 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         private final Map<String, CalculatedBus> id2bus;
 
-        private BusCache(CalculatedBus[] node2bus, Map<String, CalculatedBus> id2bus) {
+        private final NodeGroup[] node2group;
+
+        /**
+         * Groups forming a bus, in the order of the buses.
+         */
+        private final List<NodeGroup> busGroups;
+
+        /**
+         * Rank of the first traversal of each node in the full computation.
+         */
+        private final int[] nodeRanks;
+
+        private BusCache(CalculatedBus[] node2bus, Map<String, CalculatedBus> id2bus, NodeGroup[] node2group,
+                         List<NodeGroup> busGroups, int[] nodeRanks) {
             this.node2bus = node2bus;
             this.id2bus = id2bus;
+            this.node2group = node2group;
+            this.busGroups = busGroups;
+            this.nodeRanks = nodeRanks;
         }
 
         private Collection<CalculatedBus> getBuses() {
@@ -239,6 +282,12 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         protected BusCache busCache;
 
+        /**
+         * Edges of the switches changed since the last computation, the buses of their nodes are recomputed by the next
+         * one.
+         */
+        private final TIntArrayList changedEdges = new TIntArrayList();
+
         protected void updateCache() {
             updateCache(Switch::isOpen);
         }
@@ -247,58 +296,173 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             return CALCULATED_BUS_CHECKER;
         }
 
-        private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
-            if (!encountered[n]) {
-                final TIntArrayList nodes = new TIntArrayList(1);
-                nodes.add(n);
-                graph.traverse(n, (n1, e, n2) -> {
-                    SwitchImpl aSwitch = graph.getEdgeObject(e);
-                    if (aSwitch != null && terminate.apply(aSwitch)) {
-                        return TraverseResult.TERMINATE;
-                    }
+        private TIntArrayList traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate) {
+            final TIntArrayList nodes = new TIntArrayList(1);
+            nodes.add(n);
+            graph.traverse(n, (n1, e, n2) -> {
+                SwitchImpl aSwitch = graph.getEdgeObject(e);
+                if (aSwitch != null && terminate.apply(aSwitch)) {
+                    return TraverseResult.TERMINATE;
+                }
 
-                    nodes.add(n2);
-                    return TraverseResult.CONTINUE;
-                }, encountered);
-
-                // check that the component is a bus
-                String busId = NAMING_STRATEGY.getId(NodeBreakerVoltageLevel.this, nodes);
-                CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
-                for (int i = 0; i < nodes.size(); i++) {
-                    int n2 = nodes.getQuick(i);
-                    NodeTerminal terminal2 = graph.getVertexObject(n2);
-                    if (terminal2 != null) {
-                        terminals.add(terminal2);
-                    }
+                nodes.add(n2);
+                return TraverseResult.CONTINUE;
+            }, encountered);
+            return nodes;
+        }
+
+        private CalculatedBus createBus(TIntArrayList nodes) {
+            // check that the component is a bus
+            String busId = NAMING_STRATEGY.getId(NodeBreakerVoltageLevel.this, nodes);
+            CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                int n2 = nodes.getQuick(i);
+                NodeTerminal terminal2 = graph.getVertexObject(n2);
+                if (terminal2 != null) {
+                    terminals.add(terminal2);
                 }
-                if (getBusChecker().isValid(graph, nodes, terminals)) {
-                    String busName = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
-                    CalculatedBusImpl bus = new CalculatedBusImpl(busId, busName, NodeBreakerVoltageLevel.this.fictitious, NodeBreakerVoltageLevel.this, nodes, terminals);
-                    id2bus.put(busId, bus);
-                    for (int i = 0; i < nodes.size(); i++) {
-                        node2bus[nodes.getQuick(i)] = bus;
-                    }
+            }
+            if (getBusChecker().isValid(graph, nodes, terminals)) {
+                String busName = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
+                return new CalculatedBusImpl(busId, busName, NodeBreakerVoltageLevel.this.fictitious, NodeBreakerVoltageLevel.this, nodes, terminals);
+            }
+            return null;
+        }
+
+        private void addGroup(NodeGroup group, NodeGroup[] node2group, CalculatedBus[] node2bus) {
+            for (int i = 0; i < group.nodes.size(); i++) {
+                int node = group.nodes.getQuick(i);
+                node2group[node] = group;
+                node2bus[node] = group.bus;
+            }
+        }
+
+        private void traverse(int n, int rank, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus,
+                              NodeGroup[] node2group, List<NodeGroup> busGroups, CalculatedBus[] node2bus) {
+            if (!encountered[n]) {
+                TIntArrayList nodes = traverse(n, encountered, terminate);
+                NodeGroup group = new NodeGroup(nodes, createBus(nodes), rank);
+                if (group.bus != null) {
+                    id2bus.put(group.bus.getId(), group.bus);
+                    busGroups.add(group);
                 }
+                addGroup(group, node2group, node2bus);
             }
         }
 
         protected void updateCache(final Predicate<SwitchImpl> terminate) {
             if (busCache != null) {
+                if (!changedEdges.isEmpty()) {
+                    updateCacheIncrementally(terminate);
+                }
                 return;
             }
             LOGGER.trace("Update bus topology of voltage level {}", NodeBreakerVoltageLevel.this.id);
             Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
             CalculatedBus[] node2bus = new CalculatedBus[graph.getVertexCapacity()];
+            NodeGroup[] node2group = new NodeGroup[graph.getVertexCapacity()];
+            List<NodeGroup> busGroups = new ArrayList<>();
+            int[] nodeRanks = new int[graph.getVertexCapacity()];
+            Arrays.fill(nodeRanks, -1);
             boolean[] encountered = new boolean[graph.getVertexCapacity()];
             Arrays.fill(encountered, false);
+            int rank = 0;
             for (int e : graph.getEdges()) {
-                traverse(graph.getEdgeVertex1(e), encountered, terminate, id2bus, node2bus);
-                traverse(graph.getEdgeVertex2(e), encountered, terminate, id2bus, node2bus);
+                int v1 = graph.getEdgeVertex1(e);
+                int v2 = graph.getEdgeVertex2(e);
+                if (nodeRanks[v1] == -1) {
+                    nodeRanks[v1] = rank++;
+                }
+                if (nodeRanks[v2] == -1) {
+                    nodeRanks[v2] = rank++;
+                }
+                traverse(v1, nodeRanks[v1], encountered, terminate, id2bus, node2group, busGroups, node2bus);
+                traverse(v2, nodeRanks[v2], encountered, terminate, id2bus, node2group, busGroups, node2bus);
             }
-            busCache = new BusCache(node2bus, id2bus);
+            busCache = new BusCache(node2bus, id2bus, node2group, busGroups, nodeRanks);
+            changedEdges.clear();
             LOGGER.trace("Found buses {}", id2bus.values());
         }
 
+        /**
+         * Only traverse again the nodes of the groups of the changed switches. Traversals cannot go further, as the
+         * other groups are only connected to them through switches which are open and have not changed.
+         */
+        private void updateCacheIncrementally(final Predicate<SwitchImpl> terminate) {
+            LOGGER.trace("Update bus topology of voltage level {} after changes of {} switches", NodeBreakerVoltageLevel.this.id, changedEdges.size());
+            NodeGroup[] node2group = busCache.node2group;
+            CalculatedBus[] node2bus = busCache.node2bus;
+            Set<NodeGroup> changedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < changedEdges.size(); i++) {
+                int e = changedEdges.getQuick(i);
+                changedGroups.add(node2group[graph.getEdgeVertex1(e)]);
+                changedGroups.add(node2group[graph.getEdgeVertex2(e)]);
+            }
+            changedEdges.clear();
+
+            boolean[] encountered = new boolean[graph.getVertexCapacity()];
+            Arrays.fill(encountered, true);
+            for (NodeGroup group : changedGroups) {
+                for (int i = 0; i < group.nodes.size(); i++) {
+                    encountered[group.nodes.getQuick(i)] = false;
+                }
+            }
+            List<NodeGroup> newGroups = new ArrayList<>();
+            Set<NodeGroup> keptGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (NodeGroup group : changedGroups) {
+                for (int i = 0; i < group.nodes.size(); i++) {
+                    int n = group.nodes.getQuick(i);
+                    if (!encountered[n]) {
+                        TIntArrayList nodes = traverse(n, encountered, terminate);
+                        NodeGroup oldGroup = node2group[n];
+                        if (nodes.size() == oldGroup.nodes.size() && allInGroup(nodes, oldGroup)) {
+                            // same nodes, the bus is kept
+                            keptGroups.add(oldGroup);
+                        } else {
+                            int rank = Integer.MAX_VALUE;
+                            for (int j = 0; j < nodes.size(); j++) {
+                                rank = Math.min(rank, busCache.nodeRanks[nodes.getQuick(j)]);
+                            }
+                            newGroups.add(new NodeGroup(nodes, createBus(nodes), rank));
+                        }
+                    }
+                }
+            }
+            if (newGroups.isEmpty()) {
+                return;
+            }
+
+            // detach buses of the groups which have changed
+            for (NodeGroup group : changedGroups) {
+                if (!keptGroups.contains(group) && group.bus != null) {
+                    group.bus.invalidate();
+                }
+            }
+            List<NodeGroup> busGroups = busCache.busGroups;
+            busGroups.removeIf(group -> changedGroups.contains(group) && !keptGroups.contains(group));
+            for (NodeGroup group : newGroups) {
+                addGroup(group, node2group, node2bus);
+                if (group.bus != null) {
+                    busGroups.add(group);
+                }
+            }
+            busGroups.sort(Comparator.comparingInt(group -> group.rank));
+            busCache.id2bus.clear();
+            for (NodeGroup group : busGroups) {
+                busCache.id2bus.put(group.bus.getId(), group.bus);
+            }
+            LOGGER.trace("Found buses {}", busCache.id2bus.values());
+        }
+
+        private boolean allInGroup(TIntArrayList nodes, NodeGroup group) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (busCache.node2group[nodes.getQuick(i)] != group) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         protected void invalidateCache() {
             // detach buses
             if (busCache != null) {
@@ -307,6 +471,22 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
                 }
                 busCache = null;
             }
+            changedEdges.clear();
+        }
+
+        /**
+         * Invalidate the buses of the nodes of a switch whose open or retained status has changed.
+         */
+        protected void invalidateCache(int e) {
+            if (busCache != null) {
+                if (busCache.node2group.length == graph.getVertexCapacity()
+                        && busCache.node2group[graph.getEdgeVertex1(e)] != null
+                        && busCache.node2group[graph.getEdgeVertex2(e)] != null) {
+                    changedEdges.add(e);
+                } else {
+                    invalidateCache();
+                }
+            }
         }
 
         Collection<CalculatedBus> getBuses() {
@@ -334,21 +514,23 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             if (connectableBus != null) {
                 return connectableBus;
             }
-            // if not traverse the graph starting from the node (without stopping at open switches) until finding another
-            // node associated to a bus
+            // if not traverse the graph breadth first starting from the node (without stopping at open switches) until
+            // finding the closest node associated to a bus
             BusExt[] connectableBus2 = new BusExt[1];
-            graph.traverse(node, (v1, e, v2) -> {
-                if (connectableBus2[0] != null) {
-                    // traverse does not stop the algorithm when TERMINATE, it only stops searching in a given direction
-                    // this condition insures that while checking all the edges (in every direction) of a node, if a bus is found, it will not be lost
-                    return TraverseResult.TERMINATE;
-                }
-                connectableBus2[0] = getBus(v2);
-                if (connectableBus2[0] != null) {
-                    return TraverseResult.TERMINATE;
-                }
-                return TraverseResult.CONTINUE;
-            });
+            synchronized (visitMarkers) {
+                graph.traverseBreadthFirst(node, (v1, e, v2) -> {
+                    if (connectableBus2[0] != null) {
+                        // traverse does not stop the algorithm when TERMINATE, it only stops searching in a given direction
+                        // this condition insures that while checking all the edges (in every direction) of a node, if a bus is found, it will not be lost
+                        return TraverseResult.TERMINATE;
+                    }
+                    connectableBus2[0] = getBus(v2);
+                    if (connectableBus2[0] != null) {
+                        return TraverseResult.TERMINATE;
+                    }
+                    return TraverseResult.CONTINUE;
+                }, visitMarkers);
+            }
             // if nothing found, just take the first bus
             if (connectableBus2[0] == null) {
                 Collection<CalculatedBus> buses = getBuses();
@@ -509,13 +691,25 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
                             double nominalV, double lowVoltageLimit, double highVoltageLimit) {
         super(id, name, fictitious, substation, nominalV, lowVoltageLimit, highVoltageLimit);
         variants = new VariantArray<>(substation.getNetwork().getRef(), VariantImpl::new);
+        // invalidate topology and connected components when switches or internal connections are added or removed
+        graph.addListener(this::invalidateCache);
     }
 
     @Override
     public void invalidateCache() {
         variants.get().calculatedBusBreakerTopology.invalidateCache();
         variants.get().calculatedBusTopology.invalidateCache();
-        getNetwork().getConnectedComponentsManager().invalidate();
+        getNetwork().getConnectedComponentsManager().invalidate(this);
+        getNetwork().getSynchronousComponentsManager().invalidate(this);
+    }
+
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        int e = getEdge(aSwitch.getId(), true);
+        variants.get().calculatedBusBreakerTopology.invalidateCache(e);
+        variants.get().calculatedBusTopology.invalidateCache(e);
+        getNetwork().getConnectedComponentsManager().invalidate(this);
+        getNetwork().getSynchronousComponentsManager().invalidate(this);
     }
 
     private Integer getEdge(String switchId, boolean throwException) {
@@ -661,10 +855,13 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             if (internalConnectionsToBeRemoved.length == 0) {
                 throw new PowsyblException("Internal connection not found between " + node1 + " and " + node2);
             }
-            for (int ic : internalConnectionsToBeRemoved) {
-                graph.removeEdge(ic);
-            }
-            clean();
+            // removed edges and isolated vertices invalidate the topology only once
+            graph.batch(() -> {
+                for (int ic : internalConnectionsToBeRemoved) {
+                    graph.removeEdge(ic);
+                }
+                clean();
+            });
             invalidateCache();
         }
 
@@ -709,8 +906,11 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
                 throw new PowsyblException("Switch '" + switchId
                         + "' not found in substation voltage level '" + id + "'");
             }
-            SwitchImpl aSwitch = graph.removeEdge(e);
-            clean();
+            SwitchImpl aSwitch = graph.getEdgeObject(e);
+            graph.batch(() -> {
+                graph.removeEdge(e);
+                clean();
+            });
 
             getNetwork().getIndex().remove(aSwitch);
             getNetwork().getListeners().notifyRemoval(aSwitch);
@@ -945,17 +1145,54 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         return s != null && s.getKind() == SwitchKind.DISCONNECTOR && s.isOpen();
     }
 
+    /**
+     * Find a shortest path starting from a node to a busbar section, other than the node itself, that does not contain
+     * an open disconnector.
+     * The graph is traversed breadth first from the node, without going through busbar sections, so the first busbar
+     * section found is one of the closest.
+     *
+     * @return the edges of the path, or null if no busbar section can be reached
+     */
+    private TIntArrayList findShortestPathToBusbarSection(int node) {
+        // the last vertex before the busbar section, and the edge between them
+        int[] found = {-1, -1};
+        synchronized (visitMarkers) {
+            graph.traverseBreadthFirst(node, (v1, e, v2) -> {
+                if (found[0] != -1 || isOpenedDisconnector(graph.getEdgeObject(e))) {
+                    return TraverseResult.TERMINATE;
+                }
+                if (isBusbarSection(graph.getVertexObject(v2))) {
+                    found[0] = v1;
+                    found[1] = e;
+                    return TraverseResult.TERMINATE;
+                }
+                return TraverseResult.CONTINUE;
+            }, visitMarkers);
+            if (found[0] == -1) {
+                return null;
+            }
+            TIntArrayList path = new TIntArrayList();
+            path.add(found[1]);
+            int v = found[0];
+            for (int e = visitMarkers.getParentEdge(v); e != -1; e = visitMarkers.getParentEdge(v)) {
+                path.add(e);
+                v = graph.getEdgeVertex1(e) == v ? graph.getEdgeVertex2(e) : graph.getEdgeVertex1(e);
+            }
+            path.reverse();
+            return path;
+        }
+    }
+
     @Override
     public boolean connect(TerminalExt terminal) {
         assert terminal instanceof NodeTerminal;
         int node = ((NodeTerminal) terminal).getNode();
-        // find all paths starting from the current terminal to a busbar section that does not contain an open disconnector
-        // paths are already sorted
-        List<TIntArrayList> paths = graph.findAllPaths(node, NodeBreakerVoltageLevel::isBusbarSection, NodeBreakerVoltageLevel::isOpenedDisconnector);
+        // find the shortest path starting from the current terminal to a busbar section that does not contain an open
+        // disconnector
+        TIntArrayList shortestPath = findShortestPathToBusbarSection(node);
         boolean connected = false;
-        if (!paths.isEmpty()) {
+        if (shortestPath != null) {
             // the shorted path is the best, close all opened breakers of the path
-            TIntArrayList shortestPath = paths.get(0);
             for (int i = 0; i < shortestPath.size(); i++) {
                 int e = shortestPath.get(i);
                 SwitchImpl sw = graph.getEdgeObject(e);
@@ -69,7 +69,7 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
             this.open.set(index, open);
             String variantId = network.getVariantManager().getVariantId(index);
             network.getListeners().notifyUpdate(this, "open", variantId, oldValue, open);
-            voltageLevel.invalidateCache();
+            voltageLevel.invalidateCache(this);
         }
     }
 
@@ -90,7 +90,7 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
             this.retained.set(index, retained);
             String variantId = network.getVariantManager().getVariantId(index);
             network.getListeners().notifyUpdate(this, "retained", variantId, oldValue, retained);
-            voltageLevel.invalidateCache();
+            voltageLevel.invalidateCache(this);
         }
     }
 
@@ -46,4 +46,9 @@ interface TerminalExt extends Terminal, MultiVariantObject {
 
     void traverse(VoltageLevel.TopologyTraverser traverser, Set<Terminal> traversedTerminals);
 
+    /**
+     * Release the storage of the variant dependent attributes of the terminal, once its connectable has been removed.
+     */
+    void releaseVariantRows();
+
 }
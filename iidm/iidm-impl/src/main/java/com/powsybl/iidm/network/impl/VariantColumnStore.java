@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Columnar storage of the variant dependent double attributes of all the objects of a type: each object is a row, and
+ * the values of an attribute for a variant are stored in a single array, indexed by row.
+ * <p>
+ * Variant arrays are handled for all the objects at once, so cloning a variant is an array copy per attribute instead
+ * of a call per object.
+ *
+ * @author agent <agent at local>
+ */
+final class VariantColumnStore implements MultiVariantObject {
+
+    private static final int INITIAL_ROW_CAPACITY = 16;
+
+    /* values by column, variant and row, null for deleted variants */
+    private final double[][][] values;
+
+    private int rowCapacity = INITIAL_ROW_CAPACITY;
+
+    private int rowCount = 0;
+
+    private final TIntArrayList freeRows = new TIntArrayList();
+
+    VariantColumnStore(int columnCount, int variantArraySize) {
+        values = new double[columnCount][variantArraySize][];
+        for (double[][] column : values) {
+            for (int variantIndex = 0; variantIndex < variantArraySize; variantIndex++) {
+                column[variantIndex] = new double[rowCapacity];
+            }
+        }
+    }
+
+    /**
+     * Add a row, with the same values for all the variants.
+     *
+     * @param initialValues the values of the row, one per column
+     * @return the row index
+     */
+    int addRow(double... initialValues) {
+        if (initialValues.length != values.length) {
+            throw new IllegalArgumentException("Expected " + values.length + " values, got " + initialValues.length);
+        }
+        int row;
+        if (freeRows.isEmpty()) {
+            if (rowCount == rowCapacity) {
+                rowCapacity *= 2;
+                for (double[][] column : values) {
+                    for (int variantIndex = 0; variantIndex < column.length; variantIndex++) {
+                        if (column[variantIndex] != null) {
+                            column[variantIndex] = Arrays.copyOf(column[variantIndex], rowCapacity);
+                        }
+                    }
+                }
+            }
+            row = rowCount++;
+        } else {
+            row = freeRows.removeAt(freeRows.size() - 1);
+        }
+        for (int c = 0; c < values.length; c++) {
+            for (double[] variantValues : values[c]) {
+                if (variantValues != null) {
+                    variantValues[row] = initialValues[c];
+                }
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Release a row, so that it can be reused by another object. The values of the row are moved to a new store, so
+     * that the removed object can still be read.
+     *
+     * @return a store with the values of the row, as its row 0
+     */
+    VariantColumnStore removeRow(int row) {
+        VariantColumnStore detached = new VariantColumnStore(values.length, 0);
+        for (int c = 0; c < values.length; c++) {
+            double[][] column = values[c];
+            detached.values[c] = new double[column.length][];
+            for (int variantIndex = 0; variantIndex < column.length; variantIndex++) {
+                if (column[variantIndex] != null) {
+                    detached.values[c][variantIndex] = new double[] {column[variantIndex][row]};
+                }
+            }
+        }
+        detached.rowCount = 1;
+        freeRows.add(row);
+        return detached;
+    }
+
+    double get(int column, int variantIndex, int row) {
+        return values[column][variantIndex][row];
+    }
+
+    /**
+     * @return the old value
+     */
+    double set(int column, int variantIndex, int row, double value) {
+        double[] variantValues = values[column][variantIndex];
+        double oldValue = variantValues[row];
+        variantValues[row] = value;
+        return oldValue;
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        for (int c = 0; c < values.length; c++) {
+            double[][] column = Arrays.copyOf(values[c], initVariantArraySize + number);
+            for (int variantIndex = initVariantArraySize; variantIndex < column.length; variantIndex++) {
+                column[variantIndex] = column[sourceIndex].clone();
+            }
+            values[c] = column;
+        }
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        for (int c = 0; c < values.length; c++) {
+            values[c] = Arrays.copyOf(values[c], values[c].length - number);
+        }
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        // release the memory of the variant
+        for (double[][] column : values) {
+            column[index] = null;
+        }
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        for (double[][] column : values) {
+            for (int index : indexes) {
+                if (column[index] == null) {
+                    column[index] = column[sourceIndex].clone();
+                } else {
+                    System.arraycopy(column[sourceIndex], 0, column[index], 0, rowCount);
+                }
+            }
+        }
+    }
+}
@@ -9,14 +9,18 @@ package com.powsybl.iidm.network.impl;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Iterables;
 import com.google.common.primitives.Ints;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  *
@@ -40,6 +44,61 @@ public class VariantManagerImpl implements VariantManager {
 
     private final NetworkImpl network;
 
+    /**
+     * A delta variant keeps track of the objects modified since it has been cloned from its source variant, so that
+     * it can be reset to the state of its source variant by only copying back these objects.
+     */
+    private static final class DeltaVariant {
+
+        private final int sourceIndex;
+
+        /**
+         * Network index modification count at the time of the last full copy of the variant
+         */
+        private final int indexModCount;
+
+        private final Set<MultiVariantObject> modifiedObjects = ConcurrentHashMap.newKeySet();
+
+        /**
+         * False when the modified object set is not enough to reset the variant, because the source variant
+         * has been modified or removed
+         */
+        private volatile boolean valid = true;
+
+        private DeltaVariant(int sourceIndex, int indexModCount) {
+            this.sourceIndex = sourceIndex;
+            this.indexModCount = indexModCount;
+        }
+    }
+
+    /**
+     * Objects for which modifications cannot be tracked and which are always copied when resetting a delta variant
+     */
+    private static final class UntrackedObjects {
+
+        private final int indexModCount;
+
+        private final List<MultiVariantObject> objects;
+
+        private UntrackedObjects(int indexModCount, List<MultiVariantObject> objects) {
+            this.indexModCount = indexModCount;
+            this.objects = objects;
+        }
+    }
+
+    private final Map<Integer, DeltaVariant> deltaVariants = new ConcurrentHashMap<>();
+
+    private final VariantColumnStore generatorColumns;
+
+    private final VariantColumnStore loadColumns;
+
+    private final VariantColumnStore terminalColumns;
+
+    /* column stores of the objects of this network, and of the networks merged into it */
+    private final List<VariantColumnStore> columnStores = new ArrayList<>();
+
+    private volatile UntrackedObjects untrackedObjects;
+
     VariantManagerImpl(NetworkImpl network) {
         this.network = network;
         this.variantContext = new MultiVariantContext(INITIAL_VARIANT_INDEX);
@@ -47,6 +106,34 @@ public class VariantManagerImpl implements VariantManager {
         // the network has always a zero index initial variant
         id2index.put(VariantManagerConstants.INITIAL_VARIANT_ID, INITIAL_VARIANT_INDEX);
         variantArraySize = INITIAL_VARIANT_INDEX + 1;
+        generatorColumns = newColumnStore(GeneratorImpl.VARIANT_COLUMN_COUNT);
+        loadColumns = newColumnStore(LoadImpl.VARIANT_COLUMN_COUNT);
+        terminalColumns = newColumnStore(AbstractTerminal.VARIANT_COLUMN_COUNT);
+    }
+
+    private VariantColumnStore newColumnStore(int columnCount) {
+        VariantColumnStore store = new VariantColumnStore(columnCount, variantArraySize);
+        columnStores.add(store);
+        return store;
+    }
+
+    VariantColumnStore getGeneratorColumns() {
+        return generatorColumns;
+    }
+
+    VariantColumnStore getLoadColumns() {
+        return loadColumns;
+    }
+
+    VariantColumnStore getTerminalColumns() {
+        return terminalColumns;
+    }
+
+    /**
+     * Take over the column stores of a network merged into this one, as its objects keep their rows.
+     */
+    void mergeColumnStores(VariantManagerImpl other) {
+        columnStores.addAll(other.columnStores);
     }
 
     VariantContext getVariantContext() {
@@ -101,7 +188,7 @@ public class VariantManagerImpl implements VariantManager {
     }
 
     private Iterable<MultiVariantObject> getStafulObjects() {
-        return FluentIterable.from(networkIndex.getAll()).filter(MultiVariantObject.class);
+        return Iterables.concat(columnStores, FluentIterable.from(networkIndex.getAll()).filter(MultiVariantObject.class));
     }
 
     @Override
@@ -119,6 +206,16 @@ public class VariantManagerImpl implements VariantManager {
         cloneVariant(sourceVariantId, targetVariantIds, false);
     }
 
+    @Override
+    public void cloneDeltaVariant(String sourceVariantId, List<String> targetVariantIds) {
+        cloneVariant(sourceVariantId, targetVariantIds);
+        int sourceIndex = getVariantIndex(sourceVariantId);
+        int indexModCount = networkIndex.getModCount();
+        for (String targetVariantId : targetVariantIds) {
+            deltaVariants.put(getVariantIndex(targetVariantId), new DeltaVariant(sourceIndex, indexModCount));
+        }
+    }
+
     @Override
     public void cloneVariant(String sourceVariantId, List<String> targetVariantIds, boolean mayOverwrite) {
         if (targetVariantIds.isEmpty()) {
@@ -177,12 +274,119 @@ public class VariantManagerImpl implements VariantManager {
             }
         }
         if (!overwritten.isEmpty()) {
-            int[] indexes = Ints.toArray(overwritten);
-            for (MultiVariantObject obj : getStafulObjects()) {
-                obj.allocateVariantArrayElement(indexes, sourceIndex);
+            List<Integer> fullyOverwritten = new ArrayList<>(overwritten.size());
+            for (int index : overwritten) {
+                if (!resetDeltaVariant(index, sourceIndex)) {
+                    fullyOverwritten.add(index);
+                }
             }
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Overwriting variant array indexes {}", Arrays.toString(indexes));
+            if (!fullyOverwritten.isEmpty()) {
+                int[] indexes = Ints.toArray(fullyOverwritten);
+                for (MultiVariantObject obj : getStafulObjects()) {
+                    obj.allocateVariantArrayElement(indexes, sourceIndex);
+                }
+                // delta variants are now a full copy of their new source variant
+                int indexModCount = networkIndex.getModCount();
+                for (int index : indexes) {
+                    deltaVariants.computeIfPresent(index, (i, deltaVariant) -> new DeltaVariant(sourceIndex, indexModCount));
+                }
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Overwriting variant array indexes {}", Arrays.toString(indexes));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reset a delta variant to the state of its source variant by only copying the objects modified since the last
+     * copy.
+     *
+     * @return {@code false} if the variant is not a delta variant of the source variant or if the network has been
+     * modified in a way that requires a full copy
+     */
+    private boolean resetDeltaVariant(int index, int sourceIndex) {
+        DeltaVariant deltaVariant = deltaVariants.get(index);
+        if (deltaVariant == null
+                || !deltaVariant.valid
+                || deltaVariant.sourceIndex != sourceIndex
+                || deltaVariant.indexModCount != networkIndex.getModCount()
+                || deltaVariants.containsKey(sourceIndex)) {
+            return false;
+        }
+        int[] indexes = new int[] {index};
+        // column stores are copied as a whole, this is a few array copies
+        for (VariantColumnStore store : columnStores) {
+            store.allocateVariantArrayElement(indexes, sourceIndex);
+        }
+        for (MultiVariantObject obj : getUntrackedObjects()) {
+            obj.allocateVariantArrayElement(indexes, sourceIndex);
+        }
+        for (MultiVariantObject obj : deltaVariant.modifiedObjects) {
+            obj.allocateVariantArrayElement(indexes, sourceIndex);
+        }
+        LOGGER.trace("Resetting delta variant array index {} ({} modified objects)", index, deltaVariant.modifiedObjects.size());
+        deltaVariant.modifiedObjects.clear();
+        return true;
+    }
+
+    private List<MultiVariantObject> getUntrackedObjects() {
+        UntrackedObjects objects = untrackedObjects;
+        int indexModCount = networkIndex.getModCount();
+        if (objects == null || objects.indexModCount != indexModCount) {
+            objects = new UntrackedObjects(indexModCount, networkIndex.getAll().stream()
+                    .filter(identifiable -> identifiable instanceof MultiVariantObject && isUntracked(identifiable))
+                    .map(MultiVariantObject.class::cast)
+                    .collect(Collectors.toList()));
+            untrackedObjects = objects;
+        }
+        return objects.objects;
+    }
+
+    /**
+     * Modifications of the variant dependent attributes of connectables, switches and HVDC lines are always notified,
+     * so they can be tracked. This is not the case for the network (components), voltage levels (topology caches),
+     * buses (attached terminals) and multi-variant extensions.
+     */
+    private static boolean isUntracked(Identifiable<?> identifiable) {
+        return identifiable instanceof NetworkImpl
+                || identifiable instanceof AbstractVoltageLevel
+                || identifiable instanceof AbstractBus
+                || identifiable.getExtensions().stream().anyMatch(MultiVariantObject.class::isInstance);
+    }
+
+    /**
+     * Record an update of an identifiable on the working variant.
+     */
+    void notifyUpdate(Identifiable<?> identifiable) {
+        if (deltaVariants.isEmpty() || !variantContext.isIndexSet()) {
+            return;
+        }
+        int index = variantContext.getVariantIndex();
+        DeltaVariant deltaVariant = deltaVariants.get(index);
+        if (deltaVariant != null) {
+            if (identifiable instanceof MultiVariantObject) {
+                deltaVariant.modifiedObjects.add((MultiVariantObject) identifiable);
+            }
+        } else {
+            invalidateDeltaVariantsOf(index);
+        }
+    }
+
+    /**
+     * Force the next overwrite of all delta variants to be a full copy, for instance because a multi-variant
+     * extension has been added.
+     */
+    void invalidateDeltaVariants() {
+        untrackedObjects = null;
+        for (DeltaVariant deltaVariant : deltaVariants.values()) {
+            deltaVariant.valid = false;
+        }
+    }
+
+    private void invalidateDeltaVariantsOf(int sourceIndex) {
+        for (DeltaVariant deltaVariant : deltaVariants.values()) {
+            if (deltaVariant.sourceIndex == sourceIndex) {
+                deltaVariant.valid = false;
             }
         }
     }
@@ -194,6 +398,8 @@ public class VariantManagerImpl implements VariantManager {
         }
         int index = getVariantIndex(variantId);
         id2index.remove(variantId);
+        deltaVariants.remove(index);
+        invalidateDeltaVariantsOf(index);
         LOGGER.debug("Removing variant '{}'", variantId);
         if (index == variantArraySize - 1) {
             // remove consecutive unsused index starting from the end
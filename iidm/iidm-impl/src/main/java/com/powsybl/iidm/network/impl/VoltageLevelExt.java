@@ -55,4 +55,11 @@ interface VoltageLevelExt extends VoltageLevel, MultiVariantObject {
     boolean disconnect(TerminalExt terminal);
 
     void invalidateCache();
+
+    /**
+     * Invalidate the cache after a change of the open or retained status of a switch.
+     */
+    default void invalidateCache(SwitchImpl aSwitch) {
+        invalidateCache();
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class IncrementalBusTopologyTest {
+
+    private static List<String> getBuses(Iterable<Bus> buses) {
+        List<String> result = new ArrayList<>();
+        for (Bus bus : buses) {
+            result.add(bus.getId() + " " + bus.getConnectedTerminalStream()
+                    .map(t -> t.getConnectable().getId())
+                    .sorted()
+                    .collect(Collectors.toList()));
+        }
+        return result;
+    }
+
+    private static Map<String, Bus> getBusesById(Network network) {
+        Map<String, Bus> buses = new HashMap<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            vl.getBusView().getBuses().forEach(bus -> buses.put(bus.getId(), bus));
+        }
+        return buses;
+    }
+
+    private static void assertSameTopology(Network expected, Network actual) {
+        for (VoltageLevel vl : actual.getVoltageLevels()) {
+            VoltageLevel expectedVl = expected.getVoltageLevel(vl.getId());
+            ((VoltageLevelExt) expectedVl).invalidateCache();
+            assertEquals(getBuses(expectedVl.getBusView().getBuses()), getBuses(vl.getBusView().getBuses()));
+            assertEquals(getBuses(expectedVl.getBusBreakerView().getBuses()), getBuses(vl.getBusBreakerView().getBuses()));
+        }
+    }
+
+    @Test
+    public void test() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Network otherNetwork = FourSubstationsNodeBreakerFactory.create();
+        List<Switch> switches = new ArrayList<>();
+        network.getSwitches().forEach(switches::add);
+        Random random = new Random(0);
+        int keptBusCount = 0;
+        for (int i = 0; i < 200; i++) {
+            Map<String, Bus> busesBefore = getBusesById(network);
+            Switch s = switches.get(random.nextInt(switches.size()));
+            if (i % 10 == 9) {
+                s.setRetained(!s.isRetained());
+                otherNetwork.getSwitch(s.getId()).setRetained(s.isRetained());
+            } else {
+                s.setOpen(!s.isOpen());
+                otherNetwork.getSwitch(s.getId()).setOpen(s.isOpen());
+            }
+            assertSameTopology(otherNetwork, network);
+
+            // buses are either kept or invalidated
+            Map<String, Bus> busesAfter = getBusesById(network);
+            for (Bus bus : busesBefore.values()) {
+                if (busesAfter.get(bus.getId()) == bus) {
+                    keptBusCount++;
+                    if (bus.getVoltageLevel() == s.getVoltageLevel()) {
+                        assertNotNull(bus.getConnectedComponent());
+                    }
+                } else {
+                    try {
+                        bus.getVoltageLevel();
+                        fail();
+                    } catch (PowsyblException ignored) {
+                        // invalidated
+                    }
+                }
+            }
+        }
+        assertTrue(keptBusCount > 0);
+    }
+
+    @Test
+    public void testKeptBus() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        VoltageLevel vl = network.getVoltageLevel("S1VL2");
+        Bus bus = vl.getBusView().getBuses().iterator().next();
+
+        // opening then closing the breaker of a generator splits it from the bus and merges it back
+        Switch breaker = network.getSwitch("S1VL2_GH1_BREAKER");
+        breaker.setOpen(true);
+        Bus bus2 = vl.getBusView().getBuses().iterator().next();
+        assertNotSame(bus, bus2);
+        breaker.setOpen(false);
+        assertNotSame(bus2, vl.getBusView().getBuses().iterator().next());
+
+        // the bus does not change when another voltage level changes, or when a switch change does not change nodes of
+        // the bus
+        Bus bus3 = vl.getBusView().getBuses().iterator().next();
+        network.getSwitch("S1VL1_LD1_BREAKER").setOpen(true);
+        assertSame(bus3, vl.getBusView().getBuses().iterator().next());
+        breaker.setRetained(true);
+        assertSame(bus3, vl.getBusView().getBuses().iterator().next());
+        assertEquals(bus3.getId(), vl.getBusView().getBus(bus3.getId()).getId());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.HvdcTestNetwork;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent <agent at local>
+ */
+public class IncrementalComponentsTest {
+
+    private static String toString(Component component) {
+        return component == null ? "null" : component.getNum() + "/" + component.getSize();
+    }
+
+    private static Map<String, String> getComponents(Network network) {
+        Map<String, String> components = new TreeMap<>();
+        for (Bus bus : network.getBusView().getBuses()) {
+            components.put(bus.getId(), toString(bus.getConnectedComponent()) + " " + toString(bus.getSynchronousComponent()));
+        }
+        for (Bus bus : network.getBusBreakerView().getBuses()) {
+            components.put("bb-" + bus.getId(), toString(bus.getConnectedComponent()) + " " + toString(bus.getSynchronousComponent()));
+        }
+        components.put("connected", String.valueOf(network.getBusView().getConnectedComponents().size()));
+        return components;
+    }
+
+    /**
+     * Check that incrementally updated components are the ones of a full computation.
+     */
+    private static Map<String, String> checkComponents(NetworkImpl network) {
+        Map<String, String> components = getComponents(network);
+        network.getConnectedComponentsManager().invalidate();
+        network.getSynchronousComponentsManager().invalidate();
+        assertEquals(getComponents(network), components);
+        return components;
+    }
+
+    @Test
+    public void testSwitches() {
+        NetworkImpl network = (NetworkImpl) FourSubstationsNodeBreakerFactory.create();
+        Map<String, String> initialComponents = checkComponents(network);
+        List<Switch> switches = new ArrayList<>();
+        network.getSwitches().forEach(switches::add);
+        for (Switch s : switches) {
+            s.setOpen(!s.isOpen());
+            checkComponents(network);
+            s.setOpen(!s.isOpen());
+            assertEquals(initialComponents, checkComponents(network));
+        }
+
+        // several changes between two updates, and only incremental updates, compared to another network where
+        // components are always fully computed
+        NetworkImpl otherNetwork = (NetworkImpl) FourSubstationsNodeBreakerFactory.create();
+        Random random = new Random(0);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 1 + i % 3; j++) {
+                Switch s = switches.get(random.nextInt(switches.size()));
+                s.setOpen(!s.isOpen());
+                otherNetwork.getSwitch(s.getId()).setOpen(s.isOpen());
+            }
+            otherNetwork.getConnectedComponentsManager().invalidate();
+            otherNetwork.getSynchronousComponentsManager().invalidate();
+            assertEquals(getComponents(otherNetwork), getComponents(network));
+        }
+    }
+
+    @Test
+    public void testSplitAndMerge() {
+        NetworkImpl network = (NetworkImpl) EurostagTutorialExample1Factory.create();
+        checkComponents(network);
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+
+        // two components of the same size, numbered by the position of their first bus
+        network.getLine("NHV1_NHV2_1").getTerminal1().disconnect();
+        network.getLine("NHV1_NHV2_2").getTerminal1().disconnect();
+        assertEquals(2, network.getBusView().getConnectedComponents().size());
+        assertEquals(0, network.getBusView().getBus("VLGEN_0").getConnectedComponent().getNum());
+        assertEquals(1, network.getBusView().getBus("VLLOAD_0").getConnectedComponent().getNum());
+        assertEquals(2, network.getBusView().getBus("VLLOAD_0").getConnectedComponent().getSize());
+        checkComponents(network);
+
+        network.getLine("NHV1_NHV2_2").getTerminal1().connect();
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+        checkComponents(network);
+    }
+
+    @Test
+    public void testHvdcLine() {
+        NetworkImpl network = (NetworkImpl) HvdcTestNetwork.createVsc();
+        checkComponents(network);
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+        assertEquals(1, network.getBusView().getBus("VL1_0").getSynchronousComponent().getSize());
+        network.getHvdcLine("L").remove();
+        assertEquals(2, network.getBusView().getConnectedComponents().size());
+        checkComponents(network);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Load;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class NetworkIndexTest {
+
+    private static <T extends Identifiable> T mock(Class<T> clazz, String id, String... aliases) {
+        T obj = Mockito.mock(clazz);
+        Mockito.when(obj.getId()).thenReturn(id);
+        Mockito.when(obj.getAliases()).thenReturn(new HashSet<>(Arrays.asList(aliases)));
+        return obj;
+    }
+
+    private static List<String> getIds(Collection<? extends Identifiable> objects) {
+        return objects.stream().map(Identifiable::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test() {
+        NetworkIndex index = new NetworkIndex();
+        List<Load> loads = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Load load = i % 10 == 0 ? mock(Load.class, "L" + i, "A" + i) : mock(Load.class, "L" + i);
+            index.checkAndAdd(load);
+            loads.add(load);
+        }
+        Generator generator = mock(Generator.class, "G");
+        index.checkAndAdd(generator);
+        assertEquals(1001, index.getAll().size());
+        assertEquals(1000, index.getAll(loads.get(0).getClass()).size());
+        assertSame(generator, index.get("G", Generator.class));
+        assertNull(index.get("G", Load.class));
+        assertSame(loads.get(10), index.get("A10"));
+        assertTrue(index.contains("A10"));
+
+        // removal of one load out of three, the other ones are still found by id and alias
+        List<Load> remainingLoads = new ArrayList<>();
+        for (int i = 0; i < loads.size(); i++) {
+            if (i % 3 == 0) {
+                index.remove(loads.get(i));
+            } else {
+                remainingLoads.add(loads.get(i));
+            }
+        }
+        for (int i = 0; i < loads.size(); i++) {
+            assertEquals(i % 3 != 0, index.contains("L" + i));
+            if (i % 10 == 0) {
+                assertEquals(i % 3 != 0, index.contains("A" + i));
+            }
+        }
+        Collection<? extends Load> indexedLoads = index.getAll(loads.get(0).getClass());
+        assertEquals(getIds(remainingLoads), getIds(indexedLoads));
+        assertEquals(getIds(remainingLoads), indexedLoads.stream().map(Identifiable::getId).collect(Collectors.toList()));
+
+        // handles are reused, and holes compacted, in insertion order
+        for (int i = 1000; i < 2000; i++) {
+            Load load = mock(Load.class, "L" + i);
+            index.checkAndAdd(load);
+            remainingLoads.add(load);
+        }
+        assertEquals(getIds(remainingLoads), getIds(indexedLoads));
+        assertSame(remainingLoads.get(0), index.get("L1"));
+        assertEquals(remainingLoads.size() + 1, index.getAll().size());
+    }
+
+    @Test
+    public void testRemoveDuringIteration() {
+        NetworkIndex index = new NetworkIndex();
+        for (int i = 0; i < 100; i++) {
+            index.checkAndAdd(mock(Load.class, "L" + i));
+        }
+        Collection<? extends Identifiable> loads = index.getAll(index.get("L0").getClass());
+        int count = 0;
+        for (Identifiable<?> load : loads) {
+            index.remove(load);
+            count++;
+        }
+        assertEquals(100, count);
+        assertTrue(loads.isEmpty());
+        assertTrue(index.getAll().isEmpty());
+    }
+
+    @Test
+    public void testRemoveDuringStream() {
+        NetworkIndex index = new NetworkIndex();
+        for (int i = 0; i < 100; i++) {
+            index.checkAndAdd(mock(Load.class, "L" + i));
+        }
+        Collection<? extends Identifiable> loads = index.getAll(index.get("L0").getClass());
+        // the stream is created without hole, and the removed loads are skipped
+        List<String> ids = loads.stream()
+                .peek(load -> {
+                    if (load.getId().equals("L0")) {
+                        index.remove(index.get("L1"));
+                    }
+                })
+                .map(Identifiable::getId)
+                .collect(Collectors.toList());
+        assertEquals(99, ids.size());
+        assertFalse(ids.contains("L1"));
+
+        index.remove(index.get("L2"));
+        assertEquals(98, loads.parallelStream().map(Identifiable::getId).distinct().count());
+        assertEquals(getIds(loads), loads.parallelStream().map(Identifiable::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testAliases() {
+        NetworkIndex index = new NetworkIndex();
+        Load load1 = mock(Load.class, "L1", "A1");
+        Load load2 = mock(Load.class, "L2");
+        index.checkAndAdd(load1);
+        index.checkAndAdd(load2);
+        assertFalse(index.addAlias(load1, "A1"));
+        assertFalse(index.addAlias(load1, "L1"));
+        assertTrue(index.addAlias(load2, "A2"));
+        assertSame(load2, index.get("A2"));
+        try {
+            index.addAlias(load2, "A1");
+            fail();
+        } catch (PowsyblException e) {
+            assertTrue(e.getMessage().contains("alias already refers to object"));
+        }
+        try {
+            index.checkAndAdd(mock(Load.class, "L1"));
+            fail();
+        } catch (PowsyblException e) {
+            assertTrue(e.getMessage().endsWith("'L1' already exists"));
+        }
+        try {
+            index.removeAlias(load1, "A2");
+            fail();
+        } catch (PowsyblException e) {
+            assertEquals("Alias 'A2' do not correspond to object 'L1'", e.getMessage());
+        }
+        index.removeAlias(load2, "A2");
+        assertNull(index.get("A2"));
+    }
+}
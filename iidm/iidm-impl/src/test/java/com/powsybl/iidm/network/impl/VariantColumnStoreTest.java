@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class VariantColumnStoreTest {
+
+    @Test
+    public void testStore() {
+        VariantColumnStore store = new VariantColumnStore(2, 1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, store.addRow(i, -i));
+        }
+        store.extendVariantArraySize(1, 2, 0);
+        assertEquals(50, store.set(0, 1, 50, 500), 0);
+        assertEquals(500, store.get(0, 1, 50), 0);
+        assertEquals(50, store.get(0, 2, 50), 0);
+        assertEquals(-99, store.get(1, 2, 99), 0);
+
+        // a released row is reused, and initialized for all the variants, its values are moved to another store
+        VariantColumnStore removed = store.removeRow(10);
+        assertEquals(10, store.addRow(1000, 2000));
+        assertEquals(10, removed.get(0, 2, 0), 0);
+        assertEquals(-10, removed.get(1, 1, 0), 0);
+        for (int variantIndex = 0; variantIndex < 3; variantIndex++) {
+            assertEquals(1000, store.get(0, variantIndex, 10), 0);
+            assertEquals(2000, store.get(1, variantIndex, 10), 0);
+        }
+
+        // deleted variants are reallocated from their source
+        store.deleteVariantArrayElement(2);
+        store.allocateVariantArrayElement(new int[] {2}, 1);
+        assertEquals(500, store.get(0, 2, 50), 0);
+        store.allocateVariantArrayElement(new int[] {1}, 0);
+        assertEquals(50, store.get(0, 1, 50), 0);
+        store.reduceVariantArraySize(2);
+        try {
+            store.get(0, 1, 0);
+            fail();
+        } catch (ArrayIndexOutOfBoundsException ignored) {
+            // removed variant
+        }
+    }
+
+    @Test
+    public void testVariants() {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager variantManager = network.getVariantManager();
+        Generator generator = network.getGenerator("GEN");
+        Load load = network.getLoad("LOAD");
+        Terminal terminal = network.getLine("NHV1_NHV2_1").getTerminal1();
+        terminal.setP(10).setQ(5);
+
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList("v1", "v2", "v3"));
+        variantManager.setWorkingVariant("v2");
+        generator.setTargetP(100).setTargetV(400);
+        load.setP0(50);
+        terminal.setP(20);
+        variantManager.setWorkingVariant("v1");
+        assertEquals(607, generator.getTargetP(), 0);
+        assertEquals(600, load.getP0(), 0);
+        assertEquals(10, terminal.getP(), 0);
+        assertEquals(5, terminal.getQ(), 0);
+
+        // recycled variant index
+        variantManager.removeVariant("v1");
+        variantManager.cloneVariant("v2", "v4");
+        variantManager.setWorkingVariant("v4");
+        assertEquals(100, generator.getTargetP(), 0);
+        assertEquals(400, generator.getTargetV(), 0);
+        assertEquals(50, load.getP0(), 0);
+        assertEquals(20, terminal.getP(), 0);
+
+        // overwritten variant
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v4", true);
+        assertEquals(607, generator.getTargetP(), 0);
+        assertEquals(10, terminal.getP(), 0);
+
+        // a new load has the same values in all the variants
+        Load load2 = network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(1)
+                .setQ0(2)
+                .add();
+        variantManager.setWorkingVariant("v2");
+        assertEquals(1, load2.getP0(), 0);
+        assertEquals(2, load2.getQ0(), 0);
+        assertTrue(Double.isNaN(load2.getTerminal().getP()));
+
+        // a removed load can still be read, even if its storage is reused
+        load.remove();
+        Load load3 = network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD3")
+                .setBus("NLOAD")
+                .setP0(3)
+                .setQ0(4)
+                .add();
+        assertEquals(50, load.getP0(), 0);
+        assertEquals(3, load3.getP0(), 0);
+    }
+}
@@ -12,9 +12,11 @@ import com.powsybl.commons.extensions.AbstractExtendable;
 import com.powsybl.commons.extensions.AbstractExtension;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
 import gnu.trove.list.array.TDoubleArrayList;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
@@ -347,6 +349,100 @@ public class VariantManagerImplTest {
         assertEquals(605.0, generator.getTargetP(), 0.0);
     }
 
+    @Test
+    public void deltaVariant() {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager manager = network.getVariantManager();
+        manager.cloneDeltaVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList("d1", "d2"));
+        assertEquals(Sets.newHashSet(VariantManagerConstants.INITIAL_VARIANT_ID, "d1", "d2"), manager.getVariantIds());
+
+        Generator generator = network.getGenerator("GEN");
+        Line line = network.getLine("NHV1_NHV2_1");
+        Bus bus = network.getBusBreakerView().getBus("NHV1");
+        Load load = network.getLoad("LOAD");
+        LoadExtension loadExtension = new LoadExtension(load, 100);
+        load.addExtension(LoadExtension.class, loadExtension);
+        int terminalCount = bus.getConnectedTerminalCount();
+
+        for (int i = 0; i < 2; i++) {
+            manager.setWorkingVariant("d1");
+            generator.setTargetP(500);
+            line.getTerminal1().disconnect();
+            loadExtension.setValue(200);
+            assertEquals(terminalCount - 1, bus.getConnectedTerminalCount());
+
+            // the other delta variant is not impacted
+            manager.setWorkingVariant("d2");
+            assertEquals(607, generator.getTargetP(), 0);
+            assertTrue(line.getTerminal1().isConnected());
+
+            manager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "d1", true);
+            manager.setWorkingVariant("d1");
+            assertEquals(607, generator.getTargetP(), 0);
+            assertTrue(line.getTerminal1().isConnected());
+            assertEquals(100, loadExtension.getValue(), 0);
+            assertEquals(terminalCount, bus.getConnectedTerminalCount());
+        }
+    }
+
+    @Test
+    public void deltaVariantSourceModification() {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager manager = network.getVariantManager();
+        manager.cloneDeltaVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Collections.singletonList("d1"));
+
+        Load load = network.getLoad("LOAD");
+        manager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        load.setP0(700);
+
+        // the load has not been modified in the delta variant but must be copied anyway
+        manager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "d1", true);
+        manager.setWorkingVariant("d1");
+        assertEquals(700, load.getP0(), 0);
+
+        // a delta variant overwritten from another source is fully copied
+        manager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v2");
+        manager.setWorkingVariant("v2");
+        load.setP0(800);
+        manager.cloneVariant("v2", "d1", true);
+        manager.setWorkingVariant("d1");
+        assertEquals(800, load.getP0(), 0);
+
+        // structural changes lead to a full copy
+        manager.setWorkingVariant("v2");
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(1)
+                .setQ0(0)
+                .add();
+        load.setP0(900);
+        manager.cloneVariant("v2", "d1", true);
+        manager.setWorkingVariant("d1");
+        assertEquals(900, load.getP0(), 0);
+
+        manager.removeVariant("d1");
+        assertEquals(Sets.newHashSet(VariantManagerConstants.INITIAL_VARIANT_ID, "v2"), manager.getVariantIds());
+    }
+
+    @Test
+    public void deltaVariantNodeBreaker() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        VariantManager manager = network.getVariantManager();
+        manager.cloneDeltaVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Collections.singletonList("d1"));
+
+        VoltageLevel vl = network.getVoltageLevel("S1VL2");
+        Switch coupler = network.getSwitch("S1VL2_COUPLER");
+        manager.setWorkingVariant("d1");
+        int busCount = vl.getBusView().getBusStream().mapToInt(b -> 1).sum();
+        coupler.setOpen(true);
+        assertEquals(busCount + 1, vl.getBusView().getBusStream().mapToInt(b -> 1).sum());
+
+        manager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "d1", true);
+        assertFalse(coupler.isOpen());
+        assertEquals(busCount, vl.getBusView().getBusStream().mapToInt(b -> 1).sum());
+    }
+
     @Test
     public void testVariantIndexKept() throws Exception {
         NetworkImpl network = (NetworkImpl) Network.create("testVariantIndexKept", "no-format");
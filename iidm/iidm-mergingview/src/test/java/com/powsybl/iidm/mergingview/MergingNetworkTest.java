@@ -305,7 +305,7 @@ public class MergingNetworkTest {
         assertEquals(1, mergingView.getConnectableCount(DanglingLine.class));
 
         // Connectables
-        assertEquals(Arrays.asList("LOAD", "NHV1_NHV2_2", "NGEN_NHV1", "DL1 + DL2", "NHV2_NLOAD", "GEN", "G", "DL"),
+        assertEquals(Arrays.asList("DL1 + DL2", "NHV1_NHV2_2", "NGEN_NHV1", "NHV2_NLOAD", "LOAD", "GEN", "G", "DL"),
                 mergingView.getConnectableStream().map(Connectable::getId).collect(Collectors.toList()));
         assertEquals(Iterables.toArray(mergingView.getConnectables(), Connectable.class),
                 mergingView.getConnectableStream().toArray());
@@ -12,8 +12,10 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import com.powsybl.iidm.network.*;
 import org.slf4j.Logger;
@@ -59,12 +61,15 @@ public final class BusesValidation {
         Objects.requireNonNull(config);
         Objects.requireNonNull(busesWriter);
         LOGGER.info("Checking buses of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), busesWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         return network.getBusView()
                       .getBusStream()
                       .sorted(Comparator.comparing(Bus::getId))
-                      .map(bus -> checkBuses(bus, config, busesWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+                      .map(bus -> new EquipmentCheck(bus.getId(), () -> Collections.singleton(bus.getVoltageLevel().getId()),
+                          writer -> checkBuses(bus, config, writer)));
     }
 
     public boolean checkBuses(Bus bus, ValidationConfig config, Writer writer) {
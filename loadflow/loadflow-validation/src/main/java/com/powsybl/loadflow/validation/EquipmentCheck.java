@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The check of a single equipment of a validation type, run by the validators in the order of their equipment
+ * stream, or concurrently by the {@link ValidationEngine}.
+ *
+ * @author agent <agent at local>
+ */
+final class EquipmentCheck {
+
+    private final String id;
+
+    private final Supplier<Set<String>> voltageLevelIds;
+
+    private final Predicate<ValidationWriter> check;
+
+    /**
+     * Create the check of an equipment depending on the state of the whole network.
+     */
+    EquipmentCheck(String id, Predicate<ValidationWriter> check) {
+        this(id, null, check);
+    }
+
+    /**
+     * Create the check of an equipment depending only on the state of the supplied voltage levels.
+     */
+    EquipmentCheck(String id, Supplier<Set<String>> voltageLevelIds, Predicate<ValidationWriter> check) {
+        this.id = Objects.requireNonNull(id);
+        this.voltageLevelIds = voltageLevelIds;
+        this.check = Objects.requireNonNull(check);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Get the ids of the voltage levels whose state the check depends on, or null if it depends on the state of
+     * the whole network. The check also depends on the connected components, which are not bound to voltage levels.
+     */
+    Set<String> getVoltageLevelIds() {
+        return voltageLevelIds != null ? Collections.unmodifiableSet(voltageLevelIds.get()) : null;
+    }
+
+    boolean check(ValidationWriter writer) {
+        return check.test(writer);
+    }
+
+    static Set<String> getVoltageLevelIds(Terminal... terminals) {
+        Set<String> ids = new HashSet<>();
+        for (Terminal terminal : terminals) {
+            if (terminal != null) {
+                ids.add(terminal.getVoltageLevel().getId());
+            }
+        }
+        return ids;
+    }
+
+    static boolean checkAll(Stream<EquipmentCheck> checks, ValidationWriter writer) {
+        return checks.map(check -> check.check(writer))
+                     .reduce(Boolean::logicalAnd)
+                     .orElse(true);
+    }
+}
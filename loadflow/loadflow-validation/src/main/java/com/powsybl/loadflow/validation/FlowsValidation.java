@@ -14,6 +14,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -188,17 +189,21 @@ public final class FlowsValidation {
         Objects.requireNonNull(flowsWriter);
         LOGGER.info("Checking flows of network {}", network.getId());
 
-        boolean linesValidated = network.getLineStream()
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), flowsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
+        Stream<EquipmentCheck> linesChecks = network.getLineStream()
                 .sorted(Comparator.comparing(Line::getId))
-                .map(l -> checkFlows(l, config, flowsWriter))
-                .reduce(Boolean::logicalAnd).orElse(true);
+                .map(l -> new EquipmentCheck(l.getId(), () -> EquipmentCheck.getVoltageLevelIds(l.getTerminal1(), l.getTerminal2()),
+                    writer -> checkFlows(l, config, writer)));
 
-        boolean transformersValidated = network.getTwoWindingsTransformerStream()
+        Stream<EquipmentCheck> transformersChecks = network.getTwoWindingsTransformerStream()
                 .sorted(Comparator.comparing(TwoWindingsTransformer::getId))
-                .map(t -> checkFlows(t, config, flowsWriter))
-                .reduce(Boolean::logicalAnd).orElse(true);
+                .map(t -> new EquipmentCheck(t.getId(), () -> EquipmentCheck.getVoltageLevelIds(t.getTerminal1(), t.getTerminal2()),
+                    writer -> checkFlows(t, config, writer)));
 
-        return linesValidated && transformersValidated;
+        return Stream.concat(linesChecks, transformersChecks);
     }
 
 }
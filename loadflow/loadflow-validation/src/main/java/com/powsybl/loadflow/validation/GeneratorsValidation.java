@@ -14,6 +14,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,13 +62,15 @@ public final class GeneratorsValidation {
         Objects.requireNonNull(config);
         Objects.requireNonNull(generatorsWriter);
         LOGGER.info("Checking generators of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), generatorsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         BalanceTypeGuesser guesser = new BalanceTypeGuesser(network, config.getThreshold());
         LOGGER.info("Using {} balance type", guesser.getBalanceType());
         return network.getGeneratorStream()
                       .sorted(Comparator.comparing(Generator::getId))
-                      .map(gen -> checkGenerators(gen, config, generatorsWriter, guesser))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+                      .map(gen -> new EquipmentCheck(gen.getId(), writer -> checkGenerators(gen, config, writer, guesser)));
     }
 
     public boolean checkGenerators(Generator gen, ValidationConfig config, Writer writer) {
@@ -14,6 +14,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
@@ -60,11 +61,14 @@ public final class ShuntCompensatorsValidation {
         Objects.requireNonNull(config);
         Objects.requireNonNull(shuntsWriter);
         LOGGER.info("Checking shunt compensators of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), shuntsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         return network.getShuntCompensatorStream()
                 .sorted(Comparator.comparing(ShuntCompensator::getId))
-                .map(shunt -> checkShunts(shunt, config, shuntsWriter))
-                .reduce(Boolean::logicalAnd)
-                .orElse(true);
+                .map(shunt -> new EquipmentCheck(shunt.getId(), () -> EquipmentCheck.getVoltageLevelIds(shunt.getTerminal()),
+                    writer -> checkShunts(shunt, config, writer)));
     }
 
     public boolean checkShunts(ShuntCompensator shunt, ValidationConfig config, Writer writer) {
@@ -14,6 +14,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,11 +63,14 @@ public final class StaticVarCompensatorsValidation {
         Objects.requireNonNull(config);
         Objects.requireNonNull(svcsWriter);
         LOGGER.info("Checking static var compensators of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), svcsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         return network.getStaticVarCompensatorStream()
                       .sorted(Comparator.comparing(StaticVarCompensator::getId))
-                      .map(svc -> checkSVCs(svc, config, svcsWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+                      .map(svc -> new EquipmentCheck(svc.getId(), () -> EquipmentCheck.getVoltageLevelIds(svc.getTerminal(), svc.getRegulatingTerminal()),
+                          writer -> checkSVCs(svc, config, writer)));
     }
 
     public boolean checkSVCs(StaticVarCompensator svc, ValidationConfig config, Writer writer) {
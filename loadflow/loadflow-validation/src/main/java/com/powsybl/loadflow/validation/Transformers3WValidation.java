@@ -12,6 +12,7 @@ import java.io.Writer;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,11 +44,14 @@ public final class Transformers3WValidation extends AbstractTransformersValidati
         Objects.requireNonNull(twtsWriter);
 
         LOGGER.info("Checking 3W transformers of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), twtsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         return network.getThreeWindingsTransformerStream()
                 .sorted(Comparator.comparing(ThreeWindingsTransformer::getId))
-                .map(twt -> checkTransformer(twt, config, twtsWriter))
-                .reduce(Boolean::logicalAnd)
-                .orElse(true);
+                .map(twt -> new EquipmentCheck(twt.getId(), () -> EquipmentCheck.getVoltageLevelIds(twt.getLeg1().getTerminal(), twt.getLeg2().getTerminal(), twt.getLeg3().getTerminal()),
+                    writer -> checkTransformer(twt, config, writer)));
     }
 
     public boolean checkTransformer(ThreeWindingsTransformer twt, ValidationConfig config, Writer writer) {
@@ -12,6 +12,7 @@ import java.io.Writer;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,12 +47,15 @@ public final class TransformersValidation extends AbstractTransformersValidation
         Objects.requireNonNull(config);
         Objects.requireNonNull(twtsWriter);
         LOGGER.info("Checking transformers of network {}", network.getId());
+        return EquipmentCheck.checkAll(getEquipmentChecks(network, config), twtsWriter);
+    }
+
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
         return network.getTwoWindingsTransformerStream()
                       .filter(TransformersValidation::filterTwt)
                       .sorted(Comparator.comparing(TwoWindingsTransformer::getId))
-                      .map(twt -> checkTransformer(twt, config, twtsWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+                      .map(twt -> new EquipmentCheck(twt.getId(), () -> EquipmentCheck.getVoltageLevelIds(twt.getTerminal1(), twt.getTerminal2(), twt.getRatioTapChanger().getRegulationTerminal()),
+                          writer -> checkTransformer(twt, config, writer)));
     }
 
     private static boolean filterTwt(TwoWindingsTransformer twt) {
@@ -0,0 +1,414 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.Branch.Side;
+import com.powsybl.iidm.network.StaticVarCompensator.RegulationMode;
+import com.powsybl.iidm.network.util.TwtData;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Validation engine running the checks of a {@link ValidationType} concurrently: the equipments are partitioned in
+ * chunks validated on an executor, each chunk recording its rows in its own writer, and the rows are then written to
+ * the target {@link ValidationWriter} by the calling thread, in the same order as a sequential validation.
+ * <p>
+ * In incremental mode, the engine only revalidates the equipments whose state may have changed since the last
+ * validation of the same type, on the same variant of the same network. The changes are recorded by a
+ * {@link NetworkListener} registered on the validated network: an update of an equipment, a bus or a voltage level
+ * invalidates the checks depending on its voltage levels, see {@link EquipmentCheck#getVoltageLevelIds()}, and the
+ * checks depending on network-wide state, such as the generators ones with their balance type, are run again as soon
+ * as anything was updated. All the checks are run again after a topology change, which may change the buses and the
+ * connected components, after the creation or the removal of an identifiable, after the validated variant is
+ * overwritten or removed, or when the working variant or the validation config differ from the last validation.
+ * Only the rows of the revalidated equipments are written, followed by a comment giving the number of the other ones,
+ * see {@link ValidationWriter#writeComment(String)}. All the rows are written when the results are compared, see
+ * {@link ValidationConfig#isCompareResults()}, the rows of the other equipments being the ones of the last validation.
+ *
+ * @author agent <agent at local>
+ */
+public class ValidationEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationEngine.class);
+
+    /**
+     * Attributes computed lazily when validating, whose updates do not change the validated state.
+     */
+    private static final Set<String> COMPUTED_ATTRIBUTES = ImmutableSet.of("connectedComponentNumber", "synchronousComponentNumber");
+
+    private static final Set<String> TOPOLOGY_ATTRIBUTES = ImmutableSet.of("connected", "connectableBusId");
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(ValidationWriter writer) throws IOException;
+    }
+
+    private static final class EquipmentResult {
+
+        private final boolean validated;
+
+        private final List<RowWriter> rows;
+
+        private EquipmentResult(boolean validated, List<RowWriter> rows) {
+            this.validated = validated;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * The results of the last validation of a type, and the changes of the network since.
+     */
+    private static final class ValidationState {
+
+        private final String variantId;
+
+        private final ValidationConfig config;
+
+        private final Map<String, EquipmentResult> results;
+
+        private boolean networkChanged = false;
+
+        private boolean updated = false;
+
+        private final Set<String> updatedVoltageLevelIds = new HashSet<>();
+
+        private ValidationState(String variantId, ValidationConfig config, Map<String, EquipmentResult> results) {
+            this.variantId = variantId;
+            this.config = config;
+            this.results = results;
+        }
+
+        /**
+         * Get the last result of an equipment, or null if its check has to be run again.
+         */
+        private EquipmentResult getResult(EquipmentCheck equipment) {
+            EquipmentResult result = results.get(equipment.getId());
+            if (result == null) {
+                return null;
+            }
+            Set<String> voltageLevelIds = equipment.getVoltageLevelIds();
+            boolean changed = voltageLevelIds != null ? !Collections.disjoint(voltageLevelIds, updatedVoltageLevelIds) : updated;
+            return changed ? null : result;
+        }
+    }
+
+    /**
+     * Records the changes of the validated network in the states of the last validations.
+     */
+    private final class ChangeListener implements NetworkListener {
+
+        private void networkChanged(String variantId) {
+            for (ValidationState state : states.values()) {
+                if (variantId == null || variantId.equals(state.variantId)) {
+                    state.networkChanged = true;
+                }
+            }
+        }
+
+        private void update(Identifiable<?> identifiable, String attribute, String variantId) {
+            if (COMPUTED_ATTRIBUTES.contains(attribute)) {
+                return;
+            }
+            Set<String> voltageLevelIds;
+            if (identifiable instanceof Switch || TOPOLOGY_ATTRIBUTES.contains(attribute)) {
+                voltageLevelIds = null;
+            } else if (identifiable instanceof Connectable) {
+                voltageLevelIds = ((Connectable<?>) identifiable).getTerminals().stream()
+                        .map(terminal -> terminal.getVoltageLevel().getId())
+                        .collect(Collectors.toSet());
+            } else if (identifiable instanceof Bus) {
+                voltageLevelIds = Collections.singleton(((Bus) identifiable).getVoltageLevel().getId());
+            } else if (identifiable instanceof VoltageLevel) {
+                voltageLevelIds = Collections.singleton(identifiable.getId());
+            } else {
+                voltageLevelIds = null;
+            }
+            if (voltageLevelIds == null) {
+                networkChanged(variantId);
+                return;
+            }
+            for (ValidationState state : states.values()) {
+                if (variantId == null || variantId.equals(state.variantId)) {
+                    state.updated = true;
+                    state.updatedVoltageLevelIds.addAll(voltageLevelIds);
+                }
+            }
+        }
+
+        @Override
+        public void onCreation(Identifiable identifiable) {
+            networkChanged(null);
+        }
+
+        @Override
+        public void onRemoval(Identifiable identifiable) {
+            networkChanged(null);
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+            update(identifiable, attribute, null);
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            update(identifiable, attribute, variantId);
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            networkChanged(targetVariantId);
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            networkChanged(variantId);
+        }
+    }
+
+    private final Executor executor;
+
+    private final int parallelism;
+
+    private final boolean incremental;
+
+    private final NetworkListener listener = new ChangeListener();
+
+    private Network network;
+
+    private final Map<ValidationType, ValidationState> states = new EnumMap<>(ValidationType.class);
+
+    public ValidationEngine() {
+        this(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    /**
+     * @param parallelism the maximum number of chunks the equipments of a validation are partitioned in
+     * @param incremental if true, only the equipments whose state may have changed since the last validation of the
+     *                    same type are revalidated
+     */
+    public ValidationEngine(Executor executor, int parallelism, boolean incremental) {
+        this.executor = Objects.requireNonNull(executor);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.incremental = incremental;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Forget the last validations, so that all the equipments are validated by the next ones, and stop listening to
+     * the changes of the validated network.
+     */
+    public void reset() {
+        if (network != null) {
+            network.removeListener(listener);
+            network = null;
+        }
+        states.clear();
+    }
+
+    /**
+     * Get the state of the last validation of a type whose results are still valid for the working variant, or null
+     * if all the equipments have to be validated.
+     */
+    private ValidationState getLastState(ValidationType validationType, Network network, ValidationConfig config) {
+        if (network != this.network) {
+            reset();
+            this.network = network;
+            network.addListener(listener);
+        }
+        ValidationState state = states.get(validationType);
+        if (state == null || state.networkChanged || state.config != config
+                || !state.variantId.equals(network.getVariantManager().getWorkingVariantId())) {
+            return null;
+        }
+        return state;
+    }
+
+    public boolean check(ValidationType validationType, Network network, ValidationConfig config, ValidationWriter validationWriter) {
+        Objects.requireNonNull(validationType);
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(validationWriter);
+
+        // the bus view and the connected components are computed lazily, and are not safe to compute concurrently
+        network.getBusView().getBusStream().findFirst().ifPresent(Bus::isInMainConnectedComponent);
+
+        List<EquipmentCheck> equipments = validationType.getEquipmentChecks(network, config).collect(Collectors.toList());
+        ValidationState lastState = incremental ? getLastState(validationType, network, config) : null;
+        EquipmentResult[] results = new EquipmentResult[equipments.size()];
+        List<EquipmentCheck> revalidated = new ArrayList<>(equipments.size());
+        for (int i = 0; i < equipments.size(); i++) {
+            results[i] = lastState != null ? lastState.getResult(equipments.get(i)) : null;
+            if (results[i] == null) {
+                revalidated.add(equipments.get(i));
+            }
+        }
+        LOGGER.info("Checking {} of {} equipments of network {} - validation type: {}", revalidated.size(), equipments.size(),
+                network.getId(), validationType);
+        Iterator<EquipmentResult> revalidatedResults = validate(network, revalidated).iterator();
+
+        boolean writeAll = !incremental || config.isCompareResults();
+        Map<String, EquipmentResult> currentResults = incremental ? new HashMap<>() : null;
+        boolean validated = true;
+        try {
+            for (int i = 0; i < equipments.size(); i++) {
+                boolean unchanged = results[i] != null;
+                if (!unchanged) {
+                    results[i] = revalidatedResults.next();
+                }
+                if (incremental) {
+                    currentResults.put(equipments.get(i).getId(), results[i]);
+                }
+                validated &= results[i].validated;
+                if (writeAll || !unchanged) {
+                    for (RowWriter row : results[i].rows) {
+                        row.write(validationWriter);
+                    }
+                }
+            }
+            if (!writeAll && revalidated.size() < equipments.size()) {
+                validationWriter.writeComment((equipments.size() - revalidated.size()) + " unchanged equipments omitted");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (incremental) {
+            states.put(validationType, new ValidationState(network.getVariantManager().getWorkingVariantId(), config, currentResults));
+        }
+        return validated;
+    }
+
+    private List<EquipmentResult> validate(Network network, List<EquipmentCheck> equipments) {
+        int chunkCount = Math.min(parallelism, equipments.size());
+        if (chunkCount <= 1) {
+            return validateChunk(equipments);
+        }
+        int chunkSize = (equipments.size() + chunkCount - 1) / chunkCount;
+        String variantId = network.getVariantManager().getWorkingVariantId();
+        List<CompletableFuture<List<EquipmentResult>>> futures = Lists.partition(equipments, chunkSize).stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> {
+                    if (network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+                        network.getVariantManager().setWorkingVariant(variantId);
+                    }
+                    return validateChunk(chunk);
+                }, executor))
+                .collect(Collectors.toList());
+        List<EquipmentResult> results = new ArrayList<>(equipments.size());
+        for (CompletableFuture<List<EquipmentResult>> future : futures) {
+            try {
+                results.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private static List<EquipmentResult> validateChunk(List<EquipmentCheck> equipments) {
+        List<EquipmentResult> results = new ArrayList<>(equipments.size());
+        ValidationRecorder recorder = new ValidationRecorder();
+        for (EquipmentCheck equipment : equipments) {
+            recorder.rows = new ArrayList<>(1);
+            boolean validated = equipment.check(recorder);
+            results.add(new EquipmentResult(validated, recorder.rows));
+        }
+        return results;
+    }
+
+    /**
+     * A validation writer recording the rows of a chunk of equipments, to write them later to the target writer.
+     */
+    private static final class ValidationRecorder implements ValidationWriter {
+
+        private List<RowWriter> rows;
+
+        @Override
+        public void write(String branchId, double p1, double p1Calc, double q1, double q1Calc, double p2, double p2Calc, double q2, double q2Calc,
+                          double r, double x, double g1, double g2, double b1, double b2, double rho1, double rho2, double alpha1, double alpha2,
+                          double u1, double u2, double theta1, double theta2, double z, double y, double ksi, int phaseAngleClock, boolean connected1, boolean connected2,
+                          boolean mainComponent1, boolean mainComponent2, boolean validated) {
+            rows.add(w -> w.write(branchId, p1, p1Calc, q1, q1Calc, p2, p2Calc, q2, q2Calc, r, x, g1, g2, b1, b2, rho1, rho2, alpha1, alpha2,
+                                  u1, u2, theta1, theta2, z, y, ksi, phaseAngleClock, connected1, connected2, mainComponent1, mainComponent2, validated));
+        }
+
+        @Override
+        public void write(String generatorId, double p, double q, double v, double targetP, double targetQ, double targetV, double expectedP, boolean connected,
+                          boolean voltageRegulatorOn, double minP, double maxP, double minQ, double maxQ, boolean mainComponent, boolean validated) {
+            rows.add(w -> w.write(generatorId, p, q, v, targetP, targetQ, targetV, expectedP, connected, voltageRegulatorOn, minP, maxP, minQ, maxQ,
+                                  mainComponent, validated));
+        }
+
+        @Override
+        public void write(String busId, double incomingP, double incomingQ, double loadP, double loadQ, double genP, double genQ, double batP, double batQ,
+                          double shuntP, double shuntQ, double svcP, double svcQ, double vscCSP, double vscCSQ, double lineP, double lineQ,
+                          double danglingLineP, double danglingLineQ, double twtP, double twtQ, double tltP, double tltQ, boolean mainComponent,
+                          boolean validated) {
+            rows.add(w -> w.write(busId, incomingP, incomingQ, loadP, loadQ, genP, genQ, batP, batQ, shuntP, shuntQ, svcP, svcQ, vscCSP, vscCSQ,
+                                  lineP, lineQ, danglingLineP, danglingLineQ, twtP, twtQ, tltP, tltQ, mainComponent, validated));
+        }
+
+        @Override
+        public void write(String svcId, double p, double q, double vControlled, double vController, double nominalVcontroller, double reactivePowerSetpoint, double voltageSetpoint,
+                          boolean connected, RegulationMode regulationMode, double bMin, double bMax, boolean mainComponent, boolean validated) {
+            rows.add(w -> w.write(svcId, p, q, vControlled, vController, nominalVcontroller, reactivePowerSetpoint, voltageSetpoint, connected,
+                                  regulationMode, bMin, bMax, mainComponent, validated));
+        }
+
+        @Override
+        public void write(String shuntId, double q, double expectedQ, double p, int currentSectionCount, int maximumSectionCount, double bPerSection,
+                          double v, boolean connected, double qMax, double nominalV, boolean mainComponent, boolean validated) {
+            rows.add(w -> w.write(shuntId, q, expectedQ, p, currentSectionCount, maximumSectionCount, bPerSection, v, connected, qMax, nominalV,
+                                  mainComponent, validated));
+        }
+
+        @Override
+        public void write(String twtId, double error, double upIncrement, double downIncrement, double rho, double rhoPreviousStep, double rhoNextStep,
+                          int tapPosition, int lowTapPosition, int highTapPosition, double targetV, Side regulatedSide, double v, boolean connected,
+                          boolean mainComponent, boolean validated) {
+            rows.add(w -> w.write(twtId, error, upIncrement, downIncrement, rho, rhoPreviousStep, rhoNextStep, tapPosition, lowTapPosition,
+                                  highTapPosition, targetV, regulatedSide, v, connected, mainComponent, validated));
+        }
+
+        @Override
+        public void write(String twtId, TwtData twtData, boolean validated) {
+            rows.add(w -> w.write(twtId, twtData, validated));
+        }
+
+        @Override
+        public void setValidationCompleted() {
+            // nothing to do, rows are written to the target writer
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
@@ -202,10 +202,11 @@ public class ValidationTool implements Tool {
     }
 
     private void runValidation(Network network, ValidationConfig config, Set<ValidationType> validationTypes, ValidationWriters validationWriter, ToolRunningContext context) {
+        ValidationEngine engine = new ValidationEngine();
         validationTypes.forEach(validationType -> {
             context.getOutputStream().println("Validate load-flow results of network " + network.getId()
                                               + " - validation type: " + validationType
-                                              + " - result: " + (validationType.check(network, config, validationWriter.getWriter(validationType)) ? "success" : "fail"));
+                                              + " - result: " + (engine.check(validationType, network, config, validationWriter.getWriter(validationType)) ? "success" : "fail"));
             validationWriter.getWriter(validationType).setValidationCompleted();
         });
     }
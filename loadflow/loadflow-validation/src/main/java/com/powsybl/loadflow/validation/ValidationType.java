@@ -9,6 +9,8 @@ package com.powsybl.loadflow.validation;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.validation.io.ValidationWriter;
@@ -18,18 +20,21 @@ import com.powsybl.loadflow.validation.io.ValidationWriter;
  * @author Massimo Ferraro <massimo.ferraro@techrain.eu>
  */
 public enum ValidationType {
-    FLOWS("branches_flows.csv"),
-    GENERATORS("generators.csv"),
-    BUSES("buses.csv"),
-    SVCS("svcs.csv"),
-    SHUNTS("shunts.csv"),
-    TWTS("twt.csv"),
-    TWTS3W("twt3w.csv");
+    FLOWS("branches_flows.csv", (network, config) -> FlowsValidation.INSTANCE.getEquipmentChecks(network, config)),
+    GENERATORS("generators.csv", (network, config) -> GeneratorsValidation.INSTANCE.getEquipmentChecks(network, config)),
+    BUSES("buses.csv", (network, config) -> BusesValidation.INSTANCE.getEquipmentChecks(network, config)),
+    SVCS("svcs.csv", (network, config) -> StaticVarCompensatorsValidation.INSTANCE.getEquipmentChecks(network, config)),
+    SHUNTS("shunts.csv", (network, config) -> ShuntCompensatorsValidation.INSTANCE.getEquipmentChecks(network, config)),
+    TWTS("twt.csv", (network, config) -> TransformersValidation.INSTANCE.getEquipmentChecks(network, config)),
+    TWTS3W("twt3w.csv", (network, config) -> Transformers3WValidation.INSTANCE.getEquipmentChecks(network, config));
 
     private final String file;
 
-    ValidationType(String file) {
+    private final BiFunction<Network, ValidationConfig, Stream<EquipmentCheck>> equipmentChecks;
+
+    ValidationType(String file, BiFunction<Network, ValidationConfig, Stream<EquipmentCheck>> equipmentChecks) {
         this.file = Objects.requireNonNull(file);
+        this.equipmentChecks = Objects.requireNonNull(equipmentChecks);
     }
 
     private static final String UNEXPECTED_VALIDATION_TYPE_VALUE = "Unexpected ValidationType value: ";
@@ -82,6 +87,13 @@ public enum ValidationType {
         }
     }
 
+    /**
+     * Get the checks of the equipments of this type, in the order of the sequential validation.
+     */
+    Stream<EquipmentCheck> getEquipmentChecks(Network network, ValidationConfig config) {
+        return equipmentChecks.apply(network, config);
+    }
+
     public Path getOutputFile(Path folder) {
         return folder.resolve(file);
     }
@@ -381,6 +381,11 @@ public abstract class AbstractValidationFormatterWriter implements ValidationWri
         });
     }
 
+    @Override
+    public void writeComment(String comment) throws IOException {
+        formatter.writeComment(comment);
+    }
+
     @Override
     public void close() throws IOException {
         formatter.close();
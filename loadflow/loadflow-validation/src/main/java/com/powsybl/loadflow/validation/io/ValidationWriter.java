@@ -44,6 +44,13 @@ public interface ValidationWriter extends AutoCloseable {
 
     void write(String twtId, TwtData twtData, boolean validated) throws IOException;
 
+    /**
+     * Write a comment between two rows, if supported by the output format.
+     */
+    default void writeComment(String comment) throws IOException {
+        // comments are not supported by default
+    }
+
     void setValidationCompleted();
 
     @Override
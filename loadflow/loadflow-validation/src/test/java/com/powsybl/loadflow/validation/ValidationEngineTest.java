@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ValidationEngineTest extends AbstractValidationTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws IOException {
+        super.setUp();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    private String check(ValidationType validationType, Network network) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), strictConfig, writer, validationType)) {
+            validationType.check(network, strictConfig, validationWriter);
+        }
+        return writer.toString();
+    }
+
+    private String check(ValidationEngine engine, ValidationType validationType, Network network) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), strictConfig, writer, validationType)) {
+            engine.check(validationType, network, strictConfig, validationWriter);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    public void testSameOutputAsSequentialValidation() throws IOException {
+        ValidationEngine engine = new ValidationEngine(executor, 4, false);
+        assertFalse(engine.isIncremental());
+        for (Network network : new Network[] {EurostagTutorialExample1Factory.createWithLFResults(), ThreeWindingsTransformerNetworkFactory.create()}) {
+            for (ValidationType validationType : ValidationType.values()) {
+                assertEquals(check(validationType, network), check(engine, validationType, network));
+                // results are not kept when not incremental
+                assertEquals(check(validationType, network), check(engine, validationType, network));
+            }
+        }
+    }
+
+    @Test
+    public void testResult() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ValidationEngine engine = new ValidationEngine(executor, 2, false);
+        ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), strictConfig, new StringWriter(), ValidationType.GENERATORS);
+        for (ValidationType validationType : ValidationType.values()) {
+            assertEquals(validationType.check(network, strictConfig, validationWriter),
+                         engine.check(validationType, network, strictConfig, validationWriter));
+        }
+    }
+
+    @Test
+    public void testIncremental() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ValidationEngine engine = new ValidationEngine(executor, 4, true);
+        assertTrue(engine.isIncremental());
+
+        String generators = check(ValidationType.GENERATORS, network);
+        String buses = check(ValidationType.BUSES, network);
+        assertEquals(generators, check(engine, ValidationType.GENERATORS, network));
+        assertEquals(buses, check(engine, ValidationType.BUSES, network));
+        assertEquals(check(ValidationType.FLOWS, network), check(engine, ValidationType.FLOWS, network));
+
+        // nothing changed, only the headers and the number of omitted rows are written
+        String emptyGenerators = check(engine, ValidationType.GENERATORS, network);
+        assertFalse(emptyGenerators.contains("GEN;"));
+        assertTrue(emptyGenerators.endsWith("1 unchanged equipments omitted" + System.lineSeparator()));
+        assertTrue(check(engine, ValidationType.BUSES, network).endsWith("4 unchanged equipments omitted" + System.lineSeparator()));
+
+        // only the checks depending on the voltage level of the load, or on the whole network, are run again
+        network.getLoad("LOAD").setP0(601);
+        String updatedBuses = check(engine, ValidationType.BUSES, network);
+        assertTrue(updatedBuses.contains("VLLOAD_0;"));
+        assertFalse(updatedBuses.contains("VLGEN_0;"));
+        assertTrue(updatedBuses.endsWith("3 unchanged equipments omitted" + System.lineSeparator()));
+        String updatedFlows = check(engine, ValidationType.FLOWS, network);
+        assertTrue(updatedFlows.contains("NHV2_NLOAD;"));
+        assertFalse(updatedFlows.contains("NGEN_NHV1;"));
+        assertTrue(check(engine, ValidationType.GENERATORS, network).contains("GEN;"));
+        assertEquals(emptyGenerators, check(engine, ValidationType.GENERATORS, network));
+
+        // a new variant is fully validated, and its updates do not invalidate the other variants
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals(check(ValidationType.BUSES, network), check(engine, ValidationType.BUSES, network));
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        network.getGenerator("GEN").getTerminal().setP(-610);
+        network.getVariantManager().setWorkingVariant("v");
+        assertFalse(check(engine, ValidationType.BUSES, network).contains("VLGEN_0;"));
+
+        // a topology change revalidates all the equipments
+        network.getLoad("LOAD").getTerminal().disconnect();
+        assertEquals(check(ValidationType.BUSES, network), check(engine, ValidationType.BUSES, network));
+
+        // all the rows are written when the results are compared
+        assertTrue(check(engine, ValidationType.GENERATORS, network).contains("GEN;"));
+        strictConfig.setCompareResults(true);
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), strictConfig, writer, ValidationType.GENERATORS)) {
+            engine.check(ValidationType.GENERATORS, network, strictConfig, validationWriter);
+            validationWriter.setValidationCompleted();
+            engine.check(ValidationType.GENERATORS, network, strictConfig, validationWriter);
+        }
+        assertTrue(writer.toString().contains("GEN;"));
+        assertFalse(writer.toString().contains("omitted"));
+        strictConfig.setCompareResults(false);
+
+        engine.reset();
+        assertEquals(check(ValidationType.GENERATORS, network), check(engine, ValidationType.GENERATORS, network));
+    }
+
+    @Test
+    public void testMultiThreadVariantAccess() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getGenerator("GEN").getTerminal().setP(-610);
+        String expected = check(ValidationType.BUSES, network);
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals(expected, check(new ValidationEngine(executor, 4, false), ValidationType.BUSES, network));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new ValidationEngine(executor, 0, false);
+    }
+}
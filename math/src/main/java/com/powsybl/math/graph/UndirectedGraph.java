@@ -10,7 +10,9 @@ import gnu.trove.list.array.TIntArrayList;
 
 import java.io.PrintStream;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -224,6 +226,17 @@ public interface UndirectedGraph<V, E> {
      */
     List<E> getEdgeObjects(int v1, int v2);
 
+    /**
+     * Apply several mutations to the graph: the {@link UndirectedGraphListener}s are notified once, at the end, and the
+     * adjacency of the graph is only rebuilt by the first traversal after the mutations. Batches can be nested.
+     * The default implementation just applies the mutations, without deferring the notifications.
+     *
+     * @param mutations the mutations to apply.
+     */
+    default void batch(Runnable mutations) {
+        mutations.run();
+    }
+
     /**
      * Traverse the entire graph, starting at the specified vertex v.
      * This method relies on a {@link Traverser} instance to know if the traverse of the graph should continue or stop.
@@ -246,6 +259,44 @@ public interface UndirectedGraph<V, E> {
      */
     void traverse(int v, Traverser traverser);
 
+    /**
+     * Traverse the graph breadth first, starting at the specified vertex v.
+     * This method relies on a {@link Traverser} instance to know if the traverse of the graph should continue or stop.
+     *
+     * At the end of the method, the markers contain the traversed vertices. They are reset at the beginning of the
+     * method, so that they can be reused by the next traversal without any allocation.
+     *
+     * @param v the vertex index where the traverse has to start.
+     * @param traverser the {@link Traverser} instance to use to know if the traverse should continue or stop.
+     * @param markers the buffers of the traversal.
+     */
+    void traverseBreadthFirst(int v, Traverser traverser, VisitMarkers markers);
+
+    /**
+     * Traverse the graph breadth first from each of the specified vertices, in parallel. The traversals are independent
+     * from each other: a vertex can be traversed by several of them.
+     * The markers are allocated once per task of the pool and reused by all the traversals of the task, so that a
+     * traversal does not allocate any buffer.
+     *
+     * @param startVertices the vertex indexes where the traversals have to start.
+     * @param traverserProvider a function that returns the {@link Traverser} instance of the traversal starting at a
+     *                          vertex. As it is called from several threads, it has to be thread-safe.
+     * @param pool the pool running the traversals.
+     */
+    void traverseInParallel(int[] startVertices, IntFunction<Traverser> traverserProvider, ForkJoinPool pool);
+
+    /**
+     * Find a shortest path, in number of edges, between two vertices with a bidirectional breadth first search.
+     *
+     * @param from the vertex index where the path has to start.
+     * @param to the vertex index where the path has to end.
+     * @param pathCancelled a function that returns true when the edge must not be traversed.
+     * @param markers the buffers of the search.
+     * @return the index of the edges of the path from {@code from} to {@code to}, empty if the two vertices are the
+     * same, or null if there is no path between them.
+     */
+    TIntArrayList findShortestPath(int from, int to, Function<E, Boolean> pathCancelled, VisitMarkers markers);
+
     /**
      * Find all paths from the specified vertex.
      * This method relies on two functions to stop the traverse when the target vertex is found or when an edge must not be traversed.
@@ -16,9 +16,10 @@ import gnu.trove.set.hash.TIntHashSet;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -31,7 +32,11 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     private static final int EDGES_CAPACITY = 15;
 
-    private static final int NEIGHBORS_CAPACITY = 2;
+    private static final int TRAVERSALS_PER_WORKER = 4;
+
+    private static final int FORWARD = 0;
+
+    private static final int BACKWARD = 1;
 
     private static final class Vertex<E> {
 
@@ -87,16 +92,96 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     }
 
+    /**
+     * Immutable compressed sparse row representation of the adjacency of the graph: the edges adjacent to vertex v are
+     * the ones of {@code adjacentEdges} from {@code offsets[v]} included to {@code offsets[v + 1]} excluded, in increasing
+     * order. The ends of the edges are copied, so that a traversal only reads primitive arrays.
+     */
+    private static final class AdjacencySnapshot {
+
+        /**
+         * Version of the graph the snapshot has been built from.
+         */
+        private final int version;
+
+        private final int[] offsets;
+
+        private final int[] adjacentEdges;
+
+        private final int[] edgeVertices1;
+
+        private final int[] edgeVertices2;
+
+        private AdjacencySnapshot(int version, int[] offsets, int[] adjacentEdges, int[] edgeVertices1, int[] edgeVertices2) {
+            this.version = version;
+            this.offsets = offsets;
+            this.adjacentEdges = adjacentEdges;
+            this.edgeVertices1 = edgeVertices1;
+            this.edgeVertices2 = edgeVertices2;
+        }
+    }
+
+    /**
+     * Task running the traversals starting at a range of vertices, split in two halves until it has no more than
+     * {@code traversalsPerTask} traversals.
+     */
+    private static final class TraversalRangeTask extends RecursiveAction {
+
+        private final AdjacencySnapshot snapshot;
+
+        private final int[] startVertices;
+
+        private final IntFunction<Traverser> traverserProvider;
+
+        private final int first;
+
+        private final int last;
+
+        private final int traversalsPerTask;
+
+        private TraversalRangeTask(AdjacencySnapshot snapshot, int[] startVertices, IntFunction<Traverser> traverserProvider,
+                                   int first, int last, int traversalsPerTask) {
+            this.snapshot = snapshot;
+            this.startVertices = startVertices;
+            this.traverserProvider = traverserProvider;
+            this.first = first;
+            this.last = last;
+            this.traversalsPerTask = traversalsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first > traversalsPerTask) {
+                int middle = (first + last) >>> 1;
+                invokeAll(new TraversalRangeTask(snapshot, startVertices, traverserProvider, first, middle, traversalsPerTask),
+                          new TraversalRangeTask(snapshot, startVertices, traverserProvider, middle, last, traversalsPerTask));
+            } else {
+                // markers are only kept for the duration of the task
+                VisitMarkers markers = new VisitMarkers(snapshot.offsets.length - 1);
+                for (int i = first; i < last; i++) {
+                    int v = startVertices[i];
+                    traverseBreadthFirst(v, traverserProvider.apply(v), markers, snapshot);
+                }
+            }
+        }
+    }
+
     /* vertices */
     private final List<Vertex<V>> vertices = new ArrayList<>(VERTICES_CAPACITY);
 
     /* edges */
     private final List<Edge<E>> edges = new ArrayList<>(EDGES_CAPACITY);
 
-    /* cached adjacency list */
-    private TIntArrayList[] adjacencyListCache;
+    /* cached adjacency, published to concurrent readers without lock */
+    private volatile AdjacencySnapshot adjacencySnapshot;
 
-    private final Lock adjacencyListCacheLock = new ReentrantLock();
+    /* incremented by each mutation of the graph */
+    private volatile int version = 0;
+
+    /* nesting depth of batches, listeners are notified at the end of the outermost one */
+    private int batchDepth = 0;
+
+    private boolean changedInBatch = false;
 
     private final TIntHashSet availableVertices = new TIntHashSet();
 
@@ -336,55 +421,87 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         checkVertex(v1);
         checkVertex(v2);
         List<E> edgeObjects = new ArrayList<>(1);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v1];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if ((edge.getV1() == v1 && edge.getV2() == v2)
-                    || (edge.getV1() == v2 && edge.getV2() == v1)) {
-                edgeObjects.add(edge.getObject());
+        AdjacencySnapshot snapshot = getAdjacencySnapshot();
+        for (int i = snapshot.offsets[v1]; i < snapshot.offsets[v1 + 1]; i++) {
+            int e = snapshot.adjacentEdges[i];
+            int edgeV1 = snapshot.edgeVertices1[e];
+            int edgeV2 = snapshot.edgeVertices2[e];
+            if ((edgeV1 == v1 && edgeV2 == v2) || (edgeV1 == v2 && edgeV2 == v1)) {
+                edgeObjects.add(edges.get(e).getObject());
             }
         }
         return edgeObjects;
     }
 
     /**
-     * Create the adjacency list of this graph.
-     * @return the adjacency list as a {@link TIntArrayList} of {@link TIntArrayList}.
+     * Get the adjacency of the graph, building it if the graph has changed since the last build. Concurrent readers
+     * never lock: they may at worst build the same snapshot at the same time.
      */
-    private TIntArrayList[] getAdjacencyList() {
-        adjacencyListCacheLock.lock();
-        try {
-            if (adjacencyListCache == null) {
-                adjacencyListCache = new TIntArrayList[vertices.size()];
-                for (int v = 0; v < vertices.size(); v++) {
-                    Vertex<V> vertex = vertices.get(v);
-                    if (vertex != null) {
-                        adjacencyListCache[v] = new TIntArrayList(NEIGHBORS_CAPACITY);
-                    }
-                }
-                for (int e = 0; e < edges.size(); e++) {
-                    Edge<E> edge = edges.get(e);
-                    if (edge != null) {
-                        int v1 = edge.getV1();
-                        int v2 = edge.getV2();
-                        adjacencyListCache[v1].add(e);
-                        adjacencyListCache[v2].add(e);
-                    }
-                }
+    private AdjacencySnapshot getAdjacencySnapshot() {
+        AdjacencySnapshot snapshot = adjacencySnapshot;
+        int currentVersion = version;
+        if (snapshot == null || snapshot.version != currentVersion) {
+            snapshot = buildAdjacencySnapshot(currentVersion);
+            adjacencySnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private AdjacencySnapshot buildAdjacencySnapshot(int currentVersion) {
+        int vertexCapacity = vertices.size();
+        int edgeCapacity = edges.size();
+        int[] offsets = new int[vertexCapacity + 1];
+        int[] edgeVertices1 = new int[edgeCapacity];
+        int[] edgeVertices2 = new int[edgeCapacity];
+        Arrays.fill(edgeVertices1, -1);
+        Arrays.fill(edgeVertices2, -1);
+        int adjacentEdgeCount = 0;
+        for (int e = 0; e < edgeCapacity; e++) {
+            Edge<E> edge = edges.get(e);
+            if (edge != null) {
+                edgeVertices1[e] = edge.getV1();
+                edgeVertices2[e] = edge.getV2();
+                offsets[edge.getV1() + 1]++;
+                offsets[edge.getV2() + 1]++;
+                adjacentEdgeCount += 2;
+            }
+        }
+        for (int v = 0; v < vertexCapacity; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacentEdges = new int[adjacentEdgeCount];
+        int[] positions = Arrays.copyOf(offsets, vertexCapacity);
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeVertices1[e] != -1) {
+                adjacentEdges[positions[edgeVertices1[e]]++] = e;
+                adjacentEdges[positions[edgeVertices2[e]]++] = e;
             }
-            return adjacencyListCache;
-        } finally {
-            adjacencyListCacheLock.unlock();
         }
+        return new AdjacencySnapshot(currentVersion, offsets, adjacentEdges, edgeVertices1, edgeVertices2);
     }
 
     /**
      * Invalidate the adjacency list.
      */
     private void invalidateAdjacencyList() {
-        adjacencyListCache = null;
+        // mutations are not concurrent, so the increment does not need to be atomic
+        version++;
+        adjacencySnapshot = null;
+    }
+
+    @Override
+    public void batch(Runnable mutations) {
+        Objects.requireNonNull(mutations);
+        batchDepth++;
+        try {
+            mutations.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && changedInBatch) {
+                changedInBatch = false;
+                notifyListener();
+            }
+        }
     }
 
     @Override
@@ -397,26 +514,150 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
             throw new PowsyblException("Encountered array is too small");
         }
 
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
+        traverse(v, traverser, encountered, getAdjacencySnapshot());
+    }
+
+    private static void traverse(int v, Traverser traverser, boolean[] encountered, AdjacencySnapshot snapshot) {
         encountered[v] = true;
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
+        for (int i = snapshot.offsets[v]; i < snapshot.offsets[v + 1]; i++) {
+            int e = snapshot.adjacentEdges[i];
+            int v1 = snapshot.edgeVertices1[e];
+            int v2 = snapshot.edgeVertices2[e];
             if (!encountered[v1]) {
                 if (traverser.traverse(v2, e, v1) == TraverseResult.CONTINUE) {
                     encountered[v1] = true;
-                    traverse(v1, traverser, encountered);
+                    traverse(v1, traverser, encountered, snapshot);
                 }
             } else if (!encountered[v2] && traverser.traverse(v1, e, v2) == TraverseResult.CONTINUE) {
                 encountered[v2] = true;
-                traverse(v2, traverser, encountered);
+                traverse(v2, traverser, encountered, snapshot);
             }
         }
     }
 
+    @Override
+    public void traverseBreadthFirst(int v, Traverser traverser, VisitMarkers markers) {
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        Objects.requireNonNull(markers);
+
+        traverseBreadthFirst(v, traverser, markers, getAdjacencySnapshot());
+    }
+
+    private static int getOppositeVertex(AdjacencySnapshot snapshot, int e, int v) {
+        int v1 = snapshot.edgeVertices1[e];
+        return v1 == v ? snapshot.edgeVertices2[e] : v1;
+    }
+
+    private static void traverseBreadthFirst(int v, Traverser traverser, VisitMarkers markers, AdjacencySnapshot snapshot) {
+        markers.reset(snapshot.offsets.length - 1);
+        int[] queue = markers.getQueue();
+        int head = 0;
+        int tail = 0;
+        markers.visit(v, FORWARD, -1, 0);
+        queue[tail++] = v;
+        while (head < tail) {
+            int v1 = queue[head++];
+            for (int i = snapshot.offsets[v1]; i < snapshot.offsets[v1 + 1]; i++) {
+                int e = snapshot.adjacentEdges[i];
+                int v2 = getOppositeVertex(snapshot, e, v1);
+                if (!markers.isVisited(v2) && traverser.traverse(v1, e, v2) == TraverseResult.CONTINUE) {
+                    markers.visit(v2, FORWARD, e, markers.getDistance(v1) + 1);
+                    queue[tail++] = v2;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void traverseInParallel(int[] startVertices, IntFunction<Traverser> traverserProvider, ForkJoinPool pool) {
+        Objects.requireNonNull(startVertices);
+        Objects.requireNonNull(traverserProvider);
+        Objects.requireNonNull(pool);
+        for (int v : startVertices) {
+            checkVertex(v);
+        }
+
+        // all the traversals share the same snapshot, built once
+        AdjacencySnapshot snapshot = getAdjacencySnapshot();
+        int taskCount = pool.getParallelism() * TRAVERSALS_PER_WORKER;
+        int traversalsPerTask = Math.max(1, (startVertices.length + taskCount - 1) / taskCount);
+        pool.invoke(new TraversalRangeTask(snapshot, startVertices, traverserProvider, 0, startVertices.length, traversalsPerTask));
+    }
+
+    @Override
+    public TIntArrayList findShortestPath(int from, int to, Function<E, Boolean> pathCancelled, VisitMarkers markers) {
+        checkVertex(from);
+        checkVertex(to);
+        Objects.requireNonNull(markers);
+
+        TIntArrayList path = new TIntArrayList();
+        if (from == to) {
+            return path;
+        }
+
+        AdjacencySnapshot snapshot = getAdjacencySnapshot();
+        markers.reset(snapshot.offsets.length - 1);
+        // a vertex is visited by one side only, so the forward queue grows from the beginning of the buffer and the
+        // backward queue from its end
+        int[] queue = markers.getQueue();
+        int[] heads = {0, queue.length - 1};
+        int[] tails = {0, queue.length - 1};
+        markers.visit(from, FORWARD, -1, 0);
+        queue[tails[FORWARD]++] = from;
+        markers.visit(to, BACKWARD, -1, 0);
+        queue[tails[BACKWARD]--] = to;
+
+        // the meeting edge of the shortest path found and its end on the forward side
+        int meetingEdge = -1;
+        int meetingVertex = -1;
+        int shortestLength = Integer.MAX_VALUE;
+        while (tails[FORWARD] > heads[FORWARD] && heads[BACKWARD] > tails[BACKWARD] && meetingEdge == -1) {
+            // expand a whole level of the smallest side, the shortest path is among the ones found at this level
+            int side = tails[FORWARD] - heads[FORWARD] <= heads[BACKWARD] - tails[BACKWARD] ? FORWARD : BACKWARD;
+            int otherSide = 1 - side;
+            int step = side == FORWARD ? 1 : -1;
+            int levelEnd = tails[side];
+            while (heads[side] != levelEnd) {
+                int v1 = queue[heads[side]];
+                heads[side] += step;
+                for (int i = snapshot.offsets[v1]; i < snapshot.offsets[v1 + 1]; i++) {
+                    int e = snapshot.adjacentEdges[i];
+                    if (pathCancelled != null && pathCancelled.apply(edges.get(e).getObject())) {
+                        continue;
+                    }
+                    int v2 = getOppositeVertex(snapshot, e, v1);
+                    if (markers.isVisited(v2, otherSide)) {
+                        int length = markers.getDistance(v1) + 1 + markers.getDistance(v2);
+                        if (length < shortestLength) {
+                            shortestLength = length;
+                            meetingEdge = e;
+                            meetingVertex = side == FORWARD ? v1 : v2;
+                        }
+                    } else if (!markers.isVisited(v2, side)) {
+                        markers.visit(v2, side, e, markers.getDistance(v1) + 1);
+                        queue[tails[side]] = v2;
+                        tails[side] += step;
+                    }
+                }
+            }
+        }
+        if (meetingEdge == -1) {
+            return null;
+        }
+
+        // edges from the meeting edge back to the start, then from the meeting edge to the end
+        for (int v = meetingVertex; v != from; v = getOppositeVertex(snapshot, markers.getParentEdge(v), v)) {
+            path.add(markers.getParentEdge(v));
+        }
+        path.reverse();
+        path.add(meetingEdge);
+        for (int v = getOppositeVertex(snapshot, meetingEdge, meetingVertex); v != to; v = getOppositeVertex(snapshot, markers.getParentEdge(v), v)) {
+            path.add(markers.getParentEdge(v));
+        }
+        return path;
+    }
+
     @Override
     public void traverse(int v, Traverser traverser) {
         boolean[] encountered = new boolean[vertices.size()];
@@ -487,19 +728,18 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
                               TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
         checkVertex(v);
         encountered.set(v, true);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if (pathCancelled != null && pathCancelled.apply(edge.getObject())) {
+        AdjacencySnapshot snapshot = getAdjacencySnapshot();
+        int last = snapshot.offsets[v + 1] - 1;
+        for (int i = snapshot.offsets[v]; i <= last; i++) {
+            int e = snapshot.adjacentEdges[i];
+            if (pathCancelled != null && pathCancelled.apply(edges.get(e).getObject())) {
                 continue;
             }
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
+            int v1 = snapshot.edgeVertices1[e];
+            int v2 = snapshot.edgeVertices2[e];
             TIntArrayList path2;
             BitSet encountered2;
-            if (i < adjacentEdges.size() - 1) {
+            if (i < last) {
                 path2 = new TIntArrayList(path);
                 encountered2 = new BitSet(vertices.size());
                 encountered2.or(encountered);
@@ -531,6 +771,10 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
      * Notify all the listeners that the graph has changed.
      */
     private void notifyListener() {
+        if (batchDepth > 0) {
+            changedInBatch = true;
+            return;
+        }
         for (UndirectedGraphListener l : listeners) {
             l.graphChanged();
         }
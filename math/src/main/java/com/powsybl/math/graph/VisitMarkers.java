@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.graph;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffers of a graph traversal: the vertices already visited, a queue of vertices and, for each visited
+ * vertex, the edge it has been reached through and its distance to the start of the traversal.
+ *
+ * <p>Visited vertices are marked with the current epoch, so that resetting the markers before a new traversal does not
+ * clear the buffers. A {@link VisitMarkers} instance must not be used by several traversals at the same time.
+ *
+ * @author agent <agent at local>
+ */
+public final class VisitMarkers {
+
+    private int[] marks;
+
+    private int[] queue;
+
+    private int[] parentEdges;
+
+    private int[] distances;
+
+    private int epoch = 0;
+
+    public VisitMarkers() {
+        this(0);
+    }
+
+    public VisitMarkers(int vertexCapacity) {
+        marks = new int[vertexCapacity];
+        queue = new int[vertexCapacity];
+        parentEdges = new int[vertexCapacity];
+        distances = new int[vertexCapacity];
+    }
+
+    /**
+     * Unmark all the vertices, and grow the buffers if needed.
+     *
+     * @param vertexCapacity the vertex capacity of the graph to traverse.
+     */
+    void reset(int vertexCapacity) {
+        if (marks.length < vertexCapacity) {
+            marks = new int[vertexCapacity];
+            queue = new int[vertexCapacity];
+            parentEdges = new int[vertexCapacity];
+            distances = new int[vertexCapacity];
+            epoch = 0;
+        }
+        // two epochs per traversal, one for each side of a bidirectional search
+        epoch += 2;
+        if (epoch < 0) {
+            Arrays.fill(marks, 0);
+            epoch = 2;
+        }
+    }
+
+    /**
+     * Check if a vertex has been visited since the last reset.
+     */
+    public boolean isVisited(int v) {
+        return marks[v] >= epoch;
+    }
+
+    boolean isVisited(int v, int side) {
+        return marks[v] == epoch + side;
+    }
+
+    void visit(int v, int side, int parentEdge, int distance) {
+        marks[v] = epoch + side;
+        parentEdges[v] = parentEdge;
+        distances[v] = distance;
+    }
+
+    int[] getQueue() {
+        return queue;
+    }
+
+    /**
+     * Get the edge through which a vertex visited since the last reset has been reached, -1 for the start of the
+     * traversal.
+     */
+    public int getParentEdge(int v) {
+        return parentEdges[v];
+    }
+
+    int getDistance(int v) {
+        return distances[v];
+    }
+}
@@ -155,6 +155,27 @@ public class DenseMatrix extends AbstractMatrix {
         return buffer;
     }
 
+    /**
+     * Get a view on a contiguous range of columns: as values are stored column by column, the view shares the buffer
+     * of this matrix, so that values modified through the view are modified in this matrix.
+     *
+     * @param firstColumn first column of the view
+     * @param viewColumnCount column count of the view
+     * @return a view on columns {@code firstColumn} to {@code firstColumn + viewColumnCount - 1}
+     */
+    DenseMatrix getColumnsView(int firstColumn, int viewColumnCount) {
+        if (firstColumn < 0 || viewColumnCount < 0 || firstColumn + viewColumnCount > columnCount) {
+            throw new IllegalArgumentException("Column range [" + firstColumn + ", " + (firstColumn + viewColumnCount)
+                    + "[ is out of bounds [0, " + columnCount + "[");
+        }
+        return new DenseMatrix(rowCount, viewColumnCount, () -> {
+            ByteBuffer view = buffer.duplicate();
+            view.position(firstColumn * rowCount * Double.BYTES);
+            view.limit((firstColumn + viewColumnCount) * rowCount * Double.BYTES);
+            return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+        });
+    }
+
     void setValues(double[] values) {
         if (values.length != rowCount * columnCount) {
             throw new IllegalArgumentException("Incorrect values array size "
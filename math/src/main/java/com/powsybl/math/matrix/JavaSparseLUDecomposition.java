@@ -0,0 +1,591 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Pure Java sparse matrix LU decomposition, following the design of the KLU solver of
+ * <a href="http://faculty.cse.tamu.edu/davis/suitesparse.html">SuiteSparse</a>:
+ * <ul>
+ *     <li>a symbolic analysis computes once a fill-reducing column ordering (minimum degree on the pattern of
+ *     A + A<sup>T</sup>),</li>
+ *     <li>a left-looking Gilbert-Peierls factorization with partial pivoting computes P * A * Q = L * U,</li>
+ *     <li>{@link #update()} reuses the pivot sequence and the patterns of L and U to only recompute the values, and
+ *     falls back to a new factorization, still with the same ordering, if a pivot becomes too small.</li>
+ * </ul>
+ * Solves on a dense matrix process the right-hand sides by blocks, so that the inner loops run on contiguous values.
+ *
+ * @see JavaSparseMatrix
+ *
+ * @author agent <agent at local>
+ */
+class JavaSparseLUDecomposition implements LUDecomposition {
+
+    /**
+     * When refactoring, a new factorization is done if a pivot magnitude is below this fraction of its column.
+     */
+    private static final double REFACTOR_PIVOT_TOLERANCE = 1e-10;
+
+    /**
+     * Number of right-hand sides solved together.
+     */
+    private static final int RHS_BLOCK_SIZE = 8;
+
+    private final JavaSparseMatrix matrix;
+
+    private final int n;
+
+    private final int valueCount;
+
+    /**
+     * Column ordering: column k of the factorized matrix is column q[k] of the matrix.
+     */
+    private final int[] q;
+
+    /**
+     * Inverse row permutation: row i of the matrix is row pinv[i] of the factorized matrix.
+     */
+    private final int[] pinv;
+
+    // L factor in CSC format, unit diagonal stored first in each column, row indices in factorized matrix order
+    private int[] lp;
+    private int[] li;
+    private double[] lx;
+
+    // U factor in CSC format, diagonal stored last in each column, entries in topological order
+    private int[] up;
+    private int[] ui;
+    private double[] ux;
+
+    JavaSparseLUDecomposition(JavaSparseMatrix matrix) {
+        this.matrix = Objects.requireNonNull(matrix);
+        if (matrix.getRowCount() != matrix.getColumnCount()) {
+            throw new IllegalArgumentException("matrix is not square");
+        }
+        n = matrix.getRowCount();
+        valueCount = matrix.getValueCount();
+        q = minimumDegreeOrdering(matrix);
+        pinv = new int[n];
+        factorize();
+    }
+
+    /**
+     * Check no elements have been added since first decomposition
+     */
+    private void checkMatrixStructure() {
+        if (matrix.getValueCount() != valueCount) {
+            throw new PowsyblException("Elements have been added to the sparse matrix since initial decomposition");
+        }
+    }
+
+    /**
+     * Approximate minimum degree ordering on the pattern of A + A<sup>T</sup>. Eliminated nodes are kept as elements
+     * of a quotient graph instead of adding their fill as explicit edges, and degrees are bounded as in AMD by the
+     * size of the new element plus, for each other adjacent element or variable, what is not already in the new element.
+     */
+    private static int[] minimumDegreeOrdering(JavaSparseMatrix matrix) {
+        int n = matrix.getRowCount();
+        TIntHashSet[] initialAdjacency = new TIntHashSet[n];
+        for (int i = 0; i < n; i++) {
+            initialAdjacency[i] = new TIntHashSet();
+        }
+        matrix.iterateNonZeroValue((i, j, value) -> {
+            if (i != j) {
+                initialAdjacency[i].add(j);
+                initialAdjacency[j].add(i);
+            }
+        });
+        int[][] variables = new int[n][]; // adjacent variables, the first variableCount[i] being valid
+        int[] variableCount = new int[n];
+        int[][] elements = new int[n][]; // adjacent elements, the first elementCount[i] being valid
+        int[] elementCount = new int[n];
+        int[][] elementVariables = new int[n][]; // variables of each element, null if absorbed or not yet eliminated
+        int[] degree = new int[n];
+        for (int i = 0; i < n; i++) {
+            variables[i] = initialAdjacency[i].toArray();
+            variableCount[i] = variables[i].length;
+            elements[i] = new int[4];
+            degree[i] = variableCount[i];
+            initialAdjacency[i] = null;
+        }
+
+        // lazy priority queue: degree in the high bits, node in the low bits, outdated entries are skipped
+        PriorityQueue<Long> queue = new PriorityQueue<>(Math.max(n, 1));
+        for (int i = 0; i < n; i++) {
+            queue.add(((long) degree[i] << 32) | i);
+        }
+        boolean[] eliminated = new boolean[n];
+        int[] mark = new int[n];
+        int[] external = new int[n]; // for each element, count of its variables not in the new element
+        Arrays.fill(external, -1);
+        int[] newElement = new int[n];
+        int[] order = new int[n];
+        int k = 0;
+        while (k < n) {
+            long entry = queue.poll();
+            int pivot = (int) entry;
+            if (eliminated[pivot] || (int) (entry >>> 32) != degree[pivot]) {
+                continue;
+            }
+            eliminated[pivot] = true;
+            order[k++] = pivot;
+            int stamp = k;
+
+            // variables of the new element: adjacent variables and variables of adjacent elements, which are absorbed
+            int size = 0;
+            mark[pivot] = stamp;
+            for (int p = 0; p < variableCount[pivot]; p++) {
+                int i = variables[pivot][p];
+                if (mark[i] != stamp) {
+                    mark[i] = stamp;
+                    newElement[size++] = i;
+                }
+            }
+            for (int p = 0; p < elementCount[pivot]; p++) {
+                int e = elements[pivot][p];
+                for (int i : elementVariables[e]) {
+                    if (mark[i] != stamp) {
+                        mark[i] = stamp;
+                        newElement[size++] = i;
+                    }
+                }
+                elementVariables[e] = null;
+            }
+            elementVariables[pivot] = Arrays.copyOf(newElement, size);
+            variables[pivot] = null;
+            elements[pivot] = null;
+
+            // size of the other adjacent elements outside of the new element
+            for (int p = 0; p < size; p++) {
+                int i = newElement[p];
+                for (int q = 0; q < elementCount[i]; q++) {
+                    int e = elements[i][q];
+                    if (elementVariables[e] != null) {
+                        external[e] = (external[e] < 0 ? elementVariables[e].length : external[e]) - 1;
+                    }
+                }
+            }
+
+            // prune the variables of the new element, and update their approximate degree
+            for (int p = 0; p < size; p++) {
+                int i = newElement[p];
+                int d = size - 1;
+                int elementCountI = 0;
+                for (int q = 0; q < elementCount[i]; q++) {
+                    int e = elements[i][q];
+                    if (elementVariables[e] != null) {
+                        elements[i][elementCountI++] = e;
+                        d += external[e];
+                    }
+                }
+                if (elementCountI == elements[i].length) {
+                    elements[i] = Arrays.copyOf(elements[i], 2 * elementCountI);
+                }
+                elements[i][elementCountI++] = pivot;
+                elementCount[i] = elementCountI;
+                int variableCountI = 0;
+                for (int q = 0; q < variableCount[i]; q++) {
+                    int j = variables[i][q];
+                    // variables of the new element are now reached through it
+                    if (mark[j] != stamp) {
+                        variables[i][variableCountI++] = j;
+                        d++;
+                    }
+                }
+                variableCount[i] = variableCountI;
+                degree[i] = Math.min(d, n - k - 1);
+                queue.add(((long) degree[i] << 32) | i);
+            }
+            for (int p = 0; p < size; p++) {
+                int i = newElement[p];
+                for (int q = 0; q < elementCount[i]; q++) {
+                    external[elements[i][q]] = -1;
+                }
+            }
+        }
+        return order;
+    }
+
+    private static int[] grow(int[] array, int minLength) {
+        return array.length >= minLength ? array : Arrays.copyOf(array, Math.max(minLength, 2 * array.length));
+    }
+
+    private static double[] grow(double[] array, int minLength) {
+        return array.length >= minLength ? array : Arrays.copyOf(array, Math.max(minLength, 2 * array.length));
+    }
+
+    /**
+     * Non recursive depth first search from row {@code j} in the graph of the already computed columns of L, pushing
+     * reached rows on the output stack {@code xi} in topological order.
+     */
+    private int dfs(int j, int initialTop, int[] xi, int[] stack, int[] pstack, int[] mark, int stamp) {
+        int top = initialTop;
+        int head = 0;
+        stack[0] = j;
+        while (head >= 0) {
+            int node = stack[head];
+            int jnew = pinv[node];
+            if (mark[node] != stamp) {
+                mark[node] = stamp;
+                pstack[head] = jnew < 0 ? 0 : lp[jnew];
+            }
+            boolean done = true;
+            int end = jnew < 0 ? 0 : lp[jnew + 1];
+            for (int p = pstack[head]; p < end; p++) {
+                int i = li[p];
+                if (mark[i] != stamp) {
+                    pstack[head] = p;
+                    stack[++head] = i;
+                    done = false;
+                    break;
+                }
+            }
+            if (done) {
+                head--;
+                xi[--top] = node;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Full numeric factorization with partial pivoting, using the column ordering computed by the symbolic analysis.
+     */
+    private void factorize() {
+        int[] columnStart = matrix.getColumnStart();
+        int[] columnValueCount = matrix.getColumnValueCount();
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+
+        int estimatedSize = 4 * Math.max(valueCount, n) + n;
+        lp = new int[n + 1];
+        li = new int[estimatedSize];
+        lx = new double[estimatedSize];
+        up = new int[n + 1];
+        ui = new int[estimatedSize];
+        ux = new double[estimatedSize];
+        Arrays.fill(pinv, -1);
+
+        double[] x = new double[n];
+        int[] xi = new int[n];
+        int[] stack = new int[n];
+        int[] pstack = new int[n];
+        int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+
+        int lnz = 0;
+        int unz = 0;
+        for (int k = 0; k < n; k++) {
+            lp[k] = lnz;
+            up[k] = unz;
+            li = grow(li, lnz + n);
+            lx = grow(lx, lnz + n);
+            ui = grow(ui, unz + n);
+            ux = grow(ux, unz + n);
+
+            // sparse triangular solve x = L \ A(:, q[k])
+            int col = q[k];
+            int first = columnStart[col];
+            int last = first == -1 ? -1 : first + columnValueCount[col];
+            int top = n;
+            for (int p = first; p < last; p++) {
+                if (mark[rowIndices[p]] != k) {
+                    top = dfs(rowIndices[p], top, xi, stack, pstack, mark, k);
+                }
+            }
+            for (int p = top; p < n; p++) {
+                x[xi[p]] = 0;
+            }
+            for (int p = first; p < last; p++) {
+                x[rowIndices[p]] += values[p];
+            }
+            for (int px = top; px < n; px++) {
+                int j = xi[px];
+                int jnew = pinv[j];
+                if (jnew >= 0) {
+                    double xj = x[j];
+                    for (int p = lp[jnew] + 1; p < lp[jnew + 1]; p++) {
+                        x[li[p]] -= lx[p] * xj;
+                    }
+                }
+            }
+
+            // pivot selection
+            int ipiv = -1;
+            double a = -1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    double t = Math.abs(x[i]);
+                    if (t > a) {
+                        a = t;
+                        ipiv = i;
+                    }
+                } else {
+                    ui[unz] = pinv[i];
+                    ux[unz++] = x[i];
+                }
+            }
+            if (ipiv == -1 || a <= 0) {
+                throw new PowsyblException("Singular matrix");
+            }
+            double pivot = x[ipiv];
+            ui[unz] = k;
+            ux[unz++] = pivot;
+            pinv[ipiv] = k;
+            li[lnz] = ipiv;
+            lx[lnz++] = 1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    li[lnz] = i;
+                    lx[lnz++] = x[i] / pivot;
+                }
+                x[i] = 0;
+            }
+        }
+        lp[n] = lnz;
+        up[n] = unz;
+        for (int p = 0; p < lnz; p++) {
+            li[p] = pinv[li[p]];
+        }
+    }
+
+    /**
+     * Numeric refactorization reusing the pivot sequence and the patterns of L and U.
+     *
+     * @return false if a pivot is too small, a new factorization is then needed
+     */
+    private boolean refactorize() {
+        int[] columnStart = matrix.getColumnStart();
+        int[] columnValueCount = matrix.getColumnValueCount();
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+
+        double[] x = new double[n];
+        for (int k = 0; k < n; k++) {
+            int col = q[k];
+            int first = columnStart[col];
+            if (first != -1) {
+                for (int p = first; p < first + columnValueCount[col]; p++) {
+                    x[pinv[rowIndices[p]]] += values[p];
+                }
+            }
+            int diag = up[k + 1] - 1;
+            for (int p = up[k]; p < diag; p++) {
+                int j = ui[p];
+                double xj = x[j];
+                ux[p] = xj;
+                x[j] = 0;
+                for (int l = lp[j] + 1; l < lp[j + 1]; l++) {
+                    x[li[l]] -= lx[l] * xj;
+                }
+            }
+            double pivot = x[k];
+            x[k] = 0;
+            double max = Math.abs(pivot);
+            for (int l = lp[k] + 1; l < lp[k + 1]; l++) {
+                max = Math.max(max, Math.abs(x[li[l]]));
+            }
+            if (pivot == 0 || Math.abs(pivot) < max * REFACTOR_PIVOT_TOLERANCE) {
+                return false;
+            }
+            ux[diag] = pivot;
+            for (int l = lp[k] + 1; l < lp[k + 1]; l++) {
+                lx[l] = x[li[l]] / pivot;
+                x[li[l]] = 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The structure of the matrix is not supposed to have changed, only non zero values.
+     */
+    @Override
+    public void update() {
+        checkMatrixStructure();
+        if (!refactorize()) {
+            factorize();
+        }
+    }
+
+    private void checkSize(int size) {
+        if (size != n) {
+            throw new IllegalArgumentException("Incorrect vector size " + size + ", expected " + n);
+        }
+    }
+
+    /**
+     * Solve in place in factorized matrix order, for {@code m} right-hand sides interleaved in {@code y}.
+     */
+    private void solve(double[] y, int m) {
+        // L * z = y
+        for (int j = 0; j < n; j++) {
+            int jm = j * m;
+            for (int p = lp[j] + 1; p < lp[j + 1]; p++) {
+                int im = li[p] * m;
+                double l = lx[p];
+                for (int r = 0; r < m; r++) {
+                    y[im + r] -= l * y[jm + r];
+                }
+            }
+        }
+        // U * x = z
+        for (int j = n - 1; j >= 0; j--) {
+            int jm = j * m;
+            int diag = up[j + 1] - 1;
+            double d = ux[diag];
+            for (int r = 0; r < m; r++) {
+                y[jm + r] /= d;
+            }
+            for (int p = up[j]; p < diag; p++) {
+                int im = ui[p] * m;
+                double u = ux[p];
+                for (int r = 0; r < m; r++) {
+                    y[im + r] -= u * y[jm + r];
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve transposed system in place in factorized matrix order, for {@code m} right-hand sides interleaved in {@code y}.
+     */
+    private void solveTransposed(double[] y, int m) {
+        // UT * z = y
+        for (int j = 0; j < n; j++) {
+            int jm = j * m;
+            int diag = up[j + 1] - 1;
+            for (int p = up[j]; p < diag; p++) {
+                int im = ui[p] * m;
+                double u = ux[p];
+                for (int r = 0; r < m; r++) {
+                    y[jm + r] -= u * y[im + r];
+                }
+            }
+            double d = ux[diag];
+            for (int r = 0; r < m; r++) {
+                y[jm + r] /= d;
+            }
+        }
+        // LT * x = z
+        for (int j = n - 1; j >= 0; j--) {
+            int jm = j * m;
+            for (int p = lp[j] + 1; p < lp[j + 1]; p++) {
+                int im = li[p] * m;
+                double l = lx[p];
+                for (int r = 0; r < m; r++) {
+                    y[jm + r] -= l * y[im + r];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void solve(double[] b) {
+        Objects.requireNonNull(b);
+        checkSize(b.length);
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            y[pinv[i]] = b[i];
+        }
+        solve(y, 1);
+        for (int k = 0; k < n; k++) {
+            b[q[k]] = y[k];
+        }
+    }
+
+    @Override
+    public void solveTransposed(double[] b) {
+        Objects.requireNonNull(b);
+        checkSize(b.length);
+        double[] y = new double[n];
+        for (int k = 0; k < n; k++) {
+            y[k] = b[q[k]];
+        }
+        solveTransposed(y, 1);
+        for (int i = 0; i < n; i++) {
+            b[i] = y[pinv[i]];
+        }
+    }
+
+    private void solve(DenseMatrix b, boolean transposed) {
+        Objects.requireNonNull(b);
+        checkSize(b.getRowCount());
+        ByteBuffer buffer = b.getBuffer();
+        double[] y = new double[n * Math.min(RHS_BLOCK_SIZE, Math.max(b.getColumnCount(), 1))];
+        for (int firstColumn = 0; firstColumn < b.getColumnCount(); firstColumn += RHS_BLOCK_SIZE) {
+            int m = Math.min(RHS_BLOCK_SIZE, b.getColumnCount() - firstColumn);
+            // gather the block of right-hand sides, interleaved and permuted
+            for (int r = 0; r < m; r++) {
+                int offset = (firstColumn + r) * n;
+                if (transposed) {
+                    for (int k = 0; k < n; k++) {
+                        y[k * m + r] = buffer.getDouble((offset + q[k]) * Double.BYTES);
+                    }
+                } else {
+                    for (int i = 0; i < n; i++) {
+                        y[pinv[i] * m + r] = buffer.getDouble((offset + i) * Double.BYTES);
+                    }
+                }
+            }
+            if (transposed) {
+                solveTransposed(y, m);
+            } else {
+                solve(y, m);
+            }
+            // scatter back the solutions
+            for (int r = 0; r < m; r++) {
+                int offset = (firstColumn + r) * n;
+                if (transposed) {
+                    for (int i = 0; i < n; i++) {
+                        buffer.putDouble((offset + i) * Double.BYTES, y[pinv[i] * m + r]);
+                    }
+                } else {
+                    for (int k = 0; k < n; k++) {
+                        buffer.putDouble((offset + q[k]) * Double.BYTES, y[k * m + r]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        solve(b, false);
+    }
+
+    @Override
+    public void solveTransposed(DenseMatrix b) {
+        solve(b, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Solves only read the factors and allocate their own working vectors.
+     */
+    @Override
+    public boolean isConcurrentSolveSupported() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
@@ -0,0 +1,368 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.trove.TDoubleArrayListHack;
+import com.powsybl.commons.util.trove.TIntArrayListHack;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sparse matrix implementation in <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_column_(CSC_or_CCS)">CSC</a>
+ * format, with the same filling rules as {@link SparseMatrix}, but relying on a pure Java LU decomposition
+ * ({@link JavaSparseLUDecomposition}) instead of a native library.
+ *
+ * @author agent <agent at local>
+ */
+class JavaSparseMatrix extends AbstractMatrix {
+
+    /**
+     * Sparse Element implementation.
+     * An element in a sparse matrix is defined by its index in the values vector.
+     */
+    class SparseElement implements Element {
+
+        /**
+         * Index of the element in the values vector.
+         */
+        private final int valueIndex;
+
+        SparseElement(int valueIndex) {
+            this.valueIndex = valueIndex;
+        }
+
+        @Override
+        public void set(double value) {
+            values.setQuick(valueIndex, value);
+        }
+
+        @Override
+        public void add(double value) {
+            values.setQuick(valueIndex, values.getQuick(valueIndex) + value);
+        }
+    }
+
+    /**
+     * Row count.
+     */
+    private final int rowCount;
+
+    /**
+     * Column count.
+     */
+    private final int columnCount;
+
+    /**
+     * Column start index in {@link #values} array, -1 for empty columns.
+     * Length of this vector is the number of column, plus one last element at the end for value count.
+     */
+    private final int[] columnStart;
+
+    /**
+     * Column value count.
+     * Length of this vector is the number of column.
+     */
+    private final int[] columnValueCount;
+
+    /**
+     * Row index for each of the {@link #values}.
+     * Length of this vector is the number of values.
+     */
+    private final TIntArrayListHack rowIndices;
+
+    /**
+     * Non zero values.
+     */
+    private final TDoubleArrayListHack values;
+
+    private int currentColumn = -1; // just for matrix filling
+
+    /**
+     * Create an empty sparse matrix.
+     *
+     * @param rowCount row count
+     * @param columnCount column count
+     * @param estimatedNonZeroValueCount estimated number of non zero values (used for internal pre-allocation)
+     */
+    JavaSparseMatrix(int rowCount, int columnCount, int estimatedNonZeroValueCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("row count has to be positive");
+        }
+        if (columnCount < 0) {
+            throw new IllegalArgumentException("column count has to be positive");
+        }
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        columnStart = new int[columnCount + 1];
+        columnValueCount = new int[columnCount];
+        Arrays.fill(columnStart, -1);
+        this.columnStart[columnCount] = 0;
+        rowIndices = new TIntArrayListHack(estimatedNonZeroValueCount);
+        values = new TDoubleArrayListHack(estimatedNonZeroValueCount);
+    }
+
+    /**
+     * Get columm start index vector.
+     *
+     * @return columm start index vector
+     */
+    int[] getColumnStart() {
+        return columnStart;
+    }
+
+    /**
+     * Get column value count vector.
+     *
+     * @return column value count vector.
+     */
+    int[] getColumnValueCount() {
+        return columnValueCount;
+    }
+
+    /**
+     * Get row index vector.
+     *
+     * @return row index vector
+     */
+    int[] getRowIndices() {
+        return rowIndices.getData();
+    }
+
+    /**
+     * Get non zero value vector.
+     *
+     * @return non zero value vector
+     */
+    double[] getValues() {
+        return values.getData();
+    }
+
+    /**
+     * Get the number of stored values.
+     *
+     * @return the number of stored values
+     */
+    int getValueCount() {
+        return values.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    private void startColumn(int j) {
+        if (j > currentColumn) {
+            columnStart[j] = values.size();
+            currentColumn = j;
+        } else if (j < currentColumn) {
+            throw new PowsyblException("Columns have to be filled in the right order");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * As sparse matrix is stored in CSC format. Columns must be filled in ascending order but values inside a column
+     * may be filled in any order.
+     * </p>
+     * @throws PowsyblException if values are filled in wrong order.
+     */
+    @Override
+    public void set(int i, int j, double value) {
+        checkBounds(i, j);
+        startColumn(j);
+        values.add(value);
+        rowIndices.add(i);
+        columnStart[columnStart.length - 1] = values.size();
+        columnValueCount[j]++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * As sparse matrix is stored in CSC format. Columns must be filled in ascending order but values inside a column
+     * may be filled in any order.
+     * </p>
+     * @throws PowsyblException if values are filled in wrong order.
+     */
+    @Override
+    public void add(int i, int j, double value) {
+        checkBounds(i, j);
+        boolean startNewColumn = j > currentColumn;
+        startColumn(j);
+        if (!startNewColumn && i == rowIndices.get(rowIndices.size() - 1)) {
+            int vi = values.size() - 1;
+            values.setQuick(vi, values.getQuick(vi) + value);
+        } else {
+            values.add(value);
+            rowIndices.add(i);
+            columnStart[columnStart.length - 1] = values.size();
+            columnValueCount[j]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * As sparse matrix is stored in CSC format. Columns must be filled in ascending order but values inside a column
+     * may be filled in any order.
+     * </p>
+     * @throws PowsyblException if values are filled in wrong order.
+     */
+    @Override
+    public Element addAndGetElement(int i, int j, double value) {
+        add(i, j, value);
+        return new SparseElement(values.size() - 1);
+    }
+
+    @Override
+    public void reset() {
+        values.fill(0d);
+    }
+
+    @Override
+    public LUDecomposition decomposeLU() {
+        return new JavaSparseLUDecomposition(this);
+    }
+
+    /**
+     * Sparse matrix multiplication, column by column with a dense accumulator (Gustavson algorithm).
+     */
+    @Override
+    public Matrix times(Matrix other) {
+        if (!(other instanceof JavaSparseMatrix)) {
+            throw new PowsyblException("Only multiplication by a " + JavaSparseMatrix.class.getSimpleName() + " is supported");
+        }
+        JavaSparseMatrix o = (JavaSparseMatrix) other;
+        if (columnCount != o.rowCount) {
+            throw new IllegalArgumentException("Incompatible matrix dimensions");
+        }
+        JavaSparseMatrix result = new JavaSparseMatrix(rowCount, o.columnCount, values.size() + o.values.size());
+        double[] accumulator = new double[rowCount];
+        int[] mark = new int[rowCount];
+        Arrays.fill(mark, -1);
+        int[] pattern = new int[rowCount];
+        for (int j = 0; j < o.columnCount; j++) {
+            int patternSize = 0;
+            int first2 = o.columnStart[j];
+            if (first2 == -1) {
+                continue;
+            }
+            for (int p2 = first2; p2 < first2 + o.columnValueCount[j]; p2++) {
+                int k = o.rowIndices.getQuick(p2);
+                double v2 = o.values.getQuick(p2);
+                int first1 = columnStart[k];
+                if (first1 != -1) {
+                    for (int p1 = first1; p1 < first1 + columnValueCount[k]; p1++) {
+                        int i = rowIndices.getQuick(p1);
+                        if (mark[i] != j) {
+                            mark[i] = j;
+                            accumulator[i] = 0;
+                            pattern[patternSize++] = i;
+                        }
+                        accumulator[i] += values.getQuick(p1) * v2;
+                    }
+                }
+            }
+            for (int p = 0; p < patternSize; p++) {
+                int i = pattern[p];
+                result.set(i, j, accumulator[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void iterateNonZeroValue(ElementHandler handler) {
+        for (int j = 0; j < columnCount; j++) {
+            iterateNonZeroValueOfColumn(j, handler);
+        }
+    }
+
+    @Override
+    public void iterateNonZeroValueOfColumn(int j, ElementHandler handler) {
+        int first = columnStart[j];
+        if (first != -1) {
+            for (int v = first; v < first + columnValueCount[j]; v++) {
+                int i = rowIndices.getQuick(v);
+                double value = values.getQuick(v);
+                handler.onElement(i, j, value);
+            }
+        }
+    }
+
+    @Override
+    public DenseMatrix toDense() {
+        return (DenseMatrix) to(new DenseMatrixFactory());
+    }
+
+    @Override
+    public SparseMatrix toSparse() {
+        return (SparseMatrix) to(new SparseMatrixFactory());
+    }
+
+    @Override
+    public Matrix to(MatrixFactory factory) {
+        Objects.requireNonNull(factory);
+        if (factory instanceof JavaSparseMatrixFactory) {
+            return this;
+        }
+        return copy(factory);
+    }
+
+    @Override
+    protected int getEstimatedNonZeroValueCount() {
+        return values.size();
+    }
+
+    @Override
+    public void print(PrintStream out) {
+        print(out, null, null);
+    }
+
+    @Override
+    public void print(PrintStream out, List<String> rowNames, List<String> columnNames) {
+        out.println("rowCount=" + rowCount);
+        out.println("columnCount=" + columnCount);
+        out.println("columnStart=" + Arrays.toString(columnStart));
+        out.println("columnValueCount=" + Arrays.toString(columnValueCount));
+        out.println("rowIndices=" + rowIndices);
+        out.println("values=" + values);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowCount + columnCount + Arrays.hashCode(columnStart) + Arrays.hashCode(columnValueCount) + rowIndices.hashCode() + values.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof JavaSparseMatrix) {
+            JavaSparseMatrix other = (JavaSparseMatrix) obj;
+            return rowCount == other.rowCount &&
+                    columnCount == other.columnCount &&
+                    Arrays.equals(columnStart, other.columnStart) &&
+                    Arrays.equals(columnValueCount, other.columnValueCount) &&
+                    rowIndices.equals(other.rowIndices) &&
+                    values.equals(other.values);
+        }
+        return false;
+    }
+}
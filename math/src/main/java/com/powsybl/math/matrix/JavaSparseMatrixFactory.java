@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+/**
+ * Pure Java sparse matrix factory, to be used when the native library of {@link SparseMatrixFactory} cannot be
+ * deployed.
+ *
+ * @see JavaSparseMatrix
+ *
+ * @author agent <agent at local>
+ */
+public class JavaSparseMatrixFactory implements MatrixFactory {
+
+    @Override
+    public JavaSparseMatrix create(int rowCount, int columnCount, int estimatedNonZeroValueCount) {
+        return new JavaSparseMatrix(rowCount, columnCount, estimatedNonZeroValueCount);
+    }
+}
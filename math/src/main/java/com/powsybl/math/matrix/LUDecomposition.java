@@ -6,6 +6,8 @@
  */
 package com.powsybl.math.matrix;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * LU decomposition utility class. As some decomposition implementation may allocate resources that need to be released
  * a try-with-resource block has to be used to ensure correct resource management.
@@ -21,6 +23,38 @@ package com.powsybl.math.matrix;
  */
 public interface LUDecomposition extends AutoCloseable {
 
+    /**
+     * Provider of the right-hand sides of a streamed solve.
+     */
+    @FunctionalInterface
+    interface RightHandSidesProvider {
+
+        /**
+         * Fill a block of right-hand sides.
+         *
+         * @param firstColumn index of the first right-hand side of the block
+         * @param block a matrix whose column {@code j} has to be filled with right-hand side {@code firstColumn + j},
+         *              all values being zero when called
+         */
+        void fill(int firstColumn, DenseMatrix block);
+    }
+
+    /**
+     * Consumer of the solutions of a streamed solve.
+     */
+    @FunctionalInterface
+    interface SolutionsConsumer {
+
+        /**
+         * Consume a block of solutions. As the block is reused to solve next right-hand sides, it must not be referenced
+         * after this method returns.
+         *
+         * @param firstColumn index of the first right-hand side of the block
+         * @param block a matrix whose column {@code j} is the solution for right-hand side {@code firstColumn + j}
+         */
+        void accept(int firstColumn, DenseMatrix block);
+    }
+
     /**
      * Method to call when matrix has been updated to refresh LU decomposition so that new data can be taken into
      * account in next {@link #solve(double[])} or {@link #solve(DenseMatrix)}.
@@ -55,6 +89,65 @@ public interface LUDecomposition extends AutoCloseable {
      */
     void solveTransposed(DenseMatrix b);
 
+    /**
+     * Check if solves can be run concurrently from several threads, as long as the decomposition is not updated at the
+     * same time. If not, the parallel solves of this interface fall back to a sequential solve.
+     *
+     * @return true if solves can be run concurrently, false otherwise
+     */
+    default boolean isConcurrentSolveSupported() {
+        return false;
+    }
+
+    /**
+     * Solve A * x = b where b is a dense matrix, columns of b being split in blocks solved in parallel by tasks of
+     * {@code pool}.
+     *
+     * @param b a matrix
+     * @param pool the pool running the solve tasks
+     */
+    default void solve(DenseMatrix b, ForkJoinPool pool) {
+        MultipleRightHandSidesSolver.solve(this, b, false, pool);
+    }
+
+    /**
+     * Solve AT * x = b where b is a dense matrix, columns of b being split in blocks solved in parallel by tasks of
+     * {@code pool}.
+     *
+     * @param b a matrix
+     * @param pool the pool running the solve tasks
+     */
+    default void solveTransposed(DenseMatrix b, ForkJoinPool pool) {
+        MultipleRightHandSidesSolver.solve(this, b, true, pool);
+    }
+
+    /**
+     * Solve A * x = b for {@code rightHandSideCount} right-hand sides, by blocks of at most {@code blockSize} columns:
+     * only one block per task of {@code pool} is in memory, so that the whole right-hand sides and solutions matrix
+     * never has to be allocated. Provider and consumer may be called concurrently for different blocks, in any order.
+     *
+     * @param size size of the matrix, which is also the row count of the blocks
+     * @param rightHandSideCount number of right-hand sides
+     * @param blockSize maximum number of right-hand sides solved together
+     * @param provider provider of the right-hand sides
+     * @param consumer consumer of the solutions
+     * @param pool the pool running the solve tasks
+     */
+    default void solve(int size, int rightHandSideCount, int blockSize, RightHandSidesProvider provider,
+                       SolutionsConsumer consumer, ForkJoinPool pool) {
+        MultipleRightHandSidesSolver.solve(this, size, rightHandSideCount, blockSize, provider, consumer, false, pool);
+    }
+
+    /**
+     * Solve AT * x = b for {@code rightHandSideCount} right-hand sides, by blocks of at most {@code blockSize} columns.
+     *
+     * @see #solve(int, int, int, RightHandSidesProvider, SolutionsConsumer, ForkJoinPool)
+     */
+    default void solveTransposed(int size, int rightHandSideCount, int blockSize, RightHandSidesProvider provider,
+                                 SolutionsConsumer consumer, ForkJoinPool pool) {
+        MultipleRightHandSidesSolver.solve(this, size, rightHandSideCount, blockSize, provider, consumer, true, pool);
+    }
+
     /**
      * {@inheritDoc}
      */
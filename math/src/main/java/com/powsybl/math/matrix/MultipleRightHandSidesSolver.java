@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of the parallel and streamed solves of {@link LUDecomposition}: right-hand sides are split in blocks of
+ * columns, and ranges of blocks are solved by the tasks of a {@link ForkJoinPool} if the decomposition supports
+ * concurrent solves, sequentially otherwise.
+ *
+ * @author agent <agent at local>
+ */
+final class MultipleRightHandSidesSolver {
+
+    /**
+     * Minimum column count of a block solved in place, smaller blocks do not amortize the task overhead.
+     */
+    private static final int MIN_BLOCK_SIZE = 8;
+
+    /**
+     * Number of tasks per worker, so that the work can be balanced by stealing when solve durations differ.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+
+    @FunctionalInterface
+    private interface BlockHandler {
+
+        void onBlock(int firstColumn, int columnCount, DenseMatrix workingBlock);
+    }
+
+    /**
+     * Blocks of columns {@code [0, columnCount[} to be handled, {@code blockSize} columns each, except the last one.
+     */
+    private static final class Blocks {
+
+        private final int rowCount;
+
+        private final int columnCount;
+
+        private final int blockSize;
+
+        private final boolean workingBlockNeeded;
+
+        private final BlockHandler handler;
+
+        private Blocks(int rowCount, int columnCount, int blockSize, boolean workingBlockNeeded, BlockHandler handler) {
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            this.blockSize = blockSize;
+            this.workingBlockNeeded = workingBlockNeeded;
+            this.handler = handler;
+        }
+
+        private int getBlockCount() {
+            return (columnCount + blockSize - 1) / blockSize;
+        }
+
+        /**
+         * Handle sequentially blocks {@code firstBlock} to {@code lastBlock - 1}, with the same working block.
+         */
+        private void handle(int firstBlock, int lastBlock) {
+            DenseMatrix workingBlock = null;
+            for (int block = firstBlock; block < lastBlock; block++) {
+                int firstColumn = block * blockSize;
+                int blockColumnCount = Math.min(blockSize, columnCount - firstColumn);
+                if (workingBlockNeeded && (workingBlock == null || workingBlock.getColumnCount() != blockColumnCount)) {
+                    workingBlock = new DenseMatrix(rowCount, blockColumnCount);
+                }
+                handler.onBlock(firstColumn, blockColumnCount, workingBlock);
+            }
+        }
+    }
+
+    /**
+     * Task handling a range of blocks, split in two halves until it has no more than {@code blocksPerTask} blocks.
+     */
+    private static final class BlockRangeTask extends RecursiveAction {
+
+        private final Blocks blocks;
+
+        private final int firstBlock;
+
+        private final int lastBlock;
+
+        private final int blocksPerTask;
+
+        private BlockRangeTask(Blocks blocks, int firstBlock, int lastBlock, int blocksPerTask) {
+            this.blocks = blocks;
+            this.firstBlock = firstBlock;
+            this.lastBlock = lastBlock;
+            this.blocksPerTask = blocksPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastBlock - firstBlock > blocksPerTask) {
+                int middleBlock = (firstBlock + lastBlock) >>> 1;
+                invokeAll(new BlockRangeTask(blocks, firstBlock, middleBlock, blocksPerTask),
+                          new BlockRangeTask(blocks, middleBlock, lastBlock, blocksPerTask));
+            } else {
+                blocks.handle(firstBlock, lastBlock);
+            }
+        }
+    }
+
+    private MultipleRightHandSidesSolver() {
+    }
+
+    private static int getTaskCount(ForkJoinPool pool) {
+        return pool.getParallelism() * TASKS_PER_WORKER;
+    }
+
+    private static void solve(LUDecomposition decomposition, DenseMatrix b, boolean transposed) {
+        if (transposed) {
+            decomposition.solveTransposed(b);
+        } else {
+            decomposition.solve(b);
+        }
+    }
+
+    private static void handle(LUDecomposition decomposition, Blocks blocks, ForkJoinPool pool) {
+        int blockCount = blocks.getBlockCount();
+        int taskCount = getTaskCount(pool);
+        if (decomposition.isConcurrentSolveSupported() && blockCount > 1 && taskCount > 1) {
+            int blocksPerTask = (blockCount + taskCount - 1) / taskCount;
+            pool.invoke(new BlockRangeTask(blocks, 0, blockCount, blocksPerTask));
+        } else {
+            blocks.handle(0, blockCount);
+        }
+    }
+
+    static void solve(LUDecomposition decomposition, DenseMatrix b, boolean transposed, ForkJoinPool pool) {
+        Objects.requireNonNull(decomposition);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(pool);
+        int columnCount = b.getColumnCount();
+        int taskCount = getTaskCount(pool);
+        int blockSize = Math.max(MIN_BLOCK_SIZE, (columnCount + taskCount - 1) / taskCount);
+        if (!decomposition.isConcurrentSolveSupported() || columnCount <= blockSize) {
+            solve(decomposition, b, transposed);
+        } else {
+            // solved in place, through views on the columns of the matrix
+            handle(decomposition, new Blocks(b.getRowCount(), columnCount, blockSize, false,
+                (firstColumn, blockColumnCount, workingBlock) -> solve(decomposition, b.getColumnsView(firstColumn, blockColumnCount), transposed)),
+                pool);
+        }
+    }
+
+    static void solve(LUDecomposition decomposition, int rowCount, int columnCount, int blockSize,
+                      LUDecomposition.RightHandSidesProvider provider, LUDecomposition.SolutionsConsumer consumer,
+                      boolean transposed, ForkJoinPool pool) {
+        Objects.requireNonNull(decomposition);
+        Objects.requireNonNull(provider);
+        Objects.requireNonNull(consumer);
+        Objects.requireNonNull(pool);
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("row count has to be positive");
+        }
+        if (columnCount < 0) {
+            throw new IllegalArgumentException("column count has to be positive");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("block size has to be strictly positive");
+        }
+        handle(decomposition, new Blocks(rowCount, columnCount, blockSize, true, (firstColumn, blockColumnCount, workingBlock) -> {
+            workingBlock.reset();
+            provider.fill(firstColumn, workingBlock);
+            solve(decomposition, workingBlock, transposed);
+            consumer.accept(firstColumn, workingBlock);
+        }), pool);
+    }
+}
@@ -7,6 +7,8 @@
  * </li>
  * <li><a href="http://faculty.cse.tamu.edu/davis/suitesparse.html">SuiteSparse KLU</a> for sparse matrix: can be used
  * with large sparse data</li>
+ * <li>a pure Java sparse LU decomposition, following the design of KLU, for sparse matrix when the native library
+ * cannot be deployed: see {@link com.powsybl.math.matrix.JavaSparseMatrixFactory}</li>
  * </ul>
  */
 package com.powsybl.math.matrix;
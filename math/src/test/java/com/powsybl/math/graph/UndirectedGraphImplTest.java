@@ -19,8 +19,8 @@ import org.mockito.Mockito;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -414,6 +414,181 @@ public class UndirectedGraphImplTest {
         graph.traverse(4, traverser);
     }
 
+    @Test
+    public void testBatch() {
+        UndirectedGraphListener listener = Mockito.mock(UndirectedGraphListener.class);
+        graph.addListener(listener);
+        graph.batch(() -> {
+            graph.addVertex();
+            graph.addVertex();
+            graph.batch(() -> graph.addVertex());
+            graph.addEdge(0, 1, "Edge 1");
+            graph.addEdge(1, 2, "Edge 2");
+            graph.addEdge(2, 0, "Edge 3");
+            Mockito.verify(listener, Mockito.never()).graphChanged();
+        });
+        Mockito.verify(listener, Mockito.times(1)).graphChanged();
+
+        // the adjacency seen by the traversal is the one after the mutations
+        boolean[] encountered = new boolean[graph.getVertexCount()];
+        graph.traverse(0, (v1, e, v2) -> TraverseResult.CONTINUE, encountered);
+        assertArrayEquals(new boolean[] {true, true, true}, encountered);
+        graph.batch(() -> {
+            graph.removeEdge(0);
+            graph.removeEdge(2);
+        });
+        Mockito.verify(listener, Mockito.times(2)).graphChanged();
+        encountered = new boolean[graph.getVertexCount()];
+        graph.traverse(0, (v1, e, v2) -> TraverseResult.CONTINUE, encountered);
+        assertArrayEquals(new boolean[] {true, false, false}, encountered);
+        assertEquals(Arrays.asList("Edge 2"), graph.getEdgeObjects(2, 1));
+
+        // nothing changed, no notification
+        graph.batch(() -> { });
+        Mockito.verify(listener, Mockito.times(2)).graphChanged();
+    }
+
+    @Test
+    public void testConcurrentTraverse() throws InterruptedException {
+        int vertexCount = 1000;
+        for (int v = 0; v < vertexCount; v++) {
+            graph.addVertex();
+        }
+        for (int v = 1; v < vertexCount; v++) {
+            graph.addEdge(v - 1, v, null);
+        }
+        int threadCount = 4;
+        boolean[][] encountered = new boolean[threadCount][];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int thread = i;
+            threads[i] = new Thread(() -> {
+                encountered[thread] = new boolean[vertexCount];
+                graph.traverse(thread, (v1, e, v2) -> TraverseResult.CONTINUE, encountered[thread]);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (boolean[] e : encountered) {
+            for (boolean b : e) {
+                assertTrue(b);
+            }
+        }
+    }
+
+    private void createDiamondGraph() {
+        for (int v = 0; v < 6; v++) {
+            graph.addVertex();
+        }
+        graph.setVertexObject(5, new Vertex("end"));
+        graph.addEdge(0, 1, null); // 0
+        graph.addEdge(0, 2, null); // 1
+        graph.addEdge(0, 3, "cancelled"); // 2
+        graph.addEdge(1, 4, null); // 3
+        graph.addEdge(2, 4, null); // 4
+        graph.addEdge(4, 5, null); // 5
+        graph.addEdge(3, 5, null); // 6
+    }
+
+    @Test
+    public void testTraverseBreadthFirst() {
+        createDiamondGraph();
+        VisitMarkers markers = new VisitMarkers();
+        List<String> traversed = new ArrayList<>();
+        graph.traverseBreadthFirst(0, (v1, e, v2) -> {
+            traversed.add(v1 + "-" + e + "-" + v2);
+            return v2 == 4 ? TraverseResult.TERMINATE : TraverseResult.CONTINUE;
+        }, markers);
+        assertEquals(Arrays.asList("0-0-1", "0-1-2", "0-2-3", "1-3-4", "2-4-4", "3-6-5", "5-5-4"), traversed);
+        for (int v = 0; v < 6; v++) {
+            assertEquals(v != 4, markers.isVisited(v));
+        }
+        assertEquals(-1, markers.getParentEdge(0));
+        assertEquals(0, markers.getParentEdge(1));
+        assertEquals(6, markers.getParentEdge(5));
+
+        // markers are reset by the next traversal, and grow with the graph
+        graph.addVertex();
+        graph.addEdge(5, 6, null);
+        graph.traverseBreadthFirst(6, (v1, e, v2) -> v2 == 5 ? TraverseResult.CONTINUE : TraverseResult.TERMINATE, markers);
+        for (int v = 0; v < 7; v++) {
+            assertEquals(v >= 5, markers.isVisited(v));
+        }
+    }
+
+    @Test
+    public void testFindShortestPath() {
+        createDiamondGraph();
+        VisitMarkers markers = new VisitMarkers();
+        assertEquals(new TIntArrayList(new int[] {2, 6}), graph.findShortestPath(0, 5, null, markers));
+        assertEquals(new TIntArrayList(new int[] {6, 2}), graph.findShortestPath(5, 0, null, markers));
+        assertEquals(new TIntArrayList(new int[] {0, 3, 5}), graph.findShortestPath(0, 5, "cancelled"::equals, markers));
+        assertEquals(new TIntArrayList(), graph.findShortestPath(3, 3, null, markers));
+        assertEquals(new TIntArrayList(new int[] {5}), graph.findShortestPath(4, 5, null, markers));
+        graph.addVertex();
+        assertNull(graph.findShortestPath(0, 6, null, markers));
+
+        // same length as the shortest of all the paths on random graphs
+        Random random = new Random(0);
+        for (int i = 0; i < 50; i++) {
+            UndirectedGraph<Vertex, Object> randomGraph = new UndirectedGraphImpl<>();
+            int vertexCount = 2 + random.nextInt(20);
+            for (int v = 0; v < vertexCount; v++) {
+                randomGraph.addVertex();
+            }
+            randomGraph.setVertexObject(vertexCount - 1, new Vertex("end"));
+            for (int e = 0; e < vertexCount * 3 / 2; e++) {
+                randomGraph.addEdge(random.nextInt(vertexCount), random.nextInt(vertexCount), null);
+            }
+            List<TIntArrayList> paths = randomGraph.findAllPaths(0, Objects::nonNull, null);
+            TIntArrayList path = randomGraph.findShortestPath(0, vertexCount - 1, null, markers);
+            if (paths.isEmpty()) {
+                assertNull(path);
+            } else {
+                assertEquals(paths.get(0).size(), path.size());
+                int v = 0;
+                for (int j = 0; j < path.size(); j++) {
+                    int e = path.get(j);
+                    v = randomGraph.getEdgeVertex1(e) == v ? randomGraph.getEdgeVertex2(e) : randomGraph.getEdgeVertex1(e);
+                }
+                assertEquals(vertexCount - 1, v);
+            }
+        }
+    }
+
+    @Test
+    public void testTraverseInParallel() {
+        int vertexCount = 100;
+        for (int v = 0; v < vertexCount; v++) {
+            graph.addVertex();
+        }
+        // 10 chains of 10 vertices
+        for (int v = 0; v < vertexCount; v++) {
+            if (v % 10 != 9) {
+                graph.addEdge(v, v + 1, null);
+            }
+        }
+        int[] startVertices = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            startVertices[v] = v;
+        }
+        int[] traversedCounts = new int[vertexCount];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            graph.traverseInParallel(startVertices, v -> (v1, e, v2) -> {
+                traversedCounts[v]++;
+                return TraverseResult.CONTINUE;
+            }, pool);
+        } finally {
+            pool.shutdown();
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            assertEquals(9, traversedCounts[v]);
+        }
+    }
+
     @Test
     public void testGetVertexObjectStream() {
         graph.addVertex();
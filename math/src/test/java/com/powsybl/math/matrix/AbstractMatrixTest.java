@@ -16,6 +16,7 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -269,6 +270,83 @@ public abstract class AbstractMatrixTest {
         }
     }
 
+    @Test
+    public void testParallelAndStreamedSolve() {
+        // 2  3  0  0  0
+        // 3  0  4  0  6
+        // 0 -1 -3  2  0
+        // 0  0  1  0  0
+        // 0  4  2  0  1
+        Matrix matrix = getMatrixFactory().create(5, 5, 12);
+        matrix.set(0, 0, 2);
+        matrix.set(1, 0, 3);
+        matrix.set(0, 1, 3);
+        matrix.set(2, 1, -1);
+        matrix.set(4, 1, 4);
+        matrix.set(1, 2, 4);
+        matrix.set(2, 2, -3);
+        matrix.set(3, 2, 1);
+        matrix.set(4, 2, 2);
+        matrix.set(2, 3, 2);
+        matrix.set(1, 4, 6);
+        matrix.set(4, 4, 1);
+
+        // right-hand side j is (j + 1) * b, so that solution j is (j + 1) * [1, 2, 3, 4, 5]
+        double[] b = {8, 45, -3, 3, 19};
+        double[] bTransposed = {8, 20, 13, 6, 17};
+        int rhsCount = 50;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            DenseMatrix x = new DenseMatrix(5, rhsCount);
+            DenseMatrix xTransposed = new DenseMatrix(5, rhsCount);
+            for (int j = 0; j < rhsCount; j++) {
+                for (int i = 0; i < 5; i++) {
+                    x.set(i, j, (j + 1) * b[i]);
+                    xTransposed.set(i, j, (j + 1) * bTransposed[i]);
+                }
+            }
+            decomposition.solve(x, pool);
+            decomposition.solveTransposed(xTransposed, pool);
+
+            DenseMatrix streamed = new DenseMatrix(5, rhsCount);
+            DenseMatrix streamedTransposed = new DenseMatrix(5, rhsCount);
+            decomposition.solve(5, rhsCount, 3, (firstColumn, block) -> {
+                assertTrue(block.getColumnCount() <= 3);
+                for (int j = 0; j < block.getColumnCount(); j++) {
+                    for (int i = 0; i < 5; i++) {
+                        block.set(i, j, (firstColumn + j + 1) * b[i]);
+                    }
+                }
+            }, (firstColumn, block) -> copyColumns(block, streamed, firstColumn), pool);
+            decomposition.solveTransposed(5, rhsCount, 3, (firstColumn, block) -> {
+                for (int j = 0; j < block.getColumnCount(); j++) {
+                    for (int i = 0; i < 5; i++) {
+                        block.set(i, j, (firstColumn + j + 1) * bTransposed[i]);
+                    }
+                }
+            }, (firstColumn, block) -> copyColumns(block, streamedTransposed, firstColumn), pool);
+
+            for (int j = 0; j < rhsCount; j++) {
+                for (int i = 0; i < 5; i++) {
+                    assertEquals((j + 1) * (i + 1), x.get(i, j), 1e-12);
+                    assertEquals((j + 1) * (i + 1), xTransposed.get(i, j), 1e-12);
+                    assertEquals((j + 1) * (i + 1), streamed.get(i, j), 1e-12);
+                    assertEquals((j + 1) * (i + 1), streamedTransposed.get(i, j), 1e-12);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static synchronized void copyColumns(DenseMatrix block, DenseMatrix target, int firstColumn) {
+        for (int j = 0; j < block.getColumnCount(); j++) {
+            for (int i = 0; i < block.getRowCount(); i++) {
+                target.set(i, firstColumn + j, block.get(i, j));
+            }
+        }
+    }
+
     @Test
     public void testDecomposeNonSquare() {
         Matrix matrix = getMatrixFactory().create(1, 2, 4);
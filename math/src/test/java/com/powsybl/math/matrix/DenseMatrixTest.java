@@ -76,6 +76,23 @@ public class DenseMatrixTest extends AbstractMatrixTest {
         assertEquals(3d, a.get(2, 0), 0d);
     }
 
+    @Test
+    public void testColumnsView() {
+        DenseMatrix a = new DenseMatrix(2, 3, new double[] {1, 2, 3, 4, 5, 6});
+        DenseMatrix view = a.getColumnsView(1, 2);
+        assertEquals(2, view.getRowCount());
+        assertEquals(2, view.getColumnCount());
+        assertEquals(3, view.get(0, 0), 0);
+        assertEquals(6, view.get(1, 1), 0);
+        view.set(1, 0, 10);
+        assertEquals(10, a.get(1, 1), 0);
+        try {
+            a.getColumnsView(2, 2);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test
     public void testToSparse() {
         DenseMatrix a = (DenseMatrix) createA(matrixFactory);
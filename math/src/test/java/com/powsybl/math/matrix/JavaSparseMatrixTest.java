@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class JavaSparseMatrixTest extends AbstractMatrixTest {
+
+    private final MatrixFactory matrixFactory = new JavaSparseMatrixFactory();
+
+    private final MatrixFactory otherMatrixFactory = new DenseMatrixFactory();
+
+    @Override
+    protected MatrixFactory getMatrixFactory() {
+        return matrixFactory;
+    }
+
+    @Override
+    public MatrixFactory getOtherMatrixFactory() {
+        return otherMatrixFactory;
+    }
+
+    /**
+     * Random diagonally weighted sparse matrix, with a pattern looking like a meshed network admittance matrix.
+     */
+    private static DenseMatrix createRandomMatrix(int size, Random random) {
+        DenseMatrix dense = new DenseMatrix(size, size);
+        for (int i = 0; i < size; i++) {
+            dense.set(i, i, 1 + random.nextDouble());
+            for (int k = 0; k < 2; k++) {
+                int j = random.nextInt(size);
+                if (j != i) {
+                    dense.set(i, j, random.nextDouble() - 0.5);
+                    dense.set(j, i, random.nextDouble() - 0.5);
+                }
+            }
+        }
+        return dense;
+    }
+
+    private static double[] createRandomVector(int size, Random random) {
+        double[] b = new double[size];
+        for (int i = 0; i < size; i++) {
+            b[i] = random.nextDouble();
+        }
+        return b;
+    }
+
+    @Test
+    public void testSparsePrint() throws IOException {
+        Matrix a = createA(matrixFactory);
+        String expected = String.join(System.lineSeparator(),
+                "rowCount=3",
+                "columnCount=2",
+                "columnStart=[0, 2, 3]",
+                "columnValueCount=[2, 1]",
+                "rowIndices={0, 2, 1}",
+                "values={1.0, 2.0, 3.0}")
+                + System.lineSeparator();
+        assertEquals(expected, print(a, null, null));
+        assertEquals(expected, print(a));
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testWrongColumnOrder() {
+        Matrix a = matrixFactory.create(2, 2, 2);
+        a.set(0, 0, 1d);
+        a.set(1, 0, 1d);
+        a.set(0, 1, 1d);
+        a.set(1, 0, 1d);
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testWrongColumnOrderWithAdd() {
+        Matrix a = matrixFactory.create(2, 2, 2);
+        a.add(0, 0, 1d);
+        a.add(1, 0, 1d);
+        a.add(0, 1, 1d);
+        a.add(1, 0, 1d);
+    }
+
+    @Test
+    public void testRedecompose() {
+        Matrix matrix = getMatrixFactory().create(2, 2, 2);
+        matrix.set(0, 0, 3);
+        matrix.set(1, 0, 4);
+        matrix.set(0, 1, 1);
+
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            // fine
+            decomposition.update();
+
+            // error as an element has been added
+            matrix.set(1, 1, 2);
+            try {
+                decomposition.update();
+                fail();
+            } catch (PowsyblException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void timesDenseNotSupportedTest() {
+        try {
+            new JavaSparseMatrix(2, 2, 2).times(new DenseMatrix(2, 2));
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+    }
+
+    @Test
+    public void testSingularMatrix() {
+        Matrix matrix = getMatrixFactory().create(2, 2, 2);
+        matrix.set(0, 0, 1);
+        matrix.set(0, 1, 1);
+        try {
+            matrix.decomposeLU();
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+    }
+
+    @Test
+    public void testDecomposeRandomMatrix() {
+        Random random = new Random(0);
+        int size = 200;
+        DenseMatrix dense = createRandomMatrix(size, random);
+        Matrix sparse = dense.to(matrixFactory);
+        double[] b = createRandomVector(size, random);
+        double[] expected = b.clone();
+        double[] x = b.clone();
+        double[] expectedTransposed = b.clone();
+        double[] xTransposed = b.clone();
+        try (LUDecomposition denseDecomposition = dense.decomposeLU();
+             LUDecomposition sparseDecomposition = sparse.decomposeLU()) {
+            denseDecomposition.solve(expected);
+            sparseDecomposition.solve(x);
+            assertArrayEquals(expected, x, 1e-10);
+
+            denseDecomposition.solveTransposed(expectedTransposed);
+            sparseDecomposition.solveTransposed(xTransposed);
+            assertArrayEquals(expectedTransposed, xTransposed, 1e-10);
+        }
+    }
+
+    @Test
+    public void testSolveMultipleRightHandSides() {
+        Random random = new Random(1);
+        int size = 50;
+        int rhsCount = 19; // more than one block, last one incomplete
+        Matrix sparse = createRandomMatrix(size, random).to(matrixFactory);
+        DenseMatrix b = new DenseMatrix(size, rhsCount);
+        DenseMatrix bTransposed = new DenseMatrix(size, rhsCount);
+        for (int j = 0; j < rhsCount; j++) {
+            for (int i = 0; i < size; i++) {
+                double value = random.nextDouble();
+                b.set(i, j, value);
+                bTransposed.set(i, j, value);
+            }
+        }
+        try (LUDecomposition decomposition = sparse.decomposeLU()) {
+            // solutions computed one right-hand side at a time
+            double[][] expected = new double[rhsCount][];
+            double[][] expectedTransposed = new double[rhsCount][];
+            for (int j = 0; j < rhsCount; j++) {
+                expected[j] = new double[size];
+                for (int i = 0; i < size; i++) {
+                    expected[j][i] = b.get(i, j);
+                }
+                expectedTransposed[j] = expected[j].clone();
+                decomposition.solve(expected[j]);
+                decomposition.solveTransposed(expectedTransposed[j]);
+            }
+
+            decomposition.solve(b);
+            decomposition.solveTransposed(bTransposed);
+            for (int j = 0; j < rhsCount; j++) {
+                for (int i = 0; i < size; i++) {
+                    assertEquals(expected[j][i], b.get(i, j), 1e-12);
+                    assertEquals(expectedTransposed[j][i], bTransposed.get(i, j), 1e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateWithPivotChange() {
+        // 1 2
+        // 3 4
+        Matrix matrix = getMatrixFactory().create(2, 2, 4);
+        Matrix.Element a00 = matrix.addAndGetElement(0, 0, 1);
+        matrix.set(1, 0, 3);
+        matrix.set(0, 1, 2);
+        Matrix.Element a11 = matrix.addAndGetElement(1, 1, 4);
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            double[] x = {5, 11};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2}, x, EPSILON);
+
+            // numeric refactorization with the same pivots
+            a00.set(2);
+            decomposition.update();
+            x = new double[] {6, 11};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2}, x, EPSILON);
+
+            // 0 2
+            // 3 0
+            // previous pivot sequence cannot be used anymore, a new factorization is needed
+            a00.set(0);
+            a11.set(0);
+            decomposition.update();
+            x = new double[] {4, 3};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2}, x, EPSILON);
+        }
+    }
+
+    @Test
+    public void testParallelSolve() {
+        Random random = new Random(2);
+        int size = 100;
+        int rhsCount = 300;
+        Matrix sparse = createRandomMatrix(size, random).to(matrixFactory);
+        DenseMatrix b = new DenseMatrix(size, rhsCount);
+        for (int j = 0; j < rhsCount; j++) {
+            for (int i = 0; i < size; i++) {
+                b.set(i, j, random.nextDouble());
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (LUDecomposition decomposition = sparse.decomposeLU()) {
+            assertTrue(decomposition.isConcurrentSolveSupported());
+            DenseMatrix x = (DenseMatrix) b.copy(new DenseMatrixFactory());
+            decomposition.solve(x, pool);
+            // columns are solved independently, so the result does not depend on the split in blocks
+            decomposition.solve(b);
+            assertEquals(b, x);
+
+            // exceptions of a block are propagated to the caller
+            try {
+                decomposition.solve(size, rhsCount, 10, (firstColumn, block) -> {
+                    if (firstColumn == 150) {
+                        throw new IllegalStateException("Right-hand side error");
+                    }
+                }, (firstColumn, block) -> { }, pool);
+                fail();
+            } catch (IllegalStateException e) {
+                assertTrue(e.getMessage().endsWith("Right-hand side error"));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -18,9 +18,12 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -45,34 +48,95 @@ public class PsseRawReader {
         return removeComment(line);
     }
 
+    private static final int DEFAULT_RECORD_CHUNK_SIZE = 10000;
+
+    /**
+     * A parser of records of a given type, the same univocity parser being reused for all the records.
+     */
+    private static final class RecordParser<T> {
+
+        private final BeanListProcessor<T> processor;
+
+        private final CsvParser parser;
+
+        private int recordCount = 0;
+
+        private RecordParser(Class<T> aClass) {
+            CsvParserSettings settings = new CsvParserSettings();
+            settings.setHeaderExtractionEnabled(false);
+            settings.setQuoteDetectionEnabled(true);
+            settings.setProcessorErrorHandler(new RetryableErrorHandler<ParsingContext>() {
+                @Override
+                public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+                    LOGGER.error(error.getMessage());
+                }
+            });
+            processor = new BeanListProcessor<>(aClass);
+            settings.setProcessor(processor);
+            parser = new CsvParser(settings);
+        }
+
+        private T parse(String record) {
+            parser.parseLine(record);
+            List<T> beans = processor.getBeans();
+            if (beans.size() != ++recordCount) {
+                throw new PsseException("Parsing error");
+            }
+            return beans.get(recordCount - 1);
+        }
+    }
+
+    private final int recordChunkSize;
+
+    public PsseRawReader() {
+        this(DEFAULT_RECORD_CHUNK_SIZE);
+    }
+
+    PsseRawReader(int recordChunkSize) {
+        this.recordChunkSize = recordChunkSize;
+    }
+
     private static <T> T parseRecord(String record, Class<T> aClass) {
-        List<T> beans = parseRecords(Collections.singletonList(record), aClass);
-        return beans.get(0);
+        return new RecordParser<>(aClass).parse(record);
     }
 
     private static <T> List<T> parseRecords(List<String> records, Class<T> aClass) {
-        CsvParserSettings settings = new CsvParserSettings();
-        settings.setHeaderExtractionEnabled(false);
-        settings.setQuoteDetectionEnabled(true);
-        settings.setProcessorErrorHandler(new RetryableErrorHandler<ParsingContext>() {
-            @Override
-            public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
-                LOGGER.error(error.getMessage());
-            }
-        });
-        BeanListProcessor<T> processor = new BeanListProcessor<>(aClass);
-        settings.setProcessor(processor);
-        CsvParser parser = new CsvParser(settings);
+        RecordParser<T> parser = new RecordParser<>(aClass);
+        List<T> beans = new ArrayList<>(records.size());
         for (String record : records) {
-            parser.parseLine(record);
-        }
-        List<T> beans = processor.getBeans();
-        if (beans.size() != records.size()) {
-            throw new PsseException("Parsing error");
+            beans.add(parser.parse(record));
         }
         return beans;
     }
 
+    /**
+     * Parse the records of a section, large sections are split in chunks parsed concurrently.
+     */
+    private <T> CompletableFuture<List<T>> parseRecordsAsync(List<String> records, Class<T> aClass, Executor executor) {
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+        for (int i = 0; i < records.size(); i += recordChunkSize) {
+            List<String> chunk = records.subList(i, Math.min(i + recordChunkSize, records.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> parseRecords(chunk, aClass), executor));
+        }
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<T> beans = new ArrayList<>(records.size());
+                    chunks.forEach(chunk -> beans.addAll(chunk.join()));
+                    return beans;
+                });
+    }
+
+    private static <T> List<T> join(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static List<String> readRecordBlock(BufferedReader reader) throws IOException {
         String line;
         List<String> records = new ArrayList<>();
@@ -85,6 +149,15 @@ public class PsseRawReader {
         return records;
     }
 
+    private static void skipRecordBlock(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = readLineAndRemoveComment(reader)) != null) {
+            if (line.trim().equals("0")) {
+                break;
+            }
+        }
+    }
+
     private PsseCaseIdentification readCaseIdentification(BufferedReader reader) throws IOException {
         String line = readLineAndRemoveComment(reader);
         PsseCaseIdentification caseIdentification = parseRecord(line, PsseCaseIdentification.class);
@@ -93,19 +166,21 @@ public class PsseRawReader {
         return caseIdentification;
     }
 
-    private List<PsseTransformer> readTransformers(BufferedReader reader) throws IOException {
+    private static List<PsseTransformer> parseTransformers(List<String> records) {
         List<PsseTransformer> transformers = new ArrayList<>();
 
-        List<String> records = readRecordBlock(reader);
+        RecordParser<PsseTransformer.FirstRecord> firstRecordParser = new RecordParser<>(PsseTransformer.FirstRecord.class);
+        RecordParser<PsseTransformer.SecondRecord> secondRecordParser = new RecordParser<>(PsseTransformer.SecondRecord.class);
+        RecordParser<PsseTransformer.ThirdRecord> thirdRecordParser = new RecordParser<>(PsseTransformer.ThirdRecord.class);
         int i = 0;
         while (i < records.size()) {
             PsseTransformer transformer = new PsseTransformer();
-            transformer.setFirstRecord(parseRecord(records.get(i++), PsseTransformer.FirstRecord.class));
-            transformer.setSecondRecord(parseRecord(records.get(i++), PsseTransformer.SecondRecord.class));
-            transformer.setThirdRecord1(parseRecord(records.get(i++), PsseTransformer.ThirdRecord.class));
-            transformer.setThirdRecord2(parseRecord(records.get(i++), PsseTransformer.ThirdRecord.class));
+            transformer.setFirstRecord(firstRecordParser.parse(records.get(i++)));
+            transformer.setSecondRecord(secondRecordParser.parse(records.get(i++)));
+            transformer.setThirdRecord1(thirdRecordParser.parse(records.get(i++)));
+            transformer.setThirdRecord2(thirdRecordParser.parse(records.get(i++)));
             if (transformer.getFirstRecord().getK() != 0) {
-                transformer.setThirdRecord3(parseRecord(records.get(i++), PsseTransformer.ThirdRecord.class));
+                transformer.setThirdRecord3(thirdRecordParser.parse(records.get(i++)));
             }
             transformers.add(transformer);
         }
@@ -114,69 +189,91 @@ public class PsseRawReader {
     }
 
     public PsseRawModel read(BufferedReader reader) throws IOException {
+        return read(reader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Read a RAW file: the file is first split in sections, then the sections are parsed concurrently.
+     *
+     * @param reader   the RAW file reader
+     * @param executor the executor used to parse the sections
+     */
+    public PsseRawModel read(BufferedReader reader, Executor executor) throws IOException {
         Objects.requireNonNull(reader);
+        Objects.requireNonNull(executor);
 
         // case identification
         PsseCaseIdentification caseIdentification = readCaseIdentification(reader);
 
-        PsseRawModel model = new PsseRawModel(caseIdentification);
-
         // bus data
-        model.getBuses().addAll(parseRecords(readRecordBlock(reader), PsseBus.class));
+        CompletableFuture<List<PsseBus>> buses = parseRecordsAsync(readRecordBlock(reader), PsseBus.class, executor);
 
         // load data
-        model.getLoads().addAll(parseRecords(readRecordBlock(reader), PsseLoad.class));
+        CompletableFuture<List<PsseLoad>> loads = parseRecordsAsync(readRecordBlock(reader), PsseLoad.class, executor);
 
         // fixed shunt data
-        model.getFixedShunts().addAll(parseRecords(readRecordBlock(reader), PsseFixedShunt.class));
+        CompletableFuture<List<PsseFixedShunt>> fixedShunts = parseRecordsAsync(readRecordBlock(reader), PsseFixedShunt.class, executor);
 
         // generator data
-        model.getGenerators().addAll(parseRecords(readRecordBlock(reader), PsseGenerator.class));
+        CompletableFuture<List<PsseGenerator>> generators = parseRecordsAsync(readRecordBlock(reader), PsseGenerator.class, executor);
 
         // non transformer data
-        model.getNonTransformerBranches().addAll(parseRecords(readRecordBlock(reader), PsseNonTransformerBranch.class));
+        CompletableFuture<List<PsseNonTransformerBranch>> nonTransformerBranches = parseRecordsAsync(readRecordBlock(reader), PsseNonTransformerBranch.class, executor);
 
         // transformer data
-        model.getTransformers().addAll(readTransformers(reader));
+        List<String> transformerRecords = readRecordBlock(reader);
+        CompletableFuture<List<PsseTransformer>> transformers = CompletableFuture.supplyAsync(() -> parseTransformers(transformerRecords), executor);
 
         // area data
-        model.getAreas().addAll(parseRecords(readRecordBlock(reader), PsseArea.class));
+        CompletableFuture<List<PsseArea>> areas = parseRecordsAsync(readRecordBlock(reader), PsseArea.class, executor);
 
         // 2-terminal DC data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // voltage source converter data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // impedance correction data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // multi-terminal DC data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // multi-section line data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // zone data
-        model.getZones().addAll(parseRecords(readRecordBlock(reader), PsseZone.class));
+        CompletableFuture<List<PsseZone>> zones = parseRecordsAsync(readRecordBlock(reader), PsseZone.class, executor);
 
         // inter-area transfer data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // owner data
-        model.getOwners().addAll(parseRecords(readRecordBlock(reader), PsseOwner.class));
+        CompletableFuture<List<PsseOwner>> owners = parseRecordsAsync(readRecordBlock(reader), PsseOwner.class, executor);
 
         // facts control device data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // switched shunt data
-        model.getSwitchedShunts().addAll(parseRecords(readRecordBlock(reader), PsseSwitchedShunt.class));
+        CompletableFuture<List<PsseSwitchedShunt>> switchedShunts = parseRecordsAsync(readRecordBlock(reader), PsseSwitchedShunt.class, executor);
 
         // gne device data
-        readRecordBlock(reader); // TODO
+        skipRecordBlock(reader); // TODO
 
         // q record (nothing to do)
-        readRecordBlock(reader);
+        skipRecordBlock(reader);
+
+        PsseRawModel model = new PsseRawModel(caseIdentification);
+        model.getBuses().addAll(join(buses));
+        model.getLoads().addAll(join(loads));
+        model.getFixedShunts().addAll(join(fixedShunts));
+        model.getGenerators().addAll(join(generators));
+        model.getNonTransformerBranches().addAll(join(nonTransformerBranches));
+        model.getTransformers().addAll(join(transformers));
+        model.getAreas().addAll(join(areas));
+        model.getZones().addAll(join(zones));
+        model.getOwners().addAll(join(owners));
+        model.getSwitchedShunts().addAll(join(switchedShunts));
 
         return model;
     }
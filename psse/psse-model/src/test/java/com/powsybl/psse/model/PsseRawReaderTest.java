@@ -13,7 +13,11 @@ import org.junit.Test;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -33,4 +37,33 @@ public class PsseRawReaderTest {
             assertEquals(jsonRef, json);
         }
     }
+
+    @Test
+    public void ieee14BusChunksTest() throws IOException {
+        // sections split in chunks of 2 records, parsed sequentially and concurrently
+        String jsonRef = new String(ByteStreams.toByteArray(getClass().getResourceAsStream("/IEEE_14_bus.json")), StandardCharsets.UTF_8);
+        for (Executor executor : Arrays.<Executor>asList(Runnable::run, ForkJoinPool.commonPool())) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/IEEE_14_bus.raw")))) {
+                PsseRawModel rawData = new PsseRawReader(2).read(reader, executor);
+                String json = new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(rawData);
+                assertEquals(jsonRef, json);
+            }
+        }
+    }
+
+    @Test
+    public void parsingErrorTest() throws IOException {
+        String raw = String.join(System.lineSeparator(),
+                "0,   100.00, 33, 0, 1, 60.00     / PSS(R)E-33.3    WED, JUL 15 2020  10:00",
+                "title 1",
+                "title 2",
+                "1,'BUS1', 138.0000,abc",
+                "0");
+        try (BufferedReader reader = new BufferedReader(new StringReader(raw))) {
+            new PsseRawReader().read(reader);
+            fail();
+        } catch (PsseException e) {
+            assertEquals("Parsing error", e.getMessage());
+        }
+    }
 }
@@ -53,6 +53,14 @@ public abstract class AbstractSecurityAnalysis implements SecurityAnalysis {
     }
 
     protected SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId) {
-        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors);
+        return createResultBuilder(initialWorkingStateId, null);
+    }
+
+    /**
+     * @param resultSink the sink receiving the results as soon as they are built, or {@code null} to keep all the
+     *                   results in memory
+     */
+    protected SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId, SecurityAnalysisResultSink resultSink) {
+        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors, resultSink);
     }
 }
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.contingency.Contingency;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * Schedules the processing of contingencies on a fixed set of variants, with one worker pinned to each variant.
+ * <p>
+ * A worker processes its contingencies one after the other. When it runs out of work, it pulls a new batch of
+ * contingencies from the shared contingency iterator, so that contingencies are only consumed as fast as they are
+ * processed, and once the iterator is exhausted it steals contingencies from the batches of the other workers.
+ * <p>
+ * No thread ever blocks waiting for a variant: the next contingency of a worker is submitted to the executor when
+ * the processing of the previous one completes, so that only one task per worker is pending at any time, whatever
+ * the number of contingencies.
+ *
+ * @author agent <agent at local>
+ */
+final class ContingencyScheduler {
+
+    private final Iterator<Contingency> contingencies;
+
+    private final int batchSize;
+
+    private final BiFunction<String, Contingency, CompletableFuture<Void>> task;
+
+    private final Executor executor;
+
+    private final List<Worker> workers = new ArrayList<>();
+
+    private volatile boolean failed = false;
+
+    private final class Worker {
+
+        private final String variantId;
+
+        private final Deque<Contingency> batch = new ConcurrentLinkedDeque<>();
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Worker(String variantId) {
+            this.variantId = variantId;
+        }
+
+        private void runNext() {
+            while (true) {
+                Contingency contingency = failed ? null : next();
+                if (contingency == null) {
+                    done.complete(null);
+                    return;
+                }
+                CompletableFuture<Void> future;
+                try {
+                    future = task.apply(variantId, contingency);
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                if (!future.isDone()) {
+                    future.whenComplete((aVoid, throwable) -> {
+                        if (throwable != null) {
+                            fail(throwable);
+                        } else {
+                            submit();
+                        }
+                    });
+                    return;
+                }
+                // already completed (synchronous processing): loop instead of submitting a new task, to avoid an
+                // unbounded recursion with executors running tasks in the calling thread
+                if (future.isCompletedExceptionally()) {
+                    future.whenComplete((aVoid, throwable) -> fail(throwable));
+                    return;
+                }
+            }
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this::runNext);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            // stop the other workers as soon as they complete their current contingency
+            failed = true;
+            done.completeExceptionally(throwable);
+        }
+
+        private Contingency next() {
+            Contingency contingency = batch.pollFirst();
+            if (contingency == null) {
+                pullBatch(this);
+                contingency = batch.pollFirst();
+                if (contingency == null) {
+                    contingency = steal(this);
+                }
+            }
+            return contingency;
+        }
+    }
+
+    ContingencyScheduler(Iterator<Contingency> contingencies, int batchSize, Executor executor,
+                         BiFunction<String, Contingency, CompletableFuture<Void>> task) {
+        this.contingencies = Objects.requireNonNull(contingencies);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid contingency batch size: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.executor = Objects.requireNonNull(executor);
+        this.task = Objects.requireNonNull(task);
+    }
+
+    private void pullBatch(Worker worker) {
+        synchronized (contingencies) {
+            for (int i = 0; i < batchSize && contingencies.hasNext(); i++) {
+                worker.batch.addLast(contingencies.next());
+            }
+        }
+    }
+
+    private Contingency steal(Worker thief) {
+        for (Worker worker : workers) {
+            if (worker != thief) {
+                Contingency contingency = worker.batch.pollLast();
+                if (contingency != null) {
+                    return contingency;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Start one worker per variant.
+     *
+     * @param variantIds the ids of the variants, one per worker
+     * @return a future completed when all the contingencies have been processed, or exceptionally as soon as the
+     * processing of one contingency has failed and the other workers have stopped.
+     */
+    CompletableFuture<Void> run(List<String> variantIds) {
+        if (variantIds.isEmpty()) {
+            throw new IllegalArgumentException("Empty variant id list");
+        }
+        if (!workers.isEmpty()) {
+            throw new IllegalStateException("Scheduler is already running");
+        }
+        for (String variantId : variantIds) {
+            workers.add(new Worker(variantId));
+        }
+        workers.forEach(Worker::submit);
+        return CompletableFuture.allOf(workers.stream().map(worker -> worker.done).toArray(CompletableFuture[]::new));
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.security;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -36,6 +37,17 @@ public interface SecurityAnalysis {
 
     CompletableFuture<SecurityAnalysisResult> run(String workingVariantId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider);
 
+    /**
+     * Run the analysis, providing the results to a sink as soon as they are available. Implementations able to stream
+     * their results do not keep post-contingency results in memory: the returned result then has no post-contingency
+     * results. The default implementation provides the complete result to the sink at the end of the analysis.
+     */
+    default CompletableFuture<SecurityAnalysisResult> run(String workingVariantId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider,
+                                                          SecurityAnalysisResultSink resultSink) {
+        Objects.requireNonNull(resultSink);
+        return run(workingVariantId, parameters, contingenciesProvider).thenApply(r -> SecurityAnalysisResultSink.forward(r, resultSink));
+    }
+
     /**
      * To be consistent with {@link #run(String, SecurityAnalysisParameters, ContingenciesProvider)}, this method would also complete exceptionally
      * if there are exceptions thrown. But the original exception would be wrapped in {@link com.powsybl.computation.ComputationException}, and those .out/.err log file's contents
@@ -71,4 +83,13 @@ public interface SecurityAnalysis {
         return run(workingVariantId, parameters, contingenciesProvider).thenApply(r -> new SecurityAnalysisResultWithLog(r, null));
     }
 
+    /**
+     * Same as {@link #runWithLog(String, SecurityAnalysisParameters, ContingenciesProvider)}, providing the results to a
+     * sink as {@link #run(String, SecurityAnalysisParameters, ContingenciesProvider, SecurityAnalysisResultSink)} does.
+     */
+    default CompletableFuture<SecurityAnalysisResultWithLog> runWithLog(String workingVariantId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider,
+                                                                        SecurityAnalysisResultSink resultSink) {
+        return run(workingVariantId, parameters, contingenciesProvider, resultSink).thenApply(r -> new SecurityAnalysisResultWithLog(r, null));
+    }
+
 }
@@ -6,8 +6,8 @@
  */
 package com.powsybl.security;
 
+import com.google.common.collect.Iterators;
 import com.powsybl.commons.config.PlatformConfig;
-import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
@@ -21,12 +21,17 @@ import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -36,18 +41,42 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisImpl.class);
 
+    private static final int MAX_VARIANTS_PER_ANALYSIS = getOptionalIntProperty("default-security-analysis", "max-variants-per-analysis", 10);
+
     /**
-     * This executor is used to create the variants of the network, submit the tasks
-     * for computing contingency loadflows and submit the tasks for checking for the
-     * violations. Submitting tasks itself is blocking because we can only run a
-     * limited number of loadflows in parallel because we need the memory for the
-     * variant, and we don't want to submit tasks that would immediately block to
-     * get an available variant (they hurt the performance of the executor who
-     * excutes them)
+     * Number of contingencies pulled at once by a worker when it runs out of work
      */
-    private static final ExecutorService SCHEDULER_EXECUTOR = createThreadPool(getOptionalIntProperty("default-security-analysis", "scheduler-pool-size", 10));
+    private static final int CONTINGENCY_BATCH_SIZE = getOptionalIntProperty("default-security-analysis", "contingency-batch-size", 10);
 
-    private static final int MAX_VARIANTS_PER_ANALYSIS = getOptionalIntProperty("default-security-analysis", "max-variants-per-analysis", 10);
+    /**
+     * Result metric: number of post-contingency variant resets
+     */
+    public static final String VARIANT_CLONE_COUNT_METRIC = "variantCloneCount";
+
+    /**
+     * Result metric: cumulated time spent to reset post-contingency variants, in milliseconds
+     */
+    public static final String VARIANT_CLONE_TIME_METRIC = "variantCloneTime";
+
+    /**
+     * Cost of the post-contingency variant resets, updated concurrently by the workers
+     */
+    private static final class VariantCloneStatistics {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        private void add(long startNanos) {
+            nanos.add(System.nanoTime() - startNanos);
+            count.increment();
+        }
+
+        private void fill(SecurityAnalysisResultBuilder resultBuilder) {
+            resultBuilder.addMetric(VARIANT_CLONE_COUNT_METRIC, Long.toString(count.sum()))
+                    .addMetric(VARIANT_CLONE_TIME_METRIC, Long.toString(TimeUnit.NANOSECONDS.toMillis(nanos.sum())));
+        }
+    }
 
     /**
      * Return the value of the property or the default value if the module or the property doesn't exist in the configuration.
@@ -64,13 +93,6 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
                 .orElse(defaultValue);
     }
 
-    private static ExecutorService createThreadPool(int poolSize) {
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 1L, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
-        executor.allowCoreThreadTimeOut(true);
-
-        return executor;
-    }
-
     private final ComputationManager computationManager;
 
     public SecurityAnalysisImpl(Network network, ComputationManager computationManager) {
@@ -104,6 +126,18 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
     @Override
     public CompletableFuture<SecurityAnalysisResult> run(String workingVariantId,
                                                          SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider) {
+        return run(workingVariantId, securityAnalysisParameters, contingenciesProvider, createResultBuilder(workingVariantId));
+    }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisResult> run(String workingVariantId, SecurityAnalysisParameters securityAnalysisParameters,
+                                                         ContingenciesProvider contingenciesProvider, SecurityAnalysisResultSink resultSink) {
+        Objects.requireNonNull(resultSink);
+        return run(workingVariantId, securityAnalysisParameters, contingenciesProvider, createResultBuilder(workingVariantId, resultSink));
+    }
+
+    private CompletableFuture<SecurityAnalysisResult> run(String workingVariantId, SecurityAnalysisParameters securityAnalysisParameters,
+                                                          ContingenciesProvider contingenciesProvider, SecurityAnalysisResultBuilder resultBuilder) {
         Objects.requireNonNull(workingVariantId);
         Objects.requireNonNull(securityAnalysisParameters);
         Objects.requireNonNull(contingenciesProvider);
@@ -114,7 +148,7 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
         LoadFlowParameters postContParameters = loadFlowParameters.copy()
                 .setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
 
-        SecurityAnalysisResultBuilder resultBuilder = createResultBuilder(workingVariantId);
+        VariantCloneStatistics cloneStatistics = new VariantCloneStatistics();
 
         return LoadFlow
                 .runAsync(network, workingVariantId, computationManager, loadFlowParameters)
@@ -125,14 +159,16 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
                                     network.getVariantManager().setWorkingVariant(workingVariantId);
                                     setPreContigencyOkAndCheckViolations(resultBuilder);
                                 }, computationManager.getExecutor())
-                                .thenComposeAsync(aVoid ->
-                                                submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder),
-                                        SCHEDULER_EXECUTOR);
+                                .thenCompose(aVoid ->
+                                        submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder, cloneStatistics));
                     } else {
                         return setPreContingencyKo(resultBuilder);
                     }
                 })
-                .thenApply(aVoid -> resultBuilder.build());
+                .thenApply(aVoid -> {
+                    cloneStatistics.fill(resultBuilder);
+                    return resultBuilder.build();
+                });
     }
 
     private void setPreContigencyOkAndCheckViolations(SecurityAnalysisResultBuilder resultBuilder) {
@@ -148,21 +184,33 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
 
     private CompletableFuture<Void> submitAllLoadFlows(String workingVariantId,
                                                        ContingenciesProvider contingenciesProvider, LoadFlowParameters postContParameters,
-                                                       SecurityAnalysisResultBuilder resultBuilder) {
-
-        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
-        int workerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, Math.min(computationManager.getResourcesStatus().getAvailableCores(), contingencies.isEmpty() ? 1 : contingencies.size()));
+                                                       SecurityAnalysisResultBuilder resultBuilder, VariantCloneStatistics cloneStatistics) {
+
+        // contingencies are pulled lazily by the workers, only the first ones are read to size the worker pool
+        Stream<Contingency> contingencyStream = contingenciesProvider.getContingencyStream(network);
+        Iterator<Contingency> contingencies = contingencyStream.iterator();
+        int maxWorkerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, computationManager.getResourcesStatus().getAvailableCores());
+        List<Contingency> firstContingencies = new ArrayList<>(maxWorkerCount);
+        while (firstContingencies.size() < maxWorkerCount && contingencies.hasNext()) {
+            firstContingencies.add(contingencies.next());
+        }
+        int workerCount = Math.max(1, firstContingencies.size());
         List<String> variantIds = makeWorkingVariantsNames(workerCount);
-        BlockingQueue<String> queue = new ArrayBlockingQueue<>(workerCount, false, variantIds);
 
         network.getVariantManager().allowVariantMultiThreadAccess(true);
-        network.getVariantManager().cloneVariant(workingVariantId, variantIds);
-
-        return CompletableFuture
-                .allOf(contingencies.stream()
-                        .map(contingency -> submitOneLoadFlow(workingVariantId, contingency, postContParameters, resultBuilder, queue))
-                        .toArray(CompletableFuture[]::new))
-                .whenComplete((aVoid, throwable) -> variantIds.forEach(network.getVariantManager()::removeVariant));
+        // post-contingency variants only differ from the working variant by a few objects, so they are created as
+        // delta variants to be cheaply reset from one contingency to the next
+        network.getVariantManager().cloneDeltaVariant(workingVariantId, variantIds);
+
+        // one worker per variant, each worker running the loadflows of its contingencies one after the other
+        ContingencyScheduler scheduler = new ContingencyScheduler(Iterators.concat(firstContingencies.iterator(), contingencies), CONTINGENCY_BATCH_SIZE,
+            computationManager.getExecutor(),
+            (postContVariantId, contingency) -> runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency, cloneStatistics));
+        return scheduler.run(variantIds)
+                .whenComplete((aVoid, throwable) -> {
+                    contingencyStream.close();
+                    variantIds.forEach(network.getVariantManager()::removeVariant);
+                });
     }
 
     private static List<String> makeWorkingVariantsNames(int workerCount) {
@@ -170,32 +218,13 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
         return IntStream.range(0, workerCount).mapToObj(i -> hash + "_" + i).collect(Collectors.toList());
     }
 
-    // Block for an available variant, then submit a loadflow on this variant, then
-    // make the variant available again
-    private CompletableFuture<Void> submitOneLoadFlow(String workingVariantId, Contingency contingency, LoadFlowParameters postContParameters,
-                                                      SecurityAnalysisResultBuilder resultBuilder, BlockingQueue<String> queue) {
-        return CompletableFuture.completedFuture(null).thenCompose(aaVoid -> {
-            String postContVariantId = getVariantId(queue);
-            return runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency)
-                    .whenComplete((aVoid, throwable) -> queue.add(postContVariantId));
-        });
-    }
-
-    private static String getVariantId(BlockingQueue<String> queue) {
-        try {
-            return queue.take();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new UncheckedInterruptedException(e);
-        }
-    }
-
     private CompletableFuture<Void> runOneLoadFlowAsync(String workingVariantId, String postContVariantId, LoadFlowParameters postContParameters,
-                                                        SecurityAnalysisResultBuilder resultBuilder, Contingency contingency) {
+                                                        SecurityAnalysisResultBuilder resultBuilder, Contingency contingency,
+                                                        VariantCloneStatistics cloneStatistics) {
         return CompletableFuture
                 .runAsync(() -> {
                     LOGGER.debug("Worker {} run loadflow for contingency '{}'.", postContVariantId, contingency.getId());
-                    applyContingency(workingVariantId, postContVariantId, contingency);
+                    applyContingency(workingVariantId, postContVariantId, contingency, cloneStatistics);
                 }, computationManager.getExecutor())
                 .thenCompose(aVoid ->
                     LoadFlow.runAsync(network, postContVariantId, computationManager, postContParameters)
@@ -216,8 +245,11 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
         builder.endContingency();
     }
 
-    private void applyContingency(String workingVariantId, String postContVariantId, Contingency contingency) {
+    private void applyContingency(String workingVariantId, String postContVariantId, Contingency contingency,
+                                  VariantCloneStatistics cloneStatistics) {
+        long startNanos = System.nanoTime();
         network.getVariantManager().cloneVariant(workingVariantId, postContVariantId, true);
+        cloneStatistics.add(startNanos);
         network.getVariantManager().setWorkingVariant(postContVariantId);
         contingency.toTask().modify(network, computationManager);
     }
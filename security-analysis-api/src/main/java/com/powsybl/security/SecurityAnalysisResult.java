@@ -8,9 +8,7 @@ package com.powsybl.security;
 
 import com.powsybl.commons.extensions.AbstractExtendable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -23,6 +21,8 @@ public class SecurityAnalysisResult extends AbstractExtendable<SecurityAnalysisR
 
     private final List<PostContingencyResult> postContingencyResults;
 
+    private final Map<String, String> metrics = new TreeMap<>();
+
     public static SecurityAnalysisResult empty() {
         return new SecurityAnalysisResult(LimitViolationsResult.empty(), Collections.emptyList());
     }
@@ -49,4 +49,13 @@ public class SecurityAnalysisResult extends AbstractExtendable<SecurityAnalysisR
     public List<PostContingencyResult> getPostContingencyResults() {
         return postContingencyResults;
     }
+
+    /**
+     * Get metrics. Metrics are generic key/value pairs and are specific to a security analysis implementation.
+     *
+     * @return the metrics
+     */
+    public Map<String, String> getMetrics() {
+        return metrics;
+    }
 }
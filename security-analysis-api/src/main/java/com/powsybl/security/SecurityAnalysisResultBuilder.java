@@ -21,6 +21,13 @@ import java.util.*;
  * Encapsulates filtering of limit violations with a provided {@link LimitViolationFilter},
  * as well as notifications to {@link SecurityAnalysisInterceptor}s.
  *
+ * When a {@link SecurityAnalysisResultSink} is provided, results are handed to it as soon as they are built and
+ * post-contingency results are not kept in the final result. Interceptors still receive each post-contingency result
+ * through {@link SecurityAnalysisInterceptor#onPostContingencyResult(PostContingencyResult, SecurityAnalysisResultContext)},
+ * but the result given to
+ * {@link SecurityAnalysisInterceptor#onSecurityAnalysisResult(SecurityAnalysisResult, SecurityAnalysisResultContext)}
+ * then has no post-contingency results.
+ *
  * @author Sylvain Leclerc <sylvain.leclerc at rte-france.com>
  */
 public class SecurityAnalysisResultBuilder {
@@ -28,16 +35,24 @@ public class SecurityAnalysisResultBuilder {
     private final LimitViolationFilter filter;
     private final SecurityAnalysisResultContext context;
     private final List<SecurityAnalysisInterceptor> interceptors;
+    private final SecurityAnalysisResultSink sink;
 
     // Below are volatile objects used for building the actual complete result
     private LimitViolationsResult preContingencyResult;
     private final List<PostContingencyResult> postContingencyResults = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, String> metrics = new TreeMap<>();
 
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
-                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+                                         Collection<SecurityAnalysisInterceptor> interceptors, SecurityAnalysisResultSink sink) {
         this.filter = Objects.requireNonNull(filter);
         this.context = Objects.requireNonNull(context);
         this.interceptors = ImmutableList.copyOf(interceptors);
+        this.sink = sink;
+    }
+
+    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
+                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+        this(filter, context, interceptors, null);
     }
 
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context) {
@@ -46,10 +61,31 @@ public class SecurityAnalysisResultBuilder {
 
     private void setPreContingencyResult(LimitViolationsResult preContingencyResult) {
         this.preContingencyResult = Objects.requireNonNull(preContingencyResult);
+        if (sink != null) {
+            sink.onPreContingencyResult(preContingencyResult, new NetworkMetadata(context.getNetwork()));
+        }
     }
 
     private void addPostContingencyResult(PostContingencyResult result) {
-        postContingencyResults.add(Objects.requireNonNull(result));
+        Objects.requireNonNull(result);
+        if (sink != null) {
+            sink.onPostContingencyResult(result);
+        } else {
+            postContingencyResults.add(result);
+        }
+    }
+
+    /**
+     * Adds a metric to the result, for instance a computation time.
+     * @param name the name of the metric
+     * @param value the value of the metric
+     * @return this builder
+     */
+    public SecurityAnalysisResultBuilder addMetric(String name, String value) {
+        synchronized (metrics) {
+            metrics.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+        }
+        return this;
     }
 
     /**
@@ -99,7 +135,13 @@ public class SecurityAnalysisResultBuilder {
 
         SecurityAnalysisResult res = new SecurityAnalysisResult(preContingencyResult, postContingencyResults);
         res.setNetworkMetadata(new NetworkMetadata(context.getNetwork()));
+        synchronized (metrics) {
+            res.getMetrics().putAll(metrics);
+        }
         interceptors.forEach(i -> i.onSecurityAnalysisResult(res, context));
+        if (sink != null) {
+            sink.onEnd(res);
+        }
 
         return res;
     }
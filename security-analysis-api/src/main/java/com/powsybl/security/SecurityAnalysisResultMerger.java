@@ -7,6 +7,7 @@
 package com.powsybl.security;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author Yichen Tang <yichen.tang at rte-france.com>
@@ -40,6 +41,112 @@ public final class SecurityAnalysisResultMerger {
         return merge(results.toArray(new SecurityAnalysisResult[results.size()]));
     }
 
+    /**
+     * Merges results provided incrementally, for instance read from files with
+     * {@link com.powsybl.security.json.SecurityAnalysisResultDeserializer#read(java.nio.file.Path, SecurityAnalysisResultSink)}:
+     * post-contingency results are forwarded to the sink as soon as they are received, so that neither the results to
+     * merge nor the merged result have to be kept in memory.
+     *
+     * <p>The merged pre-contingency result is only known once all the results have been received, so it is provided to
+     * the sink at the end. If one of the subtasks has failed, the following post-contingency results are not forwarded
+     * anymore and {@link #FAILED_SECURITY_ANALYSIS_RESULT} is provided to the sink: the post-contingency results
+     * already forwarded have then to be ignored.
+     *
+     * @param results the results to merge, each one providing its result to the sink it is given
+     * @param sink the sink receiving the merged result
+     * @return the merged result, without the post-contingency results provided to the sink
+     */
+    public static SecurityAnalysisResult merge(List<Consumer<SecurityAnalysisResultSink>> results, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(results);
+        Objects.requireNonNull(sink);
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("No result to merge");
+        }
+
+        MergingSink mergingSink = new MergingSink(sink);
+        for (Consumer<SecurityAnalysisResultSink> result : results) {
+            result.accept(mergingSink);
+        }
+
+        SecurityAnalysisResult res = mergingSink.failed ? FAILED_SECURITY_ANALYSIS_RESULT
+                : new SecurityAnalysisResult(mergingSink.first.getPreContingencyResult(), Collections.emptyList())
+                    .setNetworkMetadata(mergingSink.first.getNetworkMetadata());
+        sink.onPreContingencyResult(res.getPreContingencyResult(), res.getNetworkMetadata());
+        sink.onEnd(res);
+        return res;
+    }
+
+    /**
+     * Merges results provided incrementally, without keeping the intermediate results in memory.
+     *
+     * @see #merge(List, SecurityAnalysisResultSink)
+     */
+    public static SecurityAnalysisResult merge(List<Consumer<SecurityAnalysisResultSink>> results) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        SecurityAnalysisResult merged = merge(results, new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+                // provided with the end of the result
+            }
+
+            @Override
+            public synchronized void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                postContingencyResults.add(postContingencyResult);
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                // returned by merge
+            }
+        });
+        if (merged == FAILED_SECURITY_ANALYSIS_RESULT) {
+            return FAILED_SECURITY_ANALYSIS_RESULT;
+        }
+        return new SecurityAnalysisResult(merged.getPreContingencyResult(), postContingencyResults)
+                .setNetworkMetadata(merged.getNetworkMetadata());
+    }
+
+    /**
+     * Forwards the post-contingency results of all the merged results to the target sink until a failure is detected.
+     */
+    private static final class MergingSink implements SecurityAnalysisResultSink {
+
+        private final SecurityAnalysisResultSink target;
+
+        private SecurityAnalysisResult first;
+
+        private volatile boolean failed = false;
+
+        private MergingSink(SecurityAnalysisResultSink target) {
+            this.target = target;
+        }
+
+        @Override
+        public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+            if (!preContingencyResult.isComputationOk()) {
+                failed = true;
+            }
+        }
+
+        @Override
+        public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+            if (!failed) {
+                target.onPostContingencyResult(postContingencyResult);
+            }
+        }
+
+        @Override
+        public void onEnd(SecurityAnalysisResult result) {
+            if (!result.getPreContingencyResult().isComputationOk()) {
+                failed = true;
+            }
+            result.getPostContingencyResults().forEach(this::onPostContingencyResult);
+            if (first == null) {
+                first = result;
+            }
+        }
+    }
+
     private SecurityAnalysisResultMerger() {
     }
 }
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import java.util.Objects;
+
+/**
+ * Receives the parts of a {@link SecurityAnalysisResult} as soon as they are available, so that post-contingency
+ * results do not have to be kept in memory until the end of the analysis.
+ *
+ * <p>The pre-contingency result is usually received before the post-contingency results, but sinks should not rely on
+ * it: when the results are read from a file, they are received in the order of the file.
+ *
+ * @author agent <agent at local>
+ */
+public interface SecurityAnalysisResultSink {
+
+    /**
+     * Callback when the pre-contingency result is available.
+     * @param preContingencyResult the pre-contingency result
+     * @param networkMetadata the metadata of the network, if already known
+     */
+    void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata);
+
+    /**
+     * Callback when a post-contingency result is available. This method might be called concurrently.
+     * @param postContingencyResult the post-contingency result
+     */
+    void onPostContingencyResult(PostContingencyResult postContingencyResult);
+
+    /**
+     * Callback when the result is complete.
+     * @param result the result, with its network metadata, metrics and extensions but without the post-contingency
+     *               results already provided to {@link #onPostContingencyResult(PostContingencyResult)}
+     */
+    void onEnd(SecurityAnalysisResult result);
+
+    /**
+     * Provide a complete result to a sink, for analyses which cannot stream their results.
+     * @param result the result
+     * @param sink the sink
+     * @return the result
+     */
+    static SecurityAnalysisResult forward(SecurityAnalysisResult result, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(sink);
+        sink.onPreContingencyResult(result.getPreContingencyResult(), result.getNetworkMetadata());
+        sink.onEnd(result);
+        return result;
+    }
+}
@@ -98,10 +98,11 @@ public class CompareSecurityAnalysisResultsTool implements Tool {
         Path outputFile = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_FILE_OPTION));
         double threshold = line.hasOption(THRESHOLD_OPTION) ? Double.parseDouble(line.getOptionValue(THRESHOLD_OPTION)) : THRESHOLD_DEFAULT;
         try (Writer outputWriter = Files.newBufferedWriter(outputFile)) {
+            // only the first result is loaded in memory, the second one is compared while it is read
             SecurityAnalysisResult result1 = SecurityAnalysisResultDeserializer.read(results1File);
-            SecurityAnalysisResult result2 = SecurityAnalysisResultDeserializer.read(results2File);
             SecurityAnalysisResultEquivalence resultEquivalence = new SecurityAnalysisResultEquivalence(threshold, outputWriter);
-            context.getOutputStream().println("Comparison result: " + (resultEquivalence.equivalent(result1, result2) ? "success" : "fail"));
+            boolean equivalent = resultEquivalence.equivalent(result1, sink -> SecurityAnalysisResultDeserializer.read(results2File, sink));
+            context.getOutputStream().println("Comparison result: " + (equivalent ? "success" : "fail"));
         }
     }
 
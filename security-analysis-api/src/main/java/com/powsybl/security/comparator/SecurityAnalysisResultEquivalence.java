@@ -7,14 +7,11 @@
 package com.powsybl.security.comparator;
 
 import java.io.Writer;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Consumer;
 
 import com.google.common.base.Equivalence;
-import com.powsybl.security.LimitViolation;
-import com.powsybl.security.PostContingencyResult;
-import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.*;
 
 /**
  *
@@ -76,6 +73,59 @@ public class SecurityAnalysisResultEquivalence extends Equivalence<SecurityAnaly
         return equivalent;
     }
 
+    /**
+     * Compares a result to a result provided incrementally, for instance read from a file with
+     * {@link com.powsybl.security.json.SecurityAnalysisResultDeserializer#read(java.nio.file.Path, SecurityAnalysisResultSink)}:
+     * the post-contingency results of the second result are compared as soon as they are received, so that they never
+     * have to be kept in memory. Post-contingency results only found in the first result are written at the end.
+     *
+     * @param result1 the first result
+     * @param result2 the second result, providing its result to the sink it is given
+     * @return true if the results are equivalent
+     */
+    public boolean equivalent(SecurityAnalysisResult result1, Consumer<SecurityAnalysisResultSink> result2) {
+        Objects.requireNonNull(result1);
+        Objects.requireNonNull(result2);
+        LimitViolationsResultEquivalence violationsResultEquivalence = new LimitViolationsResultEquivalence(threshold, comparisonWriter);
+        Map<String, PostContingencyResult> postContingencyResults1 = new TreeMap<>();
+        result1.getPostContingencyResults().forEach(r -> postContingencyResults1.put(r.getContingency().getId(), r));
+
+        boolean[] equivalent = {true};
+        boolean[] preContingencyResultCompared = {false};
+        result2.accept(new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+                equivalent[0] &= violationsResultEquivalence.equivalent(result1.getPreContingencyResult(), preContingencyResult);
+                preContingencyResultCompared[0] = true;
+            }
+
+            @Override
+            public synchronized void onPostContingencyResult(PostContingencyResult postContingencyResult2) {
+                PostContingencyResult postContingencyResult1 = postContingencyResults1.remove(postContingencyResult2.getContingency().getId());
+                if (postContingencyResult1 != null) { // both results for the same contingency
+                    comparisonWriter.setContingency(postContingencyResult1.getContingency().getId());
+                    equivalent[0] &= violationsResultEquivalence.equivalent(postContingencyResult1.getLimitViolationsResult(), postContingencyResult2.getLimitViolationsResult());
+                } else { // contingency only in result2
+                    equivalent[0] &= onlySmallViolations(postContingencyResult2, true);
+                }
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                if (!preContingencyResultCompared[0]) {
+                    onPreContingencyResult(result.getPreContingencyResult(), result.getNetworkMetadata());
+                }
+                result.getPostContingencyResults().forEach(this::onPostContingencyResult);
+            }
+        });
+
+        // remaining post contingency results in result1
+        for (PostContingencyResult postContingencyResult1 : postContingencyResults1.values()) {
+            equivalent[0] &= onlySmallViolations(postContingencyResult1, false);
+        }
+        return equivalent[0];
+    }
+
     private boolean onlySmallViolations(PostContingencyResult postContingencyResult, boolean missingResult1) {
         comparisonWriter.setContingency(postContingencyResult.getContingency().getId());
         boolean equivalent = postContingencyResult.getLimitViolationsResult()
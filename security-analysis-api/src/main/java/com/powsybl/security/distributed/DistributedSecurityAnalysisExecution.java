@@ -10,6 +10,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.ExecutionEnvironment;
 import com.powsybl.computation.ExecutionHandler;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.SecurityAnalysisResultWithLog;
 import com.powsybl.security.execution.SecurityAnalysisExecution;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
@@ -56,6 +57,26 @@ public class DistributedSecurityAnalysisExecution implements SecurityAnalysisExe
         return computationManager.execute(itoolsEnv, executionHandler);
     }
 
+    @Override
+    public CompletableFuture<SecurityAnalysisResult> execute(ComputationManager computationManager,
+                                                             SecurityAnalysisExecutionInput data,
+                                                             SecurityAnalysisResultSink resultSink) {
+
+        ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_task_", config.isDebug());
+        ExecutionHandler<SecurityAnalysisResult> executionHandler = SecurityAnalysisExecutionHandlers.distributed(data, subtaskCount, resultSink);
+        return computationManager.execute(itoolsEnv, executionHandler);
+    }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisResultWithLog> executeWithLog(ComputationManager computationManager,
+                                                                           SecurityAnalysisExecutionInput data,
+                                                                           SecurityAnalysisResultSink resultSink) {
+
+        ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_task_", config.isDebug());
+        ExecutionHandler<SecurityAnalysisResultWithLog> executionHandler = SecurityAnalysisExecutionHandlers.distributedWithLog(data, subtaskCount, resultSink);
+        return computationManager.execute(itoolsEnv, executionHandler);
+    }
+
     private static int checkSubtaskCount(int count) {
         checkArgument(count > 0, "Sub-tasks count must be positive.");
         return count;
@@ -14,6 +14,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.security.SecurityAnalysis;
 import com.powsybl.security.SecurityAnalysisParameters;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
 import org.slf4j.Logger;
@@ -87,6 +88,16 @@ public class ExternalSecurityAnalysis implements SecurityAnalysis {
         return computationManager.execute(itoolsEnv, SecurityAnalysisExecutionHandlers.forwarded(input, taskCount));
     }
 
+    @Override
+    public CompletableFuture<SecurityAnalysisResult> run(String workingStateId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider,
+                                                         SecurityAnalysisResultSink resultSink) {
+        LOGGER.debug("Starting external security analysis.");
+
+        ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_", config.isDebug());
+        SecurityAnalysisExecutionInput input = buildInput(workingStateId, parameters, contingenciesProvider);
+        return computationManager.execute(itoolsEnv, SecurityAnalysisExecutionHandlers.forwarded(input, taskCount, resultSink));
+    }
+
     protected SecurityAnalysisExecutionInput buildInput(String workingStateId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider) {
         return new SecurityAnalysisExecutionInput()
                 .setNetworkVariant(network, workingStateId)
@@ -10,6 +10,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.ExecutionEnvironment;
 import com.powsybl.computation.ExecutionHandler;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.SecurityAnalysisResultWithLog;
 import com.powsybl.security.execution.SecurityAnalysisExecution;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
@@ -61,6 +62,26 @@ public class ForwardedSecurityAnalysisExecution implements SecurityAnalysisExecu
         return computationManager.execute(itoolsEnv, executionHandler);
     }
 
+    @Override
+    public CompletableFuture<SecurityAnalysisResult> execute(ComputationManager computationManager,
+                                                             SecurityAnalysisExecutionInput data,
+                                                             SecurityAnalysisResultSink resultSink) {
+
+        ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_", config.isDebug());
+        ExecutionHandler<SecurityAnalysisResult> executionHandler = SecurityAnalysisExecutionHandlers.forwarded(data, forwardedTaskCount, resultSink);
+        return computationManager.execute(itoolsEnv, executionHandler);
+    }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisResultWithLog> executeWithLog(ComputationManager computationManager,
+                                                                           SecurityAnalysisExecutionInput data,
+                                                                           SecurityAnalysisResultSink resultSink) {
+
+        ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_", config.isDebug());
+        ExecutionHandler<SecurityAnalysisResultWithLog> executionHandler = SecurityAnalysisExecutionHandlers.forwardedWithLogs(data, forwardedTaskCount, resultSink);
+        return computationManager.execute(itoolsEnv, executionHandler);
+    }
+
     private static Integer checkForwardedTaskCount(Integer count) {
         checkArgument(count == null || count > 0, "Forwarded task count must be positive.");
         return count;
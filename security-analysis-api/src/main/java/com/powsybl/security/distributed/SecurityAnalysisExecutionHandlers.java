@@ -14,6 +14,7 @@ import com.powsybl.computation.ExecutionHandler;
 import com.powsybl.computation.Partition;
 import com.powsybl.security.SecurityAnalysisResult;
 import com.powsybl.security.SecurityAnalysisResultMerger;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.SecurityAnalysisResultWithLog;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
 import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
@@ -21,6 +22,8 @@ import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -63,6 +66,22 @@ public final class SecurityAnalysisExecutionHandlers {
             input);
     }
 
+    /**
+     * Create an {@link ExecutionHandler} which forwards the security analysis execution through a call
+     * to {@literal itools security-analysis}, with the option {@literal --task-count}. The result file is read
+     * incrementally, post-contingency results being provided to the sink without being kept in memory.
+     */
+    public static ExecutionHandler<SecurityAnalysisResult> forwarded(SecurityAnalysisExecutionInput input, Integer forwardedTaskCount,
+                                                                     SecurityAnalysisResultSink sink) {
+        Preconditions.checkArgument(forwardedTaskCount == null || forwardedTaskCount >= 1, TASK_COUNT_ERROR_MESSAGE, forwardedTaskCount);
+        Objects.requireNonNull(sink);
+        return new SecurityAnalysisExecutionHandler<>(workingDir -> readSingleResult(workingDir, sink),
+            (workingDir, options) -> forwardedOptions(workingDir, options, forwardedTaskCount),
+            SecurityAnalysisExecutionHandlers::generateExceptionWithLogs,
+            1,
+            input);
+    }
+
     /**
      * Create an {@link ExecutionHandler} which forwards the security analysis execution through a call
      * to {@literal itools security-analysis}. It also retrieves execution logs.
@@ -84,6 +103,22 @@ public final class SecurityAnalysisExecutionHandlers {
             input);
     }
 
+    /**
+     * Create an {@link ExecutionHandler} which forwards the security analysis execution through a call
+     * to {@literal itools security-analysis}, with the option {@literal --task-count}. It also retrieves execution logs,
+     * and provides post-contingency results to the sink without keeping them in memory.
+     */
+    public static ExecutionHandler<SecurityAnalysisResultWithLog> forwardedWithLogs(SecurityAnalysisExecutionInput input, Integer forwardedTaskCount,
+                                                                                    SecurityAnalysisResultSink sink) {
+        Preconditions.checkArgument(forwardedTaskCount == null || forwardedTaskCount >= 1, TASK_COUNT_ERROR_MESSAGE, forwardedTaskCount);
+        Objects.requireNonNull(sink);
+        return new SecurityAnalysisExecutionHandler<>(workingDir -> readSingleResultWithLogs(workingDir, sink),
+            (workingDir, options) -> forwardedWithLogsOptions(workingDir, options, forwardedTaskCount),
+            SecurityAnalysisExecutionHandlers::generateExceptionWithLogs,
+            1,
+            input);
+    }
+
     /**
      * Create an {@link ExecutionHandler} which distributes the security analysis execution through multiple calls
      * to {@literal itools security-analysis}, as specified in argument.
@@ -97,6 +132,22 @@ public final class SecurityAnalysisExecutionHandlers {
             input);
     }
 
+    /**
+     * Create an {@link ExecutionHandler} which distributes the security analysis execution through multiple calls
+     * to {@literal itools security-analysis}, as specified in argument. The results of the subtasks are read and merged
+     * incrementally, post-contingency results being provided to the sink without being kept in memory.
+     */
+    public static ExecutionHandler<SecurityAnalysisResult> distributed(SecurityAnalysisExecutionInput input, int subtaskCount,
+                                                                       SecurityAnalysisResultSink sink) {
+        Preconditions.checkArgument(subtaskCount >= 1, TASK_COUNT_ERROR_MESSAGE, subtaskCount);
+        Objects.requireNonNull(sink);
+        return new SecurityAnalysisExecutionHandler<>(workingDir -> readResults(workingDir, subtaskCount, sink),
+            (workingDir, options) -> distributedOptions(workingDir, options, subtaskCount),
+            (workingDir, cause) -> generateExceptionWithLogs(workingDir, cause, subtaskCount),
+            subtaskCount,
+            input);
+    }
+
     /**
      * Create an {@link ExecutionHandler} which distributes the security analysis execution through multiple calls
      * to {@literal itools security-analysis}, as specified in argument. It also retrieves execution logs.
@@ -110,13 +161,41 @@ public final class SecurityAnalysisExecutionHandlers {
             input);
     }
 
+    /**
+     * Create an {@link ExecutionHandler} which distributes the security analysis execution through multiple calls
+     * to {@literal itools security-analysis}, as specified in argument. It also retrieves execution logs, and provides
+     * post-contingency results to the sink without keeping them in memory.
+     */
+    public static ExecutionHandler<SecurityAnalysisResultWithLog> distributedWithLog(SecurityAnalysisExecutionInput input, int subtaskCount,
+                                                                                     SecurityAnalysisResultSink sink) {
+        Preconditions.checkArgument(subtaskCount >= 1, TASK_COUNT_ERROR_MESSAGE, subtaskCount);
+        Objects.requireNonNull(sink);
+        return new SecurityAnalysisExecutionHandler<>(workingDir -> readResultsWithLogs(workingDir, subtaskCount, sink),
+            (workingDir, options) -> distributedWithLogsOptions(workingDir, options, subtaskCount),
+            (workingDir, cause) -> generateExceptionWithLogs(workingDir, cause, subtaskCount),
+            subtaskCount,
+            input);
+    }
+
     public static SecurityAnalysisResult readSingleResult(Path workingDir) {
         Path taskResultFile = workingDir.resolve(OUTPUT_FILE);
         return SecurityAnalysisResultDeserializer.read(taskResultFile);
     }
 
+    public static SecurityAnalysisResult readSingleResult(Path workingDir, SecurityAnalysisResultSink sink) {
+        Path taskResultFile = workingDir.resolve(OUTPUT_FILE);
+        return SecurityAnalysisResultDeserializer.read(taskResultFile, sink);
+    }
+
     public static SecurityAnalysisResultWithLog readSingleResultWithLogs(Path workingDir) {
-        SecurityAnalysisResult re = readSingleResult(workingDir); // throws UncheckedIOException
+        return readSingleResultLogs(workingDir, readSingleResult(workingDir)); // throws UncheckedIOException
+    }
+
+    public static SecurityAnalysisResultWithLog readSingleResultWithLogs(Path workingDir, SecurityAnalysisResultSink sink) {
+        return readSingleResultLogs(workingDir, readSingleResult(workingDir, sink)); // throws UncheckedIOException
+    }
+
+    private static SecurityAnalysisResultWithLog readSingleResultLogs(Path workingDir, SecurityAnalysisResult re) {
         List<String> collectedLogsFilename = new ArrayList<>();
         collectedLogsFilename.add(workingDir.relativize(getLogPath(workingDir)).toString()); // logs_IDX.zip
         collectedLogsFilename.add(saCmdOutLogName());
@@ -160,16 +239,36 @@ public final class SecurityAnalysisExecutionHandlers {
         return workingDir.resolve(String.format(OUTPUT_FILE_FMT, taskIndex));
     }
 
-    public static SecurityAnalysisResult readResults(Path workingDir, int subtaskCount) {
-        List<SecurityAnalysisResult> results = IntStream.range(0, subtaskCount)
-                .mapToObj(taskIndex -> getOutputPathForTask(workingDir, taskIndex))
-                .map(SecurityAnalysisResultDeserializer::read)
+    private static List<Consumer<SecurityAnalysisResultSink>> getResultReaders(Path workingDir, int subtaskCount) {
+        return IntStream.range(0, subtaskCount)
+                .mapToObj(taskIndex -> SecurityAnalysisResultDeserializer.incrementalReader(getOutputPathForTask(workingDir, taskIndex)))
                 .collect(Collectors.toList());
-        return SecurityAnalysisResultMerger.merge(results);
+    }
+
+    public static SecurityAnalysisResult readResults(Path workingDir, int subtaskCount) {
+        // results are read incrementally, directly into the merged result
+        return SecurityAnalysisResultMerger.merge(getResultReaders(workingDir, subtaskCount));
+    }
+
+    /**
+     * Read and merge the results of the subtasks incrementally, post-contingency results being provided to the sink
+     * without being kept in memory.
+     *
+     * @return the merged result, without its post-contingency results
+     */
+    public static SecurityAnalysisResult readResults(Path workingDir, int subtaskCount, SecurityAnalysisResultSink sink) {
+        return SecurityAnalysisResultMerger.merge(getResultReaders(workingDir, subtaskCount), sink);
     }
 
     public static SecurityAnalysisResultWithLog readResultsWithLogs(Path workingDir, int subtaskCount) {
-        SecurityAnalysisResult re = readResults(workingDir, subtaskCount);
+        return readResultsLogs(workingDir, subtaskCount, readResults(workingDir, subtaskCount));
+    }
+
+    public static SecurityAnalysisResultWithLog readResultsWithLogs(Path workingDir, int subtaskCount, SecurityAnalysisResultSink sink) {
+        return readResultsLogs(workingDir, subtaskCount, readResults(workingDir, subtaskCount, sink));
+    }
+
+    private static SecurityAnalysisResultWithLog readResultsLogs(Path workingDir, int subtaskCount, SecurityAnalysisResult re) {
         List<String> collectedLogsFilename = new ArrayList<>();
         for (int i = 0; i < subtaskCount; i++) {
             collectedLogsFilename.add(workingDir.relativize(getLogPathForTask(workingDir, i)).toString()); // logs_IDX.zip
@@ -8,8 +8,10 @@ package com.powsybl.security.execution;
 
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.SecurityAnalysisResultWithLog;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -29,4 +31,28 @@ public interface SecurityAnalysisExecution {
     CompletableFuture<SecurityAnalysisResultWithLog> executeWithLog(ComputationManager computationManager,
                                                                     SecurityAnalysisExecutionInput data);
 
+    /**
+     * Executes the security analysis, providing its results to the specified sink. Post-contingency results provided
+     * to the sink are not kept in the returned result, when the execution supports it.
+     */
+    default CompletableFuture<SecurityAnalysisResult> execute(ComputationManager computationManager,
+                                                              SecurityAnalysisExecutionInput data,
+                                                              SecurityAnalysisResultSink resultSink) {
+        Objects.requireNonNull(resultSink);
+        return execute(computationManager, data).thenApply(result -> SecurityAnalysisResultSink.forward(result, resultSink));
+    }
+
+    /**
+     * Executes the security analysis and retrieves its logs, providing its results to the specified sink.
+     * Post-contingency results provided to the sink are not kept in the returned result, when the execution supports it.
+     */
+    default CompletableFuture<SecurityAnalysisResultWithLog> executeWithLog(ComputationManager computationManager,
+                                                                            SecurityAnalysisExecutionInput data,
+                                                                            SecurityAnalysisResultSink resultSink) {
+        Objects.requireNonNull(resultSink);
+        return executeWithLog(computationManager, data).thenApply(resultWithLog -> {
+            SecurityAnalysisResultSink.forward(resultWithLog.getResult(), resultSink);
+            return resultWithLog;
+        });
+    }
 }
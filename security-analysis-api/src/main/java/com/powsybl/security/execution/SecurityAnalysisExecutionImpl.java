@@ -62,4 +62,20 @@ public class SecurityAnalysisExecutionImpl implements SecurityAnalysisExecution
         SecurityAnalysis securityAnalysis = buildSecurityAnalysis(input, computationManager);
         return securityAnalysis.runWithLog(input.getNetworkVariant().getVariantId(), input.getParameters(), input.getContingenciesProvider());
     }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisResult> execute(ComputationManager computationManager, SecurityAnalysisExecutionInput data,
+                                                             SecurityAnalysisResultSink resultSink) {
+        SecurityAnalysisInput input = buildInput(data);
+        SecurityAnalysis securityAnalysis = buildSecurityAnalysis(input, computationManager);
+        return securityAnalysis.run(input.getNetworkVariant().getVariantId(), input.getParameters(), input.getContingenciesProvider(), resultSink);
+    }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisResultWithLog> executeWithLog(ComputationManager computationManager, SecurityAnalysisExecutionInput data,
+                                                                           SecurityAnalysisResultSink resultSink) {
+        SecurityAnalysisInput input = buildInput(data);
+        SecurityAnalysis securityAnalysis = buildSecurityAnalysis(input, computationManager);
+        return securityAnalysis.runWithLog(input.getNetworkVariant().getVariantId(), input.getParameters(), input.getContingenciesProvider(), resultSink);
+    }
 }
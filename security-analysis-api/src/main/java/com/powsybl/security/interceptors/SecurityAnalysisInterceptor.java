@@ -87,7 +87,10 @@ public interface SecurityAnalysisInterceptor {
     }
 
     /**
-     * Callback after the security-analysis result is built.
+     * Callback after the security-analysis result is built. When the results are streamed to a
+     * {@link com.powsybl.security.SecurityAnalysisResultSink}, post-contingency results are not kept in memory and the
+     * result has no post-contingency results: interceptors needing them have to collect them in
+     * {@link #onPostContingencyResult(PostContingencyResult, SecurityAnalysisResultContext)}.
      * @param result
      * @param context
      */
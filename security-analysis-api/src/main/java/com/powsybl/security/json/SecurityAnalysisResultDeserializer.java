@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
@@ -20,16 +21,15 @@ import com.powsybl.security.LimitViolationsResult;
 import com.powsybl.security.NetworkMetadata;
 import com.powsybl.security.PostContingencyResult;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  *
@@ -40,15 +40,19 @@ public class SecurityAnalysisResultDeserializer extends StdDeserializer<Security
     private static final Supplier<ExtensionProviders<ExtensionJsonSerializer>> SUPPLIER =
         Suppliers.memoize(() -> ExtensionProviders.createProvider(ExtensionJsonSerializer.class, "security-analysis"));
 
+    private static final String SINK_ATTRIBUTE = "sink";
+
     SecurityAnalysisResultDeserializer() {
         super(SecurityAnalysisResult.class);
     }
 
     @Override
     public SecurityAnalysisResult deserialize(JsonParser parser, DeserializationContext ctx) throws IOException {
+        SecurityAnalysisResultSink sink = (SecurityAnalysisResultSink) ctx.getAttribute(SINK_ATTRIBUTE);
         NetworkMetadata networkMetadata = null;
         LimitViolationsResult preContingencyResult = null;
         List<PostContingencyResult> postContingencyResults = Collections.emptyList();
+        Map<String, String> metrics = Collections.emptyMap();
         List<Extension<SecurityAnalysisResult>> extensions = Collections.emptyList();
 
         while (parser.nextToken() != JsonToken.END_OBJECT) {
@@ -65,11 +69,26 @@ public class SecurityAnalysisResultDeserializer extends StdDeserializer<Security
                 case "preContingencyResult":
                     parser.nextToken();
                     preContingencyResult = parser.readValueAs(LimitViolationsResult.class);
+                    if (sink != null) {
+                        sink.onPreContingencyResult(preContingencyResult, networkMetadata);
+                    }
                     break;
 
                 case "postContingencyResults":
                     parser.nextToken();
-                    postContingencyResults = parser.readValueAs(new TypeReference<ArrayList<PostContingencyResult>>() {
+                    if (sink != null) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            sink.onPostContingencyResult(parser.readValueAs(PostContingencyResult.class));
+                        }
+                    } else {
+                        postContingencyResults = parser.readValueAs(new TypeReference<ArrayList<PostContingencyResult>>() {
+                        });
+                    }
+                    break;
+
+                case "metrics":
+                    parser.nextToken();
+                    metrics = parser.readValueAs(new TypeReference<HashMap<String, String>>() {
                     });
                     break;
 
@@ -85,7 +104,11 @@ public class SecurityAnalysisResultDeserializer extends StdDeserializer<Security
 
         SecurityAnalysisResult result = new SecurityAnalysisResult(preContingencyResult, postContingencyResults);
         result.setNetworkMetadata(networkMetadata);
+        result.getMetrics().putAll(metrics);
         SUPPLIER.get().addExtensions(result, extensions);
+        if (sink != null) {
+            sink.onEnd(result);
+        }
 
         return result;
     }
@@ -109,4 +132,43 @@ public class SecurityAnalysisResultDeserializer extends StdDeserializer<Security
             throw new UncheckedIOException(e);
         }
     }
+
+    /**
+     * Read a result incrementally: post-contingency results are provided to the sink one by one as they are read,
+     * without being kept in memory.
+     *
+     * @return the result, without its post-contingency results
+     */
+    public static SecurityAnalysisResult read(Path jsonFile, SecurityAnalysisResultSink sink) {
+        try (InputStream is = Files.newInputStream(jsonFile)) {
+            return read(is, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * An incremental reader of a result file, which can be given to
+     * {@link com.powsybl.security.SecurityAnalysisResultMerger#merge(List, SecurityAnalysisResultSink)}: the file is
+     * read when the reader is called, providing the result to the sink it is given.
+     */
+    public static Consumer<SecurityAnalysisResultSink> incrementalReader(Path jsonFile) {
+        Objects.requireNonNull(jsonFile);
+        return sink -> read(jsonFile, sink);
+    }
+
+    public static SecurityAnalysisResult read(InputStream is, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(is);
+        Objects.requireNonNull(sink);
+
+        ObjectReader objectReader = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .readerFor(SecurityAnalysisResult.class)
+                .withAttribute(SINK_ATTRIBUTE, sink);
+        try {
+            return objectReader.readValue(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -23,7 +23,7 @@ import java.util.Objects;
  */
 public class SecurityAnalysisResultSerializer extends StdSerializer<SecurityAnalysisResult> {
 
-    private static final String VERSION = "1.0";
+    static final String VERSION = "1.1";
 
     SecurityAnalysisResultSerializer() {
         super(SecurityAnalysisResult.class);
@@ -39,6 +39,9 @@ public class SecurityAnalysisResultSerializer extends StdSerializer<SecurityAnal
         }
         jsonGenerator.writeObjectField("preContingencyResult", result.getPreContingencyResult());
         jsonGenerator.writeObjectField("postContingencyResults", result.getPostContingencyResults());
+        if (!result.getMetrics().isEmpty()) {
+            jsonGenerator.writeObjectField("metrics", result.getMetrics());
+        }
         JsonUtil.writeExtensions(result, jsonGenerator, serializerProvider);
 
         jsonGenerator.writeEndObject();
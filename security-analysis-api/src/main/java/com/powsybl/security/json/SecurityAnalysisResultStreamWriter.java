@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.security.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Writes a {@link SecurityAnalysisResult} to JSON incrementally: each post-contingency result is written as soon as it
+ * is received, so that the whole result never has to be kept in memory.
+ *
+ * <p>The written document has the same format as the one written by {@link SecurityAnalysisResultSerializer}. When the
+ * pre-contingency result is received before the first post-contingency result, which is the case when the writer is
+ * used as the sink of a {@link com.powsybl.security.SecurityAnalysisResultBuilder}, the fields are even written in the
+ * same order. Otherwise, the pre-contingency result is written after the post-contingency results.
+ *
+ * <p>The underlying writer is not closed by this class.
+ *
+ * @author agent <agent at local>
+ */
+public class SecurityAnalysisResultStreamWriter implements SecurityAnalysisResultSink, AutoCloseable {
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonGenerator generator;
+
+    private boolean networkMetadataWritten = false;
+
+    private LimitViolationsResult preContingencyResult;
+
+    private boolean preContingencyResultWritten = false;
+
+    private boolean postContingencyResultsStarted = false;
+
+    private boolean ended = false;
+
+    public SecurityAnalysisResultStreamWriter(Writer writer) {
+        Objects.requireNonNull(writer);
+        objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule());
+        try {
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField("version", SecurityAnalysisResultSerializer.VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkNotEnded() {
+        if (ended) {
+            throw new IllegalStateException("Security analysis result has already been written");
+        }
+    }
+
+    private void writeNetworkMetadata(NetworkMetadata networkMetadata) throws IOException {
+        if (!networkMetadataWritten && networkMetadata != null) {
+            generator.writeObjectField("network", networkMetadata);
+            networkMetadataWritten = true;
+        }
+    }
+
+    private void startPostContingencyResults() throws IOException {
+        if (!postContingencyResultsStarted) {
+            generator.writeArrayFieldStart("postContingencyResults");
+            postContingencyResultsStarted = true;
+        }
+    }
+
+    @Override
+    public synchronized void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+        Objects.requireNonNull(preContingencyResult);
+        checkNotEnded();
+        if (this.preContingencyResult != null) {
+            throw new IllegalStateException("Pre-contingency result has already been received");
+        }
+        this.preContingencyResult = preContingencyResult;
+        if (!postContingencyResultsStarted) {
+            try {
+                writeNetworkMetadata(networkMetadata);
+                generator.writeObjectField("preContingencyResult", preContingencyResult);
+                preContingencyResultWritten = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+        Objects.requireNonNull(postContingencyResult);
+        checkNotEnded();
+        try {
+            startPostContingencyResults();
+            generator.writeObject(postContingencyResult);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void onEnd(SecurityAnalysisResult result) {
+        Objects.requireNonNull(result);
+        checkNotEnded();
+        try {
+            if (!preContingencyResultWritten && postContingencyResultsStarted) {
+                // the post-contingency results array has been started: pre-contingency result has to be written after it
+                for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+                    generator.writeObject(postContingencyResult);
+                }
+                generator.writeEndArray();
+                writeNetworkMetadata(result.getNetworkMetadata());
+                generator.writeObjectField("preContingencyResult", preContingencyResult != null ? preContingencyResult : result.getPreContingencyResult());
+            } else {
+                if (!preContingencyResultWritten) {
+                    writeNetworkMetadata(result.getNetworkMetadata());
+                    generator.writeObjectField("preContingencyResult", result.getPreContingencyResult());
+                }
+                startPostContingencyResults();
+                for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+                    generator.writeObject(postContingencyResult);
+                }
+                generator.writeEndArray();
+                writeNetworkMetadata(result.getNetworkMetadata());
+            }
+            if (!result.getMetrics().isEmpty()) {
+                generator.writeObjectField("metrics", result.getMetrics());
+            }
+            JsonUtil.writeExtensions(result, generator, objectMapper.getSerializerProviderInstance());
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ended = true;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
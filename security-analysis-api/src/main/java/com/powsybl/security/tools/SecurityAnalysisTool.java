@@ -32,6 +32,7 @@ import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
 import com.powsybl.security.execution.SecurityAnalysisInputBuildStrategy;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptors;
 import com.powsybl.security.json.JsonSecurityAnalysisParameters;
+import com.powsybl.security.json.SecurityAnalysisResultStreamWriter;
 import com.powsybl.security.preprocessor.SecurityAnalysisPreprocessorFactory;
 import com.powsybl.security.preprocessor.SecurityAnalysisPreprocessors;
 import com.powsybl.tools.Command;
@@ -47,8 +48,10 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Properties;
 import java.util.concurrent.CompletionException;
@@ -67,6 +70,8 @@ import static com.powsybl.tools.ToolConstants.TASK_COUNT;
 @AutoService(Tool.class)
 public class SecurityAnalysisTool implements Tool {
 
+    private static final String JSON_FORMAT = "JSON";
+
     @Override
     public Command getCommand() {
         return new Command() {
@@ -223,9 +228,11 @@ public class SecurityAnalysisTool implements Tool {
     private static SecurityAnalysisResult runSecurityAnalysisWithLog(ComputationManager computationManager,
                                                              SecurityAnalysisExecution execution,
                                                              SecurityAnalysisExecutionInput input,
+                                                             SecurityAnalysisResultSink resultSink,
                                                              Path logPath) {
         try {
-            SecurityAnalysisResultWithLog resultWithLog = execution.executeWithLog(computationManager, input).join();
+            SecurityAnalysisResultWithLog resultWithLog = (resultSink != null ? execution.executeWithLog(computationManager, input, resultSink)
+                                                                              : execution.executeWithLog(computationManager, input)).join();
             // copy log bytes to file
             resultWithLog.getLogBytes()
                     .ifPresent(logBytes -> uncheckedWriteBytes(logBytes, logPath));
@@ -240,6 +247,23 @@ public class SecurityAnalysisTool implements Tool {
         }
     }
 
+    private static SecurityAnalysisResult runSecurityAnalysis(ComputationManager computationManager,
+                                                              SecurityAnalysisExecution execution,
+                                                              SecurityAnalysisExecutionInput input,
+                                                              SecurityAnalysisResultSink resultSink,
+                                                              ToolOptions options) {
+        return options.getPath(OUTPUT_LOG_OPTION)
+                .map(logPath -> runSecurityAnalysisWithLog(computationManager, execution, input, resultSink, logPath))
+                .orElseGet(() -> (resultSink != null ? execution.execute(computationManager, input, resultSink)
+                                                     : execution.execute(computationManager, input)).join());
+    }
+
+    private static void checkPreContingencyResult(SecurityAnalysisResult result, ToolRunningContext context) {
+        if (!result.getPreContingencyResult().isComputationOk()) {
+            context.getErrorStream().println("Pre-contingency state divergence");
+        }
+    }
+
     static Network readNetwork(CommandLine line, ToolRunningContext context, ImportersLoader importersLoader) throws IOException {
         ToolOptions options = new ToolOptions(line, context);
         Path caseFile = options.getPath(CASE_FILE_OPTION)
@@ -299,14 +323,28 @@ public class SecurityAnalysisTool implements Tool {
         ComputationManager computationManager = options.hasOption(TASK) ? context.getShortTimeExecutionComputationManager() :
                 context.getLongTimeExecutionComputationManager();
 
-        SecurityAnalysisResult result = options.getPath(OUTPUT_LOG_OPTION)
-                .map(logPath -> runSecurityAnalysisWithLog(computationManager, execution, executionInput, logPath))
-                .orElseGet(() -> execution.execute(computationManager, executionInput).join());
-
-        if (!result.getPreContingencyResult().isComputationOk()) {
-            context.getErrorStream().println("Pre-contingency state divergence");
+        if (outputFile != null && JSON_FORMAT.equals(format)) {
+            // JSON results are streamed to a temporary file next to the output file, post-contingency results are not
+            // kept in memory, and the output file is only replaced once the security analysis is complete
+            Path tmpOutputFile = Files.createTempFile(outputFile.toAbsolutePath().getParent(), outputFile.getFileName().toString(), ".tmp");
+            try {
+                SecurityAnalysisResult result;
+                try (Writer writer = Files.newBufferedWriter(tmpOutputFile, StandardCharsets.UTF_8);
+                     SecurityAnalysisResultStreamWriter resultSink = new SecurityAnalysisResultStreamWriter(writer)) {
+                    result = runSecurityAnalysis(computationManager, execution, executionInput, resultSink, options);
+                }
+                checkPreContingencyResult(result, context);
+                context.getOutputStream().println("Writing results to '" + outputFile + "'");
+                Files.move(tmpOutputFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmpOutputFile);
+            }
+            return;
         }
 
+        SecurityAnalysisResult result = runSecurityAnalysis(computationManager, execution, executionInput, null, options);
+        checkPreContingencyResult(result, context);
+
         if (outputFile != null) {
             context.getOutputStream().println("Writing results to '" + outputFile + "'");
             SecurityAnalysisResultExporters.export(result, outputFile, format);
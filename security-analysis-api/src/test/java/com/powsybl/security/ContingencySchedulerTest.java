@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.security;
+
+import com.powsybl.contingency.Contingency;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ContingencySchedulerTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<Contingency> createContingencies(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Contingency("c" + i)).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testAllContingenciesProcessedOnce() {
+        List<Contingency> contingencies = createContingencies(1000);
+        Map<String, String> variantByContingency = new ConcurrentHashMap<>();
+        Set<String> busyVariants = ConcurrentHashMap.newKeySet();
+        ContingencyScheduler scheduler = new ContingencyScheduler(contingencies.iterator(), 7, executor, (variantId, contingency) ->
+            CompletableFuture.runAsync(() -> {
+                // a variant is never used by two contingencies at the same time
+                assertTrue(busyVariants.add(variantId));
+                assertNull(variantByContingency.put(contingency.getId(), variantId));
+                busyVariants.remove(variantId);
+            }, executor));
+        scheduler.run(Arrays.asList("v1", "v2", "v3")).join();
+        assertEquals(1000, variantByContingency.size());
+        assertEquals(new HashSet<>(Arrays.asList("v1", "v2", "v3")), new HashSet<>(variantByContingency.values()));
+    }
+
+    @Test
+    public void testContingenciesPulledByBatches() {
+        List<Contingency> contingencies = createContingencies(100);
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<Contingency> it = contingencies.iterator();
+        Iterator<Contingency> countingIt = new Iterator<Contingency>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Contingency next() {
+                pulled.incrementAndGet();
+                return it.next();
+            }
+        };
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        ContingencyScheduler scheduler = new ContingencyScheduler(countingIt, 5, executor, (variantId, contingency) -> blocker);
+        CompletableFuture<Void> done = scheduler.run(Arrays.asList("v1", "v2"));
+        // only one batch per worker has been pulled while contingencies are running
+        long deadline = System.currentTimeMillis() + 10000;
+        while (pulled.get() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(10, pulled.get());
+        assertFalse(done.isDone());
+        blocker.complete(null);
+        done.join();
+        assertEquals(100, pulled.get());
+    }
+
+    @Test
+    public void testSynchronousProcessing() {
+        // already completed futures and an executor running tasks in the calling thread must not overflow the stack
+        AtomicInteger count = new AtomicInteger();
+        ContingencyScheduler scheduler = new ContingencyScheduler(createContingencies(100000).iterator(), 10, Runnable::run, (variantId, contingency) -> {
+            count.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        scheduler.run(Collections.singletonList("v1")).join();
+        assertEquals(100000, count.get());
+    }
+
+    @Test
+    public void testWorkStealing() {
+        // first worker is stuck on its first contingency, the other one has to steal the remaining of its batch
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        Set<String> processedByV1 = ConcurrentHashMap.newKeySet();
+        Set<String> processedByV2 = ConcurrentHashMap.newKeySet();
+        ContingencyScheduler scheduler = new ContingencyScheduler(createContingencies(20).iterator(), 10, executor, (variantId, contingency) -> {
+            if (variantId.equals("v1")) {
+                processedByV1.add(contingency.getId());
+                return blocker;
+            }
+            processedByV2.add(contingency.getId());
+            return CompletableFuture.completedFuture(null);
+        });
+        CompletableFuture<Void> done = scheduler.run(Arrays.asList("v1", "v2"));
+        long deadline = System.currentTimeMillis() + 10000;
+        while (processedByV1.size() + processedByV2.size() < 20 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertTrue(processedByV1.size() <= 1);
+        assertEquals(20, processedByV1.size() + processedByV2.size());
+        blocker.complete(null);
+        done.join();
+    }
+
+    @Test
+    public void testFailure() {
+        AtomicInteger count = new AtomicInteger();
+        ContingencyScheduler scheduler = new ContingencyScheduler(createContingencies(1000).iterator(), 10, executor, (variantId, contingency) -> {
+            if (count.incrementAndGet() == 10) {
+                throw new IllegalStateException("failure");
+            }
+            return CompletableFuture.runAsync(() -> { }, executor);
+        });
+        try {
+            scheduler.run(Arrays.asList("v1", "v2")).join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // remaining contingencies have not been processed
+        assertTrue(count.get() < 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() {
+        new ContingencyScheduler(Collections.emptyIterator(), 0, executor, (variantId, contingency) -> CompletableFuture.completedFuture(null));
+    }
+}
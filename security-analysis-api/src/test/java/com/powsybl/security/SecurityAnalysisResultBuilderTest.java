@@ -7,6 +7,8 @@ import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.security.interceptors.*;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -120,6 +122,43 @@ public class SecurityAnalysisResultBuilderTest {
         assertEquals(1, violations2.stream().filter(l -> l.getLimitType() == LimitViolationType.HIGH_VOLTAGE).count());
     }
 
+    @Test
+    public void streamedResult() {
+        List<String> events = new ArrayList<>();
+        SecurityAnalysisResultSink sink = new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+                assertEquals(network.getId(), networkMetadata.getId());
+                events.add("pre");
+            }
+
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                events.add(postContingencyResult.getContingency().getId());
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                assertEquals("1", result.getMetrics().get("metric"));
+                events.add("end");
+            }
+        };
+        SecurityAnalysisResultBuilder builder = new SecurityAnalysisResultBuilder(new LimitViolationFilter(),
+                new RunningContext(network, network.getVariantManager().getWorkingVariantId()), Collections.emptyList(), sink);
+
+        builder.preContingency().setComputationOk(true).endPreContingency();
+        builder.contingency(new Contingency("contingency1")).setComputationOk(true).endContingency();
+        assertEquals(Arrays.asList("pre", "contingency1"), events);
+        builder.contingency(new Contingency("contingency2")).setComputationOk(true).endContingency();
+
+        SecurityAnalysisResult res = builder.addMetric("metric", "1").build();
+        assertEquals(Arrays.asList("pre", "contingency1", "contingency2", "end"), events);
+        assertTrue(res.getPreContingencyResult().isComputationOk());
+        // post-contingency results are not kept
+        assertTrue(res.getPostContingencyResults().isEmpty());
+        assertEquals("1", res.getMetrics().get("metric"));
+    }
+
     static class MockContext extends DefaultSecurityAnalysisResultContext {
 
         private int calledCount = 0;
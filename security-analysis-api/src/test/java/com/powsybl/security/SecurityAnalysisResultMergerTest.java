@@ -12,10 +12,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Yichen Tang <yichen.tang at rte-france.com>
@@ -64,6 +67,49 @@ public class SecurityAnalysisResultMergerTest {
         assertEquals(Arrays.asList(postContingencyResult, postContingencyResult2), mergedResult.getPostContingencyResults());
     }
 
+    private static Consumer<SecurityAnalysisResultSink> stream(SecurityAnalysisResult result) {
+        return sink -> {
+            sink.onPreContingencyResult(result.getPreContingencyResult(), result.getNetworkMetadata());
+            result.getPostContingencyResults().forEach(sink::onPostContingencyResult);
+            sink.onEnd(new SecurityAnalysisResult(result.getPreContingencyResult(), Collections.emptyList()));
+        };
+    }
+
+    @Test
+    public void testIncrementalMerge() {
+        SecurityAnalysisResult mergedResult = SecurityAnalysisResultMerger.merge(Arrays.asList(stream(result1), stream(result2)));
+        assertEquals(preContingencyResult, mergedResult.getPreContingencyResult());
+        assertEquals(Arrays.asList(postContingencyResult, postContingencyResult2), mergedResult.getPostContingencyResults());
+    }
+
+    @Test
+    public void testFailedResultsIncrementalMerge() {
+        SecurityAnalysisResult mergedResult = SecurityAnalysisResultMerger.merge(Arrays.asList(stream(result1), stream(failedResult), stream(result2)));
+        assertSame(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, mergedResult);
+
+        // post-contingency results following the failure are not forwarded
+        List<PostContingencyResult> forwarded = new ArrayList<>();
+        SecurityAnalysisResult[] end = new SecurityAnalysisResult[1];
+        SecurityAnalysisResultMerger.merge(Arrays.asList(stream(result1), stream(failedResult), stream(result2)), new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+                assertFalse(preContingencyResult.isComputationOk());
+            }
+
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                forwarded.add(postContingencyResult);
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                end[0] = result;
+            }
+        });
+        assertEquals(Collections.singletonList(postContingencyResult), forwarded);
+        assertSame(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, end[0]);
+    }
+
     @Test
     public void testFailedResultsMerge() {
         SecurityAnalysisResult[] results = new SecurityAnalysisResult[]{
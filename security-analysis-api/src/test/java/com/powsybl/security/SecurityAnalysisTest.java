@@ -24,15 +24,21 @@ import com.powsybl.security.extensions.ActivePowerExtension;
 import com.powsybl.security.extensions.CurrentExtension;
 import com.powsybl.security.interceptors.CurrentLimitViolationInterceptor;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptorMock;
+import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
+import com.powsybl.security.json.SecurityAnalysisResultStreamWriter;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.util.Collections;
 import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -58,8 +64,7 @@ public class SecurityAnalysisTest {
         fileSystem.close();
     }
 
-    @Test
-    public void run() {
+    private static Network createNetwork() {
         Network network = EurostagTutorialExample1Factory.create();
         ((Bus) network.getIdentifiable("NHV1")).setV(380.0);
         ((Bus) network.getIdentifiable("NHV2")).setV(380.0);
@@ -74,9 +79,10 @@ public class SecurityAnalysisTest {
                 .setValue(1300.0)
                 .endTemporaryLimit()
                 .add();
+        return network;
+    }
 
-        ComputationManager computationManager = createMockComputationManager();
-
+    private static ContingenciesProvider createContingenciesProvider(Network network) {
         ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
         Contingency contingency = Mockito.mock(Contingency.class);
         Mockito.when(contingency.getId()).thenReturn("NHV1_NHV2_2_contingency");
@@ -90,6 +96,15 @@ public class SecurityAnalysisTest {
             }
         });
         Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.singletonList(contingency));
+        Mockito.when(contingenciesProvider.getContingencyStream(network)).thenAnswer(invocation -> Stream.of(contingency));
+        return contingenciesProvider;
+    }
+
+    @Test
+    public void run() {
+        Network network = createNetwork();
+        ComputationManager computationManager = createMockComputationManager();
+        ContingenciesProvider contingenciesProvider = createContingenciesProvider(network);
 
         LimitViolationFilter filter = new LimitViolationFilter();
 
@@ -118,11 +133,46 @@ public class SecurityAnalysisTest {
         assertNotNull(extension2);
         assertEquals(1192.5631358010583, extension2.getPreContingencyValue(), 0.0);
 
+        assertEquals("1", result.getMetrics().get(SecurityAnalysisImpl.VARIANT_CLONE_COUNT_METRIC));
+        assertTrue(result.getMetrics().containsKey(SecurityAnalysisImpl.VARIANT_CLONE_TIME_METRIC));
+
         assertEquals(1, interceptorMock.getOnPostContingencyResultCount());
         assertEquals(1, interceptorMock.getOnPreContingencyResultCount());
         assertEquals(1, interceptorMock.getOnSecurityAnalysisResultCount());
     }
 
+    @Test
+    public void runWithSink() {
+        Network network = createNetwork();
+        ComputationManager computationManager = createMockComputationManager();
+        ContingenciesProvider contingenciesProvider = createContingenciesProvider(network);
+
+        SecurityAnalysis securityAnalysis = new SecurityAnalysisImpl(network, new LimitViolationFilter(), computationManager);
+        SecurityAnalysisInterceptorMock interceptorMock = new SecurityAnalysisInterceptorMock();
+        securityAnalysis.addInterceptor(interceptorMock);
+        securityAnalysis.addInterceptor(new CurrentLimitViolationInterceptor());
+
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResult result;
+        try (SecurityAnalysisResultStreamWriter resultSink = new SecurityAnalysisResultStreamWriter(writer)) {
+            result = securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, SecurityAnalysisParameters.load(platformConfig), contingenciesProvider, resultSink).join();
+        }
+
+        // post-contingency results are only provided to the sink
+        assertTrue(result.getPreContingencyResult().isComputationOk());
+        assertTrue(result.getPostContingencyResults().isEmpty());
+        assertEquals(1, interceptorMock.getOnPostContingencyResultCount());
+        assertEquals(1, interceptorMock.getOnSecurityAnalysisResultCount());
+
+        SecurityAnalysisResult streamed = SecurityAnalysisResultDeserializer.read(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)));
+        assertTrue(streamed.getPreContingencyResult().isComputationOk());
+        assertEquals(1, streamed.getPostContingencyResults().size());
+        LimitViolation violation = streamed.getPostContingencyResults().get(0).getLimitViolationsResult().getLimitViolations().get(0);
+        assertEquals(LimitViolationType.CURRENT, violation.getLimitType());
+        assertEquals("NHV1_NHV2_1", violation.getSubjectId());
+        assertEquals("1", streamed.getMetrics().get(SecurityAnalysisImpl.VARIANT_CLONE_COUNT_METRIC));
+    }
+
     @Test
     public void runWithoutContingency() {
         Network network = EurostagTutorialExample1Factory.create();
@@ -130,6 +180,7 @@ public class SecurityAnalysisTest {
 
         ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
         Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.emptyList());
+        Mockito.when(contingenciesProvider.getContingencyStream(network)).thenAnswer(invocation -> Stream.empty());
         LimitViolationFilter filter = new LimitViolationFilter();
 
         SecurityAnalysis securityAnalysis = new SecurityAnalysisImpl(network, filter, computationManager);
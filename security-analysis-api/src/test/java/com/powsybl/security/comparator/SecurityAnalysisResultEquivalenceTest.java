@@ -6,10 +6,10 @@
  */
 package com.powsybl.security.comparator;
 
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.apache.commons.io.output.NullWriter;
 import org.junit.Test;
@@ -29,6 +29,18 @@ import com.powsybl.security.SecurityAnalysisResult;
  */
 public class SecurityAnalysisResultEquivalenceTest {
 
+    private static void checkEquivalent(boolean expected, SecurityAnalysisResultEquivalence resultEquivalence,
+                                        SecurityAnalysisResult result1, SecurityAnalysisResult result2) {
+        assertEquals(expected, resultEquivalence.equivalent(result1, result2));
+
+        // same comparison with the second result provided incrementally
+        assertEquals(expected, resultEquivalence.equivalent(result1, sink -> {
+            sink.onPreContingencyResult(result2.getPreContingencyResult(), null);
+            result2.getPostContingencyResults().forEach(sink::onPostContingencyResult);
+            sink.onEnd(new SecurityAnalysisResult(result2.getPreContingencyResult(), Collections.emptyList()));
+        }));
+    }
+
     @Test
     public void equivalent() {
         SecurityAnalysisResultEquivalence resultEquivalence = new SecurityAnalysisResultEquivalence(0.1, NullWriter.NULL_WRITER);
@@ -66,50 +78,50 @@ public class SecurityAnalysisResultEquivalenceTest {
         PostContingencyResult postContingencyResult22 = new PostContingencyResult(contingency2, new LimitViolationsResult(true, Arrays.asList(similarLine1Violation1, similarLine2Violation)));
         SecurityAnalysisResult result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult22, postContingencyResult21));
 
-        assertTrue(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(true, resultEquivalence, result1, result2);
 
         // different pre contingency results, similar post contingency results
         preContingencyResult2 = new LimitViolationsResult(true, Arrays.asList(differentLine1Violation1));
         result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult22, postContingencyResult21));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, different post contingency results
         preContingencyResult2 = new LimitViolationsResult(true, Arrays.asList(similarLine1Violation1));
         postContingencyResult21 = new PostContingencyResult(contingency1, new LimitViolationsResult(true, Arrays.asList(similarLine1Violation1, differentLine1Violation2)));
         result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult22, postContingencyResult21));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, different post contingency results: more contingencies at the end of result2
         postContingencyResult21 = new PostContingencyResult(contingency1, new LimitViolationsResult(true, Arrays.asList(similarLine1Violation1, similarLine1Violation2)));
         PostContingencyResult postContingencyResult23 = new PostContingencyResult(contingency3, new LimitViolationsResult(true, Arrays.asList(similarLine1Violation1, similarLine3Violation)));
         result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult22, postContingencyResult21, postContingencyResult23));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, different post contingency results: more contingencies in result2
         PostContingencyResult postContingencyResult13 = new PostContingencyResult(contingency3, new LimitViolationsResult(true, Arrays.asList(line1Violation1, line3Violation)));
         result1 = new SecurityAnalysisResult(preContingencyResult1, Arrays.asList(postContingencyResult13, postContingencyResult12));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, different post contingency results: more contingencies at the end of result1
         result1 = new SecurityAnalysisResult(preContingencyResult1, Arrays.asList(postContingencyResult13, postContingencyResult11, postContingencyResult12));
         result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult22, postContingencyResult21));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, different post contingency results: more contingencies in result1
         result2 = new SecurityAnalysisResult(preContingencyResult2, Arrays.asList(postContingencyResult23, postContingencyResult21));
 
-        assertFalse(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(false, resultEquivalence, result1, result2);
 
         // similar pre contingency results, similar post contingency results: more contingencies in result1, but small
         postContingencyResult12 = new PostContingencyResult(contingency2, new LimitViolationsResult(true, Arrays.asList(smallLine1Violation1, smallLine2Violation)));
         result1 = new SecurityAnalysisResult(preContingencyResult1, Arrays.asList(postContingencyResult13, postContingencyResult11, postContingencyResult12));
 
-        assertTrue(resultEquivalence.equivalent(result1, result2));
+        checkEquivalent(true, resultEquivalence, result1, result2);
     }
 
 }
@@ -16,11 +16,13 @@ import com.powsybl.security.extensions.ActivePowerExtension;
 import com.powsybl.security.extensions.CurrentExtension;
 import com.powsybl.security.extensions.VoltageExtension;
 import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
+import com.powsybl.security.json.SecurityAnalysisResultStreamWriter;
 import org.junit.Test;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +30,8 @@ import java.util.function.BiConsumer;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Mathieu Bague <mathieu.bague at rte-france.com>
@@ -62,6 +66,7 @@ public class ExporterTest extends AbstractConverterTest {
 
         SecurityAnalysisResult result = new SecurityAnalysisResult(preContingencyResult, Collections.singletonList(postContingencyResult));
         result.setNetworkMetadata(new NetworkMetadata(NETWORK));
+        result.getMetrics().put("variantCloneCount", "1");
 
         return result;
     }
@@ -78,6 +83,91 @@ public class ExporterTest extends AbstractConverterTest {
         roundTripTest(result, exporter, SecurityAnalysisResultDeserializer::read, "/SecurityAnalysisResult.json");
     }
 
+    @Test
+    public void roundTripStreamedJson() throws IOException {
+        SecurityAnalysisResult result = create();
+
+        // streamed result has exactly the same content as the serialized one
+        roundTripTest(result, ExporterTest::writeStreamedJson, ExporterTest::readStreamedJson, "/SecurityAnalysisResult.json");
+    }
+
+    @Test
+    public void writeStreamedJsonPreContingencyResultLast() throws IOException {
+        SecurityAnalysisResult result = create();
+
+        StringWriter writer = new StringWriter();
+        try (SecurityAnalysisResultStreamWriter streamWriter = new SecurityAnalysisResultStreamWriter(writer)) {
+            result.getPostContingencyResults().forEach(streamWriter::onPostContingencyResult);
+            streamWriter.onPreContingencyResult(result.getPreContingencyResult(), null);
+            streamWriter.onEnd(new SecurityAnalysisResult(result.getPreContingencyResult(), Collections.emptyList())
+                    .setNetworkMetadata(result.getNetworkMetadata()));
+        }
+        SecurityAnalysisResult result2 = SecurityAnalysisResultDeserializer.read(new ByteArrayInputStream(writer.toString().getBytes()));
+        assertEquals(1, result2.getPostContingencyResults().size());
+        assertEquals("contingency", result2.getPostContingencyResults().get(0).getContingency().getId());
+        assertEquals(1, result2.getPreContingencyResult().getLimitViolations().size());
+        assertEquals(NETWORK.getId(), result2.getNetworkMetadata().getId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writeStreamedJsonAfterEnd() {
+        SecurityAnalysisResult result = create();
+        try (SecurityAnalysisResultStreamWriter streamWriter = new SecurityAnalysisResultStreamWriter(new StringWriter())) {
+            streamWriter.onEnd(result);
+            streamWriter.onPostContingencyResult(result.getPostContingencyResults().get(0));
+        }
+    }
+
+    @Test
+    public void readJsonVersion10() {
+        SecurityAnalysisResult result = SecurityAnalysisResultDeserializer.read(getClass().getResourceAsStream("/SecurityAnalysisResultV1.0.json"));
+        assertEquals(1, result.getPostContingencyResults().size());
+        assertTrue(result.getMetrics().isEmpty());
+    }
+
+    private static void writeStreamedJson(SecurityAnalysisResult result, Path path) {
+        try (Writer writer = Files.newBufferedWriter(path);
+             SecurityAnalysisResultStreamWriter streamWriter = new SecurityAnalysisResultStreamWriter(writer)) {
+            streamWriter.onPreContingencyResult(result.getPreContingencyResult(), result.getNetworkMetadata());
+            result.getPostContingencyResults().forEach(streamWriter::onPostContingencyResult);
+            SecurityAnalysisResult end = new SecurityAnalysisResult(result.getPreContingencyResult(), Collections.emptyList())
+                    .setNetworkMetadata(result.getNetworkMetadata());
+            end.getMetrics().putAll(result.getMetrics());
+            streamWriter.onEnd(end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SecurityAnalysisResult readStreamedJson(Path path) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        LimitViolationsResult[] preContingencyResult = new LimitViolationsResult[1];
+        SecurityAnalysisResult[] end = new SecurityAnalysisResult[1];
+        SecurityAnalysisResultDeserializer.read(path, new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult result, NetworkMetadata networkMetadata) {
+                assertTrue(postContingencyResults.isEmpty());
+                preContingencyResult[0] = result;
+            }
+
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                postContingencyResults.add(postContingencyResult);
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                assertTrue(result.getPostContingencyResults().isEmpty());
+                end[0] = result;
+            }
+        });
+        assertSame(preContingencyResult[0], end[0].getPreContingencyResult());
+        SecurityAnalysisResult result = new SecurityAnalysisResult(end[0].getPreContingencyResult(), postContingencyResults)
+                .setNetworkMetadata(end[0].getNetworkMetadata());
+        result.getMetrics().putAll(end[0].getMetrics());
+        return result;
+    }
+
     private static void writeJson(SecurityAnalysisResult result, Path path) {
         SecurityAnalysisResultExporter exporter = SecurityAnalysisResultExporters.getExporter("JSON");
         assertNotNull(exporter);
@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -259,6 +260,43 @@ public class SecurityAnalysisExecutionHandlersTest {
         assertEquals("c2", result.getPostContingencyResults().get(1).getContingency().getId());
     }
 
+    @Test
+    public void distributedAfterWithSink() throws IOException {
+        JsonSecurityAnalysisResultExporter exporter = new JsonSecurityAnalysisResultExporter();
+        try (Writer writer = Files.newBufferedWriter(workingDir.resolve("task_0_result.json"))) {
+            exporter.export(resultForContingency("c1"), writer);
+        }
+        try (Writer writer = Files.newBufferedWriter(workingDir.resolve("task_1_result.json"))) {
+            exporter.export(resultForContingency("c2"), writer);
+        }
+
+        List<String> contingencyIds = new ArrayList<>();
+        SecurityAnalysisResultSink sink = new SecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(LimitViolationsResult preContingencyResult, NetworkMetadata networkMetadata) {
+                assertTrue(preContingencyResult.isComputationOk());
+            }
+
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                contingencyIds.add(postContingencyResult.getContingency().getId());
+            }
+
+            @Override
+            public void onEnd(SecurityAnalysisResult result) {
+                assertTrue(result.getPostContingencyResults().isEmpty());
+            }
+        };
+
+        ExecutionHandler<SecurityAnalysisResult> handler = SecurityAnalysisExecutionHandlers.distributed(new SecurityAnalysisExecutionInput(), 2, sink);
+        SecurityAnalysisResult result = handler.after(workingDir, new DefaultExecutionReport(workingDir));
+
+        assertTrue(result.getPreContingencyResult().isComputationOk());
+        // post-contingency results are only provided to the sink
+        assertTrue(result.getPostContingencyResults().isEmpty());
+        assertEquals(ImmutableList.of("c1", "c2"), contingencyIds);
+    }
+
     private static Set<String> getFileNamesFromZip(byte[] bytes) throws IOException {
         Set<String> foundNames = new HashSet<>();
         try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
@@ -32,11 +32,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -176,6 +179,44 @@ public class SecurityAnalysisToolTest extends AbstractToolTest {
         SecurityAnalysisTool.readNetwork(cli, context, new ImportersLoaderList(new NetworkImporterMock()));
     }
 
+    @Test
+    public void testJsonOutput() throws Exception {
+        try (ByteArrayOutputStream bout = new ByteArrayOutputStream();
+             PrintStream out = new PrintStream(bout);
+             ComputationManager cm = mock(ComputationManager.class)) {
+            CommandLine cl = mockCommandLine(ImmutableMap.of("case-file", "network.xml",
+                    "output-file", "out.json", "output-format", "JSON"), Collections.emptySet());
+
+            ToolRunningContext context = new ToolRunningContext(out, out, fileSystem, cm, cm);
+
+            SecurityAnalysisFactory saFactory = new SecurityAnalysisMockFactory();
+            SecurityAnalysis sa = saFactory.create(null, cm, 1);
+            SecurityAnalysisResult result = new SecurityAnalysisResult(new LimitViolationsResult(true, Collections.emptyList()), Collections.emptyList());
+            when(sa.run(any(), any(), any(), any())).thenAnswer(invocation -> {
+                // the output file is only written once the security analysis is complete
+                assertFalse(Files.exists(fileSystem.getPath("out.json")));
+                assertFalse(bout.toString().contains("Writing results"));
+                return CompletableFuture.completedFuture(result);
+            });
+
+            SecurityAnalysisExecutionBuilder builder = new SecurityAnalysisExecutionBuilder(ExternalSecurityAnalysisConfig::new,
+                () -> saFactory,
+                executionInput -> new SecurityAnalysisInput(executionInput.getNetworkVariant()));
+
+            // execute
+            tool.run(cl, context, builder,
+                    SecurityAnalysisParameters::new,
+                    new ImportersLoaderList(new NetworkImporterMock()),
+                    TableFormatterConfig::new);
+
+            assertTrue(Files.exists(fileSystem.getPath("out.json")));
+            assertTrue(bout.toString().contains("Writing results to 'out.json'"));
+            try (Stream<Path> files = Files.list(fileSystem.getPath("out.json").toAbsolutePath().getParent())) {
+                assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+            }
+        }
+    }
+
     @Test
     public void testRunWithLog() throws Exception {
         try (ByteArrayOutputStream bout = new ByteArrayOutputStream();
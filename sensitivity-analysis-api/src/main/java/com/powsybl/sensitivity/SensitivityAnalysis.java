@@ -79,6 +79,33 @@ public final class SensitivityAnalysis {
             return runAsync(network, factorsProvider, contingenciesProvider, SensitivityAnalysisParameters.load());
         }
 
+        public CompletableFuture<SensitivityAnalysisResult> runAsync(Network network,
+                                                                     String workingStateId,
+                                                                     SensitivityFactorsProvider factorsProvider,
+                                                                     ContingenciesProvider contingenciesProvider,
+                                                                     SensitivityAnalysisParameters parameters,
+                                                                     ComputationManager computationManager,
+                                                                     SensitivityValueConsumer valueConsumer) {
+            Objects.requireNonNull(network, "Network should not be null");
+            Objects.requireNonNull(workingStateId, "Working state ID should not be null");
+            Objects.requireNonNull(factorsProvider, "Sensitivity factors provider should not be null");
+            Objects.requireNonNull(parameters, "Sensitivity analysis parameters should not be null");
+            Objects.requireNonNull(computationManager, "Computation manager should not be null");
+            Objects.requireNonNull(valueConsumer, "Sensitivity value consumer should not be null");
+            return provider.run(network, workingStateId, factorsProvider,
+                contingenciesProvider == null ? new EmptyContingencyListProvider() : contingenciesProvider, parameters, computationManager, valueConsumer);
+        }
+
+        public SensitivityAnalysisResult run(Network network,
+                                             String workingStateId,
+                                             SensitivityFactorsProvider factorsProvider,
+                                             ContingenciesProvider contingenciesProvider,
+                                             SensitivityAnalysisParameters parameters,
+                                             ComputationManager computationManager,
+                                             SensitivityValueConsumer valueConsumer) {
+            return runAsync(network, workingStateId, factorsProvider, contingenciesProvider, parameters, computationManager, valueConsumer).join();
+        }
+
         public SensitivityAnalysisResult run(Network network,
                                              String workingStateId,
                                              SensitivityFactorsProvider factorsProvider,
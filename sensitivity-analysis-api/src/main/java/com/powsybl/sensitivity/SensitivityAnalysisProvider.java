@@ -12,6 +12,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.iidm.network.Network;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -52,4 +53,37 @@ public interface SensitivityAnalysisProvider extends Versionable, PlatformConfig
                                                      ContingenciesProvider contingenciesProvider,
                                                      SensitivityAnalysisParameters parameters,
                                                      ComputationManager computationManager);
+
+    /**
+     * Run an asynchronous single sensitivity analysis job, pushing the sensitivity values into a
+     * {@code valueConsumer} instead of gathering them in the result.
+     * <p>
+     * The default implementation runs {@link #run(Network, String, SensitivityFactorsProvider, ContingenciesProvider, SensitivityAnalysisParameters, ComputationManager)}
+     * and then pushes the values of its result, providers should override it to push the values as they are computed,
+     * and to pull the factors by batches from {@link SensitivityFactorsProvider#getFactors(Network, int, java.util.function.Consumer)}.
+     *
+     * @param network IIDM network on which the sensitivity analysis will be performed
+     * @param workingStateId network variant ID on which the analysis will be performed
+     * @param factorsProvider provider of sensitivity factors to be computed
+     * @param contingenciesProvider provider of contingencies after which sensitivity factors will be computed
+     * @param parameters specific sensitivity analysis parameters
+     * @param computationManager a computation manager to external program execution
+     * @param valueConsumer consumer of the sensitivity values
+     * @return a {@link CompletableFuture} on a {@link SensitivityAnalysisResult} with the status, metrics and logs of
+     * the analysis, but without any sensitivity value
+     */
+    default CompletableFuture<SensitivityAnalysisResult> run(Network network,
+                                                             String workingStateId,
+                                                             SensitivityFactorsProvider factorsProvider,
+                                                             ContingenciesProvider contingenciesProvider,
+                                                             SensitivityAnalysisParameters parameters,
+                                                             ComputationManager computationManager,
+                                                             SensitivityValueConsumer valueConsumer) {
+        return run(network, workingStateId, factorsProvider, contingenciesProvider, parameters, computationManager)
+                .thenApply(result -> {
+                    result.getSensitivityValues().forEach(value -> valueConsumer.accept(null, value));
+                    result.getSensitivityValuesContingencies().forEach((contingencyId, values) -> values.forEach(value -> valueConsumer.accept(contingencyId, value)));
+                    return new SensitivityAnalysisResult(result.isOk(), result.getMetrics(), result.getLogs(), Collections.emptyList(), Collections.emptyMap());
+                });
+    }
 }
@@ -10,7 +10,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Sensitivity analysis result
@@ -50,10 +49,10 @@ public class SensitivityAnalysisResult {
     private final String logs;
 
     @JsonProperty("values")
-    private final List<SensitivityValue> sensitivityValues;
+    private final SensitivityValueTable sensitivityValues;
 
     @JsonProperty("contingenciesValues")
-    private final Map<String, List<SensitivityValue>> sensitivityValuesContingencies;
+    private final Map<String, SensitivityValueTable> sensitivityValuesContingencies;
 
     /**
      * Hades2 sensitivity analysis result
@@ -73,8 +72,10 @@ public class SensitivityAnalysisResult {
         this.ok = ok;
         this.metrics = Objects.requireNonNull(metrics);
         this.logs = Objects.requireNonNull(logs);
-        this.sensitivityValues = Collections.unmodifiableList(Objects.requireNonNull(sensitivityValues));
-        this.sensitivityValuesContingencies = Optional.ofNullable(sensitivityValuesContingencies).map(Collections::unmodifiableMap).orElse(Collections.emptyMap());
+        this.sensitivityValues = new SensitivityValueTable(Objects.requireNonNull(sensitivityValues));
+        this.sensitivityValuesContingencies = Optional.ofNullable(sensitivityValuesContingencies)
+                .map(SensitivityAnalysisResult::toTables)
+                .orElse(Collections.emptyMap());
     }
 
     public SensitivityAnalysisResult(boolean ok,
@@ -84,6 +85,12 @@ public class SensitivityAnalysisResult {
         this(ok, metrics, logs, sensitivityValues, Collections.emptyMap());
     }
 
+    private static Map<String, SensitivityValueTable> toTables(Map<String, List<SensitivityValue>> sensitivityValuesContingencies) {
+        Map<String, SensitivityValueTable> tables = new LinkedHashMap<>();
+        sensitivityValuesContingencies.forEach((contingencyId, values) -> tables.put(contingencyId, new SensitivityValueTable(values)));
+        return Collections.unmodifiableMap(tables);
+    }
+
     /**
      * Get the status of the sensitivity analysis
      *
@@ -128,8 +135,7 @@ public class SensitivityAnalysisResult {
      * @return a collection of all the sensitivity values associated with given function in state N.
      */
     public Collection<SensitivityValue> getSensitivityValuesByFunction(SensitivityFunction function) {
-        return sensitivityValues.stream().filter(sensitivityValue -> sensitivityValue.getFactor().getFunction().equals(function))
-                .collect(Collectors.toList());
+        return sensitivityValues.getByFunction(function);
     }
 
     /**
@@ -139,8 +145,7 @@ public class SensitivityAnalysisResult {
      * @return a collection of all the sensitivity values associated with given variable in state N.
      */
     public Collection<SensitivityValue> getSensitivityValuesByVariable(SensitivityVariable variable) {
-        return sensitivityValues.stream().filter(sensitivityValue -> sensitivityValue.getFactor().getVariable().equals(variable))
-                .collect(Collectors.toList());
+        return sensitivityValues.getByVariable(variable);
     }
 
     /**
@@ -151,12 +156,11 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with given function and given variable in state N.
      */
     public SensitivityValue getSensitivityValue(SensitivityFunction function, SensitivityVariable variable) {
-        Optional<SensitivityValue> returnValue = sensitivityValues.stream().filter(sensitivityValue -> sensitivityValue.getFactor().getFunction().equals(function)
-                && sensitivityValue.getFactor().getVariable().equals(variable)).findAny();
-        if (!returnValue.isPresent()) {
+        SensitivityValue value = sensitivityValues.find(function, variable);
+        if (value == null) {
             throw new NoSuchElementException(String.format(VALUE_NOT_FOUND, function.getId(), variable.getId()));
         }
-        return returnValue.get();
+        return value;
     }
 
     /**
@@ -166,11 +170,11 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with given function and given variable in state N.
      */
     public SensitivityValue getSensitivityValue(SensitivityFactor factor) {
-        Optional<SensitivityValue> returnValue = sensitivityValues.stream().filter(sensitivityValue -> sensitivityValue.getFactor().equals(factor)).findAny();
-        if (!returnValue.isPresent()) {
+        SensitivityValue value = sensitivityValues.find(factor);
+        if (value == null) {
             throw new NoSuchElementException(String.format(VALUE_NOT_FOUND, factor.getFunction().getId(), factor.getVariable().getId()));
         }
-        return returnValue.get();
+        return value;
     }
 
     /**
@@ -200,9 +204,7 @@ public class SensitivityAnalysisResult {
      * @return a collection of all the sensitivity values associated with given function for the given contingencyId
      */
     public Collection<SensitivityValue> getSensitivityValuesByFunction(SensitivityFunction function, String contingencyId) {
-        return sensitivityValuesContingencies.get(contingencyId).stream()
-                .filter(sensitivityValue -> sensitivityValue.getFactor().getFunction().equals(function))
-                .collect(Collectors.toList());
+        return sensitivityValuesContingencies.get(contingencyId).getByFunction(function);
     }
 
     /**
@@ -214,9 +216,7 @@ public class SensitivityAnalysisResult {
      * @return a collection of all the sensitivity values associated with given variable
      */
     public Collection<SensitivityValue> getSensitivityValuesByVariable(SensitivityVariable variable, String contingencyId) {
-        return sensitivityValuesContingencies.get(contingencyId).stream()
-                .filter(sensitivityValue -> sensitivityValue.getFactor().getVariable().equals(variable))
-                .collect(Collectors.toList());
+        return sensitivityValuesContingencies.get(contingencyId).getByVariable(variable);
     }
 
     /**
@@ -228,10 +228,7 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with given function and given variable
      */
     public SensitivityValue getSensitivityValue(SensitivityFunction function, SensitivityVariable variable, String contingencyId) {
-        return sensitivityValuesContingencies.get(contingencyId).stream()
-                .filter(sensitivityValue -> sensitivityValue.getFactor().getFunction().equals(function)
-                        && sensitivityValue.getFactor().getVariable().equals(variable))
-                .findFirst()
+        return Optional.ofNullable(sensitivityValuesContingencies.get(contingencyId).find(function, variable))
                 .orElseThrow(() -> new NoSuchElementException(String.format(VALUE_NOT_FOUND_CONTINGENCY, function.getId(), variable.getId(), contingencyId)));
     }
 
@@ -243,9 +240,7 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with given function and given variable
      */
     public SensitivityValue getSensitivityValue(SensitivityFactor factor, String contingencyId) {
-        return sensitivityValuesContingencies.get(contingencyId).stream()
-                .filter(sensitivityValue -> sensitivityValue.getFactor().equals(factor))
-                .findFirst()
+        return Optional.ofNullable(sensitivityValuesContingencies.get(contingencyId).find(factor))
                 .orElseThrow(() -> new NoSuchElementException(String.format(VALUE_NOT_FOUND, factor.getFunction().getId(), factor.getVariable().getId())));
     }
 
@@ -17,6 +17,7 @@ import com.powsybl.iidm.import_.Importers;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.tools.ConversionToolUtils;
 import com.powsybl.sensitivity.converter.SensitivityAnalysisResultExporters;
+import com.powsybl.sensitivity.converter.SensitivityValueWriter;
 import com.powsybl.sensitivity.json.JsonSensitivityAnalysisParameters;
 import com.powsybl.sensitivity.converter.CsvSensitivityAnalysisResultExporter;
 import com.powsybl.tools.Command;
@@ -27,8 +28,11 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Properties;
 
@@ -151,6 +155,21 @@ public class SensitivityAnalysisTool implements Tool {
             ContingenciesProviderFactory contingenciesProviderFactory = defaultConfig.newFactoryImpl(ContingenciesProviderFactory.class);
             contingenciesProvider = contingenciesProviderFactory.create(context.getFileSystem().getPath(line.getOptionValue(CONTINGENCIES_FILE_OPTION)));
         }
+        // formats which can be written value by value are streamed to the output file
+        SensitivityValueWriter valueWriter = outputFile != null ? createValueWriter(outputFile, format) : null;
+        if (valueWriter != null) {
+            context.getOutputStream().println("Writing results to '" + outputFile + "'");
+            SensitivityAnalysisResult result;
+            try (SensitivityValueWriter writer = valueWriter) {
+                result = SensitivityAnalysis.find().run(network, network.getVariantManager().getWorkingVariantId(), factorsProvider,
+                        contingenciesProvider, params, context.getLongTimeExecutionComputationManager(), writer);
+            }
+            if (!result.isOk()) {
+                context.getErrorStream().println("Initial state divergence");
+            }
+            return;
+        }
+
         SensitivityAnalysisResult result = SensitivityAnalysis.run(network, factorsProvider, contingenciesProvider, params);
 
         if (!result.isOk()) {
@@ -166,4 +185,18 @@ public class SensitivityAnalysisTool implements Tool {
             }
         }
     }
+
+    private static SensitivityValueWriter createValueWriter(Path outputFile, String format) throws IOException {
+        OutputStream os = Files.newOutputStream(outputFile);
+        try {
+            SensitivityValueWriter valueWriter = SensitivityAnalysisResultExporters.createValueWriter(os, format);
+            if (valueWriter == null) {
+                os.close();
+            }
+            return valueWriter;
+        } catch (RuntimeException e) {
+            os.close();
+            throw e;
+        }
+    }
 }
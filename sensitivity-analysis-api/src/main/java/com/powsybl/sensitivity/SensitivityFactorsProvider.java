@@ -8,7 +8,12 @@ package com.powsybl.sensitivity;
 
 import com.powsybl.iidm.network.Network;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Sensitivity factors provider
@@ -30,4 +35,44 @@ public interface SensitivityFactorsProvider {
      * @return A list of sensitivity factors
      */
     List<SensitivityFactor> getFactors(Network network);
+
+    /**
+     * Get the factors generated based on the given network as a stream. By default, the stream is created from the
+     * list of factors, providers generating a large number of factors should override it to create them lazily.
+     *
+     * @param network Base IIDM network of provision method
+     * @return A stream of sensitivity factors
+     */
+    default Stream<SensitivityFactor> getFactorStream(Network network) {
+        return getFactors(network).stream();
+    }
+
+    /**
+     * Generate the factors based on the given network by batches: factors are pulled from
+     * {@link #getFactorStream(Network)}, so that only one batch is in memory at a time.
+     *
+     * @param network Base IIDM network of provision method
+     * @param batchSize maximum number of factors of a batch
+     * @param batchConsumer consumer of the batches of factors
+     */
+    default void getFactors(Network network, int batchSize, Consumer<List<SensitivityFactor>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        Objects.requireNonNull(batchConsumer);
+        try (Stream<SensitivityFactor> factors = getFactorStream(network)) {
+            Iterator<SensitivityFactor> it = factors.iterator();
+            List<SensitivityFactor> batch = new ArrayList<>(batchSize);
+            while (it.hasNext()) {
+                batch.add(it.next());
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+    }
 }
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity;
+
+/**
+ * A consumer of sensitivity values, into which a {@link SensitivityAnalysisProvider} pushes the values as they are
+ * computed, so that they do not have to be gathered in a {@link SensitivityAnalysisResult}.
+ *
+ * @author agent <agent at local>
+ */
+@FunctionalInterface
+public interface SensitivityValueConsumer {
+
+    /**
+     * Consume a sensitivity value.
+     *
+     * @param contingencyId the ID of the contingency, or null for the pre-contingency state
+     * @param factor the sensitivity factor
+     * @param value the sensitivity value
+     * @param functionReference the reference value of the function
+     * @param variableReference the reference value of the variable
+     */
+    void accept(String contingencyId, SensitivityFactor factor, double value, double functionReference, double variableReference);
+
+    default void accept(String contingencyId, SensitivityValue value) {
+        accept(contingencyId, value.getFactor(), value.getValue(), value.getFunctionReference(), value.getVariableReference());
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity;
+
+import java.util.*;
+
+/**
+ * Columnar storage of the sensitivity values of a network state: factors, values and references are stored in arrays
+ * indexed by row, and {@link SensitivityValue} objects are only created when accessed.
+ * <p>
+ * Functions and variables are numbered in order of appearance, and rows are indexed by function, by variable and by
+ * function and variable pair, so that all the lookups are done without scanning the table.
+ *
+ * @author agent <agent at local>
+ */
+final class SensitivityValueTable extends AbstractList<SensitivityValue> implements RandomAccess {
+
+    private final SensitivityFactor[] factors;
+
+    private final double[] values;
+
+    private final double[] functionReferences;
+
+    private final double[] variableReferences;
+
+    private final Map<SensitivityFunction, Integer> functionNums = new HashMap<>();
+
+    private final Map<SensitivityVariable, Integer> variableNums = new HashMap<>();
+
+    /* rows of each function (resp. variable), in row order: rows of function f are rowsByFunction[functionOffsets[f]..functionOffsets[f + 1]] */
+    private final int[] functionOffsets;
+
+    private final int[] rowsByFunction;
+
+    private final int[] variableOffsets;
+
+    private final int[] rowsByVariable;
+
+    /* open addressing table of the first row of each (function, variable) pair */
+    private final long[] pairKeys;
+
+    private final int[] pairRows;
+
+    SensitivityValueTable(List<SensitivityValue> sensitivityValues) {
+        int rowCount = sensitivityValues.size();
+        factors = new SensitivityFactor[rowCount];
+        values = new double[rowCount];
+        functionReferences = new double[rowCount];
+        variableReferences = new double[rowCount];
+        int[] functionNumByRow = new int[rowCount];
+        int[] variableNumByRow = new int[rowCount];
+        int row = 0;
+        for (SensitivityValue sensitivityValue : sensitivityValues) {
+            SensitivityFactor factor = sensitivityValue.getFactor();
+            factors[row] = factor;
+            values[row] = sensitivityValue.getValue();
+            functionReferences[row] = sensitivityValue.getFunctionReference();
+            variableReferences[row] = sensitivityValue.getVariableReference();
+            functionNumByRow[row] = functionNums.computeIfAbsent(factor.getFunction(), f -> functionNums.size());
+            variableNumByRow[row] = variableNums.computeIfAbsent(factor.getVariable(), v -> variableNums.size());
+            row++;
+        }
+
+        functionOffsets = new int[functionNums.size() + 1];
+        rowsByFunction = indexRows(functionNumByRow, functionOffsets);
+        variableOffsets = new int[variableNums.size() + 1];
+        rowsByVariable = indexRows(variableNumByRow, variableOffsets);
+
+        int capacity = Integer.highestOneBit(Math.max(rowCount, 1) * 2 - 1) << 1;
+        pairKeys = new long[capacity];
+        pairRows = new int[capacity];
+        Arrays.fill(pairRows, -1);
+        for (row = 0; row < rowCount; row++) {
+            long key = getPairKey(functionNumByRow[row], variableNumByRow[row]);
+            int slot = findSlot(key);
+            if (pairRows[slot] == -1) {
+                pairKeys[slot] = key;
+                pairRows[slot] = row;
+            }
+        }
+    }
+
+    /**
+     * Counting sort of the rows by function (or variable) number.
+     */
+    private static int[] indexRows(int[] numByRow, int[] offsets) {
+        for (int num : numByRow) {
+            offsets[num + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] rows = new int[numByRow.length];
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int row = 0; row < numByRow.length; row++) {
+            rows[next[numByRow[row]]++] = row;
+        }
+        return rows;
+    }
+
+    private static long getPairKey(int functionNum, int variableNum) {
+        return ((long) functionNum << 32) | variableNum;
+    }
+
+    private int findSlot(long key) {
+        int mask = pairKeys.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (pairRows[slot] != -1 && pairKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @Override
+    public SensitivityValue get(int row) {
+        return new SensitivityValue(factors[row], values[row], functionReferences[row], variableReferences[row]);
+    }
+
+    @Override
+    public int size() {
+        return factors.length;
+    }
+
+    private List<SensitivityValue> getRows(int[] rows, int begin, int end) {
+        List<SensitivityValue> result = new ArrayList<>(end - begin);
+        for (int i = begin; i < end; i++) {
+            result.add(get(rows[i]));
+        }
+        return result;
+    }
+
+    List<SensitivityValue> getByFunction(SensitivityFunction function) {
+        Integer functionNum = functionNums.get(function);
+        if (functionNum == null) {
+            return new ArrayList<>();
+        }
+        return getRows(rowsByFunction, functionOffsets[functionNum], functionOffsets[functionNum + 1]);
+    }
+
+    List<SensitivityValue> getByVariable(SensitivityVariable variable) {
+        Integer variableNum = variableNums.get(variable);
+        if (variableNum == null) {
+            return new ArrayList<>();
+        }
+        return getRows(rowsByVariable, variableOffsets[variableNum], variableOffsets[variableNum + 1]);
+    }
+
+    private int findRow(SensitivityFunction function, SensitivityVariable variable) {
+        Integer functionNum = functionNums.get(function);
+        Integer variableNum = variableNums.get(variable);
+        if (functionNum == null || variableNum == null) {
+            return -1;
+        }
+        return pairRows[findSlot(getPairKey(functionNum, variableNum))];
+    }
+
+    /**
+     * @return the first value of a function and a variable, or null if not found
+     */
+    SensitivityValue find(SensitivityFunction function, SensitivityVariable variable) {
+        int row = findRow(function, variable);
+        return row == -1 ? null : get(row);
+    }
+
+    /**
+     * @return the first value of a factor, or null if not found
+     */
+    SensitivityValue find(SensitivityFactor factor) {
+        int row = findRow(factor.getFunction(), factor.getVariable());
+        if (row == -1) {
+            return null;
+        }
+        if (factors[row].equals(factor)) {
+            return get(row);
+        }
+        // another factor with the same function and variable
+        Integer functionNum = functionNums.get(factor.getFunction());
+        for (int i = functionOffsets[functionNum]; i < functionOffsets[functionNum + 1]; i++) {
+            if (factors[rowsByFunction[i]].equals(factor)) {
+                return get(rowsByFunction[i]);
+            }
+        }
+        return null;
+    }
+}
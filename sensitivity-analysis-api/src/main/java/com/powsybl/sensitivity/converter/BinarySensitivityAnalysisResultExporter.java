@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity.converter;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.sensitivity.*;
+
+import com.powsybl.sensitivity.json.SensitivityFactorsJsonSerializer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A {@link SensitivityAnalysisResultExporter} implementation which export the result in a compact binary format, which
+ * can be read back with {@link BinarySensitivityAnalysisResultReader}. Data are written with a {@link DataOutputStream}:
+ * <ul>
+ *     <li>the magic number {@link #MAGIC} and the format version,</li>
+ *     <li>the status, the metrics and the logs of the analysis,</li>
+ *     <li>the factors dictionary: the JSON serialization of the distinct factors of the result,</li>
+ *     <li>the values of state N: the number of values, and for each value the factor index in the dictionary, the
+ *     variable reference, the function reference and the sensitivity value,</li>
+ *     <li>the number of contingencies, then for each contingency its id and its values, as for state N.</li>
+ * </ul>
+ * Strings are written as a length followed by their UTF-8 bytes.
+ * <p>
+ * This format can only be exported to an {@link OutputStream}.
+ *
+ * @author agent <agent at local>
+ */
+@AutoService(SensitivityAnalysisResultExporter.class)
+public class BinarySensitivityAnalysisResultExporter implements SensitivityAnalysisResultExporter {
+
+    public static final String FORMAT = "BIN";
+
+    public static final int MAGIC = 0x53454e53; // "SENS"
+
+    public static final int VERSION = 1;
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public String getComment() {
+        return "Export a sensitivity analysis result in a compact binary format";
+    }
+
+    /**
+     * @throws UnsupportedOperationException the binary format cannot be written to a character stream, use
+     * {@link #export(SensitivityAnalysisResult, OutputStream)} instead.
+     */
+    @Override
+    public void export(SensitivityAnalysisResult result, Writer writer) {
+        throw new UnsupportedOperationException("Binary format can only be exported to an output stream");
+    }
+
+    private static void writeString(DataOutputStream dos, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        dos.writeInt(bytes.length);
+        dos.write(bytes);
+    }
+
+    private static void writeValues(DataOutputStream dos, Collection<SensitivityValue> values, Map<SensitivityFactor, Integer> factorNums) throws IOException {
+        dos.writeInt(values.size());
+        for (SensitivityValue value : values) {
+            dos.writeInt(factorNums.get(value.getFactor()));
+            dos.writeDouble(value.getVariableReference());
+            dos.writeDouble(value.getFunctionReference());
+            dos.writeDouble(value.getValue());
+        }
+    }
+
+    private static void indexFactors(Collection<SensitivityValue> values, Map<SensitivityFactor, Integer> factorNums, List<SensitivityFactor> factors) {
+        for (SensitivityValue value : values) {
+            factorNums.computeIfAbsent(value.getFactor(), factor -> {
+                factors.add(factor);
+                return factors.size() - 1;
+            });
+        }
+    }
+
+    @Override
+    public void export(SensitivityAnalysisResult result, OutputStream os) {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(os);
+
+        // dictionary of factors
+        Map<SensitivityFactor, Integer> factorNums = new HashMap<>();
+        List<SensitivityFactor> factors = new ArrayList<>();
+        indexFactors(result.getSensitivityValues(), factorNums, factors);
+        result.getSensitivityValuesContingencies().values().forEach(values -> indexFactors(values, factorNums, factors));
+
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(os))) {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeBoolean(result.isOk());
+            dos.writeInt(result.getMetrics().size());
+            for (Map.Entry<String, String> e : result.getMetrics().entrySet()) {
+                writeString(dos, e.getKey());
+                writeString(dos, e.getValue());
+            }
+            writeString(dos, result.getLogs());
+            StringWriter factorsWriter = new StringWriter();
+            SensitivityFactorsJsonSerializer.write(factors, factorsWriter);
+            writeString(dos, factorsWriter.toString());
+            writeValues(dos, result.getSensitivityValues(), factorNums);
+            dos.writeInt(result.getSensitivityValuesContingencies().size());
+            for (Map.Entry<String, List<SensitivityValue>> e : result.getSensitivityValuesContingencies().entrySet()) {
+                writeString(dos, e.getKey());
+                writeValues(dos, e.getValue(), factorNums);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
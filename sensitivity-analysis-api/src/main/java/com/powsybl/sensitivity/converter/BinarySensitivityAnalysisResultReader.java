@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity.converter;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityValue;
+import com.powsybl.sensitivity.json.SensitivityFactorsJsonSerializer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Read a sensitivity analysis result written by {@link BinarySensitivityAnalysisResultExporter}.
+ *
+ * @author agent <agent at local>
+ */
+public final class BinarySensitivityAnalysisResultReader {
+
+    /**
+     * Read a sensitivity analysis result in binary format from a file
+     *
+     * @param file The file to read from
+     * @return The sensitivity analysis result
+     */
+    public static SensitivityAnalysisResult read(Path file) {
+        Objects.requireNonNull(file);
+        try (InputStream is = Files.newInputStream(file)) {
+            return read(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a sensitivity analysis result in binary format from a stream. The stream is not closed.
+     *
+     * @param is The stream to read from
+     * @return The sensitivity analysis result
+     */
+    public static SensitivityAnalysisResult read(InputStream is) {
+        Objects.requireNonNull(is);
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(is));
+        try {
+            if (dis.readInt() != BinarySensitivityAnalysisResultExporter.MAGIC) {
+                throw new PowsyblException("Not a binary sensitivity analysis result");
+            }
+            int version = dis.readInt();
+            if (version != BinarySensitivityAnalysisResultExporter.VERSION) {
+                throw new PowsyblException("Unsupported binary sensitivity analysis result version: " + version);
+            }
+            boolean ok = dis.readBoolean();
+            int metricCount = dis.readInt();
+            Map<String, String> metrics = new LinkedHashMap<>(metricCount);
+            for (int i = 0; i < metricCount; i++) {
+                String name = readString(dis);
+                metrics.put(name, readString(dis));
+            }
+            String logs = readString(dis);
+            List<SensitivityFactor> factors = SensitivityFactorsJsonSerializer.read(new StringReader(readString(dis)));
+            List<SensitivityValue> values = readValues(dis, factors);
+            int contingencyCount = dis.readInt();
+            Map<String, List<SensitivityValue>> valuesContingencies = new LinkedHashMap<>(contingencyCount);
+            for (int i = 0; i < contingencyCount; i++) {
+                String contingencyId = readString(dis);
+                valuesContingencies.put(contingencyId, readValues(dis, factors));
+            }
+            return new SensitivityAnalysisResult(ok, metrics, logs, values, valuesContingencies);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(DataInputStream dis) throws IOException {
+        byte[] bytes = new byte[dis.readInt()];
+        dis.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<SensitivityValue> readValues(DataInputStream dis, List<SensitivityFactor> factors) throws IOException {
+        int count = dis.readInt();
+        List<SensitivityValue> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SensitivityFactor factor = factors.get(dis.readInt());
+            double variableReference = dis.readDouble();
+            double functionReference = dis.readDouble();
+            double value = dis.readDouble();
+            values.add(new SensitivityValue(factor, value, functionReference, variableReference));
+        }
+        return values;
+    }
+
+    private BinarySensitivityAnalysisResultReader() {
+    }
+}
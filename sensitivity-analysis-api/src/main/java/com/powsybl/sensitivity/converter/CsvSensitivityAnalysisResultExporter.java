@@ -7,14 +7,13 @@
 package com.powsybl.sensitivity.converter;
 
 import com.google.auto.service.AutoService;
-import com.powsybl.commons.io.table.*;
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
-import com.powsybl.sensitivity.SensitivityValue;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A {@link SensitivityAnalysisResultExporter} implementation which export the result in CSV
@@ -24,19 +23,6 @@ import java.util.Locale;
 @AutoService(SensitivityAnalysisResultExporter.class)
 public class CsvSensitivityAnalysisResultExporter implements SensitivityAnalysisResultExporter {
 
-    private static final char CSV_SEPARATOR = ',';
-
-    private void writeCells(TableFormatter formatter, SensitivityValue sensitivityValue, String state) throws IOException {
-        formatter.writeCell(state);
-        formatter.writeCell(sensitivityValue.getFactor().getVariable().getId());
-        formatter.writeCell(sensitivityValue.getFactor().getVariable().getName());
-        formatter.writeCell(sensitivityValue.getFactor().getFunction().getId());
-        formatter.writeCell(sensitivityValue.getFactor().getFunction().getName());
-        formatter.writeCell(sensitivityValue.getVariableReference());
-        formatter.writeCell(sensitivityValue.getFunctionReference());
-        formatter.writeCell(sensitivityValue.getValue());
-    }
-
     @Override
     public String getFormat() {
         return "CSV";
@@ -47,37 +33,24 @@ public class CsvSensitivityAnalysisResultExporter implements SensitivityAnalysis
         return "Export a sensitivity analysis result in CSV format";
     }
 
+    /**
+     * Create a {@link com.powsybl.sensitivity.SensitivityValueConsumer} writing the values pushed by a sensitivity
+     * analysis in the same format as this exporter, without gathering them in a result.
+     */
+    public CsvSensitivityValueWriter createValueWriter(Writer writer) {
+        return new CsvSensitivityValueWriter(writer);
+    }
+
+    @Override
+    public CsvSensitivityValueWriter createValueWriter(OutputStream os) {
+        return createValueWriter(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
+    }
+
     @Override
     public void export(SensitivityAnalysisResult result, Writer writer) {
-        TableFormatterFactory factory = new CsvTableFormatterFactory();
-        TableFormatterConfig tfc = new TableFormatterConfig(Locale.US, CSV_SEPARATOR, "N/A", true, false);
-        try (TableFormatter formatter = factory.create(writer, "", tfc,
-                new Column("Variant"),
-                new Column("VariableId"),
-                new Column("VariableName"),
-                new Column("FunctionId"),
-                new Column("FunctionName"),
-                new Column("VariableRefValue"),
-                new Column("FunctionRefValue"),
-                new Column("SensitivityValue"))) {
-            result.getSensitivityValues().forEach(sensitivityValue -> {
-                try {
-                    writeCells(formatter, sensitivityValue, "State N");
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            });
-            if (result.contingenciesArePresent()) {
-                result.getSensitivityValuesContingencies().forEach((contId, sensitivityValues) -> sensitivityValues.forEach(sensitivityValue -> {
-                    try {
-                        writeCells(formatter, sensitivityValue, "Contingency " + contId);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }));
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+        try (CsvSensitivityValueWriter valueWriter = createValueWriter(writer)) {
+            result.getSensitivityValues().forEach(value -> valueWriter.accept(null, value));
+            result.getSensitivityValuesContingencies().forEach((contingencyId, values) -> values.forEach(value -> valueWriter.accept(contingencyId, value)));
         }
     }
 }
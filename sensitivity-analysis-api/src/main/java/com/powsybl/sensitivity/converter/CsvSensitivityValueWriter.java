@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity.converter;
+
+import com.powsybl.commons.io.table.*;
+import com.powsybl.sensitivity.SensitivityFactor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * A {@link SensitivityValueWriter} writing each sensitivity value as a CSV row, as soon as it is received. Rows have
+ * the same format as the ones of {@link CsvSensitivityAnalysisResultExporter}. Closing this consumer closes the
+ * underlying writer.
+ *
+ * @author agent <agent at local>
+ */
+public class CsvSensitivityValueWriter implements SensitivityValueWriter {
+
+    private static final char CSV_SEPARATOR = ',';
+
+    private final TableFormatter formatter;
+
+    public CsvSensitivityValueWriter(Writer writer) {
+        TableFormatterFactory factory = new CsvTableFormatterFactory();
+        TableFormatterConfig tfc = new TableFormatterConfig(Locale.US, CSV_SEPARATOR, "N/A", true, false);
+        formatter = factory.create(writer, "", tfc,
+                new Column("Variant"),
+                new Column("VariableId"),
+                new Column("VariableName"),
+                new Column("FunctionId"),
+                new Column("FunctionName"),
+                new Column("VariableRefValue"),
+                new Column("FunctionRefValue"),
+                new Column("SensitivityValue"));
+    }
+
+    @Override
+    public void accept(String contingencyId, SensitivityFactor factor, double value, double functionReference, double variableReference) {
+        try {
+            formatter.writeCell(contingencyId == null ? "State N" : "Contingency " + contingencyId);
+            formatter.writeCell(factor.getVariable().getId());
+            formatter.writeCell(factor.getVariable().getName());
+            formatter.writeCell(factor.getFunction().getId());
+            formatter.writeCell(factor.getFunction().getName());
+            formatter.writeCell(variableReference);
+            formatter.writeCell(functionReference);
+            formatter.writeCell(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            formatter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
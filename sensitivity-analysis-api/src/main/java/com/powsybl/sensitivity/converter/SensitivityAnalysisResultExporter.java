@@ -8,7 +8,8 @@ package com.powsybl.sensitivity.converter;
 
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
 
-import java.io.Writer;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -37,4 +38,30 @@ public interface SensitivityAnalysisResultExporter {
      */
     void export(SensitivityAnalysisResult result, Writer writer);
 
+    /**
+     * Export a result of a sensitivity analysis to a stream, text formats are written in UTF-8.
+     * The stream is closed at the end of the export.
+     *
+     * @param result The result of the sensitivity analysis
+     * @param os The output stream used for the export
+     */
+    default void export(SensitivityAnalysisResult result, OutputStream os) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8))) {
+            export(result, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a writer of sensitivity values to a stream, so that the values pushed by a sensitivity analysis
+     * are exported as they are computed instead of being gathered in a result.
+     * The stream is closed when the value writer is closed.
+     *
+     * @param os The output stream used for the export
+     * @return a writer of sensitivity values, or null if this format needs the complete result to be written
+     */
+    default SensitivityValueWriter createValueWriter(OutputStream os) {
+        return null;
+    }
 }
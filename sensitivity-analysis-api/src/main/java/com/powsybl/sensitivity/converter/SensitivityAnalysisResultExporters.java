@@ -10,6 +10,7 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.file.Files;
@@ -67,13 +68,55 @@ public final class SensitivityAnalysisResultExporters {
     public static void export(SensitivityAnalysisResult result, Path path, String format) {
         Objects.requireNonNull(path);
 
-        try (Writer writer = Files.newBufferedWriter(path)) {
-            export(result, writer, format);
+        SensitivityAnalysisResultExporter exporter = getExporter(format);
+        if (exporter == null) {
+            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
+        }
+
+        try (OutputStream os = Files.newOutputStream(path)) {
+            exporter.export(result, os);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Export sensitivity analysis results in specified format to an output stream, closed at the end of the export.
+     * Unlike {@link #export(SensitivityAnalysisResult, Writer, String)}, this method supports binary formats.
+     *
+     * @param result The results to be exported
+     * @param os The output stream
+     * @param format The export format
+     */
+    public static void export(SensitivityAnalysisResult result, OutputStream os, String format) {
+        Objects.requireNonNull(os);
+
+        SensitivityAnalysisResultExporter exporter = getExporter(format);
+        if (exporter == null) {
+            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
+        }
+
+        exporter.export(result, os);
+    }
+
+    /**
+     * Create a writer of sensitivity values in specified format to an output stream, closed with the value writer.
+     *
+     * @param os The output stream
+     * @param format The export format
+     * @return a writer of sensitivity values, or null if the format needs the complete result to be written
+     */
+    public static SensitivityValueWriter createValueWriter(OutputStream os, String format) {
+        Objects.requireNonNull(os);
+
+        SensitivityAnalysisResultExporter exporter = getExporter(format);
+        if (exporter == null) {
+            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
+        }
+
+        return exporter.createValueWriter(os);
+    }
+
     /**
      * Export sensitivity analysis results in specified format and writer
      *
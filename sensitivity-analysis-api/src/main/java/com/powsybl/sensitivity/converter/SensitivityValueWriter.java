@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity.converter;
+
+import com.powsybl.sensitivity.SensitivityValueConsumer;
+
+/**
+ * A {@link SensitivityValueConsumer} writing the sensitivity values in a given format as soon as they are received.
+ * Closing it completes the output and closes the underlying stream or writer.
+ *
+ * @author agent <agent at local>
+ */
+public interface SensitivityValueWriter extends SensitivityValueConsumer, AutoCloseable {
+
+    @Override
+    void close();
+}
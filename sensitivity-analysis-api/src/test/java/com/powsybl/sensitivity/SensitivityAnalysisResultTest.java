@@ -221,6 +221,57 @@ public class SensitivityAnalysisResultTest {
         assertSame(factorNok, results.getSensitivityValue(factorNok, "Contingency").getFactor());
     }
 
+    @Test
+    public void getSensitivityValueMatrix() {
+        List<SensitivityFunction> functions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            functions.add(Mockito.mock(SensitivityFunction.class));
+        }
+        List<SensitivityVariable> variables = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            variables.add(Mockito.mock(SensitivityVariable.class));
+        }
+        List<SensitivityFactor> factors = new ArrayList<>();
+        List<SensitivityValue> values = new ArrayList<>();
+        for (int v = 0; v < variables.size(); v++) {
+            for (int f = 0; f < functions.size(); f++) {
+                SensitivityFactor factor = Mockito.mock(SensitivityFactor.class);
+                Mockito.when(factor.getFunction()).thenReturn(functions.get(f));
+                Mockito.when(factor.getVariable()).thenReturn(variables.get(v));
+                factors.add(factor);
+                values.add(new SensitivityValue(factor, f * 100. + v, f, v));
+            }
+        }
+        // a duplicated factor, the first value is returned
+        values.add(new SensitivityValue(factors.get(0), -1, -1, -1));
+        SensitivityAnalysisResult results = new SensitivityAnalysisResult(true, Collections.emptyMap(), "", values, Collections.singletonMap("Contingency", values));
+
+        for (int f = 0; f < functions.size(); f++) {
+            for (int v = 0; v < variables.size(); v++) {
+                assertEquals(f * 100. + v, results.getSensitivityValue(functions.get(f), variables.get(v)).getValue(), 0);
+                assertEquals(f * 100. + v, results.getSensitivityValue(functions.get(f), variables.get(v), "Contingency").getValue(), 0);
+            }
+        }
+        assertEquals(0, results.getSensitivityValue(factors.get(0)).getValue(), 0);
+        assertSame(factors.get(42), results.getSensitivityValue(factors.get(42), "Contingency").getFactor());
+        assertEquals(11, results.getSensitivityValuesByFunction(functions.get(0)).size());
+        assertEquals(10, results.getSensitivityValuesByFunction(functions.get(1), "Contingency").size());
+        assertEquals(30, results.getSensitivityValuesByVariable(variables.get(9)).size());
+        assertEquals(31, results.getSensitivityValuesByVariable(variables.get(0), "Contingency").size());
+        assertTrue(results.getSensitivityValuesByFunction(Mockito.mock(SensitivityFunction.class)).isEmpty());
+        assertEquals(values.size(), results.getSensitivityValues().size());
+
+        // another factor on the same function and variable
+        SensitivityFactor otherFactor = Mockito.mock(SensitivityFactor.class);
+        Mockito.when(otherFactor.getFunction()).thenReturn(functions.get(2));
+        Mockito.when(otherFactor.getVariable()).thenReturn(variables.get(3));
+        List<SensitivityValue> otherValues = new ArrayList<>(values);
+        otherValues.add(new SensitivityValue(otherFactor, 1000, 0, 0));
+        SensitivityAnalysisResult otherResults = new SensitivityAnalysisResult(true, Collections.emptyMap(), "", otherValues);
+        assertEquals(1000, otherResults.getSensitivityValue(otherFactor).getValue(), 0);
+        assertEquals(203, otherResults.getSensitivityValue(functions.get(2), variables.get(3)).getValue(), 0);
+    }
+
     @Test
     public void shortConstructor() {
         SensitivityAnalysisResult result = new SensitivityAnalysisResult(true, new HashMap<>(),
@@ -14,6 +14,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -106,4 +110,33 @@ public class SensitivityAnalysisTest {
         SensitivityAnalysisResult result = SensitivityAnalysis.run(network, sensitivityFactorsProvider, null);
         assertNotNull(result);
     }
+
+    @Test
+    public void testRunWithValueConsumer() {
+        SensitivityFactor factor = Mockito.mock(SensitivityFactor.class);
+        SensitivityAnalysisProvider provider = Mockito.mock(SensitivityAnalysisProvider.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(CompletableFuture.completedFuture(new SensitivityAnalysisResult(true, Collections.singletonMap("m", "1"), "logs",
+                Collections.singletonList(new SensitivityValue(factor, 1, 2, 3)),
+                Collections.singletonMap("c1", Collections.singletonList(new SensitivityValue(factor, 4, 5, 6))))))
+                .when(provider).run(network, "v", sensitivityFactorsProvider, contingenciesProvider, parameters, computationManager);
+        List<String> consumed = new ArrayList<>();
+        SensitivityAnalysisResult result = provider.run(network, "v", sensitivityFactorsProvider, contingenciesProvider, parameters, computationManager,
+            (contingencyId, f, value, functionReference, variableReference) -> {
+                assertSame(factor, f);
+                consumed.add(contingencyId + " " + value + " " + functionReference + " " + variableReference);
+            }).join();
+        assertEquals(Arrays.asList("null 1.0 2.0 3.0", "c1 4.0 5.0 6.0"), consumed);
+        assertTrue(result.isOk());
+        assertEquals("logs", result.getLogs());
+        assertEquals(Collections.singletonMap("m", "1"), result.getMetrics());
+        assertTrue(result.getSensitivityValues().isEmpty());
+        assertFalse(result.contingenciesArePresent());
+    }
+
+    @Test
+    public void testRunnerWithValueConsumer() {
+        SensitivityAnalysisResult result = SensitivityAnalysis.find().run(network, "v", sensitivityFactorsProvider, null,
+            parameters, computationManager, (contingencyId, factor, value, functionReference, variableReference) -> fail());
+        assertNotNull(result);
+    }
 }
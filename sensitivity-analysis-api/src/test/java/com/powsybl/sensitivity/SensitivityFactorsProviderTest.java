@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.iidm.network.Network;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class SensitivityFactorsProviderTest {
+
+    private static List<SensitivityFactor> createFactors(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Mockito.mock(SensitivityFactor.class)).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testBatches() {
+        List<SensitivityFactor> factors = createFactors(7);
+        SensitivityFactorsProvider provider = network -> factors;
+        List<List<SensitivityFactor>> batches = new ArrayList<>();
+        provider.getFactors(Mockito.mock(Network.class), 3, batches::add);
+        assertEquals(3, batches.size());
+        assertEquals(factors.subList(0, 3), batches.get(0));
+        assertEquals(factors.subList(3, 6), batches.get(1));
+        assertEquals(factors.subList(6, 7), batches.get(2));
+    }
+
+    @Test
+    public void testLazyBatches() {
+        List<SensitivityFactor> factors = createFactors(4);
+        int[] created = new int[1];
+        SensitivityFactorsProvider provider = new SensitivityFactorsProvider() {
+            @Override
+            public List<SensitivityFactor> getFactors(Network network) {
+                throw new AssertionError("Factors should not be materialized");
+            }
+
+            @Override
+            public Stream<SensitivityFactor> getFactorStream(Network network) {
+                return factors.stream().peek(factor -> created[0]++);
+            }
+        };
+        List<Integer> createdByBatch = new ArrayList<>();
+        provider.getFactors(Mockito.mock(Network.class), 2, batch -> createdByBatch.add(created[0]));
+        assertEquals(Arrays.asList(2, 4), createdByBatch);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() {
+        SensitivityFactorsProvider provider = network -> new ArrayList<>();
+        provider.getFactors(Mockito.mock(Network.class), 0, batch -> { });
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.sensitivity.converter;
+
+import com.google.common.collect.ImmutableMap;
+import com.powsybl.commons.AbstractConverterTest;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityValue;
+import com.powsybl.sensitivity.json.SensitivityFactorsJsonSerializer;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class BinarySensitivityAnalysisResultExporterTest extends AbstractConverterTest {
+
+    private static void assertValuesEquals(Collection<SensitivityValue> expected, Collection<SensitivityValue> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<SensitivityValue> it = actual.iterator();
+        for (SensitivityValue expectedValue : expected) {
+            SensitivityValue actualValue = it.next();
+            SensitivityFactor expectedFactor = expectedValue.getFactor();
+            SensitivityFactor actualFactor = actualValue.getFactor();
+            assertSame(expectedFactor.getClass(), actualFactor.getClass());
+            assertEquals(expectedFactor.getFunction().getId(), actualFactor.getFunction().getId());
+            assertEquals(expectedFactor.getFunction().getName(), actualFactor.getFunction().getName());
+            assertEquals(expectedFactor.getVariable().getId(), actualFactor.getVariable().getId());
+            assertEquals(expectedFactor.getVariable().getName(), actualFactor.getVariable().getName());
+            assertEquals(expectedValue.getValue(), actualValue.getValue(), 0);
+            assertEquals(expectedValue.getFunctionReference(), actualValue.getFunctionReference(), 0);
+            assertEquals(expectedValue.getVariableReference(), actualValue.getVariableReference(), 0);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<SensitivityFactor> factors = SensitivityFactorsJsonSerializer.read(new InputStreamReader(getClass().getResourceAsStream("/sensitivityFactorsExample.json")));
+        List<SensitivityValue> values = new ArrayList<>();
+        List<SensitivityValue> contingencyValues = new ArrayList<>();
+        for (int i = 0; i < factors.size(); i++) {
+            values.add(new SensitivityValue(factors.get(i), i, 2. * i, 3. * i));
+            contingencyValues.add(new SensitivityValue(factors.get(i), -i, Double.NaN, 0));
+        }
+        Map<String, List<SensitivityValue>> valuesContingencies = new LinkedHashMap<>();
+        valuesContingencies.put("c1", contingencyValues);
+        valuesContingencies.put("", Collections.emptyList());
+        SensitivityAnalysisResult result = new SensitivityAnalysisResult(true, ImmutableMap.of("time", "12"), "logs \u00e9", values, valuesContingencies);
+
+        Path file = fileSystem.getPath("/work/result.bin");
+        SensitivityAnalysisResultExporters.export(result, file, BinarySensitivityAnalysisResultExporter.FORMAT);
+        SensitivityAnalysisResult read = BinarySensitivityAnalysisResultReader.read(file);
+
+        assertTrue(read.isOk());
+        assertEquals(result.getMetrics(), read.getMetrics());
+        assertEquals(result.getLogs(), read.getLogs());
+        assertValuesEquals(result.getSensitivityValues(), read.getSensitivityValues());
+        // a contingency with an empty id is not mistaken for state N
+        assertEquals(Arrays.asList("c1", ""), new ArrayList<>(read.getSensitivityValuesContingencies().keySet()));
+        assertValuesEquals(contingencyValues, read.getSensitivityValuesContingencies().get("c1"));
+        assertTrue(read.getSensitivityValuesContingencies().get("").isEmpty());
+    }
+
+    @Test
+    public void testEmpty() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        SensitivityAnalysisResultExporters.export(SensitivityAnalysisResult.empty(), os, BinarySensitivityAnalysisResultExporter.FORMAT);
+        SensitivityAnalysisResult read = BinarySensitivityAnalysisResultReader.read(new ByteArrayInputStream(os.toByteArray()));
+        assertFalse(read.isOk());
+        assertTrue(read.getSensitivityValues().isEmpty());
+        assertFalse(read.contingenciesArePresent());
+    }
+
+    @Test(expected = PowsyblException.class)
+    public void testInvalidMagic() {
+        BinarySensitivityAnalysisResultReader.read(new ByteArrayInputStream(new byte[] {0, 0, 0, 0}));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWriter() {
+        SensitivityAnalysisResultExporters.export(SensitivityAnalysisResult.empty(), new StringWriter(), BinarySensitivityAnalysisResultExporter.FORMAT);
+    }
+}
@@ -13,13 +13,17 @@ import com.powsybl.sensitivity.SensitivityValue;
 import com.powsybl.sensitivity.json.SensitivityFactorsJsonSerializer;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
 
 /**
  * @author Agnes Leroy <agnes.leroy@rte-france.com>
@@ -53,6 +57,30 @@ public class CsvSensitivityAnalysisResultExporterTest extends AbstractConverterT
         writeTest(result, this::writeCsv, AbstractConverterTest::compareTxt, "/sensitivity-results.csv");
     }
 
+    @Test
+    public void testValueWriter() throws IOException {
+        SensitivityAnalysisResult result = createSensitivityResult();
+        CsvSensitivityAnalysisResultExporter exporter = (CsvSensitivityAnalysisResultExporter) SensitivityAnalysisResultExporters.getExporter("CSV");
+        StringWriter writer = new StringWriter();
+        try (CsvSensitivityValueWriter valueWriter = exporter.createValueWriter(writer)) {
+            result.getSensitivityValues().forEach(value -> valueWriter.accept(null, value.getFactor(), value.getValue(), value.getFunctionReference(), value.getVariableReference()));
+            result.getSensitivityValuesContingencies().get("Contingency").forEach(value -> valueWriter.accept("Contingency", value));
+        }
+        compareTxt(getClass().getResourceAsStream("/sensitivity-results.csv"), writer.toString());
+    }
+
+    @Test
+    public void testStreamValueWriter() throws IOException {
+        SensitivityAnalysisResult result = createSensitivityResult();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (SensitivityValueWriter valueWriter = SensitivityAnalysisResultExporters.createValueWriter(os, "CSV")) {
+            result.getSensitivityValues().forEach(value -> valueWriter.accept(null, value));
+            result.getSensitivityValuesContingencies().get("Contingency").forEach(value -> valueWriter.accept("Contingency", value));
+        }
+        compareTxt(getClass().getResourceAsStream("/sensitivity-results.csv"), new String(os.toByteArray(), StandardCharsets.UTF_8));
+        assertNull(SensitivityAnalysisResultExporters.createValueWriter(os, "JSON"));
+    }
+
     @Test
     public void testComment() {
         assertEquals("Export a sensitivity analysis result in CSV format", SensitivityAnalysisResultExporters.getExporter("CSV").getComment());
@@ -23,7 +23,7 @@ public class SensitivityAnalysisResultExportersTest {
 
     @Test
     public void testGetFormats() {
-        assertEquals("[CSV, JSON]", SensitivityAnalysisResultExporters.getFormats().toString());
+        assertEquals("[BIN, CSV, JSON]", SensitivityAnalysisResultExporters.getFormats().toString());
     }
 
     @Test
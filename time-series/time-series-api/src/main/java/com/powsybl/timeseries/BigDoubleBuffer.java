@@ -56,6 +56,51 @@ public class BigDoubleBuffer {
         buffers[bufferIndex].put(secondIndex, value);
     }
 
+    private DoubleBuffer getBufferAt(long index) {
+        long computedBufferIndex = index >> BUFFER_SHIFT;
+        long computedSecondIndex = index & BUFFER_MASK;
+        int bufferIndex = (int) computedBufferIndex;
+        int secondIndex = (int) computedSecondIndex;
+        DoubleBuffer buffer = buffers[bufferIndex].duplicate();
+        buffer.position(secondIndex);
+        return buffer;
+    }
+
+    /**
+     * Bulk copy of the remaining values of {@code values}, starting at {@code index}.
+     */
+    public void put(long index, DoubleBuffer values) {
+        Objects.requireNonNull(values);
+        DoubleBuffer source = values.duplicate();
+        long i = index;
+        while (source.hasRemaining()) {
+            DoubleBuffer target = getBufferAt(i);
+            int length = Math.min(source.remaining(), target.remaining());
+            DoubleBuffer part = source.slice();
+            part.limit(length);
+            target.put(part);
+            source.position(source.position() + length);
+            i += length;
+        }
+    }
+
+    /**
+     * Set {@code length} values to {@code value}, starting at {@code index}.
+     */
+    public void fill(long index, int length, double value) {
+        long i = index;
+        int remaining = length;
+        while (remaining > 0) {
+            DoubleBuffer target = getBufferAt(i);
+            int partLength = Math.min(remaining, target.remaining());
+            for (int k = 0; k < partLength; k++) {
+                target.put(value);
+            }
+            remaining -= partLength;
+            i += partLength;
+        }
+    }
+
     public double get(long index) {
         long computedBufferIndex = index >> BUFFER_SHIFT;
         long computedSecondIndex = index & BUFFER_MASK;
@@ -7,6 +7,8 @@
 package com.powsybl.timeseries;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
 
@@ -65,4 +67,28 @@ public class BigStringBuffer {
     public long capacity() {
         return size;
     }
+
+    /**
+     * Get the dictionaries of the underlying buffers.
+     */
+    List<List<String>> getDictionaries() {
+        List<List<String>> dictionaries = new ArrayList<>(buffers.length);
+        for (CompactStringBuffer buffer : buffers) {
+            dictionaries.add(buffer.getDictionary());
+        }
+        return dictionaries;
+    }
+
+    /**
+     * Restore the dictionaries of the underlying buffers, as returned by {@link #getDictionaries()}.
+     */
+    void setDictionaries(List<List<String>> dictionaries) {
+        Objects.requireNonNull(dictionaries);
+        if (dictionaries.size() != buffers.length) {
+            throw new IllegalArgumentException("Incorrect dictionary count " + dictionaries.size() + ", expected " + buffers.length);
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].setDictionary(dictionaries.get(i));
+        }
+    }
 }
@@ -159,48 +159,52 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     }
 
-    //To remove if we ever get it from somewhere else
-    @FunctionalInterface private interface DoubleIntConsumer { public void accept(double a, int b); }
+    /**
+     * Evaluate the calculated time series on all the points of the index at once, with a {@link NodeCalcBatchEvaluator}.
+     */
+    private double[] evaluateAll(boolean parallel) {
+        List<DoubleTimeSeries> timeSeriesList = loadData();
+        return evaluateAll(timeSeriesList, resolve(timeSeriesList), parallel);
+    }
 
-    private void forEachMaterializedValueIndex(DoubleIntConsumer consumer) {
-        if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
+    private double[] evaluateAll(List<DoubleTimeSeries> timeSeriesList, NodeCalc resolvedNodeCalc, boolean parallel) {
+        TimeSeriesIndex finiteIndex = metadata.getIndex();
+        if (finiteIndex == InfiniteTimeSeriesIndex.INSTANCE) {
             throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
         }
-        Iterator<DoublePoint> it = iterator();
-        DoublePoint prevPoint = null;
-        while (it.hasNext()) {
-            DoublePoint point = it.next();
-            if (prevPoint != null) {
-                for (int i = prevPoint.getIndex(); i < point.getIndex(); i++) {
-                    consumer.accept(prevPoint.getValue(), i);
-                }
-            }
-            prevPoint = point;
-        }
-        if (prevPoint != null) {
-            for (int i = prevPoint.getIndex(); i < metadata.getIndex().getPointCount(); i++) {
-                consumer.accept(prevPoint.getValue(), i);
-            }
-        }
+        double[][] values = timeSeriesList.stream().map(DoubleTimeSeries::toArray).toArray(double[][]::new);
+        return NodeCalcBatchEvaluator.compile(resolvedNodeCalc)
+                .evaluate(values, finiteIndex, NodeCalcBatchEvaluator.DEFAULT_CHUNK_SIZE, parallel);
     }
 
     @Override
     public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
         Objects.requireNonNull(buffer);
-        forEachMaterializedValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
+        double[] values = evaluateAll(false);
+        for (int i = 0; i < values.length; i++) {
+            buffer.put(i + timeSeriesOffset, values[i]);
+        }
     }
 
     @Override
     public void fillBuffer(BigDoubleBuffer buffer, long timeSeriesOffset) {
         Objects.requireNonNull(buffer);
-        forEachMaterializedValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
+        double[] values = evaluateAll(false);
+        for (int i = 0; i < values.length; i++) {
+            buffer.put(i + timeSeriesOffset, values[i]);
+        }
     }
 
     @Override
     public double[] toArray() {
-        DoubleBuffer buffer = DoubleBuffer.allocate(metadata.getIndex().getPointCount());
-        fillBuffer(buffer, 0);
-        return buffer.array();
+        return evaluateAll(false);
+    }
+
+    /**
+     * Same as {@link #toArray()} but chunks of points are evaluated in parallel in the common pool.
+     */
+    public double[] toArrayParallel() {
+        return evaluateAll(true);
     }
 
     @Override
@@ -225,12 +229,37 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         return new DoublePoint(0, InfiniteTimeSeriesIndex.START_TIME, value);
     }
 
+    private static boolean dependsOnTime(NodeCalc nodeCalc) {
+        boolean[] found = new boolean[1];
+        nodeCalc.accept(new DefaultNodeCalcVisitor<Void, boolean[]>() {
+            @Override
+            public Void visit(TimeNodeCalc timeNodeCalc, boolean[] arg, Void child) {
+                arg[0] = true;
+                return null;
+            }
+        }, found, 0);
+        return found[0];
+    }
+
+    /**
+     * Points of a calculated time series depending on time: the value may change at each point of the index, even
+     * when the values of the time series it depends on do not, so there is one point per point of the index, as in
+     * {@link #toArray()}.
+     */
+    private Stream<DoublePoint> streamAllPoints(List<DoubleTimeSeries> timeSeriesList, NodeCalc resolvedNodeCalc) {
+        double[] values = evaluateAll(timeSeriesList, resolvedNodeCalc, false);
+        TimeSeriesIndex finiteIndex = metadata.getIndex();
+        return IntStream.range(0, values.length).mapToObj(i -> new DoublePoint(i, finiteIndex.getTimeAt(i), values[i]));
+    }
+
     @Override
     public Stream<DoublePoint> stream() {
         List<DoubleTimeSeries> timeSeriesList = loadData();
         NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
         if (timeSeriesList.isEmpty()) {
             return Stream.of(evaluate(resolvedNodeCalc));
+        } else if (dependsOnTime(resolvedNodeCalc)) {
+            return streamAllPoints(timeSeriesList, resolvedNodeCalc);
         } else {
             return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
         }
@@ -242,6 +271,8 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
         if (timeSeriesList.isEmpty()) {
             return Iterators.singletonIterator(evaluate(resolvedNodeCalc));
+        } else if (dependsOnTime(resolvedNodeCalc)) {
+            return streamAllPoints(timeSeriesList, resolvedNodeCalc).iterator();
         } else {
             return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
         }
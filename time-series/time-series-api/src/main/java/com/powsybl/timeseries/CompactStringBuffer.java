@@ -10,6 +10,8 @@ import com.google.common.math.IntMath;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
 
@@ -53,6 +55,28 @@ public class CompactStringBuffer {
         return buffer.capacity();
     }
 
+    /**
+     * Get the dictionary of the distinct strings of this buffer, in the order of their numbering.
+     */
+    List<String> getDictionary() {
+        List<String> dictionary = new ArrayList<>(dict.size());
+        for (int i = 0; i < dict.size(); i++) {
+            dictionary.add(dict.get(i));
+        }
+        return dictionary;
+    }
+
+    /**
+     * Restore the dictionary of a buffer whose numbers have been written with this dictionary.
+     */
+    void setDictionary(List<String> dictionary) {
+        Objects.requireNonNull(dictionary);
+        if (dict.size() > 0) {
+            throw new IllegalStateException("Dictionary is not empty");
+        }
+        dictionary.forEach(dict::add);
+    }
+
     public String[] toArray() {
         String[] array = new String[buffer.capacity()];
         for (int i = 0; i < buffer.capacity(); i++) {
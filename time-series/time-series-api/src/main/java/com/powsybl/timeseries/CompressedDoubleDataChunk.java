@@ -74,7 +74,11 @@ public class CompressedDoubleDataChunk extends AbstractCompressedDataChunk imple
     @Override
     public void fillBuffer(BigDoubleBuffer buffer, long timeSeriesOffset) {
         Objects.requireNonNull(buffer);
-        forEachMaterializedValueIndex((v, i) -> buffer.put(timeSeriesOffset + i, v));
+        long i = timeSeriesOffset + offset;
+        for (int step = 0; step < stepValues.length; step++) {
+            buffer.fill(i, stepLengths[step], stepValues[step]);
+            i += stepLengths[step];
+        }
     }
 
     @Override
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.io.mmap.MemoryMappedFile;
+import com.powsybl.commons.io.mmap.MemoryMappedFileFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Byte buffer allocator mapping each allocated buffer to a file of a directory. Files are numbered in allocation
+ * order, so that allocating again buffers of the same sizes in the same order maps the same files, with their data.
+ *
+ * @author agent <agent at local>
+ */
+class MemoryMappedBufferAllocator implements IntFunction<ByteBuffer>, AutoCloseable {
+
+    private final Path directory;
+
+    private final MemoryMappedFileFactory fileFactory;
+
+    private final boolean existingFiles;
+
+    private final List<MemoryMappedFile> files = new ArrayList<>();
+
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+
+    /**
+     * @param directory directory of the mapped files
+     * @param fileFactory memory mapped file factory
+     * @param existingFiles if true, files are expected to already exist, as buffers are allocated to read previously
+     *                      written data
+     */
+    MemoryMappedBufferAllocator(Path directory, MemoryMappedFileFactory fileFactory, boolean existingFiles) {
+        this.directory = Objects.requireNonNull(directory);
+        this.fileFactory = Objects.requireNonNull(fileFactory);
+        this.existingFiles = existingFiles;
+    }
+
+    @Override
+    public synchronized ByteBuffer apply(int size) {
+        Path file = directory.resolve("buffer-" + files.size() + ".bin");
+        try {
+            MemoryMappedFile mappedFile = fileFactory.create(file);
+            if (existingFiles && !mappedFile.exists()) {
+                mappedFile.close();
+                throw new TimeSeriesException("Memory mapped file " + file + " not found");
+            }
+            files.add(mappedFile);
+            ByteBuffer buffer = mappedFile.getBuffer(size);
+            buffers.add(buffer);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write to the files the modified content of the buffers.
+     */
+    synchronized void force() {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) buffer).force();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+        try {
+            for (MemoryMappedFile file : files) {
+                file.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        files.clear();
+        buffers.clear();
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.cache.*;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ReadOnlyTimeSeriesStore} decorator loading time series on demand from another store and keeping the least
+ * recently used ones in memory, within a byte budget computed from the estimated size of their chunks.
+ *
+ * <p>Requests for several time series are loaded from the underlying store in one batch, for the time series which
+ * are not already in the cache. Metadata and versions are not cached. The cache is invalidated when the underlying
+ * store notifies that its time series have been updated.
+ *
+ * @author agent <agent at local>
+ */
+public final class ReadOnlyTimeSeriesStoreLoadingCache implements ReadOnlyTimeSeriesStore {
+
+    private static final class Key {
+
+        private final String timeSeriesName;
+
+        private final int version;
+
+        private final TimeSeriesDataType dataType;
+
+        private Key(String timeSeriesName, int version, TimeSeriesDataType dataType) {
+            this.timeSeriesName = Objects.requireNonNull(timeSeriesName);
+            this.version = version;
+            this.dataType = dataType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timeSeriesName, version, dataType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return timeSeriesName.equals(other.timeSeriesName) && version == other.version && dataType == other.dataType;
+            }
+            return false;
+        }
+    }
+
+    private final ReadOnlyTimeSeriesStore store;
+
+    private final LoadingCache<Key, Optional<TimeSeries>> cache;
+
+    private final AtomicLong estimatedSize = new AtomicLong();
+
+    private final TimeSeriesStoreListener listener = this::invalidateAll;
+
+    private ReadOnlyTimeSeriesStoreLoadingCache(ReadOnlyTimeSeriesStore store, long maxEstimatedSize) {
+        this.store = Objects.requireNonNull(store);
+        if (maxEstimatedSize < 0) {
+            throw new IllegalArgumentException("Invalid max estimated size: " + maxEstimatedSize);
+        }
+        // a single segment, otherwise the budget would be split between segments and evictions would not be least
+        // recently used ones over the whole cache
+        // the estimated size is updated from the weight of each stored and removed value, so that it only counts the
+        // time series actually in the cache
+        cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maxEstimatedSize)
+                .weigher((Key key, Optional<TimeSeries> timeSeries) -> {
+                    int weight = getWeight(timeSeries);
+                    estimatedSize.addAndGet(weight);
+                    return weight;
+                })
+                .removalListener((RemovalNotification<Key, Optional<TimeSeries>> notification) ->
+                        estimatedSize.addAndGet(-getWeight(notification.getValue())))
+                .recordStats()
+                .build(new CacheLoader<Key, Optional<TimeSeries>>() {
+                    @Override
+                    public Optional<TimeSeries> load(Key key) {
+                        return loadAll(Collections.singleton(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<Key, Optional<TimeSeries>> loadAll(Iterable<? extends Key> keys) {
+                        return ReadOnlyTimeSeriesStoreLoadingCache.this.loadAll(keys);
+                    }
+                });
+    }
+
+    /**
+     * Create a cache on a store, invalidated when the store notifies that its time series have been updated.
+     *
+     * @param store the underlying store
+     * @param maxEstimatedSize the budget in bytes of the time series kept in memory
+     */
+    public static ReadOnlyTimeSeriesStoreLoadingCache create(ReadOnlyTimeSeriesStore store, long maxEstimatedSize) {
+        ReadOnlyTimeSeriesStoreLoadingCache cache = new ReadOnlyTimeSeriesStoreLoadingCache(store, maxEstimatedSize);
+        try {
+            store.addListener(cache.listener);
+        } catch (UnsupportedOperationException e) {
+            // the underlying store is never updated
+        }
+        return cache;
+    }
+
+    /**
+     * Estimated size in bytes of a time series, the sum of the estimated sizes of its chunks.
+     */
+    static long getEstimatedSize(TimeSeries timeSeries) {
+        if (timeSeries instanceof AbstractTimeSeries) {
+            long size = 0;
+            for (Object chunk : ((AbstractTimeSeries<?, ?, ?>) timeSeries).getChunks()) {
+                size += ((DataChunk) chunk).getEstimatedSize();
+            }
+            return size;
+        }
+        return 0;
+    }
+
+    private static int getWeight(Optional<TimeSeries> timeSeries) {
+        return timeSeries == null ? 0 : (int) Math.min(Integer.MAX_VALUE, timeSeries.map(ReadOnlyTimeSeriesStoreLoadingCache::getEstimatedSize).orElse(0L));
+    }
+
+    private Map<Key, Optional<TimeSeries>> loadAll(Iterable<? extends Key> keys) {
+        // group keys by version and data type, so that each group is loaded with one request to the underlying store
+        Map<Integer, Map<TimeSeriesDataType, Set<String>>> namesByVersionAndType = new HashMap<>();
+        for (Key key : keys) {
+            namesByVersionAndType.computeIfAbsent(key.version, v -> new EnumMap<>(TimeSeriesDataType.class))
+                    .computeIfAbsent(key.dataType, t -> new HashSet<>())
+                    .add(key.timeSeriesName);
+        }
+        Map<Key, Optional<TimeSeries>> loaded = new HashMap<>();
+        for (Map.Entry<Integer, Map<TimeSeriesDataType, Set<String>>> e : namesByVersionAndType.entrySet()) {
+            int version = e.getKey();
+            for (Map.Entry<TimeSeriesDataType, Set<String>> e2 : e.getValue().entrySet()) {
+                TimeSeriesDataType dataType = e2.getKey();
+                Set<String> timeSeriesNames = e2.getValue();
+                List<? extends TimeSeries> timeSeriesList = dataType == TimeSeriesDataType.DOUBLE
+                        ? store.getDoubleTimeSeries(timeSeriesNames, version)
+                        : store.getStringTimeSeries(timeSeriesNames, version);
+                for (TimeSeries timeSeries : timeSeriesList) {
+                    loaded.put(new Key(timeSeries.getMetadata().getName(), version, dataType), Optional.of(timeSeries));
+                }
+                // time series missing in the underlying store are cached too
+                for (String timeSeriesName : timeSeriesNames) {
+                    loaded.putIfAbsent(new Key(timeSeriesName, version, dataType), Optional.empty());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private <T extends TimeSeries> List<T> get(Set<String> timeSeriesNames, int version, TimeSeriesDataType dataType, Class<T> timeSeriesClass) {
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        List<Key> keys = new ArrayList<>(timeSeriesNames.size());
+        for (String timeSeriesName : timeSeriesNames) {
+            keys.add(new Key(timeSeriesName, version, dataType));
+        }
+        Map<Key, Optional<TimeSeries>> timeSeriesByKey;
+        try {
+            timeSeriesByKey = cache.getAll(keys);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TimeSeriesException(e.getCause().getMessage());
+        }
+        List<T> timeSeriesList = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            timeSeriesByKey.get(key).ifPresent(timeSeries -> timeSeriesList.add(timeSeriesClass.cast(timeSeries)));
+        }
+        return timeSeriesList;
+    }
+
+    private <T extends TimeSeries> Optional<T> get(String timeSeriesName, int version, TimeSeriesDataType dataType, Class<T> timeSeriesClass) {
+        Objects.requireNonNull(timeSeriesName);
+        List<T> timeSeriesList = get(Collections.singleton(timeSeriesName), version, dataType, timeSeriesClass);
+        return timeSeriesList.isEmpty() ? Optional.empty() : Optional.of(timeSeriesList.get(0));
+    }
+
+    /**
+     * Remove all the time series from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Hit, miss, load and eviction counts of the cache.
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Estimated size in bytes of the time series in the cache.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize.get();
+    }
+
+    @Override
+    public Set<String> getTimeSeriesNames(TimeSeriesFilter filter) {
+        return store.getTimeSeriesNames(filter);
+    }
+
+    @Override
+    public boolean timeSeriesExists(String timeSeriesName) {
+        return store.timeSeriesExists(timeSeriesName);
+    }
+
+    @Override
+    public Optional<TimeSeriesMetadata> getTimeSeriesMetadata(String timeSeriesName) {
+        return store.getTimeSeriesMetadata(timeSeriesName);
+    }
+
+    @Override
+    public List<TimeSeriesMetadata> getTimeSeriesMetadata(Set<String> timeSeriesNames) {
+        return store.getTimeSeriesMetadata(timeSeriesNames);
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions() {
+        return store.getTimeSeriesDataVersions();
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions(String timeSeriesName) {
+        return store.getTimeSeriesDataVersions(timeSeriesName);
+    }
+
+    @Override
+    public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+        return get(timeSeriesName, version, TimeSeriesDataType.DOUBLE, DoubleTimeSeries.class);
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+        return get(timeSeriesNames, version, TimeSeriesDataType.DOUBLE, DoubleTimeSeries.class);
+    }
+
+    /**
+     * Not cached, as all the time series of a version would not fit in the budget of the cache.
+     */
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(int version) {
+        return store.getDoubleTimeSeries(version);
+    }
+
+    @Override
+    public Optional<StringTimeSeries> getStringTimeSeries(String timeSeriesName, int version) {
+        return get(timeSeriesName, version, TimeSeriesDataType.STRING, StringTimeSeries.class);
+    }
+
+    @Override
+    public List<StringTimeSeries> getStringTimeSeries(Set<String> timeSeriesNames, int version) {
+        return get(timeSeriesNames, version, TimeSeriesDataType.STRING, StringTimeSeries.class);
+    }
+
+    @Override
+    public void addListener(TimeSeriesStoreListener listener) {
+        store.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(TimeSeriesStoreListener listener) {
+        store.removeListener(listener);
+    }
+}
@@ -20,9 +20,13 @@ import org.supercsv.prefs.CsvPreference;
 import org.threeten.extra.Interval;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -472,4 +476,50 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
     static List<TimeSeries> parseJson(Path file) {
         return JsonUtil.parseJson(file, TimeSeries::parseJson);
     }
+
+    /**
+     * Write time series in the columnar binary format, see {@link TimeSeriesBinaryReader}.
+     */
+    static void writeBinary(WritableByteChannel channel, List<? extends TimeSeries> timeSeriesList) {
+        try {
+            new TimeSeriesBinaryWriter(channel).write(timeSeriesList);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write time series in the columnar binary format to a file. They are first written to a temporary file of the
+     * same directory, which is moved to the target file once complete, so a failed write does not leave a truncated
+     * file.
+     */
+    static void writeBinary(Path file, List<? extends TimeSeries> timeSeriesList) {
+        Objects.requireNonNull(file);
+        Path tmpFile = null;
+        try {
+            tmpFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (WritableByteChannel channel = Files.newByteChannel(tmpFile, StandardOpenOption.WRITE)) {
+                writeBinary(channel, timeSeriesList);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException e) {
+                    LoggerFactory.getLogger(TimeSeries.class).warn("Cannot delete temporary file {}", tmpFile, e);
+                }
+            }
+        }
+    }
+
+    static List<TimeSeries> parseBinary(ByteBuffer buffer) {
+        return new TimeSeriesBinaryReader(buffer).readAll();
+    }
+
+    static List<TimeSeries> parseBinary(Path file) {
+        return TimeSeriesBinaryReader.open(file).readAll();
+    }
 }
@@ -0,0 +1,415 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reader of the columnar binary time series format, a compact alternative to the JSON format for stored time series.
+ *
+ * <p>All values are little endian. The file starts with a header (magic number, version, time series count) followed
+ * by the time series, one after the other:
+ * <ul>
+ *     <li>a stored time series is its metadata (name, data type, tags, index), then for string time series the
+ *     dictionary of its distinct strings, then its chunks;</li>
+ *     <li>a calculated time series is its name and its JSON serialization.</li>
+ * </ul>
+ * Each chunk has a header (compressed or not, offset, length, value count) followed by its values, aligned on their
+ * size: doubles for double time series and numbers in the dictionary (0 for null) for string time series, then step
+ * lengths for compressed chunks.
+ *
+ * <p>Only headers are decoded when the reader is created. Values of double chunks are exposed as {@link DoubleBuffer}
+ * views on the underlying buffer, which is memory mapped when reading a file, so that filling a buffer with the values
+ * of a time series is a bulk copy.
+ *
+ * <p>Buffers being indexed by int, the size of the binary data is limited to {@link Integer#MAX_VALUE} bytes (2 GB):
+ * larger files are rejected when opened, and cannot be written.
+ *
+ * @author agent <agent at local>
+ */
+public final class TimeSeriesBinaryReader {
+
+    static final int MAGIC_NUMBER = 0x42535450; // "PTSB"
+
+    static final int VERSION = 1;
+
+    /**
+     * Maximum size in bytes of the binary data.
+     */
+    static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    static final int STORED_TIME_SERIES = 0;
+    static final int CALCULATED_TIME_SERIES = 1;
+
+    static final int REGULAR_INDEX = 0;
+    static final int IRREGULAR_INDEX = 1;
+    static final int INFINITE_INDEX = 2;
+
+    static final int UNCOMPRESSED_CHUNK = 0;
+    static final int COMPRESSED_CHUNK = 1;
+
+    private static final TimeSeriesDataType[] DATA_TYPES = TimeSeriesDataType.values();
+
+    private static final class ChunkHeader {
+
+        private final boolean compressed;
+
+        private final int offset;
+
+        private final int length;
+
+        private final int valueCount;
+
+        /**
+         * Position of the values in the buffer.
+         */
+        private final int valuesPosition;
+
+        /**
+         * Position of the step lengths in the buffer, for compressed chunks.
+         */
+        private final int stepLengthsPosition;
+
+        private ChunkHeader(boolean compressed, int offset, int length, int valueCount, int valuesPosition, int stepLengthsPosition) {
+            this.compressed = compressed;
+            this.offset = offset;
+            this.length = length;
+            this.valueCount = valueCount;
+            this.valuesPosition = valuesPosition;
+            this.stepLengthsPosition = stepLengthsPosition;
+        }
+    }
+
+    private static final class Entry {
+
+        private final TimeSeriesMetadata metadata;
+
+        private final String json;
+
+        private final List<String> dictionary;
+
+        private final List<ChunkHeader> chunks;
+
+        private Entry(TimeSeriesMetadata metadata, List<String> dictionary, List<ChunkHeader> chunks) {
+            this.metadata = metadata;
+            this.json = null;
+            this.dictionary = dictionary;
+            this.chunks = chunks;
+        }
+
+        private Entry(String json) {
+            this.metadata = null;
+            this.json = json;
+            this.dictionary = null;
+            this.chunks = null;
+        }
+    }
+
+    private final ByteBuffer buffer;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Create a reader on a buffer positioned at the beginning of the data.
+     */
+    public TimeSeriesBinaryReader(ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer).slice().order(ByteOrder.LITTLE_ENDIAN);
+        readHeaders();
+    }
+
+    /**
+     * Create a reader on a memory mapped file.
+     */
+    public static TimeSeriesBinaryReader open(Path file) {
+        Objects.requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_SIZE) {
+                throw new TimeSeriesException("Binary time series file '" + file + "' is larger than " + MAX_SIZE + " bytes");
+            }
+            return new TimeSeriesBinaryReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void align(int alignment) {
+        int remainder = buffer.position() % alignment;
+        if (remainder != 0) {
+            buffer.position(buffer.position() + alignment - remainder);
+        }
+    }
+
+    /**
+     * Skip the values of a chunk, checking that they are in the buffer.
+     */
+    private int skipValues(int valueCount, int valueBytes) {
+        int position = buffer.position();
+        long size = (long) valueCount * valueBytes;
+        if (valueCount < 0 || size > buffer.remaining()) {
+            throw new TimeSeriesException("Truncated binary time series buffer");
+        }
+        buffer.position(position + (int) size);
+        return position;
+    }
+
+    private TimeSeriesIndex readIndex() {
+        int indexType = buffer.get();
+        switch (indexType) {
+            case REGULAR_INDEX:
+                long startTime = buffer.getLong();
+                long endTime = buffer.getLong();
+                long spacing = buffer.getLong();
+                return new RegularTimeSeriesIndex(startTime, endTime, spacing);
+            case IRREGULAR_INDEX:
+                long[] times = new long[buffer.getInt()];
+                for (int point = 0; point < times.length; point++) {
+                    times[point] = buffer.getLong();
+                }
+                return new IrregularTimeSeriesIndex(times);
+            case INFINITE_INDEX:
+                return InfiniteTimeSeriesIndex.INSTANCE;
+            default:
+                throw new TimeSeriesException("Unexpected time series index type: " + indexType);
+        }
+    }
+
+    private TimeSeriesMetadata readMetadata() {
+        String name = readString();
+        TimeSeriesDataType dataType = DATA_TYPES[buffer.get()];
+        int tagCount = buffer.getInt();
+        Map<String, String> tags = new LinkedHashMap<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            String key = readString();
+            tags.put(key, readString());
+        }
+        return new TimeSeriesMetadata(name, dataType, tags, readIndex());
+    }
+
+    private List<ChunkHeader> readChunkHeaders(TimeSeriesDataType dataType) {
+        int valueBytes = dataType == TimeSeriesDataType.DOUBLE ? Double.BYTES : Integer.BYTES;
+        int chunkCount = buffer.getInt();
+        List<ChunkHeader> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            boolean compressed = buffer.get() == COMPRESSED_CHUNK;
+            int offset = buffer.getInt();
+            int length = buffer.getInt();
+            int valueCount = buffer.getInt();
+            align(valueBytes);
+            int valuesPosition = skipValues(valueCount, valueBytes);
+            int stepLengthsPosition = -1;
+            if (compressed) {
+                align(Integer.BYTES);
+                stepLengthsPosition = skipValues(valueCount, Integer.BYTES);
+            }
+            chunks.add(new ChunkHeader(compressed, offset, length, valueCount, valuesPosition, stepLengthsPosition));
+        }
+        return chunks;
+    }
+
+    private void readHeaders() {
+        if (buffer.remaining() < 3 * Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+            throw new TimeSeriesException("Not a binary time series buffer");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new TimeSeriesException("Unsupported binary time series version: " + version);
+        }
+        int timeSeriesCount = buffer.getInt();
+        for (int i = 0; i < timeSeriesCount; i++) {
+            int timeSeriesType = buffer.get();
+            if (timeSeriesType == CALCULATED_TIME_SERIES) {
+                String name = readString();
+                entries.put(name, new Entry(readString()));
+            } else if (timeSeriesType == STORED_TIME_SERIES) {
+                TimeSeriesMetadata metadata = readMetadata();
+                List<String> dictionary = null;
+                if (metadata.getDataType() == TimeSeriesDataType.STRING) {
+                    int dictionarySize = buffer.getInt();
+                    dictionary = new ArrayList<>(dictionarySize);
+                    for (int j = 0; j < dictionarySize; j++) {
+                        dictionary.add(readString());
+                    }
+                }
+                entries.put(metadata.getName(), new Entry(metadata, dictionary, readChunkHeaders(metadata.getDataType())));
+            } else {
+                throw new TimeSeriesException("Unexpected time series type: " + timeSeriesType);
+            }
+        }
+    }
+
+    public Set<String> getTimeSeriesNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    private Entry getEntry(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        Entry entry = entries.get(timeSeriesName);
+        if (entry == null) {
+            throw new TimeSeriesException("Time series '" + timeSeriesName + "' not found");
+        }
+        return entry;
+    }
+
+    private Entry getStoredEntry(String timeSeriesName, TimeSeriesDataType dataType) {
+        Entry entry = getEntry(timeSeriesName);
+        if (entry.metadata == null || entry.metadata.getDataType() != dataType) {
+            throw new TimeSeriesException("Time series '" + timeSeriesName + "' is not a stored " + dataType + " time series");
+        }
+        return entry;
+    }
+
+    private DoubleBuffer getDoubleView(int position, int count) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.limit(position + count * Double.BYTES);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    private IntBuffer getIntView(int position, int count) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.limit(position + count * Integer.BYTES);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private int[] getInts(int position, int count) {
+        int[] values = new int[count];
+        getIntView(position, count).get(values);
+        return values;
+    }
+
+    private DoubleDataChunk readDoubleChunk(ChunkHeader chunk) {
+        double[] values = new double[chunk.valueCount];
+        getDoubleView(chunk.valuesPosition, chunk.valueCount).get(values);
+        if (chunk.compressed) {
+            return new CompressedDoubleDataChunk(chunk.offset, chunk.length, values, getInts(chunk.stepLengthsPosition, chunk.valueCount));
+        }
+        return new UncompressedDoubleDataChunk(chunk.offset, values);
+    }
+
+    private static String[] toStrings(int[] nums, List<String> dictionary) {
+        String[] values = new String[nums.length];
+        for (int i = 0; i < nums.length; i++) {
+            values[i] = nums[i] == 0 ? null : dictionary.get(nums[i] - 1);
+        }
+        return values;
+    }
+
+    private StringDataChunk readStringChunk(ChunkHeader chunk, List<String> dictionary) {
+        String[] values = toStrings(getInts(chunk.valuesPosition, chunk.valueCount), dictionary);
+        if (chunk.compressed) {
+            return new CompressedStringDataChunk(chunk.offset, chunk.length, values, getInts(chunk.stepLengthsPosition, chunk.valueCount));
+        }
+        return new UncompressedStringDataChunk(chunk.offset, values);
+    }
+
+    private TimeSeries readTimeSeries(Entry entry) {
+        if (entry.json != null) {
+            return TimeSeries.parseJson(entry.json).get(0);
+        }
+        if (entry.metadata.getDataType() == TimeSeriesDataType.DOUBLE) {
+            List<DoubleDataChunk> chunks = new ArrayList<>(entry.chunks.size());
+            for (ChunkHeader chunk : entry.chunks) {
+                chunks.add(readDoubleChunk(chunk));
+            }
+            return new StoredDoubleTimeSeries(entry.metadata, chunks);
+        } else {
+            List<StringDataChunk> chunks = new ArrayList<>(entry.chunks.size());
+            for (ChunkHeader chunk : entry.chunks) {
+                chunks.add(readStringChunk(chunk, entry.dictionary));
+            }
+            return new StringTimeSeries(entry.metadata, chunks);
+        }
+    }
+
+    /**
+     * Get the metadata of a stored time series.
+     */
+    public TimeSeriesMetadata getTimeSeriesMetadata(String timeSeriesName) {
+        Entry entry = getEntry(timeSeriesName);
+        if (entry.metadata == null) {
+            throw new TimeSeriesException("Time series '" + timeSeriesName + "' is a calculated time series");
+        }
+        return entry.metadata;
+    }
+
+    /**
+     * Read a time series, values being copied to the chunks.
+     */
+    public TimeSeries readTimeSeries(String timeSeriesName) {
+        return readTimeSeries(getEntry(timeSeriesName));
+    }
+
+    /**
+     * Read all the time series, in the order they have been written, as {@link TimeSeries#parseJson(String)} would
+     * do with the JSON serialization of the same time series.
+     */
+    public List<TimeSeries> readAll() {
+        List<TimeSeries> timeSeriesList = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            timeSeriesList.add(readTimeSeries(entry));
+        }
+        return timeSeriesList;
+    }
+
+    /**
+     * Fill a buffer with the values of a stored double time series, without decoding them: values of uncompressed
+     * chunks are bulk copied and steps of compressed chunks are expanded.
+     */
+    public void fillBuffer(String timeSeriesName, BigDoubleBuffer bigBuffer, long timeSeriesOffset) {
+        Objects.requireNonNull(bigBuffer);
+        Entry entry = getStoredEntry(timeSeriesName, TimeSeriesDataType.DOUBLE);
+        for (ChunkHeader chunk : entry.chunks) {
+            DoubleBuffer values = getDoubleView(chunk.valuesPosition, chunk.valueCount);
+            if (chunk.compressed) {
+                IntBuffer stepLengths = getIntView(chunk.stepLengthsPosition, chunk.valueCount);
+                long i = timeSeriesOffset + chunk.offset;
+                for (int step = 0; step < chunk.valueCount; step++) {
+                    bigBuffer.fill(i, stepLengths.get(step), values.get(step));
+                    i += stepLengths.get(step);
+                }
+            } else {
+                bigBuffer.put(timeSeriesOffset + chunk.offset, values);
+            }
+        }
+    }
+
+    /**
+     * Get read only views on the values of the uncompressed chunks of a stored double time series, indexed by chunk
+     * offset.
+     */
+    public SortedMap<Integer, DoubleBuffer> getUncompressedValues(String timeSeriesName) {
+        Entry entry = getStoredEntry(timeSeriesName, TimeSeriesDataType.DOUBLE);
+        SortedMap<Integer, DoubleBuffer> values = new TreeMap<>();
+        for (ChunkHeader chunk : entry.chunks) {
+            if (!chunk.compressed) {
+                values.put(chunk.offset, getDoubleView(chunk.valuesPosition, chunk.valueCount).asReadOnlyBuffer());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.powsybl.timeseries.TimeSeriesBinaryReader.*;
+
+/**
+ * Writes time series in the columnar binary format read by {@link TimeSeriesBinaryReader}.
+ *
+ * @author agent <agent at local>
+ */
+final class TimeSeriesBinaryWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Number of bytes written since the beginning of the stream, used to align values.
+     */
+    private long position = 0;
+
+    TimeSeriesBinaryWriter(WritableByteChannel channel) {
+        this.channel = Objects.requireNonNull(channel);
+    }
+
+    private void flush() throws IOException {
+        if (position > MAX_SIZE) {
+            throw new TimeSeriesException("Binary time series larger than " + MAX_SIZE + " bytes are not supported");
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureRemaining(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    private void writeByte(int value) throws IOException {
+        ensureRemaining(1);
+        buffer.put((byte) value);
+        position++;
+    }
+
+    private void writeInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+        position += Integer.BYTES;
+    }
+
+    private void writeLong(long value) throws IOException {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+        position += Long.BYTES;
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            int i = 0;
+            while (i < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(bytes.length - i, buffer.remaining());
+                buffer.put(bytes, i, length);
+                position += length;
+                i += length;
+            }
+        }
+    }
+
+    private void align(int alignment) throws IOException {
+        while (position % alignment != 0) {
+            writeByte(0);
+        }
+    }
+
+    private void writeInts(int[] values) throws IOException {
+        align(Integer.BYTES);
+        int i = 0;
+        while (i < values.length) {
+            ensureRemaining(Integer.BYTES);
+            int length = Math.min(values.length - i, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, i, length);
+            buffer.position(buffer.position() + length * Integer.BYTES);
+            position += (long) length * Integer.BYTES;
+            i += length;
+        }
+    }
+
+    private void writeDoubles(double[] values) throws IOException {
+        align(Double.BYTES);
+        int i = 0;
+        while (i < values.length) {
+            ensureRemaining(Double.BYTES);
+            int length = Math.min(values.length - i, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(values, i, length);
+            buffer.position(buffer.position() + length * Double.BYTES);
+            position += (long) length * Double.BYTES;
+            i += length;
+        }
+    }
+
+    private void writeIndex(TimeSeriesIndex index) throws IOException {
+        if (index instanceof RegularTimeSeriesIndex) {
+            RegularTimeSeriesIndex regularIndex = (RegularTimeSeriesIndex) index;
+            writeByte(REGULAR_INDEX);
+            writeLong(regularIndex.getStartTime());
+            writeLong(regularIndex.getEndTime());
+            writeLong(regularIndex.getSpacing());
+        } else if (index instanceof IrregularTimeSeriesIndex) {
+            writeByte(IRREGULAR_INDEX);
+            writeInt(index.getPointCount());
+            for (int point = 0; point < index.getPointCount(); point++) {
+                writeLong(index.getTimeAt(point));
+            }
+        } else if (index instanceof InfiniteTimeSeriesIndex) {
+            writeByte(INFINITE_INDEX);
+        } else {
+            throw new TimeSeriesException("Unsupported time series index type: " + index.getType());
+        }
+    }
+
+    private void writeMetadata(TimeSeriesMetadata metadata) throws IOException {
+        writeString(metadata.getName());
+        writeByte(metadata.getDataType().ordinal());
+        writeInt(metadata.getTags().size());
+        for (Map.Entry<String, String> e : metadata.getTags().entrySet()) {
+            writeString(e.getKey());
+            writeString(e.getValue());
+        }
+        writeIndex(metadata.getIndex());
+    }
+
+    private void writeChunkHeader(int chunkType, int offset, int length, int valueCount) throws IOException {
+        writeByte(chunkType);
+        writeInt(offset);
+        writeInt(length);
+        writeInt(valueCount);
+    }
+
+    private void writeDoubleChunks(List<DoubleDataChunk> chunks) throws IOException {
+        writeInt(chunks.size());
+        for (DoubleDataChunk chunk : chunks) {
+            if (chunk instanceof CompressedDoubleDataChunk) {
+                CompressedDoubleDataChunk compressedChunk = (CompressedDoubleDataChunk) chunk;
+                writeChunkHeader(COMPRESSED_CHUNK, chunk.getOffset(), chunk.getLength(), compressedChunk.getStepValues().length);
+                writeDoubles(compressedChunk.getStepValues());
+                writeInts(compressedChunk.getStepLengths());
+            } else if (chunk instanceof UncompressedDoubleDataChunk) {
+                UncompressedDoubleDataChunk uncompressedChunk = (UncompressedDoubleDataChunk) chunk;
+                writeChunkHeader(UNCOMPRESSED_CHUNK, chunk.getOffset(), chunk.getLength(), chunk.getLength());
+                writeDoubles(uncompressedChunk.getValues());
+            } else {
+                throw new TimeSeriesException("Unsupported double chunk type: " + chunk.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * Number the values of a string time series as a {@link CompactStringBuffer} does: 0 for null and n for the
+     * (n-1)th string of the dictionary.
+     */
+    private static int[] toNums(String[] values, BiList<String> dictionary) {
+        int[] nums = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nums[i] = values[i] == null ? 0 : dictionary.addIfNotAlreadyExist(values[i]) + 1;
+        }
+        return nums;
+    }
+
+    private void writeStringChunks(List<StringDataChunk> chunks) throws IOException {
+        // the dictionary is written before the chunks, so numbers are computed first
+        BiList<String> dictionary = new BiList<>();
+        int[][] nums = new int[chunks.size()][];
+        for (int i = 0; i < chunks.size(); i++) {
+            StringDataChunk chunk = chunks.get(i);
+            if (chunk instanceof CompressedStringDataChunk) {
+                nums[i] = toNums(((CompressedStringDataChunk) chunk).getStepValues(), dictionary);
+            } else if (chunk instanceof UncompressedStringDataChunk) {
+                nums[i] = toNums(((UncompressedStringDataChunk) chunk).getValues(), dictionary);
+            } else {
+                throw new TimeSeriesException("Unsupported string chunk type: " + chunk.getClass().getName());
+            }
+        }
+        writeInt(dictionary.size());
+        for (int i = 0; i < dictionary.size(); i++) {
+            writeString(dictionary.get(i));
+        }
+        writeInt(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            StringDataChunk chunk = chunks.get(i);
+            if (chunk instanceof CompressedStringDataChunk) {
+                writeChunkHeader(COMPRESSED_CHUNK, chunk.getOffset(), chunk.getLength(), nums[i].length);
+                writeInts(nums[i]);
+                writeInts(((CompressedStringDataChunk) chunk).getStepLengths());
+            } else {
+                writeChunkHeader(UNCOMPRESSED_CHUNK, chunk.getOffset(), chunk.getLength(), nums[i].length);
+                writeInts(nums[i]);
+            }
+        }
+    }
+
+    private void writeTimeSeries(TimeSeries timeSeries) throws IOException {
+        if (timeSeries instanceof StoredDoubleTimeSeries) {
+            writeByte(STORED_TIME_SERIES);
+            writeMetadata(timeSeries.getMetadata());
+            writeDoubleChunks(((StoredDoubleTimeSeries) timeSeries).getChunks());
+        } else if (timeSeries instanceof StringTimeSeries) {
+            writeByte(STORED_TIME_SERIES);
+            writeMetadata(timeSeries.getMetadata());
+            writeStringChunks(((StringTimeSeries) timeSeries).getChunks());
+        } else if (timeSeries instanceof CalculatedTimeSeries) {
+            // expressions are small, they are kept in the JSON format
+            writeByte(CALCULATED_TIME_SERIES);
+            writeString(timeSeries.getMetadata().getName());
+            writeString(timeSeries.toJson());
+        } else {
+            throw new TimeSeriesException("Unsupported time series type: " + timeSeries.getClass().getName());
+        }
+    }
+
+    void write(List<? extends TimeSeries> timeSeriesList) throws IOException {
+        Objects.requireNonNull(timeSeriesList);
+        writeInt(MAGIC_NUMBER);
+        writeInt(VERSION);
+        writeInt(timeSeriesList.size());
+        for (TimeSeries timeSeries : timeSeriesList) {
+            writeTimeSeries(timeSeries);
+        }
+        flush();
+    }
+}
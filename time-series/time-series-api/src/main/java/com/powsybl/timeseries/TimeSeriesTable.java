@@ -6,7 +6,13 @@
  */
 package com.powsybl.timeseries;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.base.Stopwatch;
+import com.powsybl.commons.io.mmap.MemoryMappedFileFactory;
+import com.powsybl.commons.io.mmap.MemoryMappedFileFactoryImpl;
+import com.powsybl.commons.json.JsonUtil;
 import gnu.trove.list.array.TIntArrayList;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -48,12 +54,21 @@ import java.util.zip.GZIPOutputStream;
  *     <li>Concurrency between data loading and other operations (CSV writing, statistics computation) is NOT supported</li>
  * </ul>
  *
+ * A table created with {@link #createMemoryMapped(int, int, TimeSeriesIndex, Path)} stores its values and its
+ * statistics in memory mapped files of a directory, so that it is not limited by the available memory, and can be
+ * reopened with {@link #openMemoryMapped(Path)} without loading the time series again. Such a table has to be closed to
+ * persist the strings of string time series.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
-public class TimeSeriesTable {
+public class TimeSeriesTable implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TimeSeriesTable.class);
 
+    private static final String HEADER_FILE_NAME = "table.json";
+
+    private static final String HEADER_VERSION = "1.0";
+
     public class Correlation {
 
         private final String timeSeriesName1;
@@ -128,6 +143,10 @@ public class TimeSeriesTable {
 
     private final IntFunction<ByteBuffer> byteBufferAllocator;
 
+    private final Path directory; // only for memory mapped tables
+
+    private final MemoryMappedBufferAllocator memoryMappedBufferAllocator; // only for memory mapped tables
+
     private final TIntArrayList timeSeriesIndexDoubleOrString = new TIntArrayList(); // global index to typed index
 
     private final TimeSeriesNameMap doubleTimeSeriesNames = new TimeSeriesNameMap();
@@ -141,9 +160,9 @@ public class TimeSeriesTable {
     private final Lock initLock = new ReentrantLock();
 
     // statistics
-    private double[] means;
+    private BigDoubleBuffer means;
 
-    private double[] stdDevs;
+    private BigDoubleBuffer stdDevs;
 
     private final Lock statsLock = new ReentrantLock();
 
@@ -152,6 +171,11 @@ public class TimeSeriesTable {
     }
 
     public TimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, IntFunction<ByteBuffer> byteBufferAllocator) {
+        this(fromVersion, toVersion, tableIndex, byteBufferAllocator, null, null);
+    }
+
+    private TimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, IntFunction<ByteBuffer> byteBufferAllocator,
+                            Path directory, MemoryMappedBufferAllocator memoryMappedBufferAllocator) {
         TimeSeriesVersions.check(fromVersion);
         TimeSeriesVersions.check(toVersion);
         if (toVersion < fromVersion) {
@@ -161,6 +185,8 @@ public class TimeSeriesTable {
         this.toVersion = toVersion;
         this.tableIndex = Objects.requireNonNull(tableIndex);
         this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.directory = directory;
+        this.memoryMappedBufferAllocator = memoryMappedBufferAllocator;
     }
 
     public static TimeSeriesTable createDirectMem(int fromVersion, int toVersion, TimeSeriesIndex tableIndex) {
@@ -171,6 +197,182 @@ public class TimeSeriesTable {
         return new TimeSeriesTable(fromVersion, toVersion, tableIndex, ByteBuffer::allocate);
     }
 
+    public static TimeSeriesTable createMemoryMapped(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, Path directory) {
+        return createMemoryMapped(fromVersion, toVersion, tableIndex, directory, new MemoryMappedFileFactoryImpl());
+    }
+
+    /**
+     * Create a table whose values and statistics are stored in memory mapped files of {@code directory}.
+     */
+    public static TimeSeriesTable createMemoryMapped(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, Path directory,
+                                                     MemoryMappedFileFactory fileFactory) {
+        Objects.requireNonNull(directory);
+        if (Files.exists(directory.resolve(HEADER_FILE_NAME))) {
+            throw new TimeSeriesException("Directory " + directory + " already contains a time series table");
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        MemoryMappedBufferAllocator allocator = new MemoryMappedBufferAllocator(directory, fileFactory, false);
+        return new TimeSeriesTable(fromVersion, toVersion, tableIndex, allocator, directory, allocator);
+    }
+
+    public static TimeSeriesTable openMemoryMapped(Path directory) {
+        return openMemoryMapped(directory, new MemoryMappedFileFactoryImpl());
+    }
+
+    /**
+     * Open a table previously created by {@link #createMemoryMapped(int, int, TimeSeriesIndex, Path, MemoryMappedFileFactory)}:
+     * values and statistics are directly accessed from the memory mapped files.
+     */
+    public static TimeSeriesTable openMemoryMapped(Path directory, MemoryMappedFileFactory fileFactory) {
+        Objects.requireNonNull(directory);
+        Path headerFile = directory.resolve(HEADER_FILE_NAME);
+        if (!Files.exists(headerFile)) {
+            throw new TimeSeriesException("Time series table not found in directory " + directory);
+        }
+        Stopwatch stopWatch = Stopwatch.createStarted();
+        Header header = JsonUtil.parseJson(headerFile, TimeSeriesTable::parseHeader);
+        MemoryMappedBufferAllocator allocator = new MemoryMappedBufferAllocator(directory, fileFactory, true);
+        TimeSeriesTable table = new TimeSeriesTable(header.fromVersion, header.toVersion, header.tableIndex, allocator, directory, allocator);
+        if (!header.metadata.isEmpty()) {
+            table.initTable(header.metadata, false);
+            table.stringBuffer.setDictionaries(header.stringDictionaries);
+        }
+        LOGGER.info("Time series table opened from {} in {} ms", directory, stopWatch.elapsed(TimeUnit.MILLISECONDS));
+        return table;
+    }
+
+    private static final class Header {
+
+        private int fromVersion = -1;
+
+        private int toVersion = -1;
+
+        private TimeSeriesIndex tableIndex;
+
+        private final List<TimeSeriesMetadata> metadata = new ArrayList<>();
+
+        private final List<List<String>> stringDictionaries = new ArrayList<>();
+    }
+
+    private void writeHeader() {
+        JsonUtil.writeJson(directory.resolve(HEADER_FILE_NAME), generator -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("version", HEADER_VERSION);
+                generator.writeNumberField("fromVersion", fromVersion);
+                generator.writeNumberField("toVersion", toVersion);
+                generator.writeFieldName("tableIndex");
+                generator.writeStartObject();
+                generator.writeFieldName(tableIndex.getType());
+                tableIndex.writeJson(generator);
+                generator.writeEndObject();
+                generator.writeFieldName("metadata");
+                generator.writeStartArray();
+                if (timeSeriesMetadata != null) {
+                    for (TimeSeriesMetadata metadata : timeSeriesMetadata) {
+                        metadata.writeJson(generator);
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeFieldName("stringDictionaries");
+                generator.writeStartArray();
+                if (stringBuffer != null) {
+                    for (List<String> dictionary : stringBuffer.getDictionaries()) {
+                        writeStringArray(generator, dictionary);
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void writeStringArray(JsonGenerator generator, List<String> values) throws IOException {
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    private static TimeSeriesIndex parseIndex(JsonParser parser) throws IOException {
+        parser.nextToken(); // start object
+        parser.nextToken(); // field name
+        String type = parser.getCurrentName();
+        TimeSeriesIndex index;
+        switch (type) {
+            case RegularTimeSeriesIndex.TYPE:
+                index = RegularTimeSeriesIndex.parseJson(parser);
+                break;
+            case IrregularTimeSeriesIndex.TYPE:
+                index = IrregularTimeSeriesIndex.parseJson(parser);
+                break;
+            case InfiniteTimeSeriesIndex.TYPE:
+                index = InfiniteTimeSeriesIndex.parseJson(parser);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected index type " + type);
+        }
+        parser.nextToken(); // end object
+        return index;
+    }
+
+    private static Header parseHeader(JsonParser parser) {
+        try {
+            Header header = new Header();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    switch (fieldName) {
+                        case "version":
+                            JsonUtil.assertLessThanOrEqualToReferenceVersion("TimeSeriesTable", "version", parser.nextTextValue(), HEADER_VERSION);
+                            break;
+                        case "fromVersion":
+                            header.fromVersion = parser.nextIntValue(-1);
+                            break;
+                        case "toVersion":
+                            header.toVersion = parser.nextIntValue(-1);
+                            break;
+                        case "tableIndex":
+                            header.tableIndex = parseIndex(parser);
+                            break;
+                        case "metadata":
+                            parser.nextToken(); // start array
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                header.metadata.add(TimeSeriesMetadata.parseJson(parser));
+                            }
+                            break;
+                        case "stringDictionaries":
+                            parser.nextToken(); // start array
+                            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                                List<String> dictionary = new ArrayList<>();
+                                while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                                    dictionary.add(parser.getText());
+                                }
+                                header.stringDictionaries.add(dictionary);
+                            }
+                            break;
+                        default:
+                            throw new IllegalStateException("Unexpected field " + fieldName);
+                    }
+                }
+            }
+            if (header.fromVersion == -1 || header.toVersion == -1 || header.tableIndex == null) {
+                throw new IllegalStateException("Incomplete time series table header json");
+            }
+            return header;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void initTable(List<DoubleTimeSeries> doubleTimeSeries, List<StringTimeSeries> stringTimeSeries) {
         initLock.lock();
         try {
@@ -178,20 +380,41 @@ public class TimeSeriesTable {
                 return; // already initialized
             }
 
-            timeSeriesMetadata = new ArrayList<>(doubleTimeSeries.size() + stringTimeSeries.size());
+            List<TimeSeriesMetadata> metadataList = new ArrayList<>(doubleTimeSeries.size() + stringTimeSeries.size());
+            doubleTimeSeries.stream()
+                    .map(TimeSeries::getMetadata)
+                    .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                    .forEach(metadataList::add);
+            stringTimeSeries.stream()
+                    .map(TimeSeries::getMetadata)
+                    .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                    .forEach(metadataList::add);
 
-            for (DoubleTimeSeries timeSeries : doubleTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .collect(Collectors.toList())) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = doubleTimeSeriesNames.add(timeSeries.getMetadata().getName());
-                timeSeriesIndexDoubleOrString.add(i);
+            initTable(metadataList, true);
+
+            if (directory != null) {
+                writeHeader();
             }
-            for (StringTimeSeries timeSeries : stringTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .collect(Collectors.toList())) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = stringTimeSeriesNames.add(timeSeries.getMetadata().getName());
+        } finally {
+            initLock.unlock();
+        }
+    }
+
+    /**
+     * Initialize table from the metadata of its time series, double time series first.
+     *
+     * @param metadataList metadata of the time series
+     * @param newTable if true buffers are initialized with no data, otherwise they already contain the data of an
+     *                 existing table
+     */
+    private void initTable(List<TimeSeriesMetadata> metadataList, boolean newTable) {
+        try {
+            timeSeriesMetadata = new ArrayList<>(metadataList.size());
+
+            for (TimeSeriesMetadata metadata : metadataList) {
+                timeSeriesMetadata.add(metadata);
+                int i = (metadata.getDataType() == TimeSeriesDataType.DOUBLE ? doubleTimeSeriesNames : stringTimeSeriesNames)
+                        .add(metadata.getName());
                 timeSeriesIndexDoubleOrString.add(i);
             }
 
@@ -203,7 +426,7 @@ public class TimeSeriesTable {
 
             // allocate double buffer
             long doubleBufferSize = (long) versionCount * doubleTimeSeriesNames.size() * tableIndex.getPointCount();
-            doubleBuffer = createDoubleBuffer(byteBufferAllocator, doubleBufferSize, Double.NaN);
+            doubleBuffer = createDoubleBuffer(byteBufferAllocator, doubleBufferSize, newTable);
 
             // allocate string buffer
             long stringBufferSize = (long) versionCount * stringTimeSeriesNames.size() * tableIndex.getPointCount();
@@ -215,11 +438,9 @@ public class TimeSeriesTable {
             }
 
             // allocate statistics buffer
-            means = new double[doubleTimeSeriesNames.size() * versionCount];
-            Arrays.fill(means, Double.NaN);
+            means = createDoubleBuffer(byteBufferAllocator, (long) doubleTimeSeriesNames.size() * versionCount, newTable);
 
-            stdDevs = new double[doubleTimeSeriesNames.size() * versionCount];
-            Arrays.fill(stdDevs, Double.NaN);
+            stdDevs = createDoubleBuffer(byteBufferAllocator, (long) doubleTimeSeriesNames.size() * versionCount, newTable);
         } catch (Exception e) {
             LOGGER.error(e.toString(), e);
             timeSeriesMetadata = null;
@@ -231,8 +452,6 @@ public class TimeSeriesTable {
             means = null;
             stdDevs = null;
             throw e;
-        } finally {
-            initLock.unlock();
         }
     }
 
@@ -252,12 +471,16 @@ public class TimeSeriesTable {
         return doubleBuffer;
     }
 
+    private static BigDoubleBuffer createDoubleBuffer(IntFunction<ByteBuffer> byteBufferAllocator, long size, boolean newTable) {
+        return newTable ? createDoubleBuffer(byteBufferAllocator, size, Double.NaN) : createDoubleBuffer(byteBufferAllocator, size);
+    }
+
     private long getTimeSeriesOffset(int version, int timeSeriesNum) {
         return (long) timeSeriesNum * tableIndex.getPointCount() * (toVersion - fromVersion + 1) + (version - fromVersion) * tableIndex.getPointCount();
     }
 
-    private int getStatisticsIndex(int version, int timeSeriesNum) {
-        return (version - fromVersion) * doubleTimeSeriesNames.size() + timeSeriesNum;
+    private long getStatisticsIndex(int version, int timeSeriesNum) {
+        return (long) (version - fromVersion) * doubleTimeSeriesNames.size() + timeSeriesNum;
     }
 
     private void checkVersionIsInRange(int version) {
@@ -372,11 +595,11 @@ public class TimeSeriesTable {
     }
 
     private void invalidateStatistics(int version, int timeSeriesNum) {
-        int statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
+        long statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
         statsLock.lock();
         try {
-            means[statisticsIndex] = Double.NaN;
-            stdDevs[statisticsIndex] = Double.NaN;
+            means.put(statisticsIndex, Double.NaN);
+            stdDevs.put(statisticsIndex, Double.NaN);
         } finally {
             statsLock.unlock();
         }
@@ -384,8 +607,8 @@ public class TimeSeriesTable {
 
     private void updateStatistics(int version, int timeSeriesNum) {
 
-        int statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
-        if (!Double.isNaN(means[statisticsIndex]) && !Double.isNaN(stdDevs[statisticsIndex])) {
+        long statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
+        if (!Double.isNaN(means.get(statisticsIndex)) && !Double.isNaN(stdDevs.get(statisticsIndex))) {
             return;
         }
         long timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
@@ -400,7 +623,7 @@ public class TimeSeriesTable {
             }
         }
         double mean = nbPoints > 0 ? sum / nbPoints : 0;
-        means[statisticsIndex] = mean;
+        means.put(statisticsIndex, mean);
 
         double stdDev = 0;
         for (int point = 0; point < tableIndex.getPointCount(); point++) {
@@ -410,7 +633,7 @@ public class TimeSeriesTable {
             }
         }
         stdDev = nbPoints > 1 ? Math.sqrt(stdDev / (nbPoints - 1)) : 0;
-        stdDevs[statisticsIndex] = stdDev;
+        stdDevs.put(statisticsIndex, stdDev);
     }
 
     private void updateStatistics(int version) {
@@ -419,15 +642,15 @@ public class TimeSeriesTable {
         }
     }
 
-    private double getStatistics(int version, int timeSeriesNum, double[] stats) {
+    private double getStatistics(int version, int timeSeriesNum, BigDoubleBuffer stats) {
         checkVersionIsInRange(version);
         int doubleTimeSeriesNum = checkTimeSeriesNum(timeSeriesNum);
-        int statisticsIndex = getStatisticsIndex(version, doubleTimeSeriesNum);
+        long statisticsIndex = getStatisticsIndex(version, doubleTimeSeriesNum);
 
         statsLock.lock();
         try {
             updateStatistics(version, timeSeriesNum);
-            return stats[statisticsIndex];
+            return stats.get(statisticsIndex);
         } finally {
             statsLock.unlock();
         }
@@ -457,29 +680,29 @@ public class TimeSeriesTable {
 
     private void computeConstantTimeSeriesPpmcc(double[] r, int version) {
         for (int timeSeriesNum2 = 0; timeSeriesNum2 < doubleTimeSeriesNames.size(); timeSeriesNum2++) {
-            int statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
-            double stdDev2 = stdDevs[statisticsIndex2];
+            long statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
+            double stdDev2 = stdDevs.get(statisticsIndex2);
 
             // time series 1 is correlated to other constant time series
             r[timeSeriesNum2] = stdDev2 == 0 ? 1 : 0;
         }
     }
 
-    private void computeVariableTimeSeriesPpmcc(double[] r, int timeSeriesNum1, int statisticsIndex1, double stdDev1,
+    private void computeVariableTimeSeriesPpmcc(double[] r, int timeSeriesNum1, long statisticsIndex1, double stdDev1,
                                                 int version) {
-        double mean1 = means[statisticsIndex1];
+        double mean1 = means.get(statisticsIndex1);
 
         for (int timeSeriesNum2 = 0; timeSeriesNum2 < doubleTimeSeriesNames.size(); timeSeriesNum2++) {
             if (timeSeriesNum2 == timeSeriesNum1) {
                 r[timeSeriesNum2] = 1;
             } else {
-                int statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
-                double stdDev2 = stdDevs[statisticsIndex2];
+                long statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
+                double stdDev2 = stdDevs.get(statisticsIndex2);
 
                 r[timeSeriesNum2] = 0;
 
                 if (stdDev2 != 0) {
-                    double mean2 = means[statisticsIndex2];
+                    double mean2 = means.get(statisticsIndex2);
 
                     long timeSeriesOffset1 = getTimeSeriesOffset(version, timeSeriesNum1);
                     long timeSeriesOffset2 = getTimeSeriesOffset(version, timeSeriesNum2);
@@ -507,8 +730,8 @@ public class TimeSeriesTable {
         try {
             updateStatistics(version);
 
-            int statisticsIndex1 = getStatisticsIndex(version, timeSeriesNum1);
-            double stdDev1 = stdDevs[statisticsIndex1];
+            long statisticsIndex1 = getStatisticsIndex(version, timeSeriesNum1);
+            double stdDev1 = stdDevs.get(statisticsIndex1);
 
             if (stdDev1 == 0) { // constant time series
                 computeConstantTimeSeriesPpmcc(r, version);
@@ -675,4 +898,30 @@ public class TimeSeriesTable {
 
         LOGGER.info("Csv written in {} ms", stopWatch.elapsed(TimeUnit.MILLISECONDS));
     }
+
+    /**
+     * Write to the files the data of a memory mapped table, nothing to do for an in memory table.
+     */
+    public void flush() {
+        if (memoryMappedBufferAllocator != null) {
+            initLock.lock();
+            try {
+                writeHeader();
+                memoryMappedBufferAllocator.force();
+            } finally {
+                initLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Write to the files the data of a memory mapped table, and release them. Nothing to do for an in memory table.
+     */
+    @Override
+    public void close() {
+        if (memoryMappedBufferAllocator != null) {
+            flush();
+            memoryMappedBufferAllocator.close();
+        }
+    }
 }
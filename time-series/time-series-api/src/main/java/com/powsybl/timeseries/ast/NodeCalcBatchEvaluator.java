@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries.ast;
+
+import com.powsybl.timeseries.TimeSeriesException;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates a resolved {@link NodeCalc} tree on all the points of a time series index at once, as an alternative to
+ * a point by point evaluation with {@link NodeCalcEvaluator}.
+ *
+ * <p>The tree is compiled once into a post-order sequence of instructions running on a stack of {@code double[]}
+ * blocks, each instruction computing its operation for a chunk of consecutive points with a loop that the JIT can
+ * unroll and vectorize. Constant sub-trees are folded and constant operands are used as scalars. Chunks are
+ * independent and can be evaluated in parallel.
+ *
+ * @author agent <agent at local>
+ */
+public final class NodeCalcBatchEvaluator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final int PUSH_CONSTANT = 0;
+    private static final int PUSH_TIME_SERIES = 1;
+    private static final int PUSH_TIME = 2;
+    private static final int BINARY = 3;
+    private static final int BINARY_RIGHT_SCALAR = 4;
+    private static final int BINARY_LEFT_SCALAR = 5;
+    private static final int UNARY = 6;
+    private static final int MIN = 7;
+    private static final int MAX = 8;
+
+    private static final BinaryOperation.Operator[] BINARY_OPERATORS = BinaryOperation.Operator.values();
+
+    private static final UnaryOperation.Operator[] UNARY_OPERATORS = UnaryOperation.Operator.values();
+
+    /**
+     * Result of the compilation of a sub-tree: either a constant, not emitted as an instruction yet, or instructions
+     * pushing the values of the sub-tree on the stack.
+     */
+    private static final class Operand {
+
+        private static final Operand INSTRUCTIONS = new Operand(Double.NaN);
+
+        private final double value;
+
+        private Operand(double value) {
+            this.value = value;
+        }
+
+        private boolean isConstant() {
+            return this != INSTRUCTIONS;
+        }
+    }
+
+    /**
+     * Compiles a node calc tree, whose nodes are visited in post-order, to a sequence of instructions.
+     */
+    private static final class Compiler implements NodeCalcVisitor<Operand, Void> {
+
+        private final TIntArrayList opCodes = new TIntArrayList();
+
+        private final TIntArrayList intOperands = new TIntArrayList();
+
+        private final TDoubleArrayList doubleOperands = new TDoubleArrayList();
+
+        private int stackSize = 0;
+
+        private int maxStackSize = 0;
+
+        private Operand emit(int opCode, int intOperand, double doubleOperand, int stackSizeChange) {
+            opCodes.add(opCode);
+            intOperands.add(intOperand);
+            doubleOperands.add(doubleOperand);
+            stackSize += stackSizeChange;
+            maxStackSize = Math.max(maxStackSize, stackSize);
+            return Operand.INSTRUCTIONS;
+        }
+
+        private Operand emitPush(Operand operand) {
+            return operand.isConstant() ? emit(PUSH_CONSTANT, 0, operand.value, 1) : operand;
+        }
+
+        private static Operand fold(int opCode, int intOperand, double doubleOperand, Operand child) {
+            double[] value = {child.value};
+            execute(opCode, intOperand, doubleOperand, value, 0, 1);
+            return new Operand(value[0]);
+        }
+
+        @Override
+        public Operand visit(IntegerNodeCalc nodeCalc, Void arg) {
+            return new Operand(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operand visit(FloatNodeCalc nodeCalc, Void arg) {
+            return new Operand(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operand visit(DoubleNodeCalc nodeCalc, Void arg) {
+            return new Operand(nodeCalc.getValue());
+        }
+
+        @Override
+        public Operand visit(BigDecimalNodeCalc nodeCalc, Void arg) {
+            return new Operand(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operand visit(TimeNodeCalc nodeCalc, Void arg, Operand child) {
+            return emit(PUSH_TIME, 0, Double.NaN, 1);
+        }
+
+        @Override
+        public NodeCalc iterate(TimeNodeCalc nodeCalc, Void arg) {
+            return null;
+        }
+
+        @Override
+        public Operand visit(BinaryOperation nodeCalc, Void arg, Operand left, Operand right) {
+            int operator = nodeCalc.getOperator().ordinal();
+            if (left.isConstant() && right.isConstant()) {
+                return fold(BINARY_RIGHT_SCALAR, operator, right.value, left);
+            } else if (right.isConstant()) {
+                return emit(BINARY_RIGHT_SCALAR, operator, right.value, 0);
+            } else if (left.isConstant()) {
+                return emit(BINARY_LEFT_SCALAR, operator, left.value, 0);
+            }
+            return emit(BINARY, operator, Double.NaN, -1);
+        }
+
+        @Override
+        public Pair<NodeCalc, NodeCalc> iterate(BinaryOperation nodeCalc, Void arg) {
+            return Pair.of(nodeCalc.getLeft(), nodeCalc.getRight());
+        }
+
+        private Operand visitSingleChild(int opCode, int intOperand, double doubleOperand, Operand child) {
+            if (child.isConstant()) {
+                return fold(opCode, intOperand, doubleOperand, child);
+            }
+            return emit(opCode, intOperand, doubleOperand, 0);
+        }
+
+        @Override
+        public Operand visit(UnaryOperation nodeCalc, Void arg, Operand child) {
+            return visitSingleChild(UNARY, nodeCalc.getOperator().ordinal(), Double.NaN, child);
+        }
+
+        @Override
+        public NodeCalc iterate(UnaryOperation nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Operand visit(MinNodeCalc nodeCalc, Void arg, Operand child) {
+            return visitSingleChild(MIN, 0, nodeCalc.getMin(), child);
+        }
+
+        @Override
+        public NodeCalc iterate(MinNodeCalc nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Operand visit(MaxNodeCalc nodeCalc, Void arg, Operand child) {
+            return visitSingleChild(MAX, 0, nodeCalc.getMax(), child);
+        }
+
+        @Override
+        public NodeCalc iterate(MaxNodeCalc nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Operand visit(TimeSeriesNameNodeCalc nodeCalc, Void arg) {
+            throw new AssertionError("NodeCalc should have been resolved before");
+        }
+
+        @Override
+        public Operand visit(TimeSeriesNumNodeCalc nodeCalc, Void arg) {
+            return emit(PUSH_TIME_SERIES, nodeCalc.getTimeSeriesNum(), Double.NaN, 1);
+        }
+    }
+
+    private final int[] opCodes;
+
+    private final int[] intOperands;
+
+    private final double[] doubleOperands;
+
+    private final int maxStackSize;
+
+    private NodeCalcBatchEvaluator(Compiler compiler) {
+        opCodes = compiler.opCodes.toArray();
+        intOperands = compiler.intOperands.toArray();
+        doubleOperands = compiler.doubleOperands.toArray();
+        maxStackSize = compiler.maxStackSize;
+    }
+
+    /**
+     * Compile a node calc tree whose time series have been resolved to numbers with {@link NodeCalcResolver}.
+     */
+    public static NodeCalcBatchEvaluator compile(NodeCalc nodeCalc) {
+        Objects.requireNonNull(nodeCalc);
+        Compiler compiler = new Compiler();
+        compiler.emitPush(nodeCalc.accept(compiler, null, 0));
+        return new NodeCalcBatchEvaluator(compiler);
+    }
+
+    /**
+     * Evaluate the node calc sequentially, by chunks of {@link #DEFAULT_CHUNK_SIZE} points.
+     *
+     * @param values values of the time series, indexed by time series number, then by point
+     * @param index index of the time series
+     * @return the values of the node calc for each point of the index
+     */
+    public double[] evaluate(double[][] values, TimeSeriesIndex index) {
+        return evaluate(values, index, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    /**
+     * Evaluate the node calc by chunks of {@code chunkSize} points.
+     *
+     * @param values values of the time series, indexed by time series number, then by point
+     * @param index index of the time series
+     * @param chunkSize number of points evaluated together
+     * @param parallel if true, chunks are evaluated in parallel
+     * @return the values of the node calc for each point of the index
+     */
+    public double[] evaluate(double[][] values, TimeSeriesIndex index, int chunkSize, boolean parallel) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(index);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size has to be strictly positive");
+        }
+        int pointCount = index.getPointCount();
+        for (double[] timeSeriesValues : values) {
+            if (timeSeriesValues.length < pointCount) {
+                throw new TimeSeriesException("Time series has " + timeSeriesValues.length + " values but index has "
+                        + pointCount + " points");
+            }
+        }
+        double[] result = new double[pointCount];
+        int chunkCount = (pointCount + chunkSize - 1) / chunkSize;
+        if (parallel) {
+            IntStream.range(0, chunkCount).parallel().forEach(chunkNum -> {
+                double[][] stack = new double[maxStackSize][chunkSize];
+                evaluateChunk(values, index, chunkNum * chunkSize, Math.min(chunkSize, pointCount - chunkNum * chunkSize), stack, result);
+            });
+        } else {
+            double[][] stack = new double[maxStackSize][Math.min(chunkSize, pointCount)];
+            for (int chunkNum = 0; chunkNum < chunkCount; chunkNum++) {
+                evaluateChunk(values, index, chunkNum * chunkSize, Math.min(chunkSize, pointCount - chunkNum * chunkSize), stack, result);
+            }
+        }
+        return result;
+    }
+
+    private void evaluateChunk(double[][] values, TimeSeriesIndex index, int offset, int length, double[][] stack, double[] result) {
+        int top = -1;
+        for (int pc = 0; pc < opCodes.length; pc++) {
+            switch (opCodes[pc]) {
+                case PUSH_CONSTANT:
+                    Arrays.fill(stack[++top], 0, length, doubleOperands[pc]);
+                    break;
+                case PUSH_TIME_SERIES:
+                    System.arraycopy(values[intOperands[pc]], offset, stack[++top], 0, length);
+                    break;
+                case PUSH_TIME:
+                    double[] times = stack[++top];
+                    for (int i = 0; i < length; i++) {
+                        times[i] = index.getTimeAt(offset + i);
+                    }
+                    break;
+                case BINARY:
+                    apply(BINARY_OPERATORS[intOperands[pc]], stack[top - 1], stack[top], length);
+                    top--;
+                    break;
+                default:
+                    execute(opCodes[pc], intOperands[pc], doubleOperands[pc], stack[top], 0, length);
+                    break;
+            }
+        }
+        System.arraycopy(stack[0], 0, result, offset, length);
+    }
+
+    /**
+     * Execute an instruction modifying in place the values of a block.
+     */
+    private static void execute(int opCode, int intOperand, double doubleOperand, double[] values, int offset, int length) {
+        switch (opCode) {
+            case BINARY_RIGHT_SCALAR:
+                applyRightScalar(BINARY_OPERATORS[intOperand], values, offset, doubleOperand, length);
+                break;
+            case BINARY_LEFT_SCALAR:
+                applyLeftScalar(BINARY_OPERATORS[intOperand], doubleOperand, values, offset, length);
+                break;
+            case UNARY:
+                apply(UNARY_OPERATORS[intOperand], values, offset, length);
+                break;
+            case MIN:
+                for (int i = offset; i < offset + length; i++) {
+                    values[i] = Math.min(values[i], doubleOperand);
+                }
+                break;
+            case MAX:
+                for (int i = offset; i < offset + length; i++) {
+                    values[i] = Math.max(values[i], doubleOperand);
+                }
+                break;
+            default:
+                throw new AssertionError("Unexpected instruction: " + opCode);
+        }
+    }
+
+    private static void apply(UnaryOperation.Operator operator, double[] values, int offset, int length) {
+        switch (operator) {
+            case ABS:
+                for (int i = offset; i < offset + length; i++) {
+                    values[i] = Math.abs(values[i]);
+                }
+                break;
+            case NEGATIVE:
+                for (int i = offset; i < offset + length; i++) {
+                    values[i] = -values[i];
+                }
+                break;
+            case POSITIVE:
+                break;
+            default:
+                throw new AssertionError("Unexpected operator value: " + operator);
+        }
+    }
+
+    private static void apply(BinaryOperation.Operator operator, double[] left, double[] right, int length) {
+        switch (operator) {
+            case PLUS:
+                for (int i = 0; i < length; i++) {
+                    left[i] += right[i];
+                }
+                break;
+            case MINUS:
+                for (int i = 0; i < length; i++) {
+                    left[i] -= right[i];
+                }
+                break;
+            case MULTIPLY:
+                for (int i = 0; i < length; i++) {
+                    left[i] *= right[i];
+                }
+                break;
+            case DIVIDE:
+                for (int i = 0; i < length; i++) {
+                    left[i] /= right[i];
+                }
+                break;
+            default:
+                for (int i = 0; i < length; i++) {
+                    left[i] = compare(operator, left[i], right[i]);
+                }
+                break;
+        }
+    }
+
+    private static void applyRightScalar(BinaryOperation.Operator operator, double[] left, int leftOffset, double right, int length) {
+        int end = leftOffset + length;
+        switch (operator) {
+            case PLUS:
+                for (int i = leftOffset; i < end; i++) {
+                    left[i] += right;
+                }
+                break;
+            case MINUS:
+                for (int i = leftOffset; i < end; i++) {
+                    left[i] -= right;
+                }
+                break;
+            case MULTIPLY:
+                for (int i = leftOffset; i < end; i++) {
+                    left[i] *= right;
+                }
+                break;
+            case DIVIDE:
+                for (int i = leftOffset; i < end; i++) {
+                    left[i] /= right;
+                }
+                break;
+            default:
+                for (int i = leftOffset; i < end; i++) {
+                    left[i] = compare(operator, left[i], right);
+                }
+                break;
+        }
+    }
+
+    private static void applyLeftScalar(BinaryOperation.Operator operator, double left, double[] right, int rightOffset, int length) {
+        int end = rightOffset + length;
+        switch (operator) {
+            case PLUS:
+                for (int i = rightOffset; i < end; i++) {
+                    right[i] = left + right[i];
+                }
+                break;
+            case MINUS:
+                for (int i = rightOffset; i < end; i++) {
+                    right[i] = left - right[i];
+                }
+                break;
+            case MULTIPLY:
+                for (int i = rightOffset; i < end; i++) {
+                    right[i] = left * right[i];
+                }
+                break;
+            case DIVIDE:
+                for (int i = rightOffset; i < end; i++) {
+                    right[i] = left / right[i];
+                }
+                break;
+            default:
+                for (int i = rightOffset; i < end; i++) {
+                    right[i] = compare(operator, left, right[i]);
+                }
+                break;
+        }
+    }
+
+    private static double compare(BinaryOperation.Operator operator, double left, double right) {
+        switch (operator) {
+            case LESS_THAN: return left < right ? 1d : 0d;
+            case LESS_THAN_OR_EQUALS_TO: return left <= right ? 1d : 0d;
+            case GREATER_THAN: return left > right ? 1d : 0d;
+            case GREATER_THAN_OR_EQUALS_TO: return left >= right ? 1d : 0d;
+            case EQUALS: return left == right ? 1d : 0d;
+            case NOT_EQUALS: return left != right ? 1d : 0d;
+            default: throw new AssertionError("Unexpected operator value: " + operator);
+        }
+    }
+}
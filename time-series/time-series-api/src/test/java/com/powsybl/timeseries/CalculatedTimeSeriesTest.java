@@ -9,6 +9,7 @@ package com.powsybl.timeseries;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.timeseries.ast.*;
@@ -23,6 +24,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -220,6 +222,31 @@ public class CalculatedTimeSeriesTest {
         assertArrayEquals(new double[] {1d, 1d, 1d}, timeSeries.toArray(), 0d);
     }
 
+    @Test
+    public void timeTest() {
+        // a constant time series, compressed into a single step
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 2, 1);
+        DoubleTimeSeries foo = new StoredDoubleTimeSeries(new TimeSeriesMetadata("foo", TimeSeriesDataType.DOUBLE, index),
+                                                          new CompressedDoubleDataChunk(0, 3, new double[] {10d}, new int[] {3}));
+        CalculatedTimeSeries tsCalc = new CalculatedTimeSeries("ts_calc", BinaryOperation.plus(new TimeNodeCalc(new TimeSeriesNameNodeCalc("foo")),
+                                                                                               new TimeSeriesNameNodeCalc("foo")),
+                                                               new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(foo), -1));
+
+        // time is evaluated at each point of the index by all the read paths, and is not forward filled from the
+        // first point of the step
+        double[] expected = {10d, 11d, 12d};
+        assertArrayEquals(expected, tsCalc.toArray(), 0d);
+        List<DoublePoint> expectedPoints = Arrays.asList(new DoublePoint(0, 0L, 10d), new DoublePoint(1, 1L, 11d), new DoublePoint(2, 2L, 12d));
+        assertEquals(expectedPoints, Lists.newArrayList(tsCalc.iterator()));
+        assertEquals(expectedPoints, tsCalc.stream().collect(Collectors.toList()));
+
+        // without time, points are still only created when the values change
+        CalculatedTimeSeries tsCalc2 = new CalculatedTimeSeries("ts_calc2", BinaryOperation.plus(new TimeSeriesNameNodeCalc("foo"), new IntegerNodeCalc(1)),
+                                                                new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(foo), -1));
+        assertEquals(Collections.singletonList(new DoublePoint(0, 0L, 11d)), tsCalc2.stream().collect(Collectors.toList()));
+        assertArrayEquals(new double[] {11d, 11d, 11d}, tsCalc2.toArray(), 0d);
+    }
+
     @Test
     public void splitSmallChunkTest() {
         timeSeries.synchronize(new RegularTimeSeriesIndex(0, 99, 1));
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class NodeCalcBatchEvaluatorTest {
+
+    private static final int POINT_COUNT = 1000;
+
+    private TimeSeriesIndex index;
+
+    private double[][] values;
+
+    @Before
+    public void setUp() {
+        index = new RegularTimeSeriesIndex(0, (POINT_COUNT - 1) * 10L, 10);
+        values = new double[2][POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            values[0][i] = i % 7 - 3;
+            values[1][i] = i % 5 == 0 ? Double.NaN : (i % 11) / 2d;
+        }
+    }
+
+    private double[] evaluatePointByPoint(NodeCalc nodeCalc) {
+        double[] result = new double[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            int point = i;
+            result[i] = NodeCalcEvaluator.eval(nodeCalc, new DoubleMultiPoint() {
+                @Override
+                public int getIndex() {
+                    return point;
+                }
+
+                @Override
+                public long getTime() {
+                    return index.getTimeAt(point);
+                }
+
+                @Override
+                public double getValue(int timeSeriesNum) {
+                    return values[timeSeriesNum][point];
+                }
+            });
+        }
+        return result;
+    }
+
+    private void assertSameAsPointByPoint(NodeCalc nodeCalc) {
+        double[] expected = evaluatePointByPoint(nodeCalc);
+        NodeCalcBatchEvaluator evaluator = NodeCalcBatchEvaluator.compile(nodeCalc);
+        assertArrayEquals(expected, evaluator.evaluate(values, index), 0d);
+        for (int chunkSize : new int[] {1, 7, 64, POINT_COUNT, 2 * POINT_COUNT}) {
+            assertArrayEquals(expected, evaluator.evaluate(values, index, chunkSize, false), 0d);
+            assertArrayEquals(expected, evaluator.evaluate(values, index, chunkSize, true), 0d);
+        }
+    }
+
+    @Test
+    public void testOperators() {
+        NodeCalc ts0 = new TimeSeriesNumNodeCalc(0);
+        NodeCalc ts1 = new TimeSeriesNumNodeCalc(1);
+        NodeCalc two = new IntegerNodeCalc(2);
+        List<NodeCalc> operands = Arrays.asList(ts0, ts1, two);
+        for (NodeCalc left : operands) {
+            for (NodeCalc right : operands) {
+                assertSameAsPointByPoint(BinaryOperation.plus(left, right));
+                assertSameAsPointByPoint(BinaryOperation.minus(left, right));
+                assertSameAsPointByPoint(BinaryOperation.multiply(left, right));
+                assertSameAsPointByPoint(BinaryOperation.div(left, right));
+                assertSameAsPointByPoint(BinaryOperation.lessThan(left, right));
+                assertSameAsPointByPoint(BinaryOperation.lessThanOrEqualsTo(left, right));
+                assertSameAsPointByPoint(BinaryOperation.greaterThan(left, right));
+                assertSameAsPointByPoint(BinaryOperation.greaterThanOrEqualsTo(left, right));
+                assertSameAsPointByPoint(BinaryOperation.equals(left, right));
+                assertSameAsPointByPoint(BinaryOperation.notEquals(left, right));
+            }
+            assertSameAsPointByPoint(UnaryOperation.abs(left));
+            assertSameAsPointByPoint(UnaryOperation.negative(left));
+            assertSameAsPointByPoint(UnaryOperation.positive(left));
+            assertSameAsPointByPoint(new MinNodeCalc(left, 1));
+            assertSameAsPointByPoint(new MaxNodeCalc(left, 1));
+        }
+    }
+
+    @Test
+    public void testTree() {
+        NodeCalc ts0 = new TimeSeriesNumNodeCalc(0);
+        NodeCalc ts1 = new TimeSeriesNumNodeCalc(1);
+        NodeCalc nodeCalc = BinaryOperation.div(
+                BinaryOperation.plus(new MaxNodeCalc(BinaryOperation.multiply(ts0, new FloatNodeCalc(1.5f)), -1),
+                                     UnaryOperation.abs(BinaryOperation.minus(ts1, ts0))),
+                BinaryOperation.plus(BinaryOperation.greaterThan(ts1, new DoubleNodeCalc(2)),
+                                     BinaryOperation.multiply(new IntegerNodeCalc(3), new IntegerNodeCalc(4))));
+        assertSameAsPointByPoint(nodeCalc);
+        assertSameAsPointByPoint(BinaryOperation.plus(new TimeNodeCalc(ts0), ts1));
+    }
+
+    @Test
+    public void testConstant() {
+        NodeCalc nodeCalc = new MinNodeCalc(BinaryOperation.plus(new IntegerNodeCalc(1), UnaryOperation.negative(new IntegerNodeCalc(5))), 0);
+        double[] result = NodeCalcBatchEvaluator.compile(nodeCalc).evaluate(new double[0][], index);
+        assertEquals(POINT_COUNT, result.length);
+        assertTrue(Arrays.stream(result).allMatch(value -> value == -4));
+    }
+
+    @Test
+    public void testDeepTree() {
+        // deep enough to overflow the stack with a recursive evaluation
+        NodeCalc nodeCalc = new TimeSeriesNumNodeCalc(0);
+        for (int i = 0; i < 100000; i++) {
+            nodeCalc = BinaryOperation.plus(nodeCalc, i % 2 == 0 ? new TimeSeriesNumNodeCalc(0) : new IntegerNodeCalc(1));
+        }
+        double[] result = NodeCalcBatchEvaluator.compile(nodeCalc).evaluate(values, index);
+        assertEquals(values[0][0] * 50001 + 50000, result[0], 0d);
+        assertEquals(values[0][1] * 50001 + 50000, result[1], 0d);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        NodeCalcBatchEvaluator evaluator = NodeCalcBatchEvaluator.compile(new TimeSeriesNumNodeCalc(0));
+        try {
+            evaluator.evaluate(values, index, 0, false);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            evaluator.evaluate(new double[][] {new double[10]}, index);
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+    }
+}
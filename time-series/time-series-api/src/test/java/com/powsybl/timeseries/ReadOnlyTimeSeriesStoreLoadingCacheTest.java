@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class ReadOnlyTimeSeriesStoreLoadingCacheTest {
+
+    private DoubleTimeSeries ts1;
+
+    private DoubleTimeSeries ts2;
+
+    private DoubleTimeSeries ts3;
+
+    private ReadOnlyTimeSeriesStore store;
+
+    @Before
+    public void setUp() {
+        TimeSeriesIndex index = RegularTimeSeriesIndex.create(Instant.parse("2015-01-01T00:00:00Z"),
+                                                              Instant.parse("2015-01-01T00:45:00Z"),
+                                                              Duration.ofMinutes(15));
+        // 32 bytes each
+        ts1 = TimeSeries.createDouble("ts1", index, 1d, 2d, 3d, 4d);
+        ts2 = TimeSeries.createDouble("ts2", index, 5d, 6d, 7d, 8d);
+        ts3 = TimeSeries.createDouble("ts3", index, 9d, 10d, 11d, 12d);
+        store = Mockito.spy(new ReadOnlyTimeSeriesStoreCache(ts1, ts2, ts3));
+    }
+
+    @Test
+    public void testBatchLoading() {
+        ReadOnlyTimeSeriesStoreLoadingCache cache = ReadOnlyTimeSeriesStoreLoadingCache.create(store, 1000);
+        assertEquals(Arrays.asList(ts1, ts2), cache.getDoubleTimeSeries(Sets.newLinkedHashSet(Arrays.asList("ts1", "ts2")), 1));
+        verify(store, times(1)).getDoubleTimeSeries(anySetOf(String.class), anyInt());
+        assertEquals(2, cache.getStats().missCount());
+        assertEquals(64, cache.getEstimatedSize());
+
+        // only ts3 and the missing ts4 are loaded, in one request
+        assertEquals(Arrays.asList(ts3, ts1), cache.getDoubleTimeSeries(Sets.newLinkedHashSet(Arrays.asList("ts3", "ts4", "ts1")), 1));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<String>> names = ArgumentCaptor.forClass((Class) Set.class);
+        verify(store, times(2)).getDoubleTimeSeries(names.capture(), anyInt());
+        assertEquals(Sets.newHashSet("ts3", "ts4"), names.getValue());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(4, cache.getStats().missCount());
+
+        // missing time series are cached
+        assertSame(ts2, cache.getDoubleTimeSeries("ts2", 1).orElseThrow(AssertionError::new));
+        assertFalse(cache.getDoubleTimeSeries("ts4", 1).isPresent());
+        verify(store, times(2)).getDoubleTimeSeries(anySetOf(String.class), anyInt());
+        assertEquals(3, cache.getStats().hitCount());
+
+        // another version is another entry
+        assertSame(ts2, cache.getDoubleTimeSeries("ts2", 2).orElseThrow(AssertionError::new));
+        verify(store, times(3)).getDoubleTimeSeries(anySetOf(String.class), anyInt());
+
+        assertTrue(cache.getStringTimeSeries(Collections.singleton("ts1"), 1).isEmpty());
+        verify(store, times(1)).getStringTimeSeries(anySetOf(String.class), anyInt());
+    }
+
+    @Test
+    public void testEviction() {
+        // room for 2 time series
+        ReadOnlyTimeSeriesStoreLoadingCache cache = ReadOnlyTimeSeriesStoreLoadingCache.create(store, 70);
+        cache.getDoubleTimeSeries("ts1", 1);
+        cache.getDoubleTimeSeries("ts2", 1);
+        cache.getDoubleTimeSeries("ts1", 1);
+        cache.getDoubleTimeSeries("ts3", 1);
+        assertEquals(1, cache.getStats().evictionCount());
+        assertEquals(64, cache.getEstimatedSize());
+
+        // ts2, the least recently used, has been evicted
+        cache.getDoubleTimeSeries("ts1", 1);
+        cache.getDoubleTimeSeries("ts3", 1);
+        assertEquals(3, cache.getStats().missCount());
+        cache.getDoubleTimeSeries("ts2", 1);
+        assertEquals(4, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testLargerThanBudget() {
+        // ts1 is loaded but immediately evicted
+        ReadOnlyTimeSeriesStoreLoadingCache cache = ReadOnlyTimeSeriesStoreLoadingCache.create(store, 20);
+        assertSame(ts1, cache.getDoubleTimeSeries("ts1", 1).orElseThrow(AssertionError::new));
+        assertEquals(0, cache.getEstimatedSize());
+        cache.getDoubleTimeSeries("ts1", 1);
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testInvalidation() {
+        TimeSeriesStoreListener[] listener = new TimeSeriesStoreListener[1];
+        doAnswer(invocation -> {
+            listener[0] = (TimeSeriesStoreListener) invocation.getArguments()[0];
+            return null;
+        }).when(store).addListener(any(TimeSeriesStoreListener.class));
+        ReadOnlyTimeSeriesStoreLoadingCache cache = ReadOnlyTimeSeriesStoreLoadingCache.create(store, 1000);
+        cache.getDoubleTimeSeries("ts1", 1);
+        assertEquals(32, cache.getEstimatedSize());
+        listener[0].timeSeriesUpdated();
+        assertEquals(0, cache.getEstimatedSize());
+        cache.getDoubleTimeSeries("ts1", 1);
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testDelegation() {
+        ReadOnlyTimeSeriesStoreLoadingCache cache = ReadOnlyTimeSeriesStoreLoadingCache.create(store, 1000);
+        assertEquals(Sets.newHashSet("ts1", "ts2", "ts3"), cache.getTimeSeriesNames(null));
+        assertTrue(cache.timeSeriesExists("ts1"));
+        assertEquals(ts1.getMetadata(), cache.getTimeSeriesMetadata("ts1").orElseThrow(AssertionError::new));
+        assertEquals(Collections.singletonList(ts2.getMetadata()), cache.getTimeSeriesMetadata(Collections.singleton("ts2")));
+        assertTrue(cache.getTimeSeriesDataVersions().isEmpty());
+        assertTrue(cache.getTimeSeriesDataVersions("ts1").isEmpty());
+        assertEquals(3, cache.getDoubleTimeSeries(1).size());
+        assertEquals(0, cache.getStats().requestCount());
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.powsybl.timeseries.ast.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class TimeSeriesBinaryTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private List<TimeSeries> timeSeriesList;
+
+    @Before
+    public void setUp() {
+        TimeSeriesIndex regularIndex = RegularTimeSeriesIndex.create(Instant.parse("2015-01-01T00:00:00Z"),
+                                                                     Instant.parse("2015-01-01T00:45:00Z"),
+                                                                     Duration.ofMinutes(15));
+        TimeSeriesIndex irregularIndex = IrregularTimeSeriesIndex.create(Instant.parse("2015-01-01T00:00:00Z"),
+                                                                         Instant.parse("2015-01-01T00:15:00Z"),
+                                                                         Instant.parse("2015-01-01T01:00:00Z"));
+
+        // a gap between chunks at point 2
+        StoredDoubleTimeSeries ts1 = new StoredDoubleTimeSeries(
+                new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, ImmutableMap.of("var", "p", "unit", "MW"), regularIndex),
+                new UncompressedDoubleDataChunk(0, new double[] {1d, Double.NaN}),
+                new CompressedDoubleDataChunk(3, 1, new double[] {4.5d}, new int[] {1}));
+        StoredDoubleTimeSeries ts2 = TimeSeries.createDouble("ts2", irregularIndex, 1d, 1d, 3d);
+        StringTimeSeries ts3 = new StringTimeSeries(
+                new TimeSeriesMetadata("ts3", TimeSeriesDataType.STRING, regularIndex),
+                new UncompressedStringDataChunk(0, new String[] {"a", null}),
+                new CompressedStringDataChunk(2, 2, new String[] {"é", "a"}, new int[] {1, 1}));
+        CalculatedTimeSeries ts4 = new CalculatedTimeSeries("ts4", BinaryOperation.plus(new TimeSeriesNameNodeCalc("ts1"), new IntegerNodeCalc(1)));
+        StoredDoubleTimeSeries ts5 = TimeSeries.createDouble("ts5", InfiniteTimeSeriesIndex.INSTANCE);
+        timeSeriesList = Arrays.asList(ts1, ts2, ts3, ts4, ts5);
+    }
+
+    private static ByteBuffer toBinary(List<TimeSeries> timeSeriesList) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        TimeSeries.writeBinary(Channels.newChannel(os), timeSeriesList);
+        return ByteBuffer.wrap(os.toByteArray());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<TimeSeries> expected = TimeSeries.parseJson(TimeSeries.toJson(timeSeriesList));
+        assertEquals(expected, TimeSeries.parseBinary(toBinary(timeSeriesList)));
+
+        Path file = folder.getRoot().toPath().resolve("ts.bin");
+        TimeSeries.writeBinary(file, timeSeriesList);
+        assertEquals(expected, TimeSeries.parseBinary(file));
+    }
+
+    @Test
+    public void testFailedWriteKeepsFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("ts.bin");
+        TimeSeries.writeBinary(file, timeSeriesList);
+        List<TimeSeries> expected = TimeSeries.parseBinary(file);
+
+        List<TimeSeries> unsupported = Arrays.asList(timeSeriesList.get(0), Mockito.mock(TimeSeries.class));
+        try {
+            TimeSeries.writeBinary(file, unsupported);
+            fail();
+        } catch (TimeSeriesException e) {
+            assertTrue(e.getMessage().startsWith("Unsupported time series type"));
+        }
+        assertEquals(expected, TimeSeries.parseBinary(file));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testLongString() {
+        // longer than the write buffer
+        String value = Strings.repeat("abc", 100000);
+        StringTimeSeries ts = TimeSeries.createString("ts", new RegularTimeSeriesIndex(0, 1, 1), value, "d");
+        assertEquals(Collections.singletonList(ts), TimeSeries.parseBinary(toBinary(Collections.<TimeSeries>singletonList(ts))));
+    }
+
+    @Test
+    public void testReader() {
+        TimeSeriesBinaryReader reader = new TimeSeriesBinaryReader(toBinary(timeSeriesList));
+        assertEquals(Sets.newHashSet("ts1", "ts2", "ts3", "ts4", "ts5"), reader.getTimeSeriesNames());
+        assertEquals(timeSeriesList.get(2), reader.readTimeSeries("ts3"));
+        assertEquals(ImmutableMap.of("var", "p", "unit", "MW"), reader.getTimeSeriesMetadata("ts1").getTags());
+
+        BigDoubleBuffer buffer = new BigDoubleBuffer(ByteBuffer::allocate, 8);
+        for (int i = 0; i < 8; i++) {
+            buffer.put(i, -1);
+        }
+        reader.fillBuffer("ts1", buffer, 0);
+        reader.fillBuffer("ts2", buffer, 4);
+        assertEquals(1d, buffer.get(0), 0d);
+        assertTrue(Double.isNaN(buffer.get(1)));
+        assertEquals(-1d, buffer.get(2), 0d);
+        assertEquals(4.5d, buffer.get(3), 0d);
+        assertEquals(1d, buffer.get(4), 0d);
+        assertEquals(1d, buffer.get(5), 0d);
+        assertEquals(3d, buffer.get(6), 0d);
+        assertEquals(-1d, buffer.get(7), 0d);
+
+        SortedMap<Integer, DoubleBuffer> values = reader.getUncompressedValues("ts1");
+        assertEquals(1, values.size());
+        assertEquals(2, values.get(0).remaining());
+        assertEquals(1d, values.get(0).get(0), 0d);
+
+        try {
+            reader.fillBuffer("ts3", buffer, 0);
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+        try {
+            reader.getTimeSeriesMetadata("ts4");
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+        try {
+            reader.readTimeSeries("ts6");
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+    }
+
+    @Test
+    public void testInvalidBuffer() {
+        try {
+            new TimeSeriesBinaryReader(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+            fail();
+        } catch (TimeSeriesException e) {
+            assertEquals("Not a binary time series buffer", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTruncatedBuffer() {
+        ByteBuffer buffer = toBinary(Collections.singletonList(timeSeriesList.get(0)));
+        buffer.limit(buffer.limit() - Double.BYTES);
+        try {
+            new TimeSeriesBinaryReader(buffer);
+            fail();
+        } catch (TimeSeriesException e) {
+            assertEquals("Truncated binary time series buffer", e.getMessage());
+        }
+    }
+}
@@ -7,10 +7,14 @@
 package com.powsybl.timeseries;
 
 import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,14 +23,16 @@ import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class TimeSeriesTableTest {
 
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void test() {
         TimeSeriesIndex index = new TestTimeSeriesIndex(0, 4);
@@ -166,4 +172,62 @@ public class TimeSeriesTableTest {
             assertEquals("Line " + i, expected.get(i), actual.get(i));
         }
     }
+
+    @Test
+    public void testMemoryMapped() throws Exception {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 3, 1);
+        TimeSeriesMetadata metadata1 = new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, index);
+        TimeSeriesMetadata metadata2 = new TimeSeriesMetadata("ts2", TimeSeriesDataType.DOUBLE, index);
+        TimeSeriesMetadata metadata3 = new TimeSeriesMetadata("ts3", TimeSeriesDataType.STRING, index);
+        Path directory = folder.getRoot().toPath().resolve("table");
+
+        String csv;
+        try (TimeSeriesTable table = TimeSeriesTable.createMemoryMapped(1, 2, index, directory)) {
+            for (int version = 1; version <= 2; version++) {
+                table.load(version, ImmutableList.of(
+                        new StoredDoubleTimeSeries(metadata1, new UncompressedDoubleDataChunk(0, new double[] {1, 2, 3, 4 * version})),
+                        new StoredDoubleTimeSeries(metadata2, new UncompressedDoubleDataChunk(0, new double[] {5, 6, 7, 8})),
+                        new StringTimeSeries(metadata3, new UncompressedStringDataChunk(1, new String[] {"a", "b", "c" + version}))));
+            }
+            assertEquals(2.5, table.getMean(1, 0), 0);
+            csv = table.toCsvString(';', ZoneId.of("UTC"));
+        }
+        assertTrue(Files.exists(directory.resolve("table.json")));
+
+        try {
+            TimeSeriesTable.createMemoryMapped(1, 2, index, directory);
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+
+        // reopen without loading the time series again
+        try (TimeSeriesTable table = TimeSeriesTable.openMemoryMapped(directory)) {
+            assertEquals(index, table.getTableIndex());
+            assertEquals(ImmutableList.of("ts1", "ts2", "ts3"), table.getTimeSeriesNames());
+            assertEquals(1, table.getDoubleTimeSeriesIndex("ts2"));
+            assertEquals(8, table.getDoubleValue(2, 0, 3), 0);
+            assertEquals("c2", table.getStringValue(2, 2, 3));
+            assertNull(table.getStringValue(1, 2, 0));
+            assertEquals(2.5, table.getMean(1, 0), 0);
+            assertEquals(3.5, table.getMean(2, 0), 0);
+            assertEquals(csv, table.toCsvString(';', ZoneId.of("UTC")));
+
+            // data can still be updated
+            table.load(1, ImmutableList.of(new StoredDoubleTimeSeries(metadata2, new UncompressedDoubleDataChunk(0, new double[] {1, 1, 1, 1}))));
+            assertEquals(1, table.getMean(1, 1), 0);
+            assertEquals(0, table.getStdDev(1, 1), 0);
+        }
+
+        // statistics have been persisted
+        try (TimeSeriesTable table = TimeSeriesTable.openMemoryMapped(directory)) {
+            assertEquals(1, table.getMean(1, 1), 0);
+            assertEquals(1, table.getDoubleValue(1, 1, 0), 0);
+        }
+
+        try {
+            TimeSeriesTable.openMemoryMapped(folder.newFolder().toPath());
+            fail();
+        } catch (TimeSeriesException ignored) {
+        }
+    }
 }
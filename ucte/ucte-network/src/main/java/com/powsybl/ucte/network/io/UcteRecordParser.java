@@ -6,43 +6,166 @@
  */
 package com.powsybl.ucte.network.io;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.EnumSet;
-import java.util.Set;
+import java.io.Reader;
+import java.util.*;
 
 /**
+ * Fixed width record parser. Lines are read in a reusable character buffer, and fields are parsed directly from
+ * the buffer: no string is created for numeric fields, and repeated strings like node codes geographical spots are
+ * shared.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 class UcteRecordParser {
 
-    private final BufferedReader reader;
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int MAX_FAST_FLOAT_DIGITS = 7;
+
+    /* powers of ten exactly representable as floats */
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private static final UcteRecordType[] RECORD_TYPES = UcteRecordType.values();
+
+    private static final int INTERNED_STRINGS_INITIAL_CAPACITY = 1024;
+
+    private final Reader reader;
+
+    private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+
+    /* number of valid characters in the buffer */
+    private int bufferLength = 0;
+
+    /* position of the next line in the buffer */
+    private int position = 0;
+
+    private boolean eof = false;
+
+    /* current line, -1 at end of file */
+    private int lineStart = -1;
+
+    private int lineLength = 0;
 
     private String line;
 
     private final Set<UcteRecordType> parsedRecordTypes = EnumSet.noneOf(UcteRecordType.class);
 
-    UcteRecordParser(BufferedReader reader) throws IOException {
-        this.reader = reader;
+    private final Map<Class<?>, Object[]> enumConstants = new IdentityHashMap<>();
+
+    private String[] internedStrings = new String[INTERNED_STRINGS_INITIAL_CAPACITY];
+
+    private int internedStringCount = 0;
+
+    private final int[] fieldRange = new int[2];
+
+    UcteRecordParser(Reader reader) throws IOException {
+        this.reader = Objects.requireNonNull(reader);
         nextLine();
     }
 
     String getLine() {
+        if (line == null && lineStart != -1) {
+            line = new String(buffer, lineStart, lineLength);
+        }
         return line;
     }
 
+    private boolean fillBuffer() throws IOException {
+        if (eof) {
+            return false;
+        }
+        // move the beginning of the current line to the start of the buffer, and grow it if the line is too long
+        int remaining = bufferLength - position;
+        if (position == 0 && bufferLength == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        } else {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+            position = 0;
+            bufferLength = remaining;
+        }
+        int n = reader.read(buffer, bufferLength, buffer.length - bufferLength);
+        if (n == -1) {
+            eof = true;
+            return false;
+        }
+        bufferLength += n;
+        return true;
+    }
+
+    /**
+     * Read a line, with the same line terminators as {@link java.io.BufferedReader#readLine()}.
+     */
+    private boolean readLine() throws IOException {
+        int i = position;
+        while (true) {
+            while (i < bufferLength) {
+                char c = buffer[i];
+                if (c == '\n' || c == '\r') {
+                    if (c == '\r' && i + 1 == bufferLength) {
+                        // a \n might follow
+                        int offset = i - position;
+                        fillBuffer();
+                        i = position + offset;
+                    }
+                    lineStart = position;
+                    lineLength = i - position;
+                    position = i + 1 < bufferLength && c == '\r' && buffer[i + 1] == '\n' ? i + 2 : i + 1;
+                    return true;
+                }
+                i++;
+            }
+            int offset = i - position;
+            if (!fillBuffer()) {
+                if (bufferLength > position) {
+                    // last line without terminator
+                    lineStart = position;
+                    lineLength = bufferLength - position;
+                    position = bufferLength;
+                    return true;
+                }
+                lineStart = -1;
+                lineLength = 0;
+                return false;
+            }
+            i = position + offset;
+        }
+    }
+
+    private boolean isBlankLine() {
+        for (int i = lineStart; i < lineStart + lineLength; i++) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     boolean nextLine() throws IOException {
+        line = null;
+        boolean found;
         do {
-            line = reader.readLine();
-        } while (line != null && line.trim().isEmpty()); // skip empty lines
-        return line != null;
+            found = readLine();
+        } while (found && isBlankLine()); // skip empty lines
+        return found;
+    }
+
+    private boolean lineStartsWith(String prefix, int index) {
+        if (lineLength < index + prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer[lineStart + index + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     UcteRecordType scanRecordType() {
-        if (line != null && line.startsWith("##") && line.length() >= 3) {
-            for (UcteRecordType recordType : UcteRecordType.values()) {
-                if (line.startsWith("##" + recordType)) {
+        if (lineStart != -1 && lineLength >= 3 && lineStartsWith("##", 0)) {
+            for (UcteRecordType recordType : RECORD_TYPES) {
+                if (lineStartsWith(recordType.name(), 2)) {
                     parsedRecordTypes.add(recordType);
                     return recordType;
                 }
@@ -60,40 +183,210 @@ class UcteRecordParser {
     }
 
     String parseString(int beginIndex, int endIndex, boolean trim) {
-        if (line == null) {
+        if (lineStart == -1) {
             return null;
         }
         // Sometimes, the line is already trimmed but contains data
-        int lastIndex = Math.min(endIndex, line.length());
+        int lastIndex = Math.min(endIndex, lineLength);
+        if (lastIndex < beginIndex) {
+            return null;
+        }
+        int begin = lineStart + beginIndex;
+        int end = lineStart + lastIndex;
+        if (trim) {
+            while (begin < end && buffer[begin] <= ' ') {
+                begin++;
+            }
+            while (end > begin && buffer[end - 1] <= ' ') {
+                end--;
+            }
+        }
+        return new String(buffer, begin, end - begin);
+    }
+
+    /**
+     * Same as {@link #parseString(int, int, boolean)} without trimming, but a single instance of a string is created
+     * for all the records of the file.
+     */
+    String parseInternedString(int beginIndex, int endIndex) {
+        if (lineStart == -1) {
+            return null;
+        }
+        int lastIndex = Math.min(endIndex, lineLength);
         if (lastIndex < beginIndex) {
             return null;
         }
-        String untrimmed = line.substring(beginIndex, lastIndex);
-        return trim ? untrimmed.trim() : untrimmed;
+        int begin = lineStart + beginIndex;
+        int length = lastIndex - beginIndex;
+        int hash = 0;
+        for (int i = begin; i < begin + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        // open addressing, with linear probing
+        int mask = internedStrings.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String str;
+        while ((str = internedStrings[slot]) != null) {
+            if (str.hashCode() == hash && regionEquals(str, begin, length)) {
+                return str;
+            }
+            slot = (slot + 1) & mask;
+        }
+        str = new String(buffer, begin, length);
+        internedStrings[slot] = str;
+        if (++internedStringCount * 2 > internedStrings.length) {
+            rehashInternedStrings();
+        }
+        return str;
+    }
+
+    private boolean regionEquals(String str, int begin, int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != buffer[begin + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehashInternedStrings() {
+        String[] oldInternedStrings = internedStrings;
+        internedStrings = new String[oldInternedStrings.length * 2];
+        int mask = internedStrings.length - 1;
+        for (String str : oldInternedStrings) {
+            if (str != null) {
+                int hash = str.hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (internedStrings[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                internedStrings[slot] = str;
+            }
+        }
     }
 
     Character parseChar(int index) {
-        return line == null || index >= line.length() ? null : line.charAt(index);
+        return lineStart == -1 || index >= lineLength ? null : buffer[lineStart + index];
+    }
+
+    /**
+     * Trim a field, and store its range as a {begin, end} pair of buffer positions.
+     *
+     * @return false if the field is missing or blank
+     */
+    private boolean trimField(int beginIndex, int endIndex, int[] range) {
+        if (lineStart == -1) {
+            return false;
+        }
+        int lastIndex = Math.min(endIndex, lineLength);
+        if (lastIndex < beginIndex) {
+            return false;
+        }
+        int begin = lineStart + beginIndex;
+        int end = lineStart + lastIndex;
+        while (begin < end && buffer[begin] <= ' ') {
+            begin++;
+        }
+        while (end > begin && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        range[0] = begin;
+        range[1] = end;
+        return begin < end;
     }
 
     Integer parseInt(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? null : Integer.valueOf(str);
+        if (!trimField(beginIndex, endIndex, fieldRange)) {
+            return null;
+        }
+        int begin = fieldRange[0];
+        int end = fieldRange[1];
+        int i = begin;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (i == end || end - i > 9) {
+            // let the JDK parse it, to handle errors and overflows
+            return Integer.valueOf(new String(buffer, begin, end - begin));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c < '0' || c > '9') {
+                return Integer.valueOf(new String(buffer, begin, end - begin));
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
     }
 
     Integer parseInt(int index) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Integer.valueOf(Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        return c >= '0' && c <= '9' ? Integer.valueOf(c - '0') : Integer.valueOf(Character.toString(c));
     }
 
     float parseFloat(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? Float.NaN : Float.valueOf(str);
+        if (!trimField(beginIndex, endIndex, fieldRange)) {
+            return Float.NaN;
+        }
+        int begin = fieldRange[0];
+        int end = fieldRange[1];
+        int i = begin;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        // fast path for plain decimal numbers, when both the digits and the power of ten are exactly
+        // representable as floats, the division is correctly rounded, as Float.parseFloat
+        int mantissa = 0;
+        int digitCount = 0;
+        int fractionDigitCount = 0;
+        boolean digit = false;
+        boolean dot = false;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                digit = true;
+                if (mantissa != 0 || c != '0') {
+                    digitCount++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (dot) {
+                    fractionDigitCount++;
+                }
+                if (digitCount > MAX_FAST_FLOAT_DIGITS || fractionDigitCount >= FLOAT_POWERS_OF_TEN.length) {
+                    break;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end || !digit) {
+            // exponent, too many digits, invalid number...
+            return Float.parseFloat(new String(buffer, begin, end - begin));
+        }
+        float value = (float) mantissa / FLOAT_POWERS_OF_TEN[fractionDigitCount];
+        return negative ? -value : value;
+    }
+
+    private Object[] getEnumConstants(Class<?> clazz) {
+        return enumConstants.computeIfAbsent(clazz, Class::getEnumConstants);
     }
 
     <E extends Enum<E>> E parseEnumOrdinal(int index, Class<E> clazz) {
         Integer order = parseInt(index);
-        return order == null ? null : clazz.getEnumConstants()[order];
+        return order == null ? null : clazz.cast(getEnumConstants(clazz)[order]);
     }
 
     <E extends Enum<E>> E parseEnumValue(int beginIndex, int endIndex, Class<E> clazz) {
@@ -103,6 +396,16 @@ class UcteRecordParser {
 
     <E extends Enum<E>> E parseEnumValue(int index, Class<E> clazz) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Enum.valueOf(clazz, Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        for (Object constant : getEnumConstants(clazz)) {
+            String name = ((Enum<?>) constant).name();
+            if (name.length() == 1 && name.charAt(0) == c) {
+                return clazz.cast(constant);
+            }
+        }
+        // not found, let the JDK throw the error
+        return Enum.valueOf(clazz, Character.toString(c));
     }
 }
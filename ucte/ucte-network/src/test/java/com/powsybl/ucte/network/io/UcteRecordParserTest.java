@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2020, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import com.google.common.base.Strings;
+import com.powsybl.ucte.network.UcteNodeStatus;
+import com.powsybl.ucte.network.UctePowerPlantType;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent <agent at local>
+ */
+public class UcteRecordParserTest {
+
+    private static UcteRecordParser parser(String str) throws IOException {
+        return new UcteRecordParser(new StringReader(str));
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        String longLine = Strings.repeat("x", 20000);
+        UcteRecordParser parser = parser("##C 2007.05.01\r\n  \n\nline2\rline3\r\r\n" + longLine + "\nlast");
+        assertEquals(UcteRecordType.C, parser.scanRecordType());
+        assertEquals("2007.05.01", parser.parseString(4, 14));
+        assertTrue(parser.nextLine());
+        assertEquals("line2", parser.getLine());
+        assertNull(parser.scanRecordType());
+        assertTrue(parser.nextLine());
+        assertEquals("line3", parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals(longLine, parser.getLine());
+        assertTrue(parser.nextLine());
+        assertEquals("last", parser.getLine());
+        assertFalse(parser.nextLine());
+        assertNull(parser.getLine());
+        assertNull(parser.parseString(0, 1));
+        assertNull(parser.parseChar(0));
+    }
+
+    @Test
+    public void testFields() throws IOException {
+        UcteRecordParser parser = parser("##TT 12  -5 1.5  abc H 1\n  1   abc\n");
+        assertEquals(UcteRecordType.TT, parser.scanRecordType());
+        assertEquals(12, (int) parser.parseInt(4, 8));
+        assertEquals(-5, (int) parser.parseInt(8, 11));
+        assertEquals(1.5f, parser.parseFloat(11, 15), 0f);
+        assertNull(parser.parseInt(15, 17));
+        assertTrue(Float.isNaN(parser.parseFloat(15, 17)));
+        assertEquals("abc", parser.parseString(16, 20));
+        assertEquals(" abc", parser.parseString(16, 20, false));
+        assertEquals(UctePowerPlantType.H, parser.parseEnumValue(21, UctePowerPlantType.class));
+        assertEquals(UcteNodeStatus.values()[1], parser.parseEnumOrdinal(23, UcteNodeStatus.class));
+        assertNull(parser.parseInt(100, 110));
+        assertNull(parser.parseEnumValue(22, UctePowerPlantType.class));
+        String abc = parser.parseInternedString(17, 20);
+        assertEquals("abc", abc);
+
+        assertTrue(parser.nextLine());
+        assertEquals("1", parser.parseString(0, 6));
+        assertEquals(1, (int) parser.parseInt(0, 6));
+        assertEquals(1f, parser.parseFloat(0, 6), 0f);
+        // the same string is shared by all the records
+        assertSame(abc, parser.parseInternedString(6, 9));
+        assertFalse(parser.nextLine());
+    }
+
+    @Test
+    public void testInternedStrings() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("N").append(i).append('\n');
+        }
+        builder.append("N42\n");
+        UcteRecordParser parser = parser(builder.toString());
+        String n42 = null;
+        for (int i = 0; i < 5000; i++) {
+            String str = parser.parseInternedString(0, 8);
+            assertEquals("N" + i, str);
+            if (i == 42) {
+                n42 = str;
+            }
+            parser.nextLine();
+        }
+        assertSame(n42, parser.parseInternedString(0, 8));
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            String str;
+            switch (i % 4) {
+                case 0:
+                    str = String.format(Locale.US, "%.4f", (random.nextDouble() - 0.5) * 1000);
+                    break;
+                case 1:
+                    str = String.format(Locale.US, "%.2f", (random.nextDouble() - 0.5) * 1e5);
+                    break;
+                case 2:
+                    str = Float.toString((float) random.nextGaussian());
+                    break;
+                default:
+                    str = Integer.toString(random.nextInt(2000000) - 1000000) + ".";
+                    break;
+            }
+            UcteRecordParser parser = parser(" " + str + " ");
+            assertEquals(str, Float.floatToIntBits(Float.parseFloat(str)), Float.floatToIntBits(parser.parseFloat(0, str.length() + 2)));
+        }
+        assertEquals(Float.floatToIntBits(-0f), Float.floatToIntBits(parser("-0.0").parseFloat(0, 4)));
+        assertEquals(1000f, parser("1e3").parseFloat(0, 3), 0f);
+        assertEquals(0.5f, parser("+.5").parseFloat(0, 3), 0f);
+        assertEquals(123456789, (int) parser("123456789").parseInt(0, 9));
+        for (String invalid : new String[] {"-", ".", "1.2.3", "1a"}) {
+            try {
+                parser(invalid).parseFloat(0, 10);
+                fail();
+            } catch (NumberFormatException ignored) {
+                // expected
+            }
+        }
+        try {
+            parser("1.5").parseInt(0, 3);
+            fail();
+        } catch (NumberFormatException ignored) {
+            // expected
+        }
+    }
+}